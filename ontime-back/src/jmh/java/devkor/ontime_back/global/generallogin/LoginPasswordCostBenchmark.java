@@ -0,0 +1,73 @@
+package devkor.ontime_back.global.generallogin;
+
+import devkor.ontime_back.global.generallogin.service.CostAwareBCryptPasswordEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /login 의 CPU 비용(DaoAuthenticationProvider 의 BCrypt 비교)을 cost 별로 재서 코어당 초당 로그인 수를 본다.
+ * 사용자 조회는 메모리에서 하므로 DB 와 네트워크 비용은 빠져 있다.
+ * <p>
+ * 실행: ./gradlew jmh -PjmhIncludes=LoginPasswordCostBenchmark
+ * loginPerCore 의 ops/s 가 코어 하나의 초당 로그인 수이고, loginAllCores 의 ops/s 를 코어 수로 나누면
+ * 코어를 모두 쓸 때의 코어당 값이 된다. 로그인 전용 풀(login.executor.pool-size)의 기본 크기는 이 코어 수다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LoginPasswordCostBenchmark {
+
+    private static final String EMAIL = "bench.general@example.com";
+    private static final String PASSWORD = "bench-Password1!";
+
+    @Param({"8", "10", "12"})
+    private int bcryptStrength;
+
+    private DaoAuthenticationProvider provider;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // SecurityConfig 의 passwordEncoder 와 같은 구성. 저장된 해시도 같은 cost 라 재해시는 일어나지 않는다.
+        PasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(
+                "bcrypt", Map.of("bcrypt", new CostAwareBCryptPasswordEncoder(bcryptStrength)));
+        UserDetails user = User.builder()
+                .username(EMAIL)
+                .password(passwordEncoder.encode(PASSWORD))
+                .roles("USER")
+                .build();
+
+        provider = new DaoAuthenticationProvider();
+        provider.setPasswordEncoder(passwordEncoder);
+        provider.setUserDetailsService(email -> User.withUserDetails(user).build());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Authentication loginPerCore() {
+        return provider.authenticate(new UsernamePasswordAuthenticationToken(EMAIL, PASSWORD));
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Authentication loginAllCores() {
+        return provider.authenticate(new UsernamePasswordAuthenticationToken(EMAIL, PASSWORD));
+    }
+}
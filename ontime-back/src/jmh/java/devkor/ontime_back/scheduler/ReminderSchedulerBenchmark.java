@@ -0,0 +1,118 @@
+package devkor.ontime_back.scheduler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대기 중인 준비 알림이 pendingReminders 개 쌓여 있을 때 알림 하나를 등록하고 취소하는 비용을
+ * 기존 방식(SchedulerConfig 의 ThreadPoolTaskScheduler, 풀 20)과 {@link ReminderTimingWheel} 로 비교한다.
+ * <p>
+ * 실행: ./gradlew jmh
+ * 대기 알림당 힙 사용량은 -prof gc 를 붙여 bulk 벤치마크의 gc.alloc.rate.norm 으로 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReminderSchedulerBenchmark {
+
+    // 알림은 보통 하루 안쪽에 몰려 있으므로 최대 하루 뒤까지 고르게 흩뿌린다.
+    private static final long HORIZON_SECONDS = TimeUnit.DAYS.toSeconds(1);
+
+    @Param({"10000", "200000"})
+    private int pendingReminders;
+
+    private ThreadPoolTaskScheduler taskScheduler;
+    private ReminderTimingWheel timingWheel;
+    private long startSecond;
+    private long nextNotificationId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        startSecond = Instant.now().getEpochSecond();
+        taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(20);
+        taskScheduler.setThreadNamePrefix("benchmark-scheduler-");
+        taskScheduler.initialize();
+        timingWheel = new ReminderTimingWheel();
+
+        for (long notificationId = 0; notificationId < pendingReminders; notificationId++) {
+            long epochSecond = randomFutureSecond();
+            taskScheduler.schedule(new ReminderTask(notificationId), Instant.ofEpochSecond(epochSecond));
+            timingWheel.schedule(notificationId, epochSecond);
+        }
+        nextNotificationId = pendingReminders;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        taskScheduler.shutdown();
+        timingWheel.drainAll();
+    }
+
+    @Benchmark
+    public boolean taskSchedulerScheduleAndCancel() {
+        ScheduledFuture<?> future = taskScheduler.schedule(
+                new ReminderTask(nextNotificationId++), Instant.ofEpochSecond(randomFutureSecond()));
+        return future.cancel(false);
+    }
+
+    @Benchmark
+    public boolean timingWheelScheduleAndCancel() {
+        long notificationId = nextNotificationId++;
+        timingWheel.schedule(notificationId, randomFutureSecond());
+        return timingWheel.cancel(notificationId);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int taskSchedulerBulkSchedule() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(20);
+        scheduler.initialize();
+        try {
+            for (long notificationId = 0; notificationId < pendingReminders; notificationId++) {
+                scheduler.schedule(new ReminderTask(notificationId), Instant.ofEpochSecond(randomFutureSecond()));
+            }
+            return scheduler.getScheduledThreadPoolExecutor().getQueue().size();
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int timingWheelBulkSchedule() {
+        ReminderTimingWheel wheel = new ReminderTimingWheel();
+        for (long notificationId = 0; notificationId < pendingReminders; notificationId++) {
+            wheel.schedule(notificationId, randomFutureSecond());
+        }
+        return wheel.size();
+    }
+
+    private long randomFutureSecond() {
+        return startSecond + 60 + ThreadLocalRandom.current().nextLong(HORIZON_SECONDS);
+    }
+
+    // 기존 구현처럼 알림마다 발송 정보를 붙잡고 있는 Runnable
+    private record ReminderTask(long notificationId) implements Runnable {
+        @Override
+        public void run() {
+        }
+    }
+}
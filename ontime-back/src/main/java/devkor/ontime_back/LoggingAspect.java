@@ -3,6 +3,8 @@ package devkor.ontime_back;
 import devkor.ontime_back.dto.RequestInfoDto;
 import devkor.ontime_back.entity.ApiLog;
 import devkor.ontime_back.logging.RequestLogPolicy;
+import devkor.ontime_back.logging.RequestLogSampler;
+import devkor.ontime_back.logging.RouteLatencyMetrics;
 import devkor.ontime_back.response.GeneralException;
 import devkor.ontime_back.service.ApiLogService;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,6 +21,9 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
 @Slf4j
 @Aspect
 @Component
@@ -26,6 +31,8 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 public class LoggingAspect {
 
     private final ApiLogService apiLogService;
+    private final RouteLatencyMetrics routeLatencyMetrics;
+    private final RequestLogSampler requestLogSampler;
 
     @Pointcut("bean(*Controller)")
     private void allRequest() {}
@@ -37,7 +44,7 @@ public class LoggingAspect {
         String requestId = RequestLogPolicy.resolveRequestId(request);
         RequestLogPolicy.exposeRequestId(attributes, requestId);
         RequestInfoDto requestInfoDto = extractRequestInfo(request);
-        long beforeRequest = System.currentTimeMillis();
+        long beforeRequest = System.nanoTime();
 
         try {
             Object result = joinPoint.proceed();
@@ -47,16 +54,31 @@ public class LoggingAspect {
                 responseStatus = responseEntity.getStatusCode().value();
             }
 
-            long timeTaken = System.currentTimeMillis() - beforeRequest;
+            long elapsedNanos = System.nanoTime() - beforeRequest;
+            long timeTaken = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            String route = RouteLatencyMetrics.resolveRoute(request);
+            routeLatencyMetrics.record(route, requestInfoDto.getRequestMethod(), responseStatus, elapsedNanos);
+            // 지연 지표는 모든 요청에 남기고, api_log 와 요청 로그는 샘플링된 요청만 남긴다.
+            if (!requestLogSampler.shouldRecord(route, responseStatus, timeTaken)) {
+                return result;
+            }
             saveApiLog(requestInfoDto, responseStatus, timeTaken);
-            log.info("[Request Log] requestId: {}, route: {}, method: {}, actor: {}, clientIp: {}, responseStatus: {}, timeTakenMs: {}",
-                    requestId, requestInfoDto.getRequestUrl(), requestInfoDto.getRequestMethod(), requestInfoDto.getUserId(),
-                    requestInfoDto.getClientIp(), responseStatus, timeTaken);
+            if (requestLogSampler.isSlow(timeTaken)) {
+                log.warn("[Slow Request Log] requestId: {}, route: {}, method: {}, actor: {}, clientIp: {}, responseStatus: {}, timeTakenMs: {}",
+                        requestId, requestInfoDto.getRequestUrl(), requestInfoDto.getRequestMethod(), requestInfoDto.getUserId(),
+                        requestInfoDto.getClientIp(), responseStatus, timeTaken);
+            } else {
+                log.info("[Request Log] requestId: {}, route: {}, method: {}, actor: {}, clientIp: {}, responseStatus: {}, timeTakenMs: {}",
+                        requestId, requestInfoDto.getRequestUrl(), requestInfoDto.getRequestMethod(), requestInfoDto.getUserId(),
+                        requestInfoDto.getClientIp(), responseStatus, timeTaken);
+            }
 
             return result;
         } catch (Throwable ex) {
             int responseStatus = mapExceptionToStatusCode(ex);
-            long timeTaken = System.currentTimeMillis() - beforeRequest;
+            long elapsedNanos = System.nanoTime() - beforeRequest;
+            long timeTaken = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            routeLatencyMetrics.record(RouteLatencyMetrics.resolveRoute(request), requestInfoDto.getRequestMethod(), responseStatus, elapsedNanos);
             saveApiLog(requestInfoDto, responseStatus, timeTaken);
             log.error("[Error Log] requestId: {}, route: {}, method: {}, actor: {}, clientIp: {}, exception: {}, responseStatus: {}, timeTakenMs: {}",
                     requestId, requestInfoDto.getRequestUrl(), requestInfoDto.getRequestMethod(), requestInfoDto.getUserId(),
@@ -92,6 +114,8 @@ public class LoggingAspect {
                 .clientIp(info.getClientIp())
                 .responseStatus(responseStatus)
                 .takenTime(timeTaken)
+                // 저장이 늦게 묶여 나가므로 생성 시각은 요청 시점에 찍는다.
+                .createdAt(LocalDateTime.now())
                 .build();
     }
 
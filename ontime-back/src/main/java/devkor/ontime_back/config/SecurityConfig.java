@@ -2,10 +2,13 @@ package devkor.ontime_back.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import devkor.ontime_back.global.jwt.AuthenticatedPrincipalCache;
 import devkor.ontime_back.global.jwt.JwtAuthenticationFilter;
 import devkor.ontime_back.global.jwt.JwtTokenProvider;
 import devkor.ontime_back.global.generallogin.filter.CustomJsonUsernamePasswordAuthenticationFilter;
 import devkor.ontime_back.global.generallogin.handler.LoginFailureHandler;
+import devkor.ontime_back.global.generallogin.service.CostAwareBCryptPasswordEncoder;
+import devkor.ontime_back.global.generallogin.service.LoginAuthenticationExecutor;
 import devkor.ontime_back.global.generallogin.service.LoginService;
 import devkor.ontime_back.global.generallogin.handler.LoginSuccessHandler;
 import devkor.ontime_back.global.jwt.JwtUtils;
@@ -15,21 +18,30 @@ import devkor.ontime_back.global.oauth.apple.ApplePublicKeyGenerator;
 import devkor.ontime_back.global.oauth.google.GoogleLoginService;
 import devkor.ontime_back.global.oauth.kakao.KakaoLoginFilter;
 import devkor.ontime_back.global.oauth.google.GoogleLoginFilter;
+import devkor.ontime_back.global.ratelimit.AuthRateLimitFilter;
+import devkor.ontime_back.global.ratelimit.AuthRateLimiter;
 import devkor.ontime_back.repository.UserAlarmSettingRepository;
 import devkor.ontime_back.repository.UserRepository;
+import devkor.ontime_back.response.LoginResponseWriter;
 import devkor.ontime_back.service.AnalyticsPreferenceService;
 import devkor.ontime_back.service.AuthTokenService;
 import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.authentication.logout.LogoutFilter;
@@ -42,6 +54,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
+import java.util.Map;
 
 /**
  * 인증은 CustomJsonUsernamePasswordAuthenticationFilter에서 authenticate()로 인증된 사용자로 처리
@@ -52,6 +65,8 @@ import java.util.Arrays;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private static final String METRICS_ROLE = "METRICS";
+
     private final LoginService loginService;
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
@@ -62,6 +77,44 @@ public class SecurityConfig {
     private final GoogleLoginService googleLoginService;
     private final AnalyticsPreferenceService analyticsPreferenceService;
     private final AuthTokenService authTokenService;
+    private final AuthenticatedPrincipalCache authenticatedPrincipalCache;
+    private final LoginAuthenticationExecutor loginAuthenticationExecutor;
+    private final AuthRateLimiter authRateLimiter;
+    private final LoginResponseWriter loginResponseWriter;
+
+    // BCrypt cost. 바꾸면 기존 해시는 다음 로그인에 성공할 때 새 cost 로 다시 저장된다.
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    // /actuator/prometheus 수집 계정. 비밀번호가 비어 있으면 지표 엔드포인트는 모든 요청을 거절한다.
+    @Value("${security.metrics.scrape-username:prometheus}")
+    private String metricsScrapeUsername;
+
+    @Value("${security.metrics.scrape-password:}")
+    private String metricsScrapePassword;
+
+    // 지표는 JWT 가 아니라 수집 전용 HTTP Basic 계정으로만 연다. 리버스 프록시 설정과 상관없이 앱 포트에서도 막힌다.
+    @Bean
+    @Order(1)
+    public SecurityFilterChain metricsFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher("/actuator/prometheus", "/actuator/prometheus/**")
+                .formLogin(AbstractHttpConfigurer::disable)
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .httpBasic(Customizer.withDefaults())
+                .authenticationManager(metricsAuthenticationManager())
+                .authorizeHttpRequests(auth -> {
+                    if (metricsScrapePassword.isBlank()) {
+                        auth.anyRequest().denyAll();
+                    } else {
+                        auth.anyRequest().hasRole(METRICS_ROLE);
+                    }
+                });
+
+        return http.build();
+    }
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -83,7 +136,9 @@ public class SecurityConfig {
                         .requestMatchers("/health").permitAll() // 로드밸런서 연결 확인용 url
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(new KakaoLoginFilter("/oauth2/kakao/login", objectMapper, validator, jwtTokenProvider, userRepository, userAlarmSettingRepository, analyticsPreferenceService, authTokenService),
+                // 로그인/가입 요청 한도는 로그인 필터보다 먼저 본다.
+                .addFilterBefore(new AuthRateLimitFilter(authRateLimiter, objectMapper), LogoutFilter.class)
+                .addFilterBefore(new KakaoLoginFilter("/oauth2/kakao/login", objectMapper, validator, jwtTokenProvider, userRepository, userAlarmSettingRepository, analyticsPreferenceService, authTokenService, loginResponseWriter),
                         UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(new GoogleLoginFilter("/oauth2/google/login", objectMapper, validator, googleLoginService, userRepository),
                         UsernamePasswordAuthenticationFilter.class)
@@ -101,9 +156,27 @@ public class SecurityConfig {
     }
 
 
+    private AuthenticationManager metricsAuthenticationManager() {
+        InMemoryUserDetailsManager scrapeUsers = new InMemoryUserDetailsManager();
+        if (!metricsScrapePassword.isBlank()) {
+            scrapeUsers.createUser(User.withUsername(metricsScrapeUsername)
+                    .password(passwordEncoder().encode(metricsScrapePassword))
+                    .roles(METRICS_ROLE)
+                    .build());
+        }
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setPasswordEncoder(passwordEncoder());
+        provider.setUserDetailsService(scrapeUsers);
+        return new ProviderManager(provider);
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        // 새 해시는 {bcrypt} 로 만들고, 다른 id 로 저장된 예전 해시는 기본 위임 인코더로 검증한 뒤 로그인 때 bcrypt 로 옮긴다.
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(
+                "bcrypt", Map.of("bcrypt", new CostAwareBCryptPasswordEncoder(bcryptStrength)));
+        passwordEncoder.setDefaultPasswordEncoderForMatches(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+        return passwordEncoder;
     }
 
     @Bean
@@ -111,12 +184,15 @@ public class SecurityConfig {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setPasswordEncoder(passwordEncoder());
         provider.setUserDetailsService(loginService);
-        return new ProviderManager(provider);
+        provider.setUserDetailsPasswordService(loginService);
+        ProviderManager providerManager = new ProviderManager(provider);
+        // 비밀번호 해시 비교와 재해시는 요청 스레드가 아니라 로그인 전용 풀에서 돌린다.
+        return authRequest -> loginAuthenticationExecutor.authenticate(providerManager, authRequest);
     }
 
     @Bean
     public LoginSuccessHandler loginSuccessHandler() {
-        return new LoginSuccessHandler(userRepository, authTokenService);
+        return new LoginSuccessHandler(userRepository, authTokenService, loginResponseWriter);
     }
 
     @Bean
@@ -136,10 +212,19 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationProcessingFilter() {
-        JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenProvider, userRepository, authTokenService);
+        JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenProvider, authTokenService, authenticatedPrincipalCache, loginResponseWriter);
         return jwtAuthenticationFilter;
     }
 
+    // 필터 빈은 서블릿 필터로도 자동 등록되므로, JWT 검사는 위 보안 필터 체인 안에서만 돌게 한다.
+    // 그렇지 않으면 지표 체인을 통과한 수집 요청도 JWT 필터에서 다시 거절된다.
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration(JwtAuthenticationFilter jwtAuthenticationFilter) {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
 
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
@@ -0,0 +1,17 @@
+package devkor.ontime_back.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+// 알림 억제 판단에 필요한 활성 기기 컬럼과 사용자의 현재 세션 id 만 담은 projection (세션 토큰 LONGTEXT/TEXT 는 읽지 않는다)
+@Getter
+@AllArgsConstructor
+public class ActiveDeviceSessionDto {
+    private Long userDeviceId;
+    private Long userId;
+    private Instant lastSeenAt;
+    private String deviceSessionId;
+    private String activeSessionId;
+}
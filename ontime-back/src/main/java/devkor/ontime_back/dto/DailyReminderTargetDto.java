@@ -0,0 +1,20 @@
+package devkor.ontime_back.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 아침/저녁 약속 알림 발송에 필요한 컬럼만 담은 projection
+@Getter
+@AllArgsConstructor
+public class DailyReminderTargetDto {
+    private UUID scheduleId;
+    private LocalDateTime scheduleTime;
+    private String scheduleName;
+    private Long userId;
+    private String userName;
+    private String firebaseToken;
+    private Boolean notificationsEnabled;
+}
@@ -0,0 +1,14 @@
+package devkor.ontime_back.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 타이밍 휠 적재에 필요한 알림 id 와 발송 시각만 담은 projection
+@Getter
+@AllArgsConstructor
+public class PendingNotificationDto {
+    private Long notificationId;
+    private LocalDateTime notificationTime;
+}
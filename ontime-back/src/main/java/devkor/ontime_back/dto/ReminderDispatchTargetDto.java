@@ -0,0 +1,23 @@
+package devkor.ontime_back.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 준비 시작 알림 한 건을 보내는 데 필요한 컬럼만 담은 projection. 발송은 트랜잭션 밖에서 이 값만으로 한다.
+@Getter
+@AllArgsConstructor
+public class ReminderDispatchTargetDto {
+    private Long notificationId;
+    private LocalDateTime notificationTime;
+    private String leaseOwner;
+    private UUID scheduleId;
+    private LocalDateTime scheduleTime;
+    private String scheduleName;
+    private Long userId;
+    private String userName;
+    private String firebaseToken;
+    private Boolean notificationsEnabled;
+}
@@ -0,0 +1,15 @@
+package devkor.ontime_back.dto;
+
+import devkor.ontime_back.entity.Role;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 엑세스 토큰 검증에 필요한 컬럼만 담은 projection (access_token LONGTEXT 는 읽지 않는다)
+@Getter
+@AllArgsConstructor
+public class UserSessionDto {
+    private Long userId;
+    private String email;
+    private Role role;
+    private String activeSessionId;
+}
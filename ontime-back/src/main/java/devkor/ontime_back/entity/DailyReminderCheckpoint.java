@@ -0,0 +1,99 @@
+package devkor.ontime_back.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+// 아침/저녁 약속 알림 한 번의 진행 위치. 재시작해도 다음 슬롯(과 그 슬롯 안의 마지막 keyset 위치)부터 이어 보낸다.
+@Getter
+@Entity
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class DailyReminderCheckpoint {
+
+    @Id
+    @Column(length = 32)
+    private String runKey;
+
+    // 컬럼 정밀도(마이크로초)에서 반올림되지 않도록 잘라서 저장한다.
+    @Column(nullable = false)
+    private LocalDateTime rangeStart;
+
+    @Column(nullable = false)
+    private LocalDateTime rangeEnd;
+
+    @Column(nullable = false)
+    private String message;
+
+    // 0번 슬롯의 시작 시각. n번 슬롯은 windowStart + n * (spread-window / slotCount) 에 보낸다.
+    @Column(nullable = false)
+    private Instant windowStart;
+
+    @Column(nullable = false)
+    private int slotCount;
+
+    @Column(nullable = false)
+    private int nextSlot;
+
+    // nextSlot 안에서 마지막으로 보낸 페이지의 끝 (scheduleTime, scheduleId). 슬롯을 끝내면 null 로 돌아간다.
+    private LocalDateTime lastScheduleTime;
+
+    private UUID lastScheduleId;
+
+    @Column(nullable = false)
+    private int sentCount;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    public static DailyReminderCheckpoint start(String runKey, LocalDateTime rangeStart, LocalDateTime rangeEnd,
+                                                String message, Instant windowStart, int slotCount) {
+        return DailyReminderCheckpoint.builder()
+                .runKey(runKey)
+                .rangeStart(rangeStart.truncatedTo(ChronoUnit.MICROS))
+                .rangeEnd(rangeEnd.truncatedTo(ChronoUnit.MICROS))
+                .message(message)
+                .windowStart(windowStart)
+                .slotCount(slotCount)
+                .nextSlot(0)
+                .sentCount(0)
+                .completed(false)
+                .updatedAt(windowStart)
+                .build();
+    }
+
+    public void advance(LocalDateTime lastScheduleTime, UUID lastScheduleId, int sentCount, Instant now) {
+        this.lastScheduleTime = lastScheduleTime;
+        this.lastScheduleId = lastScheduleId;
+        this.sentCount += sentCount;
+        this.updatedAt = now;
+    }
+
+    public void finishSlot(Instant now) {
+        this.nextSlot++;
+        this.lastScheduleTime = null;
+        this.lastScheduleId = null;
+        this.completed = nextSlot >= slotCount;
+        this.updatedAt = now;
+    }
+
+    // 이어 보내기엔 너무 늦은 실행을 남은 슬롯 없이 닫는다.
+    public void abandon(Instant now) {
+        this.completed = true;
+        this.updatedAt = now;
+    }
+}
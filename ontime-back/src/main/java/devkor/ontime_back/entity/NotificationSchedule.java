@@ -28,6 +28,13 @@ public class NotificationSchedule {
     @OnDelete(action = OnDeleteAction.CASCADE)
     private Schedule schedule;
 
+    // 여러 인스턴스가 같은 알림을 중복 발송하지 않도록 디스패처가 잡아두는 임대 정보
+    private String leaseOwner;
+
+    private LocalDateTime leaseExpiresAt;
+
+    private LocalDateTime dispatchedAt;
+
     @Builder
     public NotificationSchedule(LocalDateTime notificationTime, Boolean isSent, Schedule schedule) {
         this.notificationTime = notificationTime;
@@ -47,6 +54,27 @@ public class NotificationSchedule {
 
     public void markAsUnsent() {
         this.isSent = false;
+        this.dispatchedAt = null;
+        releaseLease();
+    }
+
+    public void lease(String leaseOwner, LocalDateTime leaseExpiresAt) {
+        this.leaseOwner = leaseOwner;
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    public boolean isLeasedBy(String leaseOwner) {
+        return leaseOwner != null && leaseOwner.equals(this.leaseOwner);
+    }
+
+    public void markDispatched(LocalDateTime dispatchedAt) {
+        this.dispatchedAt = dispatchedAt;
+        releaseLease();
+    }
+
+    private void releaseLease() {
+        this.leaseOwner = null;
+        this.leaseExpiresAt = null;
     }
 
     public void disconnectSchedule() {
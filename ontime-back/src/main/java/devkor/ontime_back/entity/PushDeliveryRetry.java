@@ -0,0 +1,95 @@
+package devkor.ontime_back.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// FCM 이 일시적으로 거절한 푸시. 다음 시도 시각이 되면 PushRetryQueue 가 대상이 아직 유효한지 확인한 뒤 다시 보낸다.
+@Getter
+@Entity
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_push_delivery_retry_next_attempt", columnList = "next_attempt_at")
+})
+public class PushDeliveryRetry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long pushDeliveryRetryId;
+
+    @Column(nullable = false)
+    private String firebaseToken;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false, length = 1000)
+    private String content;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(length = 40)
+    private String lastErrorCode;
+
+    // 다시 보내기 전에 알림 설정을 확인할 사용자와, 남아 있고 지나지 않았는지 확인할 약속. 없으면 확인하지 않는다.
+    private Long userId;
+
+    private UUID scheduleId;
+
+    // 이 시각이 지나면 다시 보내지 않고 지운다. 재시도 TTL 과 약속 시각 중 이른 쪽이다.
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    public static PushDeliveryRetry create(String firebaseToken, String title, String content,
+                                           Long userId, UUID scheduleId,
+                                           String errorCode, Instant nextAttemptAt, Instant expiresAt) {
+        return PushDeliveryRetry.builder()
+                .firebaseToken(firebaseToken)
+                .title(title)
+                .content(content)
+                .attempts(1)
+                .nextAttemptAt(nextAttemptAt)
+                .lastErrorCode(errorCode)
+                .userId(userId)
+                .scheduleId(scheduleId)
+                .expiresAt(expiresAt)
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    public boolean isExpiredAt(Instant time) {
+        return !expiresAt.isAfter(time);
+    }
+
+    // 꺼내 간 인스턴스가 결과를 기록하기 전에 죽어도 이 시각이 지나면 다시 꺼내진다.
+    public void postpone(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void recordFailure(String errorCode, Instant nextAttemptAt) {
+        this.attempts++;
+        this.lastErrorCode = errorCode;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
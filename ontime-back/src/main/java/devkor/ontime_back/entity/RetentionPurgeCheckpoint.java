@@ -0,0 +1,60 @@
+package devkor.ontime_back.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// 보관 기간 정리(ChunkedPurger)의 테이블별 진행 위치. 밤마다 시간이 다 되어 멈춘 곳부터 이어서 지운다.
+@Getter
+@Entity
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class RetentionPurgeCheckpoint {
+
+    @Id
+    @Column(length = 64)
+    private String tableName;
+
+    // 마지막으로 지운 청크의 끝 PK. 한 바퀴를 끝내면 null 로 돌아가 다음에는 처음부터 본다.
+    @Column(length = 64)
+    private String lastKey;
+
+    // 지금 진행 중인(또는 마지막으로 끝낸) 한 바퀴에서 지운 행 수
+    @Column(nullable = false)
+    private long deletedRows;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    public static RetentionPurgeCheckpoint start(String tableName, Instant now) {
+        return RetentionPurgeCheckpoint.builder()
+                .tableName(tableName)
+                .deletedRows(0)
+                .updatedAt(now)
+                .build();
+    }
+
+    public void advance(String lastKey, long deletedRows, Instant now) {
+        this.lastKey = lastKey;
+        this.deletedRows += deletedRows;
+        this.updatedAt = now;
+    }
+
+    public void complete(Instant now) {
+        this.lastKey = null;
+        this.updatedAt = now;
+    }
+
+    public void restart(Instant now) {
+        this.deletedRows = 0;
+        this.updatedAt = now;
+    }
+}
@@ -12,6 +12,9 @@ import java.util.List;
 @Entity
 @Builder
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_user_firebase_token", columnList = "firebase_token")
+})
 public class User {
 
     @Id
@@ -54,6 +57,9 @@ public class User {
     @Lob
     private String refreshToken; // refreshToken
 
+    @Column(length = 36)
+    private String activeSessionId; // 현재 Active Session 엑세스 토큰의 jti
+
     private String firebaseToken;
 
     @Lob
@@ -88,6 +94,11 @@ public class User {
         this.password = passwordEncoder.encode(updatePassword);
     }
 
+    // 로그인에 성공했을 때 현재 해시 설정으로 다시 만든 비밀번호 해시로 바꾼다.
+    public void rehashPassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
     public void updateRefreshToken(String updateRefreshToken) {
         this.refreshToken = updateRefreshToken;
     }
@@ -136,4 +147,8 @@ public class User {
     public void updateAccessToken(String accessToken) {
         this.accessToken = accessToken;
     }
+
+    public void updateActiveSessionId(String activeSessionId) {
+        this.activeSessionId = activeSessionId;
+    }
 }
@@ -74,6 +74,10 @@ public class UserDevice {
     @Column(columnDefinition = "TEXT")
     private String sessionRefreshToken;
 
+    // 바인딩한 엑세스 토큰의 jti. User.activeSessionId 와 같으면 현재 로그인 세션의 기기다.
+    @Column(length = 36)
+    private String sessionId;
+
     public static UserDevice create(User user, String deviceId) {
         return UserDevice.builder()
                 .user(user)
@@ -104,9 +108,10 @@ public class UserDevice {
         this.lastSeenAt = Instant.now();
     }
 
-    public void bindSession(String accessToken, String refreshToken) {
+    public void bindSession(String accessToken, String refreshToken, String sessionId) {
         this.sessionAccessToken = accessToken;
         this.sessionRefreshToken = refreshToken;
+        this.sessionId = sessionId;
     }
 
     public boolean belongsToAccessToken(String accessToken) {
@@ -6,7 +6,6 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -19,6 +18,9 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 
 @Getter
@@ -28,10 +30,9 @@ import java.time.Instant;
 @AllArgsConstructor
 @Table(
         uniqueConstraints = {
-                @UniqueConstraint(name = "uk_user_refresh_token_token", columnNames = "refresh_token")
-        },
-        indexes = {
-                @Index(name = "idx_user_refresh_token_user", columnList = "user_id")
+                @UniqueConstraint(name = "uk_user_refresh_token_hash", columnNames = "refresh_token_hash"),
+                // 로그인 때 이 키로 upsert 한다. (V24)
+                @UniqueConstraint(name = "uk_user_refresh_token_user", columnNames = "user_id")
         }
 )
 public class UserRefreshToken {
@@ -45,8 +46,9 @@ public class UserRefreshToken {
     @OnDelete(action = OnDeleteAction.CASCADE)
     private User user;
 
-    @Column(name = "refresh_token", nullable = false, length = 768)
-    private String refreshToken;
+    // 원문은 저장하지 않고 다이제스트만 둔다. 조회도 이 값으로만 한다. (원문 컬럼은 V29 에서 비우고 V30 에서 지운다)
+    @Column(name = "refresh_token_hash", nullable = false, length = 32, columnDefinition = "BINARY(32)")
+    private byte[] refreshTokenHash;
 
     @Column(nullable = false)
     private Instant createdAt;
@@ -58,14 +60,23 @@ public class UserRefreshToken {
         Instant now = Instant.now();
         return UserRefreshToken.builder()
                 .user(user)
-                .refreshToken(refreshToken)
+                .refreshTokenHash(hash(refreshToken))
                 .createdAt(now)
                 .updatedAt(now)
                 .build();
     }
 
     public void rotate(String refreshToken) {
-        this.refreshToken = refreshToken;
+        this.refreshTokenHash = hash(refreshToken);
         this.updatedAt = Instant.now();
     }
+
+    // V23 마이그레이션의 UNHEX(SHA2(refresh_token, 256)) 과 같은 값
+    public static byte[] hash(String refreshToken) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available.", e);
+        }
+    }
 }
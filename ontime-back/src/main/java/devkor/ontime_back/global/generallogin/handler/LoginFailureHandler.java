@@ -1,5 +1,6 @@
 package devkor.ontime_back.global.generallogin.handler;
 
+import devkor.ontime_back.global.generallogin.service.LoginCapacityExceededException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
@@ -18,6 +19,16 @@ public class LoginFailureHandler extends SimpleUrlAuthenticationFailureHandler {
     @Override
     public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response,
                                         AuthenticationException exception) throws IOException {
+        if (exception instanceof LoginCapacityExceededException) {
+            // 자격 증명 문제가 아니므로 400 이 아니라 503 으로 알려 앱이 잠시 뒤 다시 시도하게 한다.
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", "1");
+            response.setCharacterEncoding("UTF-8");
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write("로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+            log.warn("로그인 풀이 가득 차 요청을 거절했습니다.");
+            return;
+        }
         response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
         response.setCharacterEncoding("UTF-8");
         response.setContentType("text/plain;charset=UTF-8");
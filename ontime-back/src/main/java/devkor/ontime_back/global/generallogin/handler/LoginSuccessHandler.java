@@ -1,6 +1,7 @@
 package devkor.ontime_back.global.generallogin.handler;
 
 import devkor.ontime_back.repository.UserRepository;
+import devkor.ontime_back.response.LoginResponseWriter;
 import devkor.ontime_back.service.AuthTokenService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +20,7 @@ public class LoginSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
     private final UserRepository userRepository;
     private final AuthTokenService authTokenService;
+    private final LoginResponseWriter loginResponseWriter;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
@@ -27,29 +29,12 @@ public class LoginSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
         userRepository.findByEmail(email)
                 .ifPresent(user -> {
                     authTokenService.issueLoginTokens(user, response);
-                    userRepository.saveAndFlush(user);
 
                     log.info("Login succeeded for userId: {}", user.getId());
 
 
                     try {
-                        // 응답 Content-Type 설정
-                        response.setContentType("application/json");
-                        response.setCharacterEncoding("UTF-8");
-
-                        String msg = user.getRole().name().equals("GUEST") ? "유저의 ROLE이 GUEST이므로 온보딩API를 호출해 온보딩을 진행해야합니다." : "로그인에 성공하였습니다.";
-                        // JSON 응답 생성
-                        String responseBody = String.format(
-                                "{ \"status\": \"success\", \"code\": \"200\", \"message\": \"%s\", \"data\": { " +
-                                        "\"userId\": %d, \"email\": \"%s\", \"name\": \"%s\", " +
-                                        "\"spareTime\": %d, \"note\": %s, \"punctualityScore\": %f, \"role\": \"%s\" } }",
-                                msg, user.getId(), user.getEmail(), user.getName(),
-                                user.getSpareTime(), user.getNote() != null ? "\"" + user.getNote() + "\"" : null, user.getPunctualityScore(), user.getRole().name()
-                        );
-
-                        // 응답 바디에 작성
-                        response.getWriter().write(responseBody);
-                        response.getWriter().flush();
+                        loginResponseWriter.writeLogin(response, user);
                     } catch (IOException e) {
                         log.error("응답 바디 작성 중 오류 발생", e);
                     }
@@ -0,0 +1,37 @@
+package devkor.ontime_back.global.generallogin.service;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 설정한 cost 와 다른 cost 로 저장된 BCrypt 해시를 다시 만들 대상으로 본다.
+ * <p>
+ * 기본 BCryptPasswordEncoder 는 cost 를 올릴 때만 재해시하므로, 처리량을 위해 cost 를 낮춘 경우에도
+ * 기존 해시가 로그인하면서 새 cost 로 옮겨 가도록 upgradeEncoding 만 바꾼다.
+ */
+public class CostAwareBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern BCRYPT_HASH = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+    private final int strength;
+
+    public CostAwareBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_HASH.matcher(encodedPassword);
+        return matcher.matches() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+}
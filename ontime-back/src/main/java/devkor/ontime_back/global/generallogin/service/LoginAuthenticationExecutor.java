@@ -0,0 +1,79 @@
+package devkor.ontime_back.global.generallogin.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /login 의 비밀번호 검증(BCrypt)을 요청 스레드가 아니라 크기가 정해진 로그인 전용 풀에서 돌린다.
+ * <p>
+ * 해시 계산은 CPU 만 쓰므로 풀 크기는 기본으로 코어 수에 맞추고, 대기열이 차면 기다리지 않고
+ * {@link LoginCapacityExceededException} 으로 거절한다. 로그인이 몰려도 해시를 기다리는 Tomcat 스레드는
+ * 풀 크기 + 대기열 길이를 넘지 않으므로 나머지 API 요청이 쓸 스레드가 남는다.
+ */
+@Component
+public class LoginAuthenticationExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    public LoginAuthenticationExecutor(
+            @Value("${login.executor.pool-size:0}") int poolSize,
+            @Value("${login.executor.queue-capacity:64}") int queueCapacity) {
+        // 0 이면 코어 수만큼 둔다.
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+                new CustomizableThreadFactory("login-auth-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public Authentication authenticate(AuthenticationManager authenticationManager, Authentication authRequest) {
+        Future<Authentication> result;
+        try {
+            result = executor.submit(() -> authenticationManager.authenticate(authRequest));
+        } catch (RejectedExecutionException e) {
+            throw new LoginCapacityExceededException();
+        }
+
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.cancel(true);
+            throw new AuthenticationServiceException("로그인 처리가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            // 인증 실패(AuthenticationException 포함)는 요청 스레드에서 던진 것과 똑같이 다시 던진다.
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new AuthenticationServiceException("로그인 처리 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    int queuedLogins() {
+        return executor.getQueue().size();
+    }
+}
@@ -0,0 +1,14 @@
+package devkor.ontime_back.global.generallogin.service;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * 로그인 전용 풀과 대기열이 모두 차서 비밀번호 검증을 받지 못한 경우.
+ * 자격 증명이 틀린 것과 구분해 LoginFailureHandler 가 503 으로 응답한다.
+ */
+public class LoginCapacityExceededException extends AuthenticationServiceException {
+
+    public LoginCapacityExceededException() {
+        super("로그인 요청이 많아 처리하지 못했습니다.");
+    }
+}
@@ -4,13 +4,15 @@ import devkor.ontime_back.entity.User;
 import devkor.ontime_back.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class LoginService implements UserDetailsService {
+public class LoginService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -25,4 +27,20 @@ public class LoginService implements UserDetailsService {
                 .roles(user.getRole().name())
                 .build();
     }
+
+    /**
+     * 저장된 해시의 cost 가 현재 설정과 다르면 DaoAuthenticationProvider 가 로그인 성공 직후 호출한다.
+     * newPassword 는 이미 현재 설정으로 인코딩된 해시다.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("해당 이메일이 존재하지 않습니다."));
+        user.rehashPassword(newPassword);
+
+        return org.springframework.security.core.userdetails.User.withUserDetails(userDetails)
+                .password(newPassword)
+                .build();
+    }
 }
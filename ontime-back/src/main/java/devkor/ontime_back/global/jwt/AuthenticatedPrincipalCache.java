@@ -0,0 +1,177 @@
+package devkor.ontime_back.global.jwt;
+
+import devkor.ontime_back.entity.Role;
+import devkor.ontime_back.entity.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 서명 검증과 DB 확인을 마친 엑세스 토큰의 인증 정보(userId, role, 인증 이름)를 잠시 보관한다.
+ * <p>
+ * 키는 토큰 원문이 아니라 SHA-256 다이제스트이고, 항목은 ttl 과 토큰 만료 시각 중 이른 쪽에 만료된다.
+ * 사용자마다 유효한 엑세스 토큰은 하나뿐이므로 사용자당 한 항목만 두며, 가득 차면 가장 오래 쓰지 않은 항목부터 버린다.
+ * 로그인/재발급처럼 사용자의 토큰이나 권한이 바뀌는 곳에서는 {@link #invalidateUser(Long)} 로 바로 지운다.
+ * <p>
+ * 검증 전에 {@link #generation()} 을 읽어 두고 {@link #put} 에 넘기면, 그 사이 무효화된 사용자는 다시 채우지 않는다.
+ * 그래서 로그인 커밋 전에 옛 세션을 읽은 요청이 afterCommit 삭제 뒤에 옛 토큰을 다시 올리지 못한다.
+ * 무효화는 인스턴스 안에서만 일어나므로, 다른 인스턴스에서는 옛 세션 토큰이 최대 ttl 동안 더 통과할 수 있다.
+ * 그 창을 짧게 두기 위해 ttl 기본값은 30초다.
+ */
+@Component
+public class AuthenticatedPrincipalCache {
+
+    private final int maxEntries;
+    private final Duration ttl;
+    private final Supplier<Instant> clock;
+    private final Map<String, Entry> entries;
+    private final Map<Long, String> digestByUserId = new HashMap<>();
+    // 사용자별 마지막 무효화 세대. 가득 차면 오래된 것부터 버리고, 버린 세대 중 가장 큰 값을 floor 로 남긴다.
+    private final Map<Long, Long> invalidatedGenerations;
+    private long generation;
+    private long evictedInvalidationFloor;
+
+    @Autowired
+    public AuthenticatedPrincipalCache(
+            @Value("${jwt.principal-cache.max-entries:10000}") int maxEntries,
+            @Value("${jwt.principal-cache.ttl-seconds:30}") long ttlSeconds) {
+        this(maxEntries, Duration.ofSeconds(ttlSeconds), Instant::now);
+    }
+
+    AuthenticatedPrincipalCache(int maxEntries, Duration ttl, Supplier<Instant> clock) {
+        this.maxEntries = Math.max(maxEntries, 1);
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() <= AuthenticatedPrincipalCache.this.maxEntries) {
+                    return false;
+                }
+                digestByUserId.remove(eldest.getValue().principal().userId(), eldest.getKey());
+                return true;
+            }
+        };
+        this.invalidatedGenerations = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                if (size() <= AuthenticatedPrincipalCache.this.maxEntries) {
+                    return false;
+                }
+                evictedInvalidationFloor = Math.max(evictedInvalidationFloor, eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * 토큰을 검증(DB 조회)하기 전에 읽어 {@link #put} 에 넘긴다.
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    public synchronized Optional<AuthenticatedPrincipal> get(String accessToken) {
+        if (accessToken == null) {
+            return Optional.empty();
+        }
+        String digest = digest(accessToken);
+        Entry entry = entries.get(digest);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (!clock.get().isBefore(entry.expiresAt())) {
+            remove(digest, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.principal());
+    }
+
+    // readGeneration 이후에 이 사용자가 무효화됐으면 검증 결과가 이미 낡았을 수 있으므로 채우지 않는다.
+    public synchronized void put(String accessToken, AuthenticatedPrincipal principal, Instant tokenExpiresAt,
+                                 long readGeneration) {
+        if (readGeneration < evictedInvalidationFloor
+                || readGeneration < invalidatedGenerations.getOrDefault(principal.userId(), 0L)) {
+            return;
+        }
+        Instant ttlExpiresAt = clock.get().plus(ttl);
+        Instant expiresAt = tokenExpiresAt != null && tokenExpiresAt.isBefore(ttlExpiresAt) ? tokenExpiresAt : ttlExpiresAt;
+
+        String digest = digest(accessToken);
+        String previousDigest = digestByUserId.put(principal.userId(), digest);
+        if (previousDigest != null && !previousDigest.equals(digest)) {
+            entries.remove(previousDigest);
+        }
+        entries.put(digest, new Entry(principal, expiresAt));
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 뒤에 한 번 더 지워, 커밋 전에 옛 토큰으로 다시 채워진 항목도 남지 않게 한다.
+    public void invalidateUser(Long userId) {
+        evictUser(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictUser(userId);
+                }
+            });
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized void evictUser(Long userId) {
+        generation++;
+        invalidatedGenerations.remove(userId);
+        invalidatedGenerations.put(userId, generation);
+        String digest = digestByUserId.remove(userId);
+        if (digest != null) {
+            entries.remove(digest);
+        }
+    }
+
+    private void remove(String digest, Entry entry) {
+        entries.remove(digest);
+        digestByUserId.remove(entry.principal().userId(), digest);
+    }
+
+    private static String digest(String accessToken) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(accessToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", e);
+        }
+    }
+
+    public record AuthenticatedPrincipal(Long userId, String role, String authenticationName) {
+
+        public static AuthenticatedPrincipal of(User user) {
+            return of(user.getId(), user.getEmail(), user.getRole());
+        }
+
+        public static AuthenticatedPrincipal of(Long userId, String email, Role role) {
+            String authenticationName = email != null && !email.isBlank() ? email : "user:" + userId;
+            return new AuthenticatedPrincipal(userId, role.name(), authenticationName);
+        }
+    }
+
+    private record Entry(AuthenticatedPrincipal principal, Instant expiresAt) {
+    }
+}
@@ -1,8 +1,8 @@
 package devkor.ontime_back.global.jwt;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import devkor.ontime_back.entity.User;
-import devkor.ontime_back.repository.UserRepository;
+import devkor.ontime_back.global.jwt.AuthenticatedPrincipalCache.AuthenticatedPrincipal;
+import devkor.ontime_back.global.jwt.JwtTokenProvider.VerifiedAccessToken;
 import devkor.ontime_back.response.*;
 import devkor.ontime_back.service.AuthTokenService;
 import jakarta.servlet.DispatcherType;
@@ -14,7 +14,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.io.IOException;
-import java.security.SecureRandom;
 import java.util.List;
 
 import jakarta.servlet.ServletException;
@@ -24,7 +23,6 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.authority.mapping.GrantedAuthoritiesMapper;
 import org.springframework.security.core.authority.mapping.NullAuthoritiesMapper;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 
@@ -36,8 +34,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final List<String> NO_CHECK_URLS = List.of("/login", "/health", "/actuator/health", "/swagger-ui", "/sign-up", "/account-deletion", "/privacy-policy", "/v3/api-docs", "/oauth2/google/login", "/oauth2/kakao/login", "/oauth2/apple/login");
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
     private final AuthTokenService authTokenService;
+    private final AuthenticatedPrincipalCache principalCache;
+    private final LoginResponseWriter loginResponseWriter;
 
     private GrantedAuthoritiesMapper authoritiesMapper = new NullAuthoritiesMapper();
 
@@ -71,15 +70,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 이제부터는 엑세스 토큰'만' 헤더에 담긴 요청만 생각하면 됨
 
             // 엑세스 토큰이 있고, 유효할 경우 checkAccessTokenAndAuthentication 메서드 호출해 권한정보 저장하고 스프링 시큐리티 필터체인 계속 진행
-            if (accessToken != null && jwtTokenProvider.isAccessTokenValid(accessToken)) {
-                checkAccessTokenAndAuthentication(request, response, filterChain);
+            // 유효하지 않으면 InvalidAccessTokenException 발생
+            if (accessToken != null) {
+                checkAccessTokenAndAuthentication(accessToken, request, response, filterChain);
+                return;
             }
 
             // 엑세스 토큰이 없는 경우 EmptyAccessTokenException 발생
             // 엑세스 토큰 없고 리프레시 토큰 있는 경우는 첫번째 if문에서 처리하여서 고려하지 않아도 됨.
-            if (accessToken == null) {
-                throw new EmptyAccessTokenException("Empty Access token!~!");
-            }
+            throw new EmptyAccessTokenException("Empty Access token!~!");
 
 
         }
@@ -98,31 +97,34 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     // accessToken으로 유저의 권한정보만 저장하고 인증 허가(스프링 시큐리티 필터체인 中 인증체인 통과해 다음 체인으로 이동)
-    public void checkAccessTokenAndAuthentication(HttpServletRequest request, HttpServletResponse response,
+    // 이미 검증한 토큰이면 캐시된 인증 정보를 쓰므로 JWT 검증과 DB 조회를 다시 하지 않는다.
+    public void checkAccessTokenAndAuthentication(String accessToken, HttpServletRequest request, HttpServletResponse response,
                                                   FilterChain filterChain) throws ServletException, IOException {
-        log.info("Checking access credential authentication");
-        jwtTokenProvider.extractAccessToken(request)
-                .ifPresent(accessToken -> jwtTokenProvider.extractUserId(accessToken)
-                        .ifPresent(userId -> {
-                            log.info("Authenticated userId: {}", userId);
-                            userRepository.findById(userId)
-                                    .ifPresent(this::saveAuthentication);
-                        }));
+        AuthenticatedPrincipal principal = principalCache.get(accessToken)
+                .orElseGet(() -> {
+                    // 세대를 DB 조회 전에 읽어야 조회 뒤에 끝난 로그인/재발급의 무효화를 놓치지 않는다.
+                    long generation = principalCache.generation();
+                    VerifiedAccessToken verified = jwtTokenProvider.verifyAccessToken(accessToken);
+                    principalCache.put(accessToken, verified.principal(), verified.expiresAt(), generation);
+                    return verified.principal();
+                });
+        log.debug("Authenticated userId: {}", principal.userId());
+        saveAuthentication(principal);
 
         filterChain.doFilter(request, response);
     }
 
     // 인증 허가
     public void saveAuthentication(User myUser) {
-        String password = myUser.getPassword();
-        if (password == null) {
-            password = generateRandomPassword(12); // 소셜 로그인 유저의 비밀번호 임의로 설정
-        }
+        saveAuthentication(AuthenticatedPrincipal.of(myUser));
+    }
 
+    private void saveAuthentication(AuthenticatedPrincipal principal) {
+        // 인증이 끝난 뒤에는 비밀번호를 쓰지 않으므로 빈 값으로 둔다. (소셜 로그인 유저는 비밀번호가 없음)
         UserDetails userDetailsUser = org.springframework.security.core.userdetails.User.builder()
-                .username(authenticationName(myUser))
-                .password(password)
-                .roles(myUser.getRole().name())
+                .username(principal.authenticationName())
+                .password("")
+                .roles(principal.role())
                 .build();
 
         Authentication authentication =
@@ -132,64 +134,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 
-    private String authenticationName(User user) {
-        String email = user.getEmail();
-        if (email != null && !email.isBlank()) {
-            return email;
-        }
-        return "user:" + user.getId();
-    }
-
-    // 비밀번호 랜덤 생성
-    private String generateRandomPassword(int length) {
-        final String CHAR_SET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz!@#$%^&*()-_=+[]{}|;:,.<>?";
-        SecureRandom secureRandom = new SecureRandom();
-        StringBuilder password = new StringBuilder(length);
-
-        for (int i = 0; i < length; i++) {
-            int index = secureRandom.nextInt(CHAR_SET.length());
-            password.append(CHAR_SET.charAt(index));
-        }
-
-        return password.toString();
-    }
-
     private void handleInvalidTokenException(HttpServletResponse response, InvalidTokenException ex) throws IOException {
-        response.setContentType("application/json;charset=UTF-8");
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-
         log.info("Credential validation exception occurred");
 
-        // ErrorCode에서 정보를 가져옴
-        ErrorCode errorCode = ErrorCode.UNAUTHORIZED;
-
-        if (ex instanceof InvalidRefreshTokenException) {
-            ApiResponseForm<Void> errorResponse = ApiResponseForm.refreshTokenInvalid(
-                    errorCode.getCode(),
-                    errorCode.getMessage()
-            );
-
-            // ObjectMapper를 사용하여 JSON 변환 후 응답에 기록
-            ObjectMapper objectMapper = new ObjectMapper();
-            response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
-        } else if (ex instanceof InvalidAccessTokenException) {
-            ApiResponseForm<Void> errorResponse = ApiResponseForm.accessTokenInvalid(
-                    errorCode.getCode(),
-                    errorCode.getMessage()
-            );
-
-            // ObjectMapper를 사용하여 JSON 변환 후 응답에 기록
-            ObjectMapper objectMapper = new ObjectMapper();
-            response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
-        } else if (ex instanceof EmptyAccessTokenException) {
-            ApiResponseForm<Void> errorResponse = ApiResponseForm.accessTokenEmpty(
-                    errorCode.getCode(),
-                    errorCode.getMessage()
-            );
-
-            // ObjectMapper를 사용하여 JSON 변환 후 응답에 기록
-            ObjectMapper objectMapper = new ObjectMapper();
-            response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
-        }
+        // 토큰 상태별 401 바디는 LoginResponseWriter 가 미리 직렬화해 둔 것을 쓴다.
+        loginResponseWriter.writeInvalidToken(response, ex);
     }
 }
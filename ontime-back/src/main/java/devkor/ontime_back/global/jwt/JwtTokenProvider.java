@@ -1,8 +1,11 @@
 package devkor.ontime_back.global.jwt;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
-import devkor.ontime_back.entity.User;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import devkor.ontime_back.dto.UserSessionDto;
+import devkor.ontime_back.global.jwt.AuthenticatedPrincipalCache.AuthenticatedPrincipal;
 import devkor.ontime_back.repository.UserRepository;
 import devkor.ontime_back.response.InvalidAccessTokenException;
 import devkor.ontime_back.response.InvalidRefreshTokenException;
@@ -13,8 +16,10 @@ import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 
+import java.time.Instant;
 import java.util.Date;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -52,13 +57,22 @@ public class JwtTokenProvider {
 
     private final UserRepository userRepository;
 
+    // 검증기는 스레드 안전하므로 요청마다 새로 만들지 않고 하나를 재사용한다.
+    @Getter(AccessLevel.NONE)
+    private volatile JWTVerifier verifier;
+
     // accessToken 생성
     public String createAccessToken(String email, Long userId) {
+        return createAccessToken(email, userId, UUID.randomUUID().toString());
+    }
+
+    // sessionId 를 jti 로 싣는 accessToken 생성. 같은 값을 User.activeSessionId 에 저장해 Active Session 을 가린다.
+    public String createAccessToken(String email, Long userId, String sessionId) {
         Date now = new Date();
         return JWT.create()
                 .withSubject(ACCESS_TOKEN_SUBJECT)
                 .withExpiresAt(new Date(now.getTime() + accessTokenExpirationPeriod))
-                .withJWTId(UUID.randomUUID().toString())
+                .withJWTId(sessionId)
                 .withClaim(EMAIL_CLAIM, email)
                 .withClaim(USER_ID_CLAIM, userId)
                 .sign(Algorithm.HMAC512(secretKey));
@@ -107,8 +121,7 @@ public class JwtTokenProvider {
     // accessToken에서 email 추출
     public Optional<String> extractEmail(String accessToken) {
         try {
-            return Optional.ofNullable(JWT.require(Algorithm.HMAC512(secretKey))
-                    .build()
+            return Optional.ofNullable(verifier()
                     .verify(accessToken)
                     .getClaim(EMAIL_CLAIM)
                     .asString());
@@ -121,8 +134,7 @@ public class JwtTokenProvider {
     // accessToken에서 userId 추출
     public Optional<Long> extractUserId(String accessToken) {
         try {
-            return Optional.ofNullable(JWT.require(Algorithm.HMAC512(secretKey))
-                    .build()
+            return Optional.ofNullable(verifier()
                     .verify(accessToken)
                     .getClaim(USER_ID_CLAIM)
                     .asLong());
@@ -145,7 +157,7 @@ public class JwtTokenProvider {
     // token 유효성 확인
     public boolean isTokenValid(String token) {
         try {
-            JWT.require(Algorithm.HMAC512(secretKey)).build().verify(token);
+            verifier().verify(token);
             log.info("Credential is valid");
             return true;
         } catch (Exception e) {
@@ -155,28 +167,49 @@ public class JwtTokenProvider {
     }
 
     public boolean isAccessTokenValid(String token) {
+        verifyAccessToken(token);
+        return true;
+    }
+
+    // 서명/만료를 한 번 검증하고, 토큰의 jti 가 사용자의 현재 Active Session 과 같을 때만 인증 정보를 돌려준다.
+    // access_token LONGTEXT 대신 PK 로 좁은 컬럼만 읽어 비교한다.
+    public VerifiedAccessToken verifyAccessToken(String token) {
         try {
-            Long userId = JWT.require(Algorithm.HMAC512(secretKey))
-                    .build()
-                    .verify(token)
-                    .getClaim(USER_ID_CLAIM)
-                    .asLong();
-            User user = userRepository.findById(userId)
+            DecodedJWT decoded = verifier().verify(token);
+            Long userId = decoded.getClaim(USER_ID_CLAIM).asLong();
+            String sessionId = decoded.getId();
+            UserSessionDto session = userRepository.findSessionById(userId)
                     .orElseThrow(() -> new InvalidAccessTokenException("유효하지 않은 엑세스 토큰입니다."));
-            if (!token.equals(user.getAccessToken())) {
+            boolean activeSession = session.getActiveSessionId() != null
+                    ? session.getActiveSessionId().equals(sessionId)
+                    : isLegacyActiveSession(userId, token, sessionId);
+            if (!activeSession) {
                 throw new InvalidAccessTokenException("유효하지 않은 엑세스 토큰입니다.");
             }
             log.info("Access credential is valid");
-            return true;
+            return new VerifiedAccessToken(
+                    AuthenticatedPrincipal.of(session.getUserId(), session.getEmail(), session.getRole()),
+                    decoded.getExpiresAtAsInstant());
         } catch (Exception e) {
             log.error("Access credential is invalid");
             throw new InvalidAccessTokenException("유효하지 않은 엑세스 토큰입니다.");
         }
     }
 
+    // active_session_id 도입 전에 발급된 세션은 한 번만 기존 방식으로 비교하고, 맞으면 jti 를 기록해 둔다.
+    private boolean isLegacyActiveSession(Long userId, String token, String sessionId) {
+        boolean matches = sessionId != null && userRepository.findById(userId)
+                .map(user -> token.equals(user.getAccessToken()))
+                .orElse(false);
+        if (matches) {
+            userRepository.initializeActiveSessionId(userId, sessionId);
+        }
+        return matches;
+    }
+
     public boolean isRefreshTokenValid(String token) {
         try {
-            JWT.require(Algorithm.HMAC512(secretKey)).build().verify(token);
+            verifier().verify(token);
             log.info("Refresh credential is valid");
             return true;
         } catch (Exception e) {
@@ -194,4 +227,15 @@ public class JwtTokenProvider {
                 .sign(Algorithm.HMAC512(secretKey));
     }
 
+    private JWTVerifier verifier() {
+        JWTVerifier current = verifier;
+        if (current == null) {
+            current = JWT.require(Algorithm.HMAC512(secretKey)).build();
+            verifier = current;
+        }
+        return current;
+    }
+
+    public record VerifiedAccessToken(AuthenticatedPrincipal principal, Instant expiresAt) {
+    }
 }
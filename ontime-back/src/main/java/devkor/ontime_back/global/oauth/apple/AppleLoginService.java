@@ -14,6 +14,7 @@ import devkor.ontime_back.global.jwt.JwtUtils;
 import devkor.ontime_back.repository.UserAlarmSettingRepository;
 import devkor.ontime_back.repository.UserRepository;
 import devkor.ontime_back.response.InvalidTokenException;
+import devkor.ontime_back.response.LoginResponseWriter;
 import devkor.ontime_back.service.AnalyticsPreferenceService;
 import devkor.ontime_back.service.AuthTokenService;
 import io.jsonwebtoken.Claims;
@@ -43,7 +44,6 @@ import java.security.KeyFactory;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.spec.PKCS8EncodedKeySpec;
-import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 
@@ -52,12 +52,8 @@ import java.util.*;
 @Service
 public class AppleLoginService {
 
-    private static final String APPLE_KEYS_URL = "https://appleid.apple.com/auth/keys";
     private static final String APPLE_TOKEN_URL = "https://appleid.apple.com/auth/token";
-    private static final Duration APPLE_PUBLIC_KEY_CACHE_TTL = Duration.ofHours(24);
     private String issuer = "https://appleid.apple.com";
-    @Value("${apple.keys-url:" + APPLE_KEYS_URL + "}")
-    private String appleKeysUrl = APPLE_KEYS_URL;
     @Value("${apple.token-url:" + APPLE_TOKEN_URL + "}")
     private String appleTokenUrl = APPLE_TOKEN_URL;
     @Value("${apple.client.id}")
@@ -73,17 +69,17 @@ public class AppleLoginService {
     @Value("${apple.private-key:}")
     private String privateKey;
 
-    private final ApplePublicKeyGenerator applePublicKeyGenerator;
+    private final ApplePublicKeyStore applePublicKeyStore;
     private final JwtUtils jwtUtils;
     private final UserRepository userRepository;
     private final UserAlarmSettingRepository userAlarmSettingRepository;
     private final JwtTokenProvider jwtTokenProvider;
     private final AnalyticsPreferenceService analyticsPreferenceService;
     private final AuthTokenService authTokenService;
+    private final LoginResponseWriter loginResponseWriter;
+    private final ObjectMapper objectMapper;
 
     private final RestTemplate restTemplate = new RestTemplate();
-    private ApplePublicKeyResponse cachedApplePublicKeys;
-    private Instant cachedApplePublicKeysAt;
 
     public Authentication handleLogin(String appleRefreshToken, User user, HttpServletResponse response) throws IOException {
         log.info("handleLogin");
@@ -92,28 +88,13 @@ public class AppleLoginService {
         }
 
         authTokenService.issueLoginTokens(user, response);
-        userRepository.saveAndFlush(user);
 
         Authentication authentication = new UsernamePasswordAuthenticationToken(
                 user, null, Collections.singletonList(new SimpleGrantedAuthority(user.getRole().name()))
         );
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        response.setContentType("application/json");
-        response.setCharacterEncoding("UTF-8");
-
-        String msg = user.getRole().name().equals("GUEST") ? "유저의 ROLE이 GUEST이므로 온보딩API를 호출해 온보딩을 진행해야합니다." : "로그인에 성공하였습니다.";
-        // JSON 응답 생성
-        String responseBody = String.format(
-                "{ \"status\": \"success\", \"code\": \"200\", \"message\": \"%s\", \"data\": { " +
-                        "\"userId\": %d, \"email\": \"%s\", \"name\": \"%s\", " +
-                        "\"spareTime\": %d, \"note\": %s, \"punctualityScore\": %f, \"role\": \"%s\" } }",
-                msg, user.getId(), user.getEmail(), user.getName(),
-                user.getSpareTime(), user.getNote() != null ? "\"" + user.getNote() + "\"" : null, user.getPunctualityScore(), user.getRole().name()
-        );
-
-        response.getWriter().write(responseBody);
-        response.getWriter().flush();
+        loginResponseWriter.writeLogin(response, user);
 
         return authentication;
     }
@@ -142,7 +123,6 @@ public class AppleLoginService {
         User savedUser = userRepository.save(newUser);
 
         authTokenService.issueLoginTokens(savedUser, response);
-        userRepository.save(savedUser);
         userAlarmSettingRepository.save(UserAlarmSetting.defaultFor(savedUser));
         analyticsPreferenceService.createDefaultPreference(savedUser);
 
@@ -151,21 +131,7 @@ public class AppleLoginService {
         );
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        response.setContentType("application/json");
-        response.setCharacterEncoding("UTF-8");
-
-        String msg = "회원가입에 성공하였습니다.";
-        // JSON 응답 생성
-        String responseBody = String.format(
-                "{ \"status\": \"success\", \"code\": \"200\", \"message\": \"%s\", \"data\": { " +
-                        "\"userId\": %d, \"email\": \"%s\", \"name\": \"%s\", " +
-                        "\"spareTime\": %d, \"note\": %s, \"punctualityScore\": %f, \"role\": \"%s\" } }",
-                msg, savedUser.getId(), savedUser.getEmail(), savedUser.getName(),
-                savedUser.getSpareTime(), savedUser.getNote() != null ? "\"" + savedUser.getNote() + "\"" : null, savedUser.getPunctualityScore(), savedUser.getRole().name()
-        );
-
-        response.getWriter().write(responseBody);
-        response.getWriter().flush();
+        loginResponseWriter.writeRegister(response, savedUser);
 
         return authentication;
     }
@@ -175,7 +141,7 @@ public class AppleLoginService {
             Exception {
         log.info("Verify Apple identity credential");
         Map<String, String> headers = jwtUtils.parseHeaders(identityToken);
-        PublicKey publicKey = resolveApplePublicKey(headers);
+        PublicKey publicKey = applePublicKeyStore.resolve(headers.get("kid"), headers.get("alg"));
         // claim
         Claims tokenClaims = jwtUtils.getTokenClaims(identityToken, publicKey);
         // iss 확인
@@ -195,30 +161,6 @@ public class AppleLoginService {
         return tokenClaims;
     }
 
-    private PublicKey resolveApplePublicKey(Map<String, String> headers) throws Exception {
-        ApplePublicKeyResponse applePublicKeys = getCachedApplePublicKeys();
-        try {
-            return applePublicKeyGenerator.generatePublicKey(headers, applePublicKeys);
-        } catch (IllegalArgumentException e) {
-            log.info("Apple public key cache miss for signed credential header; refreshing key set");
-            return applePublicKeyGenerator.generatePublicKey(headers, refreshApplePublicKeys());
-        }
-    }
-
-    private synchronized ApplePublicKeyResponse getCachedApplePublicKeys() {
-        if (cachedApplePublicKeys == null || cachedApplePublicKeysAt == null ||
-                cachedApplePublicKeysAt.plus(APPLE_PUBLIC_KEY_CACHE_TTL).isBefore(Instant.now())) {
-            return refreshApplePublicKeys();
-        }
-        return cachedApplePublicKeys;
-    }
-
-    private synchronized ApplePublicKeyResponse refreshApplePublicKeys() {
-        cachedApplePublicKeys = restTemplate.getForObject(appleKeysUrl, ApplePublicKeyResponse.class);
-        cachedApplePublicKeysAt = Instant.now();
-        return cachedApplePublicKeys;
-    }
-
     // apple 서버로부터 accesstoken, refreshtoken 발급
     public AppleTokenResponseDto getAppleAccessTokenAndRefreshToken(String authCode) throws Exception {
         // clientSecret
@@ -236,7 +178,6 @@ public class AppleLoginService {
 
         JsonNode response = responseEntity.getBody();
 
-        ObjectMapper objectMapper = new ObjectMapper();
         return objectMapper.treeToValue(response, AppleTokenResponseDto.class);
     }
 
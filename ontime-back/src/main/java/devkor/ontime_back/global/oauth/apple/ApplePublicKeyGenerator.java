@@ -19,9 +19,11 @@ public class ApplePublicKeyGenerator {
                                        ApplePublicKeyResponse applePublicKeys) throws NoSuchAlgorithmException, InvalidKeySpecException {
         ApplePublicKey publicKey = applePublicKeys.getMatchedKey(tokenHeaders.get("kid"),
                 tokenHeaders.get("alg"));
-        return getPublicKey(publicKey);
+        return toPublicKey(publicKey);
     }
-    private PublicKey getPublicKey(ApplePublicKey publicKey)
+
+    // JWKS 의 modulus/exponent 로 RSA 공개키를 만든다. ApplePublicKeyStore 가 키 목록을 받아 올 때 한 번씩만 호출한다.
+    public PublicKey toPublicKey(ApplePublicKey publicKey)
             throws NoSuchAlgorithmException, InvalidKeySpecException {
         byte[] nBytes = Base64.getUrlDecoder().decode(publicKey.n());
         byte[] eBytes = Base64.getUrlDecoder().decode(publicKey.e());
@@ -0,0 +1,185 @@
+package devkor.ontime_back.global.oauth.apple;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.security.PublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Apple 공개키(JWKS)를 kid 별로 미리 파싱한 {@link PublicKey} 스냅샷으로 들고 있는다.
+ * <p>
+ * 로그인 경로는 AtomicReference 에서 스냅샷을 읽기만 하므로 서로 기다리지 않는다.
+ * ttl 이 끝나기 refresh-ahead 전부터는 지금 스냅샷을 그대로 쓰면서 백그라운드에서 새로 받아 온다.
+ * 처음 보는 kid 가 오면(Apple 키 교체) 한 번만 다시 받아 오고, 동시에 들어온 요청은 그 한 번의 결과를 함께 기다린다.
+ */
+@Slf4j
+@Component
+public class ApplePublicKeyStore {
+
+    private static final String APPLE_KEYS_URL = "https://appleid.apple.com/auth/keys";
+
+    private final ApplePublicKeyGenerator applePublicKeyGenerator;
+    private final Supplier<ApplePublicKeyResponse> fetcher;
+    private final Duration ttl;
+    private final Duration refreshAhead;
+    private final Duration minRefreshInterval;
+    private final Supplier<Instant> clock;
+    private final ExecutorService refreshExecutor;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<Snapshot>> inFlight = new AtomicReference<>();
+
+    @Autowired
+    public ApplePublicKeyStore(
+            ApplePublicKeyGenerator applePublicKeyGenerator,
+            @Value("${apple.keys-url:" + APPLE_KEYS_URL + "}") String appleKeysUrl,
+            @Value("${apple.public-keys.ttl-seconds:86400}") long ttlSeconds,
+            @Value("${apple.public-keys.refresh-ahead-seconds:3600}") long refreshAheadSeconds,
+            @Value("${apple.public-keys.min-refresh-interval-seconds:10}") long minRefreshIntervalSeconds) {
+        this(applePublicKeyGenerator,
+                fetchFrom(new RestTemplate(), appleKeysUrl),
+                Duration.ofSeconds(ttlSeconds),
+                Duration.ofSeconds(refreshAheadSeconds),
+                Duration.ofSeconds(minRefreshIntervalSeconds),
+                Instant::now,
+                Executors.newSingleThreadExecutor(new CustomizableThreadFactory("apple-jwks-refresh-")));
+    }
+
+    ApplePublicKeyStore(ApplePublicKeyGenerator applePublicKeyGenerator,
+                        Supplier<ApplePublicKeyResponse> fetcher,
+                        Duration ttl,
+                        Duration refreshAhead,
+                        Duration minRefreshInterval,
+                        Supplier<Instant> clock,
+                        ExecutorService refreshExecutor) {
+        this.applePublicKeyGenerator = applePublicKeyGenerator;
+        this.fetcher = fetcher;
+        this.ttl = ttl;
+        this.refreshAhead = refreshAhead.compareTo(ttl) < 0 ? refreshAhead : Duration.ZERO;
+        this.minRefreshInterval = minRefreshInterval;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    public PublicKey resolve(String kid, String alg) {
+        Snapshot current = currentSnapshot();
+        PublicKey publicKey = current.find(kid, alg);
+        if (publicKey != null) {
+            return publicKey;
+        }
+
+        // 처음 보는 kid: 키가 교체됐을 수 있으니 다시 받아 온다. 엉터리 kid 로 JWKS 를 두드리지 못하도록 간격을 둔다.
+        if (!current.fetchedAt().plus(minRefreshInterval).isAfter(clock.get())) {
+            log.info("Apple public key cache miss for signed credential header; refreshing key set");
+            publicKey = awaitRefresh(current).find(kid, alg);
+            if (publicKey != null) {
+                return publicKey;
+            }
+        }
+        throw new IllegalArgumentException("Invalid JWT: No matching Apple Public Key found");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdown();
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            return awaitRefresh(null);
+        }
+
+        Instant now = clock.get();
+        Instant expiresAt = current.fetchedAt().plus(ttl);
+        if (!now.isBefore(expiresAt)) {
+            return awaitRefresh(current);
+        }
+        if (!now.isBefore(expiresAt.minus(refreshAhead))) {
+            refresh();
+        }
+        return current;
+    }
+
+    // 진행 중인 갱신이 있으면 그 결과를 기다린다. 실패하면 가지고 있던 스냅샷을 계속 쓴다.
+    private Snapshot awaitRefresh(Snapshot fallback) {
+        try {
+            return refresh().join();
+        } catch (CompletionException e) {
+            if (fallback == null) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+            log.warn("Apple public key refresh failed; keeping previous key set: {}", e.getCause().getMessage());
+            return fallback;
+        }
+    }
+
+    private CompletableFuture<Snapshot> refresh() {
+        while (true) {
+            CompletableFuture<Snapshot> running = inFlight.get();
+            if (running != null) {
+                return running;
+            }
+            CompletableFuture<Snapshot> created = new CompletableFuture<>();
+            if (inFlight.compareAndSet(null, created)) {
+                refreshExecutor.execute(() -> load(created));
+                return created;
+            }
+        }
+    }
+
+    private void load(CompletableFuture<Snapshot> result) {
+        try {
+            Snapshot loaded = parse(fetcher.get());
+            snapshot.set(loaded);
+            inFlight.compareAndSet(result, null);
+            result.complete(loaded);
+        } catch (RuntimeException e) {
+            inFlight.compareAndSet(result, null);
+            result.completeExceptionally(e);
+        }
+    }
+
+    private Snapshot parse(ApplePublicKeyResponse response) {
+        List<ApplePublicKey> keys = response == null || response.keys() == null ? List.of() : response.keys();
+        Map<String, ParsedKey> keysByKid = new HashMap<>();
+        for (ApplePublicKey key : keys) {
+            try {
+                keysByKid.put(key.kid(), new ParsedKey(key.alg(), applePublicKeyGenerator.toPublicKey(key)));
+            } catch (Exception e) {
+                log.warn("Skipping Apple public key that cannot be parsed: kid={}", key.kid());
+            }
+        }
+        return new Snapshot(Map.copyOf(keysByKid), clock.get());
+    }
+
+    private static Supplier<ApplePublicKeyResponse> fetchFrom(RestTemplate restTemplate, String appleKeysUrl) {
+        return () -> restTemplate.getForObject(appleKeysUrl, ApplePublicKeyResponse.class);
+    }
+
+    private record ParsedKey(String alg, PublicKey publicKey) {
+    }
+
+    private record Snapshot(Map<String, ParsedKey> keysByKid, Instant fetchedAt) {
+
+        PublicKey find(String kid, String alg) {
+            ParsedKey key = kid == null ? null : keysByKid.get(kid);
+            return key != null && key.alg().equals(alg) ? key.publicKey() : null;
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package devkor.ontime_back.global.oauth.google;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
-import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.auth.openidconnect.IdTokenVerifier;
 import com.google.api.client.json.gson.GsonFactory;
 import devkor.ontime_back.dto.OAuthGoogleRequestDto;
 import devkor.ontime_back.dto.OAuthGoogleUserDto;
@@ -13,6 +12,7 @@ import devkor.ontime_back.entity.UserSetting;
 import devkor.ontime_back.global.jwt.JwtTokenProvider;
 import devkor.ontime_back.repository.UserAlarmSettingRepository;
 import devkor.ontime_back.repository.UserRepository;
+import devkor.ontime_back.response.LoginResponseWriter;
 import devkor.ontime_back.service.AnalyticsPreferenceService;
 import devkor.ontime_back.service.AuthTokenService;
 import io.jsonwebtoken.Claims;
@@ -34,6 +34,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -49,8 +51,11 @@ public class GoogleLoginService {
     private final UserAlarmSettingRepository userAlarmSettingRepository;
     private final AnalyticsPreferenceService analyticsPreferenceService;
     private final AuthTokenService authTokenService;
+    private final GooglePublicKeyStore googlePublicKeyStore;
+    private final LoginResponseWriter loginResponseWriter;
     private static final String GOOGLE_USER_INFO_URL = "https://www.googleapis.com/userinfo/v2/me";
     private static final String GOOGLE_REVOKE_URL = "https://oauth2.googleapis.com/revoke?token=";
+    private static final List<String> GOOGLE_ISSUERS = List.of("accounts.google.com", "https://accounts.google.com");
 
     private final List<String> validClientIds;
     private final RestTemplate revokeRestTemplate;
@@ -62,11 +67,13 @@ public class GoogleLoginService {
             UserAlarmSettingRepository userAlarmSettingRepository,
             AnalyticsPreferenceService analyticsPreferenceService,
             AuthTokenService authTokenService,
+            GooglePublicKeyStore googlePublicKeyStore,
+            LoginResponseWriter loginResponseWriter,
             @Value("${google.web.client-id}") String webClientId,
             @Value("${google.app.client-id}") String appClientId
     ) {
         this(jwtTokenProvider, userRepository, userAlarmSettingRepository, analyticsPreferenceService,
-                authTokenService, webClientId, appClientId, createRevokeRestTemplate());
+                authTokenService, googlePublicKeyStore, loginResponseWriter, webClientId, appClientId, createRevokeRestTemplate());
     }
 
     GoogleLoginService(
@@ -75,6 +82,8 @@ public class GoogleLoginService {
             UserAlarmSettingRepository userAlarmSettingRepository,
             AnalyticsPreferenceService analyticsPreferenceService,
             AuthTokenService authTokenService,
+            GooglePublicKeyStore googlePublicKeyStore,
+            LoginResponseWriter loginResponseWriter,
             String webClientId,
             String appClientId,
             RestTemplate revokeRestTemplate
@@ -84,6 +93,8 @@ public class GoogleLoginService {
         this.userAlarmSettingRepository = userAlarmSettingRepository;
         this.analyticsPreferenceService = analyticsPreferenceService;
         this.authTokenService = authTokenService;
+        this.googlePublicKeyStore = googlePublicKeyStore;
+        this.loginResponseWriter = loginResponseWriter;
         this.revokeRestTemplate = revokeRestTemplate;
         this.validClientIds = Stream.concat(
                         Stream.of(webClientId),
@@ -109,28 +120,13 @@ public class GoogleLoginService {
         user.updateSocialLoginToken(oAuthGoogleRequestDto.getRefreshToken());
 
         authTokenService.issueLoginTokens(user, response);
-        userRepository.saveAndFlush(user);
 
         Authentication authentication = new UsernamePasswordAuthenticationToken(
                 user, null, Collections.singletonList(new SimpleGrantedAuthority(user.getRole().name()))
         );
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        response.setContentType("application/json");
-        response.setCharacterEncoding("UTF-8");
-
-        String msg = user.getRole().name().equals("GUEST") ? "유저의 ROLE이 GUEST이므로 온보딩API를 호출해 온보딩을 진행해야합니다." : "로그인에 성공하였습니다.";
-        // JSON 응답 생성
-        String responseBody = String.format(
-                "{ \"status\": \"success\", \"code\": \"200\", \"message\": \"%s\", \"data\": { " +
-                        "\"userId\": %d, \"email\": \"%s\", \"name\": \"%s\", " +
-                        "\"spareTime\": %d, \"note\": %s, \"punctualityScore\": %f, \"role\": \"%s\" } }",
-                msg, user.getId(), user.getEmail(), user.getName(),
-                user.getSpareTime(), user.getNote() != null ? "\"" + user.getNote() + "\"" : null, user.getPunctualityScore(), user.getRole().name()
-        );
-
-        response.getWriter().write(responseBody);
-        response.getWriter().flush();
+        loginResponseWriter.writeLogin(response, user);
 
         return authentication;
     }
@@ -158,7 +154,6 @@ public class GoogleLoginService {
         User savedUser = userRepository.save(newUser);
 
         authTokenService.issueLoginTokens(savedUser, response);
-        userRepository.save(savedUser);
         userAlarmSettingRepository.save(UserAlarmSetting.defaultFor(savedUser));
         analyticsPreferenceService.createDefaultPreference(savedUser);
 
@@ -167,34 +162,14 @@ public class GoogleLoginService {
         );
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        response.setContentType("application/json");
-        response.setCharacterEncoding("UTF-8");
-
-        String msg = "회원가입에 성공하였습니다.";
-        // JSON 응답 생성
-        String responseBody = String.format(
-                "{ \"status\": \"success\", \"code\": \"200\", \"message\": \"%s\", \"data\": { " +
-                        "\"userId\": %d, \"email\": \"%s\", \"name\": \"%s\", " +
-                        "\"spareTime\": %d, \"note\": %s, \"punctualityScore\": %f, \"role\": \"%s\" } }",
-                msg, savedUser.getId(), savedUser.getEmail(), savedUser.getName(),
-                savedUser.getSpareTime(), savedUser.getNote() != null ? "\"" + savedUser.getNote() + "\"" : null, savedUser.getPunctualityScore(), savedUser.getRole().name()
-        );
-
-        response.getWriter().write(responseBody);
-        response.getWriter().flush();
+        loginResponseWriter.writeRegister(response, savedUser);
 
         return authentication;
     }
 
     public GoogleIdToken.Payload verifyIdentityToken(String identityToken) throws Exception {
-        GoogleIdTokenVerifier verifier = new GoogleIdTokenVerifier.Builder(
-                new NetHttpTransport(),
-                GsonFactory.getDefaultInstance())
-                .setAudience(validClientIds) // aud 확인
-                .build();
-
-        GoogleIdToken idToken = verifier.verify(identityToken); // Google의 공개 키를 사용하여 idToken 서명을 검증
-        if (idToken != null) {
+        GoogleIdToken idToken = GoogleIdToken.parse(GsonFactory.getDefaultInstance(), identityToken);
+        if (isValidIdentityToken(idToken)) {
             GoogleIdToken.Payload payload = idToken.getPayload();
             return payload;
         } else {
@@ -204,6 +179,21 @@ public class GoogleLoginService {
         }
     }
 
+    // GoogleIdTokenVerifier 와 같은 항목(iss, aud, exp/iat, 서명)을 확인하되, 공개키는 GooglePublicKeyStore 가 받아 둔 것만 쓴다.
+    private boolean isValidIdentityToken(GoogleIdToken idToken) throws GeneralSecurityException, IOException {
+        if (!idToken.verifyIssuer(GOOGLE_ISSUERS)
+                || !idToken.verifyAudience(validClientIds) // aud 확인
+                || !idToken.verifyTime(System.currentTimeMillis(), IdTokenVerifier.DEFAULT_TIME_SKEW_SECONDS)) {
+            return false;
+        }
+        for (PublicKey publicKey : googlePublicKeyStore.publicKeys()) { // Google의 공개 키를 사용하여 idToken 서명을 검증
+            if (idToken.verifySignature(publicKey)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private void logGoogleIdentityTokenClaims(String identityToken) {
         try {
             GoogleIdToken parsedToken = GoogleIdToken.parse(
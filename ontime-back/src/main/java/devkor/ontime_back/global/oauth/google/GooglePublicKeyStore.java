@@ -0,0 +1,121 @@
+package devkor.ontime_back.global.oauth.google;
+
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Google ID 토큰 서명 검증용 공개키를 한 번 받아 두고 로그인 요청끼리 나눠 쓴다.
+ * <p>
+ * 인증서 응답의 Cache-Control max-age 로 만료 시각을 정하고(GooglePublicKeysManager),
+ * 만료 refresh-ahead 전에 백그라운드에서 새 {@link GooglePublicKeysManager} 를 받아 통째로 바꿔 끼운다.
+ * 로그인 요청은 이미 받아 둔 공개키만 읽으므로 갱신하는 동안에도 외부 호출을 기다리지 않는다.
+ * 갱신이 실패하면 지금 공개키를 그대로 쓰고 retry-delay 뒤에 다시 시도한다.
+ */
+@Slf4j
+@Component
+public class GooglePublicKeyStore {
+
+    private static final String GOOGLE_CERTS_URL = "https://www.googleapis.com/oauth2/v1/certs";
+
+    private final Supplier<GooglePublicKeysManager> managerFactory;
+    private final Duration refreshAhead;
+    private final Duration retryDelay;
+    private final ScheduledExecutorService refreshExecutor;
+    private volatile GooglePublicKeysManager publicKeysManager;
+
+    @Autowired
+    public GooglePublicKeyStore(
+            @Value("${google.certs-url:" + GOOGLE_CERTS_URL + "}") String googleCertsUrl,
+            @Value("${google.public-keys.refresh-ahead-seconds:600}") long refreshAheadSeconds,
+            @Value("${google.public-keys.retry-delay-seconds:30}") long retryDelaySeconds) {
+        this(managerFactory(new NetHttpTransport(), googleCertsUrl),
+                Duration.ofSeconds(refreshAheadSeconds),
+                Duration.ofSeconds(retryDelaySeconds),
+                Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("google-certs-refresh-")));
+        // 첫 로그인이 인증서 조회를 기다리지 않도록 뜨자마자 받아 둔다.
+        schedule(Duration.ZERO);
+    }
+
+    GooglePublicKeyStore(Supplier<GooglePublicKeysManager> managerFactory,
+                         Duration refreshAhead,
+                         Duration retryDelay,
+                         ScheduledExecutorService refreshExecutor) {
+        this.managerFactory = managerFactory;
+        this.refreshAhead = refreshAhead;
+        this.retryDelay = retryDelay;
+        this.refreshExecutor = refreshExecutor;
+        this.publicKeysManager = managerFactory.get();
+    }
+
+    /**
+     * 지금 쓰는 공개키 목록.
+     * 아직 한 번도 받지 못했거나 백그라운드 갱신이 계속 실패해 만료가 다가오면, GooglePublicKeysManager 가 직접 받아 온다.
+     */
+    public List<PublicKey> publicKeys() throws GeneralSecurityException, IOException {
+        return publicKeysManager.getPublicKeys();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    GooglePublicKeysManager publicKeysManager() {
+        return publicKeysManager;
+    }
+
+    // 다음 갱신까지 남은 시간을 돌려준다.
+    Duration refresh() {
+        GooglePublicKeysManager current = publicKeysManager;
+        // 아직 아무도 쓰지 않은 첫 인스턴스는 그대로 채우고, 이후에는 새 인스턴스를 받아 바꿔 끼운다.
+        GooglePublicKeysManager next = current.getExpirationTimeMilliseconds() == 0 ? current : managerFactory.get();
+        try {
+            next.refresh();
+        } catch (Exception e) {
+            log.warn("Google public certificate refresh failed; keeping previous certificates: {}", e.getClass().getSimpleName());
+            return retryDelay;
+        }
+        publicKeysManager = next;
+
+        long expiresInMillis = next.getExpirationTimeMilliseconds() - next.getClock().currentTimeMillis();
+        Duration delay = Duration.ofMillis(expiresInMillis).minus(refreshAhead);
+        return delay.compareTo(retryDelay) < 0 ? retryDelay : delay;
+    }
+
+    private void refreshAndReschedule() {
+        schedule(refresh());
+    }
+
+    private void schedule(Duration delay) {
+        try {
+            refreshExecutor.schedule(this::refreshAndReschedule, delay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.debug("Google public certificate refresh skipped: executor is shut down");
+        }
+    }
+
+    private static Supplier<GooglePublicKeysManager> managerFactory(HttpTransport transport, String googleCertsUrl) {
+        return () -> new GooglePublicKeysManager.Builder(transport, GsonFactory.getDefaultInstance())
+                .setPublicCertsEncodedUrl(googleCertsUrl)
+                .build();
+    }
+}
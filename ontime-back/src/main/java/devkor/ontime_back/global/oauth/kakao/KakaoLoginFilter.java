@@ -10,6 +10,7 @@ import devkor.ontime_back.entity.UserSetting;
 import devkor.ontime_back.global.jwt.JwtTokenProvider;
 import devkor.ontime_back.repository.UserAlarmSettingRepository;
 import devkor.ontime_back.repository.UserRepository;
+import devkor.ontime_back.response.LoginResponseWriter;
 import devkor.ontime_back.response.ValidationErrorWriter;
 import devkor.ontime_back.service.AnalyticsPreferenceService;
 import devkor.ontime_back.service.AuthTokenService;
@@ -41,6 +42,7 @@ public class KakaoLoginFilter extends AbstractAuthenticationProcessingFilter {
     private final JwtTokenProvider jwtTokenProvider;
     private final AnalyticsPreferenceService analyticsPreferenceService;
     private final AuthTokenService authTokenService;
+    private final LoginResponseWriter loginResponseWriter;
     private final ObjectMapper objectMapper;
     private final Validator validator;
 
@@ -51,7 +53,8 @@ public class KakaoLoginFilter extends AbstractAuthenticationProcessingFilter {
                             UserRepository userRepository,
                             UserAlarmSettingRepository userAlarmSettingRepository,
                             AnalyticsPreferenceService analyticsPreferenceService,
-                            AuthTokenService authTokenService) {
+                            AuthTokenService authTokenService,
+                            LoginResponseWriter loginResponseWriter) {
         super(defaultFilterProcessesUrl);
         this.objectMapper = objectMapper;
         this.validator = validator;
@@ -60,6 +63,7 @@ public class KakaoLoginFilter extends AbstractAuthenticationProcessingFilter {
         this.userAlarmSettingRepository = userAlarmSettingRepository;
         this.analyticsPreferenceService = analyticsPreferenceService;
         this.authTokenService = authTokenService;
+        this.loginResponseWriter = loginResponseWriter;
 
     }
 
@@ -84,23 +88,8 @@ public class KakaoLoginFilter extends AbstractAuthenticationProcessingFilter {
 
     private Authentication handleLogin(User user, HttpServletResponse response) throws IOException {
         authTokenService.issueLoginTokens(user, response);
-        userRepository.saveAndFlush(user);
 
-        response.setContentType("application/json");
-        response.setCharacterEncoding("UTF-8");
-
-        String msg = user.getRole().name().equals("GUEST") ? "유저의 ROLE이 GUEST이므로 온보딩API를 호출해 온보딩을 진행해야합니다." : "로그인에 성공하였습니다.";
-        // JSON 응답 생성
-        String responseBody = String.format(
-                "{ \"status\": \"success\", \"code\": \"200\", \"message\": \"%s\", \"data\": { " +
-                        "\"userId\": %d, \"email\": \"%s\", \"name\": \"%s\", " +
-                        "\"spareTime\": \"%s\", \"note\": \"%s\", \"punctualityScore\": %f, \"role\": \"%s\" } }",
-                msg, user.getId(), user.getEmail(), user.getName(),
-                user.getSpareTime(), user.getNote(), user.getPunctualityScore(), user.getRole().name()
-        );
-
-        response.getWriter().write(responseBody);
-        response.getWriter().flush();
+        loginResponseWriter.writeLogin(response, user);
 
         return new UsernamePasswordAuthenticationToken(user, null, Collections.singletonList(new SimpleGrantedAuthority(user.getRole().name())));
     }
@@ -123,21 +112,10 @@ public class KakaoLoginFilter extends AbstractAuthenticationProcessingFilter {
         User savedUser = userRepository.save(newUser);
 
         authTokenService.issueLoginTokens(savedUser, response);
-        userRepository.save(savedUser);
         userAlarmSettingRepository.save(UserAlarmSetting.defaultFor(savedUser));
         analyticsPreferenceService.createDefaultPreference(savedUser);
 
-        response.setContentType("application/json");
-        response.setCharacterEncoding("UTF-8");
-
-        String responseBody = String.format(
-                "{\"message\": \"%s\", \"role\": \"%s\"}",
-                "회원가입이 완료되었습니다. ROLE이 GUEST이므로 온보딩이 필요합니다.",
-                savedUser.getRole().name()
-        );
-
-        response.getWriter().write(responseBody);
-        response.getWriter().flush();
+        loginResponseWriter.writeKakaoRegister(response, savedUser);
 
         return new UsernamePasswordAuthenticationToken(newUser, null, Collections.singletonList(new SimpleGrantedAuthority(newUser.getRole().name())));
     }
@@ -0,0 +1,71 @@
+package devkor.ontime_back.global.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import devkor.ontime_back.response.ApiResponseForm;
+import devkor.ontime_back.response.ErrorCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인/가입 요청을 로그인 필터와 컨트롤러에 넘기기 전에 {@link AuthRateLimiter} 로 걸러 낸다.
+ * 한도를 넘은 요청은 DB 나 외부 공급자를 건드리지 않고 바로 429 와 Retry-After 로 돌려보낸다.
+ */
+@Slf4j
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String HTTP_METHOD = "POST";
+    private static final Set<String> RATE_LIMITED_PATHS = Set.of(
+            "/login",
+            "/sign-up",
+            "/oauth2/google/login",
+            "/oauth2/kakao/login",
+            "/oauth2/apple/login");
+
+    private final AuthRateLimiter authRateLimiter;
+    private final ObjectMapper objectMapper;
+
+    public AuthRateLimitFilter(AuthRateLimiter authRateLimiter, ObjectMapper objectMapper) {
+        this.authRateLimiter = authRateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HTTP_METHOD.equals(request.getMethod()) || !RATE_LIMITED_PATHS.contains(path(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = path(request);
+        long waitNanos = authRateLimiter.tryAcquire(path, request.getRemoteAddr());
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        log.debug("인증 요청 한도 초과: path={}", path);
+        ErrorCode errorCode = ErrorCode.TOO_MANY_REQUESTS;
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds(waitNanos)));
+        response.setContentType("application/json;charset=UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(
+                ApiResponseForm.error(errorCode.getCode(), errorCode.getMessage())));
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
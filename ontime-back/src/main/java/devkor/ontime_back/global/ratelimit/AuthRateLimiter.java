@@ -0,0 +1,47 @@
+package devkor.ontime_back.global.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 엔드포인트의 요청 허용 여부를 IP 별 버킷과 엔드포인트 전체 버킷으로 정한다.
+ * <p>
+ * IP 별 버킷은 한 기기의 재시도 폭주를 막고, 엔드포인트 버킷은 여러 기기가 한꺼번에 몰릴 때
+ * 로그인 쓰기가 커넥션 풀을 다 차지하지 않도록 엔드포인트 전체 처리량을 묶는다.
+ */
+@Component
+public class AuthRateLimiter {
+
+    private final TokenBucketStore tokenBucketStore;
+    private final boolean enabled;
+    private final TokenBucketPolicy perIpPolicy;
+    private final TokenBucketPolicy perEndpointPolicy;
+
+    public AuthRateLimiter(
+            TokenBucketStore tokenBucketStore,
+            @Value("${auth.rate-limit.enabled:true}") boolean enabled,
+            @Value("${auth.rate-limit.per-ip.capacity:20}") long perIpCapacity,
+            @Value("${auth.rate-limit.per-ip.refill-per-second:0.5}") double perIpRefillPerSecond,
+            @Value("${auth.rate-limit.per-endpoint.capacity:200}") long perEndpointCapacity,
+            @Value("${auth.rate-limit.per-endpoint.refill-per-second:100}") double perEndpointRefillPerSecond) {
+        this.tokenBucketStore = tokenBucketStore;
+        this.enabled = enabled;
+        this.perIpPolicy = new TokenBucketPolicy(perIpCapacity, perIpRefillPerSecond);
+        this.perEndpointPolicy = new TokenBucketPolicy(perEndpointCapacity, perEndpointRefillPerSecond);
+    }
+
+    /**
+     * @return 허용하면 0, 거절하면 다시 시도할 수 있을 때까지 남은 시간(ns)
+     */
+    public long tryAcquire(String endpoint, String clientIp) {
+        if (!enabled) {
+            return 0;
+        }
+        // IP 버킷을 먼저 봐서, 한 IP 의 폭주가 엔드포인트 전체 토큰을 깎아 먹지 않게 한다.
+        long ipWait = tokenBucketStore.tryConsume("ip:" + endpoint + ":" + clientIp, perIpPolicy);
+        if (ipWait > 0) {
+            return ipWait;
+        }
+        return tokenBucketStore.tryConsume("endpoint:" + endpoint, perEndpointPolicy);
+    }
+}
@@ -0,0 +1,108 @@
+package devkor.ontime_back.global.ratelimit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 인스턴스 메모리에 두는 토큰 버킷 저장소.
+ * <p>
+ * 키 해시로 고른 stripe 하나만 잠그므로, 서로 다른 IP 의 요청은 거의 경합하지 않는다.
+ * IP 별 버킷이 끝없이 늘지 않도록 stripe 마다 가장 오래 쓰지 않은 버킷부터 버린다.
+ * 버려진 버킷은 다음 요청 때 가득 찬 상태로 다시 만들어지는데, 오래 쓰지 않은 버킷은 어차피 다시 찼을 것이므로 결과가 같다.
+ */
+@Component
+public class InMemoryTokenBucketStore implements TokenBucketStore {
+
+    private static final int STRIPES = 64;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public InMemoryTokenBucketStore(@Value("${auth.rate-limit.max-buckets:100000}") int maxBuckets) {
+        this(maxBuckets, System::nanoTime);
+    }
+
+    InMemoryTokenBucketStore(int maxBuckets, LongSupplier nanoClock) {
+        int maxBucketsPerStripe = Math.max(maxBuckets / STRIPES, 1);
+        for (int index = 0; index < STRIPES; index++) {
+            stripes[index] = new Stripe(maxBucketsPerStripe);
+        }
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public long tryConsume(String key, TokenBucketPolicy policy) {
+        Stripe stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            Bucket bucket = stripe.buckets.computeIfAbsent(key, ignored -> new Bucket(policy.capacity(), now));
+            return bucket.tryConsume(policy, now);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    int bucketCount() {
+        int count = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                count += stripe.buckets.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return count;
+    }
+
+    private Stripe stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, Bucket> buckets;
+
+        private Stripe(int maxBuckets) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxBuckets;
+                }
+            };
+        }
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(long capacity, long now) {
+            this.tokens = capacity;
+            this.refilledAt = now;
+        }
+
+        private long tryConsume(TokenBucketPolicy policy, long now) {
+            double refilled = (now - refilledAt) * policy.refillPerSecond() / TimeUnit.SECONDS.toNanos(1);
+            tokens = Math.min(policy.capacity(), tokens + refilled);
+            refilledAt = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / policy.refillPerSecond() * TimeUnit.SECONDS.toNanos(1));
+        }
+    }
+}
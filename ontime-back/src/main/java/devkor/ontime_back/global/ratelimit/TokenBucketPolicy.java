@@ -0,0 +1,16 @@
+package devkor.ontime_back.global.ratelimit;
+
+/**
+ * 토큰 버킷 설정. capacity 만큼 한 번에 몰아서 받을 수 있고, 그 뒤로는 초당 refillPerSecond 개씩 다시 찬다.
+ */
+public record TokenBucketPolicy(long capacity, double refillPerSecond) {
+
+    public TokenBucketPolicy {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        if (!(refillPerSecond > 0)) {
+            throw new IllegalArgumentException("refillPerSecond must be positive");
+        }
+    }
+}
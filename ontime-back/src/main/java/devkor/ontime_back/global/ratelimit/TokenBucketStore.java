@@ -0,0 +1,18 @@
+package devkor.ontime_back.global.ratelimit;
+
+/**
+ * 키별 토큰 버킷 저장소.
+ * <p>
+ * 기본 구현은 인스턴스 메모리에 두는 {@link InMemoryTokenBucketStore} 이다. 여러 인스턴스가 한도를 나눠 써야 하면
+ * 같은 계약으로 공유 저장소(Redis 등) 구현을 만들어 {@code @Primary} 빈으로 올리면 된다.
+ * 시각은 저장소가 정한다. 공유 저장소는 인스턴스마다 다른 시계가 아니라 저장소 쪽 시계를 써야 하기 때문이다.
+ */
+public interface TokenBucketStore {
+
+    /**
+     * key 의 버킷에서 토큰 하나를 꺼낸다.
+     *
+     * @return 꺼냈으면 0, 비어 있으면 다음 토큰이 찰 때까지 남은 시간(ns)
+     */
+    long tryConsume(String key, TokenBucketPolicy policy);
+}
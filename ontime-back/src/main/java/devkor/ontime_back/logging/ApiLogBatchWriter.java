@@ -0,0 +1,191 @@
+package devkor.ontime_back.logging;
+
+import devkor.ontime_back.entity.ApiLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * API 로그를 요청 경로에서는 {@link ApiLogRingBuffer} 에 넣기만 하고, 전용 스레드 하나가 모아서 저장한다.
+ * <p>
+ * flush-interval-ms 마다, 또는 버퍼에 batch-size 건이 쌓이면 바로 꺼내 여러 행을 INSERT 한 문장으로 쓴다.
+ * 버퍼가 꽉 차면 그 로그는 버리고 dropped 카운터만 올린다.
+ * 종료할 때는 남은 로그를 모두 저장한 뒤 끝낸다.
+ */
+@Slf4j
+@Component
+public class ApiLogBatchWriter {
+
+    private static final String INSERT_PREFIX = "INSERT INTO api_log "
+            + "(request_url, request_method, user_id, client_ip, response_status, taken_time, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMN_COUNT = 7;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApiLogRingBuffer buffer;
+    private final int batchSize;
+    private final ScheduledExecutorService writerExecutor;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    // 행 수별 INSERT 문. 쓰는 스레드에서만 채운다.
+    private final String[] insertSqlByRows;
+    private final List<ApiLog> pending;
+    private final Counter droppedCounter;
+    private final Counter backPressureCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+
+    @Autowired
+    public ApiLogBatchWriter(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${api-log.buffer-capacity:8192}") int bufferCapacity,
+            @Value("${api-log.batch-size:200}") int batchSize,
+            @Value("${api-log.flush-interval-ms:500}") long flushIntervalMillis) {
+        this(jdbcTemplate, meterRegistry, bufferCapacity, batchSize,
+                Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("api-log-writer-")));
+        long interval = Math.max(flushIntervalMillis, 1);
+        writerExecutor.scheduleWithFixedDelay(this::drainRequested, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    ApiLogBatchWriter(JdbcTemplate jdbcTemplate,
+                      MeterRegistry meterRegistry,
+                      int bufferCapacity,
+                      int batchSize,
+                      ScheduledExecutorService writerExecutor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.buffer = new ApiLogRingBuffer(bufferCapacity);
+        this.batchSize = Math.max(batchSize, 1);
+        this.writerExecutor = writerExecutor;
+        this.insertSqlByRows = new String[this.batchSize + 1];
+        this.pending = new ArrayList<>(this.batchSize);
+        this.droppedCounter = Counter.builder("ontime.api-log.dropped")
+                .description("버퍼가 꽉 차 저장하지 못하고 버린 API 로그 수")
+                .register(meterRegistry);
+        this.backPressureCounter = Counter.builder("ontime.api-log.backpressure")
+                .description("버퍼에 batch-size 건이 쌓여 주기를 기다리지 않고 저장을 앞당긴 횟수")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("ontime.api-log.written")
+                .description("저장한 API 로그 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("ontime.api-log.failed")
+                .description("INSERT 가 실패해 잃은 API 로그 수")
+                .register(meterRegistry);
+        Gauge.builder("ontime.api-log.buffered", buffer, ApiLogRingBuffer::size)
+                .description("저장을 기다리는 API 로그 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 스레드에서 부른다. 버퍼에 넣기만 하고 DB 는 기다리지 않는다.
+     *
+     * @return 버퍼가 꽉 차 버렸으면 false
+     */
+    public boolean enqueue(ApiLog apiLog) {
+        if (!buffer.offer(apiLog)) {
+            droppedCounter.increment();
+            return false;
+        }
+        if (buffer.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            backPressureCounter.increment();
+            try {
+                writerExecutor.execute(this::drainRequested);
+            } catch (RejectedExecutionException e) {
+                // 종료 중이면 shutdown() 의 마지막 flush 가 가져간다.
+                flushRequested.set(false);
+            }
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writerExecutor.shutdown();
+        try {
+            if (!writerExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                writerExecutor.shutdownNow();
+                writerExecutor.awaitTermination(1, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int flushed = flush();
+        log.info("API 로그 writer 종료: flushed={}, dropped={}", flushed, (long) droppedCounter.count());
+    }
+
+    // 쓰는 스레드(또는 그 스레드가 끝난 뒤의 shutdown)에서만 부른다.
+    int flush() {
+        int written = 0;
+        while (buffer.drainTo(pending, batchSize) > 0) {
+            written += writeBatch(pending);
+            pending.clear();
+        }
+        return written;
+    }
+
+    int buffered() {
+        return buffer.size();
+    }
+
+    private void drainRequested() {
+        flushRequested.set(false);
+        flush();
+    }
+
+    private int writeBatch(List<ApiLog> batch) {
+        Object[] args = new Object[batch.size() * COLUMN_COUNT];
+        int i = 0;
+        for (ApiLog apiLog : batch) {
+            LocalDateTime createdAt = apiLog.getCreatedAt() != null ? apiLog.getCreatedAt() : LocalDateTime.now();
+            args[i++] = apiLog.getRequestUrl();
+            args[i++] = apiLog.getRequestMethod();
+            args[i++] = apiLog.getUserId();
+            args[i++] = apiLog.getClientIp();
+            args[i++] = apiLog.getResponseStatus();
+            args[i++] = apiLog.getTakenTime();
+            args[i++] = Timestamp.valueOf(createdAt);
+        }
+        try {
+            jdbcTemplate.update(insertSql(batch.size()), args);
+            writtenCounter.increment(batch.size());
+            return batch.size();
+        } catch (RuntimeException e) {
+            failedCounter.increment(batch.size());
+            log.error("API 로그 {}건 저장 실패", batch.size(), e);
+            return 0;
+        }
+    }
+
+    private String insertSql(int rows) {
+        String sql = insertSqlByRows[rows];
+        if (sql == null) {
+            StringBuilder builder = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW_PLACEHOLDER.length() + 2));
+            builder.append(INSERT_PREFIX);
+            for (int row = 0; row < rows; row++) {
+                if (row > 0) {
+                    builder.append(", ");
+                }
+                builder.append(ROW_PLACEHOLDER);
+            }
+            sql = builder.toString();
+            insertSqlByRows[rows] = sql;
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,137 @@
+package devkor.ontime_back.logging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * V25 에서 파티션 테이블로 바꿔 끼우며 api_log_unpartitioned 에 남겨 둔 예전 로그를 새 api_log 로 옮긴다.
+ * <p>
+ * 청크마다 가장 작은 PK 부터 chunk-size 개 구간을 한 트랜잭션에서 복사하고 예전 테이블에서 지우므로,
+ * 체크포인트 없이 다음 실행이 남은 행부터 이어 간다. 청크 사이에는 pause-ms 만큼 쉬고 max-runtime 이 지나면 멈춘다.
+ * 다 옮기면 예전 테이블을 DROP 한다. 예전 테이블이 없으면(이미 끝났거나 테스트용 H2) 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+public class ApiLogHistoryBackfill {
+
+    static final String SOURCE_TABLE = "api_log_unpartitioned";
+
+    private static final String SOURCE_EXISTS_SQL = "SELECT COUNT(*) FROM " + SOURCE_TABLE + " WHERE 1 = 0";
+    private static final String NEXT_CHUNK_SQL =
+            "SELECT api_log_id FROM " + SOURCE_TABLE + " ORDER BY api_log_id LIMIT ?";
+    private static final String COPY_CHUNK_SQL = """
+            INSERT INTO api_log (api_log_id, request_url, request_method, user_id, client_ip,
+                                 response_status, taken_time, created_at)
+            SELECT api_log_id, request_url, request_method, user_id, client_ip,
+                   response_status, taken_time, COALESCE(created_at, CURRENT_TIMESTAMP)
+            FROM api_log_unpartitioned
+            WHERE api_log_id BETWEEN ? AND ?
+            """;
+    private static final String DELETE_CHUNK_SQL =
+            "DELETE FROM " + SOURCE_TABLE + " WHERE api_log_id BETWEEN ? AND ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long pauseNanos;
+    private final long maxRuntimeNanos;
+    private final LongSupplier nanoClock;
+    private final LongConsumer pause;
+    private volatile boolean finished;
+
+    @Autowired
+    public ApiLogHistoryBackfill(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${api-log.backfill.chunk-size:1000}") int chunkSize,
+            @Value("${api-log.backfill.pause-ms:200}") long pauseMillis,
+            @Value("${api-log.backfill.max-runtime-seconds:240}") long maxRuntimeSeconds) {
+        this(jdbcTemplate, transactionManager, chunkSize, pauseMillis, maxRuntimeSeconds,
+                System::nanoTime, ApiLogHistoryBackfill::sleep);
+    }
+
+    ApiLogHistoryBackfill(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                          int chunkSize, long pauseMillis, long maxRuntimeSeconds,
+                          LongSupplier nanoClock, LongConsumer pause) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.pauseNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(pauseMillis, 0));
+        this.maxRuntimeNanos = TimeUnit.SECONDS.toNanos(Math.max(maxRuntimeSeconds, 1));
+        this.nanoClock = nanoClock;
+        this.pause = pause;
+    }
+
+    @Scheduled(fixedDelayString = "${api-log.backfill.interval-ms:300000}",
+            initialDelayString = "${api-log.backfill.initial-delay-ms:60000}")
+    public void backfillHistory() {
+        if (!finished) {
+            backfill();
+        }
+    }
+
+    /**
+     * 예전 테이블의 행을 마감 시각까지 옮긴다.
+     *
+     * @return 이번 실행에서 옮긴 행 수
+     */
+    public long backfill() {
+        if (!sourceExists()) {
+            finished = true;
+            return 0;
+        }
+        long deadline = nanoClock.getAsLong() + maxRuntimeNanos;
+        long moved = 0;
+        while (nanoClock.getAsLong() - deadline < 0) {
+            List<Long> ids = jdbcTemplate.queryForList(NEXT_CHUNK_SQL, Long.class, chunkSize);
+            if (ids.isEmpty()) {
+                jdbcTemplate.execute("DROP TABLE " + SOURCE_TABLE);
+                finished = true;
+                log.info("api_log 예전 로그 이전 완료: 이번 실행 {}건", moved);
+                return moved;
+            }
+            Long fromId = ids.get(0);
+            Long toId = ids.get(ids.size() - 1);
+            Integer copied = transactionTemplate.execute(status -> {
+                int inserted = jdbcTemplate.update(COPY_CHUNK_SQL, fromId, toId);
+                jdbcTemplate.update(DELETE_CHUNK_SQL, fromId, toId);
+                return inserted;
+            });
+            moved += copied == null ? 0 : copied;
+            if (pauseNanos > 0) {
+                pause.accept(pauseNanos);
+            }
+        }
+        log.info("api_log 예전 로그 이전 중단(마감 시각): 이번 실행 {}건", moved);
+        return moved;
+    }
+
+    private boolean sourceExists() {
+        try {
+            jdbcTemplate.queryForObject(SOURCE_EXISTS_SQL, Long.class);
+            return true;
+        } catch (BadSqlGrammarException e) {
+            return false;
+        }
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
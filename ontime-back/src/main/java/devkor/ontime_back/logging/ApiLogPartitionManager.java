@@ -0,0 +1,145 @@
+package devkor.ontime_back.logging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * api_log 의 일 단위 RANGE 파티션(V25)을 관리한다.
+ * <p>
+ * ahead-days 만큼 앞날의 파티션을 p_future(MAXVALUE) 에서 미리 떼어 두어, 새 로그가 늘 빈 p_future 가 아닌
+ * 그날 파티션에 들어가게 한다. 보관 기간이 지난 날의 파티션은 DROP PARTITION 으로 통째로 지운다.
+ * 파티션이 없는 DB(테스트용 H2 등)에서는 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+public class ApiLogPartitionManager {
+
+    static final String FUTURE_PARTITION = "p_future";
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+    private static final DateTimeFormatter BOUNDARY = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String FUTURE_PARTITION_COUNT_SQL = """
+            SELECT COUNT(*)
+            FROM information_schema.PARTITIONS
+            WHERE TABLE_SCHEMA = DATABASE()
+              AND TABLE_NAME = 'api_log'
+              AND PARTITION_NAME = 'p_future'
+            """;
+
+    // 파티션 경계는 UNIX_TIMESTAMP(created_at) 값이므로 FROM_UNIXTIME 으로 세션 시간대의 시각으로 되돌린다.
+    private static final String BOUNDED_PARTITIONS_SQL = """
+            SELECT PARTITION_NAME, FROM_UNIXTIME(PARTITION_DESCRIPTION) AS upper_bound
+            FROM information_schema.PARTITIONS
+            WHERE TABLE_SCHEMA = DATABASE()
+              AND TABLE_NAME = 'api_log'
+              AND PARTITION_NAME IS NOT NULL
+              AND PARTITION_DESCRIPTION <> 'MAXVALUE'
+            ORDER BY PARTITION_ORDINAL_POSITION
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int aheadDays;
+
+    public ApiLogPartitionManager(JdbcTemplate jdbcTemplate,
+                                  @Value("${api-log.partition.ahead-days:7}") int aheadDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.aheadDays = Math.max(aheadDays, 1);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 3 * * *")
+    public void maintainFuturePartitions() {
+        try {
+            ensureFuturePartitions(LocalDate.now());
+        } catch (DataAccessException e) {
+            // 다른 인스턴스가 먼저 만들었으면 다음 주기에 다시 본다.
+            log.warn("api_log 파티션 생성 실패", e);
+        }
+    }
+
+    /**
+     * 마지막 일 파티션 다음 날부터 today + ahead-days 까지의 파티션을 p_future 에서 떼어 만든다.
+     *
+     * @return 새로 만든 파티션 수
+     */
+    public int ensureFuturePartitions(LocalDate today) {
+        if (!isPartitioned()) {
+            return 0;
+        }
+        List<ApiLogPartition> partitions = boundedPartitions();
+        LocalDateTime next = partitions.isEmpty()
+                ? today.atStartOfDay()
+                : partitions.get(partitions.size() - 1).upperBound();
+        LocalDateTime horizon = today.plusDays(aheadDays + 1L).atStartOfDay();
+
+        List<String> definitions = new ArrayList<>();
+        while (next.isBefore(horizon)) {
+            LocalDateTime end = next.toLocalDate().plusDays(1).atStartOfDay();
+            definitions.add("PARTITION " + PARTITION_NAME.format(next)
+                    + " VALUES LESS THAN (UNIX_TIMESTAMP('" + BOUNDARY.format(end) + "'))");
+            next = end;
+        }
+        if (definitions.isEmpty()) {
+            return 0;
+        }
+
+        int created = definitions.size();
+        definitions.add("PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN MAXVALUE");
+        jdbcTemplate.execute("ALTER TABLE api_log REORGANIZE PARTITION " + FUTURE_PARTITION
+                + " INTO (" + String.join(", ", definitions) + ")");
+        log.info("api_log 파티션 {}개 생성, 마지막 경계: {}", created, next);
+        return created;
+    }
+
+    /**
+     * 상한이 cutoff 이하인 파티션, 즉 모든 행이 cutoff 보다 오래된 파티션을 지운다.
+     *
+     * @return 지운 파티션 이름
+     */
+    public List<String> dropPartitionsBefore(LocalDateTime cutoff) {
+        if (!isPartitioned()) {
+            return List.of();
+        }
+        List<String> expired = boundedPartitions().stream()
+                .filter(partition -> !partition.upperBound().isAfter(cutoff))
+                .map(ApiLogPartition::name)
+                .toList();
+        if (!expired.isEmpty()) {
+            jdbcTemplate.execute("ALTER TABLE api_log DROP PARTITION " + String.join(", ", expired));
+        }
+        return expired;
+    }
+
+    boolean isPartitioned() {
+        try {
+            Integer count = jdbcTemplate.queryForObject(FUTURE_PARTITION_COUNT_SQL, Integer.class);
+            return count != null && count > 0;
+        } catch (DataAccessException e) {
+            // information_schema.PARTITIONS 가 없는 DB
+            log.debug("api_log 파티션 정보를 읽을 수 없어 파티션 관리를 건너뜀", e);
+            return false;
+        }
+    }
+
+    private List<ApiLogPartition> boundedPartitions() {
+        return jdbcTemplate.query(BOUNDED_PARTITIONS_SQL, (rs, rowNum) -> new ApiLogPartition(
+                rs.getString("PARTITION_NAME"),
+                rs.getTimestamp("upper_bound").toLocalDateTime()));
+    }
+
+    record ApiLogPartition(String name, LocalDateTime upperBound) {
+    }
+}
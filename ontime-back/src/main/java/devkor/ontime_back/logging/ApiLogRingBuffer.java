@@ -0,0 +1,87 @@
+package devkor.ontime_back.logging;
+
+import devkor.ontime_back.entity.ApiLog;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 요청 스레드 여럿이 넣고 {@link ApiLogBatchWriter} 스레드 하나만 꺼내는 고정 크기 링 버퍼.
+ * <p>
+ * 칸마다 순번(sequence)을 두어 락 없이 CAS 한 번으로 자리를 잡는다.
+ * 꽉 차면 기다리지 않고 false 를 돌려주므로 요청 경로가 DB 쓰기 속도에 묶이지 않는다.
+ */
+final class ApiLogRingBuffer {
+
+    private final AtomicReferenceArray<ApiLog> slots;
+    // 칸 i 의 순번이 position 이면 넣을 수 있고, position + 1 이면 꺼낼 수 있다.
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    // 꺼내는 스레드만 쓴다. size() 를 위해 volatile 로 둔다.
+    private volatile long head;
+
+    ApiLogRingBuffer(int requestedCapacity) {
+        int capacity = powerOfTwoAtLeast(Math.min(Math.max(requestedCapacity, 2), 1 << 30));
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    boolean offer(ApiLog apiLog) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, apiLog);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    // 꺼내는 스레드 하나에서만 부른다.
+    int drainTo(List<ApiLog> target, int maxElements) {
+        int drained = 0;
+        long position = head;
+        while (drained < maxElements) {
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            target.add(slots.get(index));
+            slots.set(index, null);
+            sequences.set(index, position + mask + 1);
+            position++;
+            drained++;
+        }
+        head = position;
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    private static int powerOfTwoAtLeast(int value) {
+        int highest = Integer.highestOneBit(value);
+        return highest == value ? value : highest << 1;
+    }
+}
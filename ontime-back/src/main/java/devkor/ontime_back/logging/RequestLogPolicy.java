@@ -70,6 +70,15 @@ public final class RequestLogPolicy {
         }
     }
 
+    // 오류 응답과 느린 요청은 샘플링하지 않고 항상 남긴다.
+    public static boolean isAlwaysRecorded(int responseStatus, long timeTakenMs, long slowThresholdMs) {
+        return responseStatus < 200 || responseStatus >= 300 || isSlow(timeTakenMs, slowThresholdMs);
+    }
+
+    public static boolean isSlow(long timeTakenMs, long slowThresholdMs) {
+        return timeTakenMs >= slowThresholdMs;
+    }
+
     public static boolean isSafeFieldForLogging(String fieldName) {
         return SAFE_FIELD_ALLOWLIST.contains(fieldName) && !isSensitiveFieldName(fieldName);
     }
@@ -0,0 +1,101 @@
+package devkor.ontime_back.logging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 요청 로그(api_log 저장과 INFO 로그)를 남길지 정한다.
+ * <p>
+ * 오류 응답과 slow-threshold-ms 이상 걸린 요청은 {@link RequestLogPolicy#isAlwaysRecorded} 에 따라 항상 남긴다.
+ * 빠른 2xx 요청은 라우트 템플릿별 비율(route-rates, 없으면 default-rate)만큼만 남기고,
+ * 버린 요청은 ontime.request-log.sampled-out 카운터에 라우트별로 센다.
+ * route-rates 는 "/schedules/{scheduleId}=0.05,/alarm/status=0.01" 처럼 쓴다.
+ */
+@Component
+public class RequestLogSampler {
+
+    private final double defaultRate;
+    private final long slowThresholdMs;
+    private final Map<String, Double> routeRates;
+    private final MeterRegistry meterRegistry;
+    private final DoubleSupplier random;
+    private final Map<String, Counter> sampledOutCounters = new ConcurrentHashMap<>();
+    private final Counter slowCounter;
+
+    @Autowired
+    public RequestLogSampler(
+            MeterRegistry meterRegistry,
+            @Value("${request-log.sampling.default-rate:1.0}") double defaultRate,
+            @Value("${request-log.sampling.slow-threshold-ms:1000}") long slowThresholdMs,
+            @Value("${request-log.sampling.route-rates:}") String routeRates) {
+        this(meterRegistry, defaultRate, slowThresholdMs, parseRouteRates(routeRates),
+                () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    RequestLogSampler(MeterRegistry meterRegistry, double defaultRate, long slowThresholdMs,
+                      Map<String, Double> routeRates, DoubleSupplier random) {
+        this.meterRegistry = meterRegistry;
+        this.defaultRate = clampRate(defaultRate);
+        this.slowThresholdMs = slowThresholdMs;
+        this.routeRates = Map.copyOf(routeRates);
+        this.random = random;
+        this.slowCounter = Counter.builder("ontime.request-log.slow")
+                .description("slow-threshold-ms 이상 걸려 샘플링 없이 남긴 요청 수")
+                .register(meterRegistry);
+    }
+
+    public boolean shouldRecord(String route, int responseStatus, long timeTakenMs) {
+        if (RequestLogPolicy.isAlwaysRecorded(responseStatus, timeTakenMs, slowThresholdMs)) {
+            if (RequestLogPolicy.isSlow(timeTakenMs, slowThresholdMs)) {
+                slowCounter.increment();
+            }
+            return true;
+        }
+        double rate = routeRates.getOrDefault(route, defaultRate);
+        if (rate >= 1.0 || random.getAsDouble() < rate) {
+            return true;
+        }
+        sampledOutCounters.computeIfAbsent(route, this::registerSampledOutCounter).increment();
+        return false;
+    }
+
+    public boolean isSlow(long timeTakenMs) {
+        return RequestLogPolicy.isSlow(timeTakenMs, slowThresholdMs);
+    }
+
+    private Counter registerSampledOutCounter(String route) {
+        return Counter.builder("ontime.request-log.sampled-out")
+                .description("샘플링으로 저장하지 않은 빠른 2xx 요청 수")
+                .tag("route", route)
+                .register(meterRegistry);
+    }
+
+    static Map<String, Double> parseRouteRates(String routeRates) {
+        Map<String, Double> rates = new HashMap<>();
+        if (routeRates == null || routeRates.isBlank()) {
+            return rates;
+        }
+        for (String entry : routeRates.split(",")) {
+            int separator = entry.lastIndexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("request-log.sampling.route-rates 형식 오류: " + entry.trim());
+            }
+            rates.put(entry.substring(0, separator).trim(),
+                    clampRate(Double.parseDouble(entry.substring(separator + 1).trim())));
+        }
+        return rates;
+    }
+
+    private static double clampRate(double rate) {
+        return Math.min(Math.max(rate, 0.0), 1.0);
+    }
+}
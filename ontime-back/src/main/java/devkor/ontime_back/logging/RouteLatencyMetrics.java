@@ -0,0 +1,62 @@
+package devkor.ontime_back.logging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러 처리 시간을 라우트 템플릿·메서드·상태 코드별 Timer 로 남긴다.
+ * <p>
+ * 백분위 히스토그램을 함께 내보내므로 /actuator/prometheus 에서 histogram_quantile 로
+ * 엔드포인트별 p50/p95/p99 를 api_log 를 조회하지 않고 볼 수 있다.
+ * 태그에는 실제 URI 가 아니라 매핑된 템플릿(/schedules/{scheduleId})만 넣어 시계열 수를 묶어 둔다.
+ */
+@Component
+public class RouteLatencyMetrics {
+
+    static final String METRIC_NAME = "ontime.api.latency";
+    static final String UNKNOWN_ROUTE = "UNKNOWN";
+
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(30);
+
+    private final MeterRegistry meterRegistry;
+    // 요청마다 Timer.builder 를 새로 만들지 않도록 태그 조합별로 들고 있는다.
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public RouteLatencyMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public static String resolveRoute(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern instanceof String route && !route.isBlank() ? route : UNKNOWN_ROUTE;
+    }
+
+    public void record(String route, String method, int status, long elapsedNanos) {
+        timers.computeIfAbsent(new TimerKey(route, method, status), this::register)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer register(TimerKey key) {
+        return Timer.builder(METRIC_NAME)
+                .description("라우트별 컨트롤러 처리 시간")
+                .tag("route", key.route())
+                .tag("method", key.method())
+                .tag("status", String.valueOf(key.status()))
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(meterRegistry);
+    }
+
+    private record TimerKey(String route, String method, int status) {
+    }
+}
@@ -0,0 +1,13 @@
+package devkor.ontime_back.repository;
+
+import devkor.ontime_back.entity.DailyReminderCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DailyReminderCheckpointRepository extends JpaRepository<DailyReminderCheckpoint, String> {
+
+    List<DailyReminderCheckpoint> findAllByCompletedFalse();
+}
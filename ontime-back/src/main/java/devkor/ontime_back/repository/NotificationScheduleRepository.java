@@ -1,21 +1,84 @@
 package devkor.ontime_back.repository;
 
+import devkor.ontime_back.dto.PendingNotificationDto;
+import devkor.ontime_back.dto.ReminderDispatchTargetDto;
 import devkor.ontime_back.entity.NotificationSchedule;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface NotificationScheduleRepository extends JpaRepository<NotificationSchedule, Long> {
-    @Query("SELECT n FROM NotificationSchedule n " +
-            "JOIN FETCH n.schedule s " +
-            "JOIN FETCH s.user " +
-            "WHERE n.notificationTime > :now AND n.isSent = false")
-    List<NotificationSchedule> findAllWithScheduleAndUser(LocalDateTime now);
+
+    // 구간 안에서 아직 발송되지 않았고 임대도 없는 알림의 id/시각 (notification_time, id 순 keyset 페이지의 첫 페이지)
+    @Query("SELECT new devkor.ontime_back.dto.PendingNotificationDto(n.id, n.notificationTime) " +
+            "FROM NotificationSchedule n " +
+            "WHERE n.isSent = false AND n.dispatchedAt IS NULL AND n.schedule IS NOT NULL " +
+            "AND n.notificationTime > :windowStart AND n.notificationTime <= :windowEnd " +
+            "AND (n.leaseExpiresAt IS NULL OR n.leaseExpiresAt < :now) " +
+            "ORDER BY n.notificationTime ASC, n.id ASC")
+    List<PendingNotificationDto> findPendingNotifications(@Param("windowStart") LocalDateTime windowStart,
+                                                          @Param("windowEnd") LocalDateTime windowEnd,
+                                                          @Param("now") LocalDateTime now,
+                                                          Pageable pageable);
+
+    // 직전 페이지 마지막 (notificationTime, id) 이후의 다음 페이지
+    @Query("SELECT new devkor.ontime_back.dto.PendingNotificationDto(n.id, n.notificationTime) " +
+            "FROM NotificationSchedule n " +
+            "WHERE n.isSent = false AND n.dispatchedAt IS NULL AND n.schedule IS NOT NULL " +
+            "AND n.notificationTime > :windowStart AND n.notificationTime <= :windowEnd " +
+            "AND (n.leaseExpiresAt IS NULL OR n.leaseExpiresAt < :now) " +
+            "AND (n.notificationTime > :lastNotificationTime " +
+            "OR (n.notificationTime = :lastNotificationTime AND n.id > :lastNotificationId)) " +
+            "ORDER BY n.notificationTime ASC, n.id ASC")
+    List<PendingNotificationDto> findPendingNotificationsAfter(@Param("windowStart") LocalDateTime windowStart,
+                                                               @Param("windowEnd") LocalDateTime windowEnd,
+                                                               @Param("now") LocalDateTime now,
+                                                               @Param("lastNotificationTime") LocalDateTime lastNotificationTime,
+                                                               @Param("lastNotificationId") Long lastNotificationId,
+                                                               Pageable pageable);
+
+    // 발송 시각이 된 알림 한 건을 조건부 UPDATE 로 임대한다. 여러 인스턴스가 동시에 시도해도 한 곳만 1 을 돌려받는다.
+    @Modifying
+    @Query("UPDATE NotificationSchedule n SET n.leaseOwner = :leaseOwner, n.leaseExpiresAt = :leaseExpiresAt " +
+            "WHERE n.id = :notificationId " +
+            "AND n.isSent = false AND n.dispatchedAt IS NULL AND n.schedule IS NOT NULL " +
+            "AND n.notificationTime > :windowStart AND n.notificationTime <= :now " +
+            "AND (n.leaseExpiresAt IS NULL OR n.leaseExpiresAt < :now)")
+    int claimForDispatch(@Param("notificationId") Long notificationId,
+                         @Param("leaseOwner") String leaseOwner,
+                         @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt,
+                         @Param("windowStart") LocalDateTime windowStart,
+                         @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE NotificationSchedule n SET n.leaseOwner = null, n.leaseExpiresAt = null " +
+            "WHERE n.leaseOwner = :leaseOwner AND n.dispatchedAt IS NULL")
+    int releaseUndispatchedLeases(@Param("leaseOwner") String leaseOwner);
+
+    // 종료 시점에 아직 발송 중인 알림의 임대는 남겨 두어 다른 인스턴스가 같은 알림을 다시 보내지 않게 한다.
+    @Modifying
+    @Query("UPDATE NotificationSchedule n SET n.leaseOwner = null, n.leaseExpiresAt = null " +
+            "WHERE n.leaseOwner = :leaseOwner AND n.dispatchedAt IS NULL AND n.id NOT IN :excludedIds")
+    int releaseUndispatchedLeasesExcept(@Param("leaseOwner") String leaseOwner,
+                                        @Param("excludedIds") Collection<Long> excludedIds);
+
+    // 발송할 알림 한 건의 임대 주인과 발송 내용. 엔티티를 올리지 않고 읽기만 하므로 연결은 조회 동안만 잡는다.
+    @Query("SELECT new devkor.ontime_back.dto.ReminderDispatchTargetDto(" +
+            "n.id, n.notificationTime, n.leaseOwner, s.scheduleId, s.scheduleTime, s.scheduleName, " +
+            "u.id, u.name, u.firebaseToken, us.isNotificationsEnabled) " +
+            "FROM NotificationSchedule n JOIN n.schedule s JOIN s.user u LEFT JOIN UserSetting us ON us.user = u " +
+            "WHERE n.id = :notificationId")
+    Optional<ReminderDispatchTargetDto> findDispatchTarget(@Param("notificationId") Long notificationId);
 
     List<NotificationSchedule> findAllByScheduleScheduleIdOrderByIdAsc(UUID scheduleId);
 }
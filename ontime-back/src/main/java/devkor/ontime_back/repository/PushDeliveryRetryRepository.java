@@ -0,0 +1,36 @@
+package devkor.ontime_back.repository;
+
+import devkor.ontime_back.entity.PushDeliveryRetry;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PushDeliveryRetryRepository extends JpaRepository<PushDeliveryRetry, Long> {
+
+    // 다른 인스턴스가 잠근 행은 건너뛰어(SKIP LOCKED) 재시도 행을 나눠 가진다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT r FROM PushDeliveryRetry r WHERE r.nextAttemptAt <= :now " +
+            "ORDER BY r.nextAttemptAt ASC, r.pushDeliveryRetryId ASC")
+    List<PushDeliveryRetry> findDueForUpdate(@Param("now") Instant now, Pageable pageable);
+
+    // 더 보낼 이유가 없어진 재시도 행. 약속이 지워졌거나 이미 지났거나, 사용자가 알림을 껐다.
+    @Query("SELECT r.pushDeliveryRetryId FROM PushDeliveryRetry r WHERE r.pushDeliveryRetryId IN :ids AND (" +
+            "(r.scheduleId IS NOT NULL AND NOT EXISTS (" +
+            "SELECT s.scheduleId FROM Schedule s WHERE s.scheduleId = r.scheduleId AND s.scheduleTime > :now)) " +
+            "OR (r.userId IS NOT NULL AND EXISTS (" +
+            "SELECT us.userSettingId FROM UserSetting us WHERE us.user.id = r.userId AND us.isNotificationsEnabled = false)))")
+    List<Long> findObsoleteIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,9 @@
+package devkor.ontime_back.repository;
+
+import devkor.ontime_back.entity.RetentionPurgeCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RetentionPurgeCheckpointRepository extends JpaRepository<RetentionPurgeCheckpoint, String> {
+}
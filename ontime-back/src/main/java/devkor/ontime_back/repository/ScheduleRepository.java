@@ -1,9 +1,11 @@
 package devkor.ontime_back.repository;
 
 
+import devkor.ontime_back.dto.DailyReminderTargetDto;
 import devkor.ontime_back.entity.DoneStatus;
 import devkor.ontime_back.entity.Schedule;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
@@ -45,10 +47,36 @@ public interface ScheduleRepository extends JpaRepository<Schedule, UUID> {
     @Query("SELECT s FROM Schedule s JOIN FETCH s.place WHERE s.user.id = :userId AND s.scheduleTime BETWEEN :startDate AND :endDate")
     List<Schedule> findAllByUserIdAndScheduleTimeBetween(@Param("userId") Long userId, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 
-    // 특정 시간 범위 내에 시작되는 약속 조회
-    @Query("SELECT s FROM Schedule s WHERE s.scheduleTime BETWEEN :start AND :end")
-    List<Schedule> findSchedulesBetween(LocalDateTime start, LocalDateTime end);
-
+    // 특정 시간 범위 내에 시작되는 약속의 알림 대상 조회 (schedule_time, schedule_id 순 keyset 페이지의 첫 페이지)
+    // 사용자 해시가 [hashFrom, hashTo) 인 슬롯의 사용자만 읽는다. 해시는 DailyReminderService.userHash 와 같은 곱셈 해시다.
+    @Query("SELECT new devkor.ontime_back.dto.DailyReminderTargetDto(" +
+            "s.scheduleId, s.scheduleTime, s.scheduleName, u.id, u.name, u.firebaseToken, us.isNotificationsEnabled) " +
+            "FROM Schedule s JOIN s.user u LEFT JOIN UserSetting us ON us.user = u " +
+            "WHERE s.scheduleTime BETWEEN :start AND :end " +
+            "AND MOD(u.id * 2654435761L, 4294967296L) >= :hashFrom AND MOD(u.id * 2654435761L, 4294967296L) < :hashTo " +
+            "ORDER BY s.scheduleTime ASC, s.scheduleId ASC")
+    List<DailyReminderTargetDto> findDailyReminderTargets(@Param("start") LocalDateTime start,
+                                                          @Param("end") LocalDateTime end,
+                                                          @Param("hashFrom") long hashFrom,
+                                                          @Param("hashTo") long hashTo,
+                                                          Pageable pageable);
+
+    // 같은 슬롯에서 직전 페이지 마지막 (scheduleTime, scheduleId) 이후의 다음 페이지
+    @Query("SELECT new devkor.ontime_back.dto.DailyReminderTargetDto(" +
+            "s.scheduleId, s.scheduleTime, s.scheduleName, u.id, u.name, u.firebaseToken, us.isNotificationsEnabled) " +
+            "FROM Schedule s JOIN s.user u LEFT JOIN UserSetting us ON us.user = u " +
+            "WHERE s.scheduleTime BETWEEN :start AND :end " +
+            "AND MOD(u.id * 2654435761L, 4294967296L) >= :hashFrom AND MOD(u.id * 2654435761L, 4294967296L) < :hashTo " +
+            "AND (s.scheduleTime > :lastScheduleTime " +
+            "OR (s.scheduleTime = :lastScheduleTime AND s.scheduleId > :lastScheduleId)) " +
+            "ORDER BY s.scheduleTime ASC, s.scheduleId ASC")
+    List<DailyReminderTargetDto> findDailyReminderTargetsAfter(@Param("start") LocalDateTime start,
+                                                               @Param("end") LocalDateTime end,
+                                                               @Param("hashFrom") long hashFrom,
+                                                               @Param("hashTo") long hashTo,
+                                                               @Param("lastScheduleTime") LocalDateTime lastScheduleTime,
+                                                               @Param("lastScheduleId") UUID lastScheduleId,
+                                                               Pageable pageable);
 
     // 지각 히스토리 조회(페치조인을 했었는데 본 메서드를 사용하는 서비스메서드에서 user를 참조하지 않아서 필요없음)
     @Query("SELECT s FROM Schedule s WHERE s.user.id = :userId AND s.latenessTime > 0")
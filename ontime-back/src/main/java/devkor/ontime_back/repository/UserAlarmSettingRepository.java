@@ -2,11 +2,18 @@ package devkor.ontime_back.repository;
 
 import devkor.ontime_back.entity.UserAlarmSetting;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserAlarmSettingRepository extends JpaRepository<UserAlarmSetting, Long> {
     Optional<UserAlarmSetting> findByUserId(Long userId);
+
+    @Query("SELECT s.user.id FROM UserAlarmSetting s WHERE s.user.id IN :userIds AND s.alarmsEnabled = false")
+    List<Long> findAlarmsDisabledUserIds(@Param("userIds") Collection<Long> userIds);
 }
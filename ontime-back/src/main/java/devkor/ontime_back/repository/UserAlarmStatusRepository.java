@@ -4,9 +4,13 @@ import devkor.ontime_back.entity.UserAlarmStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserAlarmStatusRepository extends JpaRepository<UserAlarmStatus, Long> {
     Optional<UserAlarmStatus> findByUserDeviceUserDeviceId(Long userDeviceId);
+
+    List<UserAlarmStatus> findAllByUserDeviceUserDeviceIdIn(Collection<Long> userDeviceIds);
 }
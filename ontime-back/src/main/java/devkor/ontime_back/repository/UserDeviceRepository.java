@@ -1,9 +1,14 @@
 package devkor.ontime_back.repository;
 
+import devkor.ontime_back.dto.ActiveDeviceSessionDto;
 import devkor.ontime_back.entity.UserDevice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,7 +18,14 @@ public interface UserDeviceRepository extends JpaRepository<UserDevice, Long> {
 
     Optional<UserDevice> findByUserIdAndDeviceIdAndActiveTrue(Long userId, String deviceId);
 
-    Optional<UserDevice> findFirstByUserIdAndActiveTrueOrderByLastSeenAtDesc(Long userId);
-
     List<UserDevice> findAllByUserIdAndActiveTrue(Long userId);
+
+    // 세션 비교에 쓰는 사용자의 activeSessionId 까지 한 번에 읽는다. User 엔티티와 토큰 컬럼은 읽지 않는다.
+    @Query("SELECT new devkor.ontime_back.dto.ActiveDeviceSessionDto(d.userDeviceId, u.id, d.lastSeenAt, d.sessionId, u.activeSessionId) " +
+            "FROM UserDevice d JOIN d.user u WHERE u.id IN :userIds AND d.active = true")
+    List<ActiveDeviceSessionDto> findActiveSessionsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("UPDATE UserDevice d SET d.firebaseToken = null WHERE d.firebaseToken IN :firebaseTokens")
+    int clearFirebaseTokens(@Param("firebaseTokens") Collection<String> firebaseTokens);
 }
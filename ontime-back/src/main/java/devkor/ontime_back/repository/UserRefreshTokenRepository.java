@@ -1,15 +1,28 @@
 package devkor.ontime_back.repository;
 
-import devkor.ontime_back.entity.User;
 import devkor.ontime_back.entity.UserRefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.Optional;
 
 @Repository
 public interface UserRefreshTokenRepository extends JpaRepository<UserRefreshToken, Long> {
-    Optional<UserRefreshToken> findByRefreshToken(String refreshToken);
+    // refreshTokenHash 는 UserRefreshToken.hash(refreshToken) 로 구한다.
+    Optional<UserRefreshToken> findByRefreshTokenHash(byte[] refreshTokenHash);
 
-    void deleteByUser(User user);
+    // user_id 가 unique 라 유저당 한 행이다. 없으면 넣고, 있으면 토큰 다이제스트와 갱신 시각만 바꾼다.
+    // VALUES(col) 참조는 MySQL 8.0.20 부터 deprecated 라 row alias(MySQL 8.0.19+)로 새 값을 읽는다.
+    @Modifying
+    @Query(value = "INSERT INTO user_refresh_token (user_id, refresh_token_hash, created_at, updated_at) " +
+            "VALUES (:userId, :refreshTokenHash, :now, :now) AS new " +
+            "ON DUPLICATE KEY UPDATE refresh_token_hash = new.refresh_token_hash, updated_at = new.updated_at",
+            nativeQuery = true)
+    int upsertForUser(@Param("userId") Long userId,
+                      @Param("refreshTokenHash") byte[] refreshTokenHash,
+                      @Param("now") Instant now);
 }
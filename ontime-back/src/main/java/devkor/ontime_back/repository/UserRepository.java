@@ -1,11 +1,15 @@
 package devkor.ontime_back.repository;
 
+import devkor.ontime_back.dto.UserSessionDto;
 import devkor.ontime_back.entity.User;
 import devkor.ontime_back.entity.SocialType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,4 +29,29 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u.spareTime FROM User u WHERE u.id = :id")
     Integer findSpareTimeById(Long id);
 
+    // 엑세스 토큰 검증용. PK 로 필요한 컬럼만 읽는다.
+    @Query("SELECT new devkor.ontime_back.dto.UserSessionDto(u.id, u.email, u.role, u.activeSessionId) " +
+            "FROM User u WHERE u.id = :userId")
+    Optional<UserSessionDto> findSessionById(@Param("userId") Long userId);
+
+    // active_session_id 가 아직 없는 기존 세션에 한해 jti 를 채운다.
+    @Modifying
+    @Query("UPDATE User u SET u.activeSessionId = :sessionId WHERE u.id = :userId AND u.activeSessionId IS NULL")
+    int initializeActiveSessionId(@Param("userId") Long userId, @Param("sessionId") String sessionId);
+
+    // 로그인 토큰 발급. 엔티티 전체를 merge 하지 않고 토큰 컬럼만 고친다.
+    @Modifying
+    @Query("UPDATE User u SET u.accessToken = :accessToken, u.refreshToken = :refreshToken, " +
+            "u.activeSessionId = :activeSessionId, u.socialLoginToken = :socialLoginToken WHERE u.id = :userId")
+    int updateLoginTokens(@Param("userId") Long userId,
+                          @Param("accessToken") String accessToken,
+                          @Param("refreshToken") String refreshToken,
+                          @Param("activeSessionId") String activeSessionId,
+                          @Param("socialLoginToken") String socialLoginToken);
+
+    // FCM 이 더는 전달할 수 없다고 응답한 등록 토큰을 한 번에 지운다.
+    @Modifying
+    @Query("UPDATE User u SET u.firebaseToken = null WHERE u.firebaseToken IN :firebaseTokens")
+    int clearFirebaseTokens(@Param("firebaseTokens") Collection<String> firebaseTokens);
+
 }
@@ -9,6 +9,7 @@ public enum ErrorCode {
     UNAUTHORIZED(401, "Unauthorized: You must authenticate to access this resource.", HttpStatus.UNAUTHORIZED),
     FORBIDDEN(403, "Forbidden: You do not have permission to access this resource.", HttpStatus.FORBIDDEN),
     NOT_FOUND(404, "Not Found: The requested resource could not be found.", HttpStatus.NOT_FOUND),
+    TOO_MANY_REQUESTS(429, "Too Many Requests: Please retry after the time given in the Retry-After header.", HttpStatus.TOO_MANY_REQUESTS),
 
     // HTTP 상태 코드 (5xx)
     INTERNAL_SERVER_ERROR(500, "Internal Server Error: An unexpected error occurred on the server.", HttpStatus.INTERNAL_SERVER_ERROR),
@@ -0,0 +1,34 @@
+package devkor.ontime_back.response;
+
+import devkor.ontime_back.entity.User;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "로그인/회원가입 성공 시 응답 data")
+public record LoginResponse(
+        @Schema(description = "사용자 ID", example = "1")
+        Long userId,
+        @Schema(description = "이메일", example = "user@example.com", nullable = true)
+        String email,
+        @Schema(description = "이름", example = "홍길동")
+        String name,
+        @Schema(description = "여유시간(분)", example = "10", nullable = true)
+        Integer spareTime,
+        @Schema(description = "주의사항", nullable = true)
+        String note,
+        @Schema(description = "성실도 점수", example = "95.0", nullable = true)
+        Float punctualityScore,
+        @Schema(description = "사용자 ROLE", example = "USER")
+        String role
+) {
+
+    public static LoginResponse from(User user) {
+        return new LoginResponse(
+                user.getId(),
+                user.getEmail(),
+                user.getName(),
+                user.getSpareTime(),
+                user.getNote(),
+                user.getPunctualityScore(),
+                user.getRole().name());
+    }
+}
@@ -0,0 +1,140 @@
+package devkor.ontime_back.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import devkor.ontime_back.entity.Role;
+import devkor.ontime_back.entity.User;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+// 로그인 필터/핸들러와 JWT 필터가 쓰는 응답 바디를 앱의 ObjectMapper 로 출력 스트림에 바로 쓴다.
+// 고정된 메시지/오류 바디는 시작할 때 한 번 직렬화해 두고 요청마다 바이트만 복사한다.
+@Component
+public class LoginResponseWriter {
+
+    static final String LOGIN_MESSAGE = "로그인에 성공하였습니다.";
+    static final String GUEST_LOGIN_MESSAGE = "유저의 ROLE이 GUEST이므로 온보딩API를 호출해 온보딩을 진행해야합니다.";
+    static final String REGISTER_MESSAGE = "회원가입에 성공하였습니다.";
+    static final String KAKAO_REGISTER_MESSAGE = "회원가입이 완료되었습니다. ROLE이 GUEST이므로 온보딩이 필요합니다.";
+
+    private static final byte[] OBJECT_END = {'}'};
+
+    private final ObjectWriter dataWriter;
+    // {"status":"success","code":"200","message":"...","data": 까지 미리 직렬화한 조각
+    private final byte[] loginPrefix;
+    private final byte[] guestLoginPrefix;
+    private final byte[] registerPrefix;
+    private final Map<Role, byte[]> kakaoRegisterBodies = new EnumMap<>(Role.class);
+    private final byte[] accessTokenEmptyBody;
+    private final byte[] accessTokenInvalidBody;
+    private final byte[] refreshTokenInvalidBody;
+
+    public LoginResponseWriter(ObjectMapper objectMapper) {
+        // 조각을 이어 쓰므로 data 를 쓴 뒤 스트림이 닫히면 안 된다.
+        this.dataWriter = objectMapper.writerFor(LoginResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.loginPrefix = successPrefix(objectMapper, LOGIN_MESSAGE);
+        this.guestLoginPrefix = successPrefix(objectMapper, GUEST_LOGIN_MESSAGE);
+        this.registerPrefix = successPrefix(objectMapper, REGISTER_MESSAGE);
+        for (Role role : Role.values()) {
+            kakaoRegisterBodies.put(role, serialize(objectMapper, objectMapper.createObjectNode()
+                    .put("message", KAKAO_REGISTER_MESSAGE)
+                    .put("role", role.name())));
+        }
+
+        ErrorCode errorCode = ErrorCode.UNAUTHORIZED;
+        this.accessTokenEmptyBody = serialize(objectMapper,
+                ApiResponseForm.accessTokenEmpty(errorCode.getCode(), errorCode.getMessage()));
+        this.accessTokenInvalidBody = serialize(objectMapper,
+                ApiResponseForm.accessTokenInvalid(errorCode.getCode(), errorCode.getMessage()));
+        this.refreshTokenInvalidBody = serialize(objectMapper,
+                ApiResponseForm.refreshTokenInvalid(errorCode.getCode(), errorCode.getMessage()));
+    }
+
+    // 기존 회원 로그인. GUEST 면 온보딩 안내 메시지를 내려준다.
+    public void writeLogin(HttpServletResponse response, User user) throws IOException {
+        writeSuccess(response, user.getRole() == Role.GUEST ? guestLoginPrefix : loginPrefix, user);
+    }
+
+    public void writeRegister(HttpServletResponse response, User user) throws IOException {
+        writeSuccess(response, registerPrefix, user);
+    }
+
+    // 카카오 가입 응답은 data 없이 message/role 만 내려주는 기존 형태를 유지한다.
+    public void writeKakaoRegister(HttpServletResponse response, User user) throws IOException {
+        writeBody(response, HttpServletResponse.SC_OK, kakaoRegisterBodies.get(user.getRole()));
+    }
+
+    public void writeInvalidToken(HttpServletResponse response, InvalidTokenException ex) throws IOException {
+        byte[] body = invalidTokenBody(ex);
+        if (body != null) {
+            writeBody(response, HttpServletResponse.SC_UNAUTHORIZED, body);
+        } else {
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        }
+    }
+
+    private byte[] invalidTokenBody(InvalidTokenException ex) {
+        if (ex instanceof InvalidRefreshTokenException) {
+            return refreshTokenInvalidBody;
+        }
+        if (ex instanceof InvalidAccessTokenException) {
+            return accessTokenInvalidBody;
+        }
+        if (ex instanceof EmptyAccessTokenException) {
+            return accessTokenEmptyBody;
+        }
+        return null;
+    }
+
+    private void writeSuccess(HttpServletResponse response, byte[] prefix, User user) throws IOException {
+        prepare(response, HttpServletResponse.SC_OK);
+        ServletOutputStream out = response.getOutputStream();
+        out.write(prefix);
+        dataWriter.writeValue(out, LoginResponse.from(user));
+        out.write(OBJECT_END);
+        out.flush();
+    }
+
+    private void writeBody(HttpServletResponse response, int status, byte[] body) throws IOException {
+        prepare(response, status);
+        response.setContentLength(body.length);
+        ServletOutputStream out = response.getOutputStream();
+        out.write(body);
+        out.flush();
+    }
+
+    private void prepare(HttpServletResponse response, int status) {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    }
+
+    private static byte[] successPrefix(ObjectMapper objectMapper, String message) {
+        // 닫는 괄호는 data 뒤에 OBJECT_END 로 붙인다.
+        String prefix = "{\"status\":\"success\",\"code\":\"200\",\"message\":"
+                + new String(serialize(objectMapper, message), StandardCharsets.UTF_8)
+                + ",\"data\":";
+        return prefix.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] serialize(ObjectMapper objectMapper, Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package devkor.ontime_back.scheduler;
+
+import devkor.ontime_back.service.NotificationService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * notification_schedule 에서 앞으로 horizon 안에 발송할 알림의 id/시각만 읽어 {@link ReminderTimingWheel} 에 올리고,
+ * 휠이 발송 시각을 알리면 그때 임대(lease)를 잡아 발송한다.
+ * <p>
+ * 기동 시에는 첫 horizon 만 읽으므로 기동 비용은 전체 알림 적재량이 아니라 가까운 시간대 알림 수에 비례한다.
+ * 이후 주기마다 새로 horizon 에 들어온 구간만 이어서 읽고, 임대 없이 발송 시각을 넘긴 알림(발송 중 죽은 인스턴스의 몫 등)은
+ * catch-up 구간에서 다시 올린다. 인스턴스가 여러 대여도 임대는 조건부 UPDATE 로 잡으므로 각 알림은 한 곳에서만 발송된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.dispatch.enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationDispatcher {
+
+    private final NotificationService notificationService;
+    private final ReminderTimingWheel timingWheel;
+    private final String leaseOwner;
+    private final int pageSize;
+    private final Duration leaseDuration;
+    private final Duration catchUpWindow;
+    private final Duration horizon;
+    private final Duration shutdownAwait;
+    private final ExecutorService dispatchExecutor;
+    // 임대를 잡으려 하거나 잡고 발송 중인 알림. 종료할 때 이 알림들의 임대는 풀지 않는다.
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    // 임대를 반납하기 시작한 뒤로는 새 임대를 잡지 않는다.
+    private volatile boolean closing;
+    private LocalDateTime loadedUntil;
+
+    public NotificationDispatcher(
+            NotificationService notificationService,
+            ReminderTimingWheel timingWheel,
+            @Value("${notification.dispatch.page-size:1000}") int pageSize,
+            @Value("${notification.dispatch.lease-seconds:60}") long leaseSeconds,
+            @Value("${notification.dispatch.catch-up-minutes:10}") long catchUpMinutes,
+            @Value("${notification.dispatch.horizon-minutes:180}") long horizonMinutes,
+            @Value("${notification.dispatch.pool-size:4}") int poolSize,
+            @Value("${notification.dispatch.shutdown-await-seconds:10}") long shutdownAwaitSeconds) {
+        this.notificationService = notificationService;
+        this.timingWheel = timingWheel;
+        this.leaseOwner = UUID.randomUUID().toString();
+        this.pageSize = pageSize;
+        this.leaseDuration = Duration.ofSeconds(leaseSeconds);
+        this.catchUpWindow = Duration.ofMinutes(catchUpMinutes);
+        this.horizon = Duration.ofMinutes(horizonMinutes);
+        this.shutdownAwait = Duration.ofSeconds(Math.max(shutdownAwaitSeconds, 0));
+        this.dispatchExecutor = Executors.newFixedThreadPool(
+                Math.max(poolSize, 1),
+                new CustomizableThreadFactory("notification-dispatch-"));
+    }
+
+    // 첫 실행은 기동 직후의 초기 적재이고, 이후로는 horizon 끝을 앞으로 밀며 새로 들어온 구간만 읽는다.
+    @Scheduled(fixedDelayString = "${notification.dispatch.poll-interval-ms:5000}")
+    public synchronized void rollHorizon() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime horizonEnd = now.plus(horizon);
+        // 구간 끝을 먼저 넓혀 두어야 조회 중에 수정된 약속도 scheduleNotification 으로 휠에 들어온다.
+        timingWheel.extendHorizon(horizonEnd.atZone(ZoneId.systemDefault()).toEpochSecond());
+
+        if (loadedUntil == null) {
+            int loadedCount = notificationService.loadPendingNotifications(now.minus(catchUpWindow), horizonEnd, now, pageSize);
+            log.info("알림 디스패처 초기 적재: {}건 (~{})", loadedCount, horizonEnd);
+        } else {
+            notificationService.loadPendingNotifications(now.minus(catchUpWindow), now, now, pageSize);
+            notificationService.loadPendingNotifications(loadedUntil, horizonEnd, now, pageSize);
+        }
+        loadedUntil = horizonEnd;
+    }
+
+    // 타이밍 휠을 현재 초까지 돌리고, 발송 시각이 된 알림을 발송 풀에 넘긴다.
+    @Scheduled(fixedRateString = "${notification.dispatch.tick-interval-ms:1000}")
+    public void fireDueNotifications() {
+        List<Long> dueIds = timingWheel.advanceTo(Instant.now().getEpochSecond());
+        dueIds.forEach(notificationId -> dispatchExecutor.execute(() -> dispatch(notificationId)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchExecutor.shutdown();
+        timingWheel.drainAll();
+        try {
+            if (!dispatchExecutor.awaitTermination(shutdownAwait.toMillis(), TimeUnit.MILLISECONDS)) {
+                // 대기 중인 작업은 아직 임대를 잡지 않았으므로 버려도 다른 인스턴스가 다시 올린다.
+                dispatchExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            dispatchExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        // closing 이후로는 새 임대를 잡지 않으므로, 여기서 본 inFlight 밖의 임대는 발송 중이 아니다.
+        // 그 임대만 풀어 다른 인스턴스가 만료를 기다리지 않고 가져가게 한다.
+        closing = true;
+        List<Long> stillDispatching = List.copyOf(inFlight);
+        int released = notificationService.releaseLeases(leaseOwner, stillDispatching);
+        log.info("알림 디스패처 종료: 반납한 임대 {}건, 발송 중이라 남긴 임대 {}건", released, stillDispatching.size());
+    }
+
+    private void dispatch(Long notificationId) {
+        // 임대를 잡기 전에 올려 두어야 종료 중에 잡은 임대를 놓치지 않는다.
+        inFlight.add(notificationId);
+        try {
+            if (closing) {
+                return;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            if (!notificationService.claimNotification(notificationId, leaseOwner, now.minus(catchUpWindow), now, leaseDuration)) {
+                return;
+            }
+            notificationService.dispatchReminder(notificationId, leaseOwner);
+        } catch (RuntimeException e) {
+            // 임대가 만료되면 catch-up 구간 안에서 다시 시도된다.
+            log.error("알림 발송 실패: notificationId={}", notificationId, e);
+        } finally {
+            inFlight.remove(notificationId);
+        }
+    }
+
+    String getLeaseOwner() {
+        return leaseOwner;
+    }
+}
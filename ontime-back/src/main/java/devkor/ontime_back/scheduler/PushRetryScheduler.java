@@ -0,0 +1,23 @@
+package devkor.ontime_back.scheduler;
+
+import devkor.ontime_back.service.PushDeliveryService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "notification.push.retry.enabled", havingValue = "true", matchIfMissing = true)
+public class PushRetryScheduler {
+
+    private final PushDeliveryService pushDeliveryService;
+
+    public PushRetryScheduler(PushDeliveryService pushDeliveryService) {
+        this.pushDeliveryService = pushDeliveryService;
+    }
+
+    // 일시적으로 실패해 push_delivery_retry 에 남은 푸시를 다음 시도 시각이 되면 다시 보낸다.
+    @Scheduled(fixedDelayString = "${notification.push.retry.poll-interval-ms:10000}")
+    public void retryDueDeliveries() {
+        pushDeliveryService.retryDueDeliveries();
+    }
+}
@@ -0,0 +1,79 @@
+package devkor.ontime_back.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 트랜잭션 안에서 들어온 알림 재예약/취소 요청을 notificationId 별로 모아 두었다가, 커밋 직후 마지막 요청만
+ * {@link ReminderTimingWheel} 에 반영한다.
+ * <p>
+ * 템플릿 하나를 고치면 그 템플릿을 쓰는 약속 전부가, 약속 하나를 여러 번 고치면 같은 알림이 한 트랜잭션 안에서 여러 번
+ * 다시 계산된다. 이때 휠에는 알림마다 한 번만 반영되고, 롤백된 트랜잭션의 시각은 휠에 남지 않는다.
+ * 트랜잭션 밖에서 호출되면 바로 반영한다.
+ */
+@Slf4j
+@Component
+public class ReminderRescheduleCoalescer {
+
+    private final ReminderTimingWheel timingWheel;
+
+    public ReminderRescheduleCoalescer(ReminderTimingWheel timingWheel) {
+        this.timingWheel = timingWheel;
+    }
+
+    public void reschedule(Long notificationId, long epochSecond) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            timingWheel.scheduleWithinHorizon(notificationId, epochSecond);
+            return;
+        }
+        pendingForCurrentTransaction().put(notificationId, epochSecond);
+    }
+
+    public void cancel(Long notificationId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            timingWheel.cancel(notificationId);
+            return;
+        }
+        // 취소 요청은 시각 자리에 null 을 넣어 표시한다.
+        pendingForCurrentTransaction().put(notificationId, null);
+    }
+
+    private Map<Long, Long> pendingForCurrentTransaction() {
+        @SuppressWarnings("unchecked")
+        Map<Long, Long> pending = (Map<Long, Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+
+        Map<Long, Long> created = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                flush(created);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ReminderRescheduleCoalescer.this);
+            }
+        });
+        return created;
+    }
+
+    private void flush(Map<Long, Long> pending) {
+        pending.forEach((notificationId, epochSecond) -> {
+            if (epochSecond == null) {
+                timingWheel.cancel(notificationId);
+            } else {
+                timingWheel.scheduleWithinHorizon(notificationId, epochSecond);
+            }
+        });
+        log.debug("알림 재예약 커밋 반영: {}건", pending.size());
+    }
+}
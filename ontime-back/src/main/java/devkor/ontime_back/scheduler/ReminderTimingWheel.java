@@ -0,0 +1,246 @@
+package devkor.ontime_back.scheduler;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 준비 알림 발송 시각을 초 단위로 관리하는 계층형 해시 타이밍 휠.
+ * <p>
+ * 각 알림은 (notificationId, epochSecond) 만 담은 작은 엔트리로 저장되고, 등록과 취소는 버킷의
+ * 이중 연결 리스트에 붙이고 떼는 O(1) 연산이다. level 0 은 1초 단위 슬롯이고, 상위 level 의 슬롯은
+ * 하위 level 한 바퀴를 덮는다. 상위 슬롯의 엔트리는 해당 구간에 들어설 때 하위 level 로 내려온다(cascade).
+ * 최상위 level 을 넘어서는 엔트리는 최상위 슬롯에 머물다가 cascade 때마다 다시 배치된다.
+ * <p>
+ * 휠에는 디스패처가 DB 에서 읽어 온 구간(horizon)까지의 알림만 올린다. 구간 밖의 알림은 구간이 넓어질 때 함께 적재되므로,
+ * 약속 수정처럼 휠 밖에서 들어오는 등록은 {@link #scheduleWithinHorizon} 으로 구간 안쪽만 받는다.
+ * <p>
+ * 모든 연산은 이 객체의 모니터로 직렬화되며, 한 번의 연산이 상수 시간이라 경합 구간이 짧다.
+ */
+@Component
+public class ReminderTimingWheel {
+
+    static final int DEFAULT_SLOT_BITS = 9;
+    static final int DEFAULT_LEVELS = 3;
+
+    private final int slotBits;
+    private final int slotMask;
+    private final int levels;
+    private final Bucket[][] buckets;
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Set<Long> overdue = new LinkedHashSet<>();
+    private long currentSecond;
+    private long horizonSecond = Long.MIN_VALUE;
+
+    public ReminderTimingWheel() {
+        this(DEFAULT_SLOT_BITS, DEFAULT_LEVELS, System.currentTimeMillis() / 1000);
+    }
+
+    ReminderTimingWheel(int slotBits, int levels, long startSecond) {
+        if (slotBits < 1 || levels < 2) {
+            throw new IllegalArgumentException("Timing wheel needs at least two levels of two slots");
+        }
+        this.slotBits = slotBits;
+        this.slotMask = (1 << slotBits) - 1;
+        this.levels = levels;
+        this.buckets = new Bucket[levels][1 << slotBits];
+        for (int level = 0; level < levels; level++) {
+            for (int slot = 0; slot <= slotMask; slot++) {
+                buckets[level][slot] = new Bucket();
+            }
+        }
+        this.currentSecond = startSecond;
+    }
+
+    /**
+     * 같은 notificationId 가 이미 있으면 새 시각으로 옮긴다.
+     */
+    public synchronized void schedule(long notificationId, long epochSecond) {
+        Entry existing = entries.remove(notificationId);
+        if (existing != null) {
+            detach(existing);
+        }
+        Entry entry = new Entry(notificationId, epochSecond);
+        entries.put(notificationId, entry);
+        place(entry);
+    }
+
+    /**
+     * 적재된 구간 안쪽이면 등록(또는 이동)하고, 구간 밖이면 기존 엔트리만 지우고 다음 구간 적재에 맡긴다.
+     */
+    public synchronized boolean scheduleWithinHorizon(long notificationId, long epochSecond) {
+        if (epochSecond > horizonSecond) {
+            cancel(notificationId);
+            return false;
+        }
+        schedule(notificationId, epochSecond);
+        return true;
+    }
+
+    public synchronized void extendHorizon(long epochSecond) {
+        horizonSecond = Math.max(horizonSecond, epochSecond);
+    }
+
+    public synchronized boolean cancel(long notificationId) {
+        Entry entry = entries.remove(notificationId);
+        if (entry == null) {
+            return false;
+        }
+        detach(entry);
+        return true;
+    }
+
+    public synchronized boolean contains(long notificationId) {
+        return entries.containsKey(notificationId);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 휠을 targetSecond 까지 돌리고 그 사이 발송 시각이 된 notificationId 를 돌려준다.
+     */
+    public synchronized List<Long> advanceTo(long targetSecond) {
+        List<Long> due = new ArrayList<>(overdue);
+        overdue.clear();
+        due.forEach(entries::remove);
+
+        while (currentSecond < targetSecond) {
+            currentSecond++;
+            cascade();
+            drain(buckets[0][(int) (currentSecond & slotMask)], due);
+            due.addAll(overdue);
+            overdue.forEach(entries::remove);
+            overdue.clear();
+        }
+        return due;
+    }
+
+    public synchronized List<Long> drainAll() {
+        List<Long> remaining = new ArrayList<>(entries.keySet());
+        for (Bucket[] levelBuckets : buckets) {
+            for (Bucket bucket : levelBuckets) {
+                bucket.head = null;
+            }
+        }
+        entries.clear();
+        overdue.clear();
+        horizonSecond = Long.MIN_VALUE;
+        return remaining;
+    }
+
+    private void detach(Entry entry) {
+        if (entry.bucket == null) {
+            overdue.remove(entry.notificationId);
+        } else {
+            entry.unlink();
+        }
+    }
+
+    private void cascade() {
+        for (int level = levels - 1; level >= 1; level--) {
+            int shift = slotBits * level;
+            if ((currentSecond & ((1L << shift) - 1)) != 0) {
+                continue;
+            }
+            Bucket bucket = buckets[level][(int) ((currentSecond >> shift) & slotMask)];
+            Entry entry = bucket.detachAll();
+            while (entry != null) {
+                Entry next = entry.next;
+                entry.next = null;
+                entry.prev = null;
+                place(entry);
+                entry = next;
+            }
+        }
+    }
+
+    private void drain(Bucket bucket, List<Long> due) {
+        Entry entry = bucket.detachAll();
+        while (entry != null) {
+            Entry next = entry.next;
+            entry.next = null;
+            entry.prev = null;
+            if (entry.epochSecond <= currentSecond) {
+                entries.remove(entry.notificationId);
+                due.add(entry.notificationId);
+            } else {
+                place(entry);
+            }
+            entry = next;
+        }
+    }
+
+    private void place(Entry entry) {
+        if (entry.epochSecond <= currentSecond) {
+            entry.bucket = null;
+            overdue.add(entry.notificationId);
+            return;
+        }
+        for (int level = 0; level < levels - 1; level++) {
+            int upperShift = slotBits * (level + 1);
+            if ((entry.epochSecond >> upperShift) == (currentSecond >> upperShift)) {
+                buckets[level][(int) ((entry.epochSecond >> (slotBits * level)) & slotMask)].add(entry);
+                return;
+            }
+        }
+        int topShift = slotBits * (levels - 1);
+        buckets[levels - 1][(int) ((entry.epochSecond >> topShift) & slotMask)].add(entry);
+    }
+
+    private static final class Bucket {
+        private Entry head;
+
+        private void add(Entry entry) {
+            entry.bucket = this;
+            entry.prev = null;
+            entry.next = head;
+            if (head != null) {
+                head.prev = entry;
+            }
+            head = entry;
+        }
+
+        private Entry detachAll() {
+            Entry detached = head;
+            head = null;
+            return detached;
+        }
+    }
+
+    private static final class Entry {
+        private final long notificationId;
+        private final long epochSecond;
+        private Entry prev;
+        private Entry next;
+        private Bucket bucket;
+
+        private Entry(long notificationId, long epochSecond) {
+            this.notificationId = notificationId;
+            this.epochSecond = epochSecond;
+        }
+
+        private void unlink() {
+            if (bucket == null) {
+                return;
+            }
+            if (prev != null) {
+                prev.next = next;
+            } else if (bucket.head == this) {
+                bucket.head = next;
+            }
+            if (next != null) {
+                next.prev = prev;
+            }
+            prev = null;
+            next = null;
+            bucket = null;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package devkor.ontime_back.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * FCM 으로 내보내는 메시지 수를 초당 permitsPerSecond 로 제한하는 토큰 버킷.
+ * <p>
+ * FCM 이 QUOTA_EXCEEDED/UNAVAILABLE 로 응답하면 속도를 절반으로 줄이고, 정상 응답이 이어지면 minPerSecond 만큼씩 다시 올린다(AIMD).
+ * 그래서 지속 처리량은 실제 쿼터 바로 아래에서 머문다. 500건 배치처럼 버킷보다 큰 요청은 먼저 빌려 쓰고, 그 빚만큼 다음 요청이 기다린다.
+ */
+@Slf4j
+@Component
+public class AdaptivePushRateLimiter {
+
+    private final double minPermitsPerSecond;
+    private final double maxPermitsPerSecond;
+    private final LongSupplier nanoClock;
+    private double permitsPerSecond;
+    private double availablePermits;
+    private long lastRefillNanos;
+
+    @Autowired
+    public AdaptivePushRateLimiter(
+            @Value("${notification.push.rate.initial-per-second:1000}") double initialPermitsPerSecond,
+            @Value("${notification.push.rate.min-per-second:50}") double minPermitsPerSecond,
+            @Value("${notification.push.rate.max-per-second:5000}") double maxPermitsPerSecond) {
+        this(initialPermitsPerSecond, minPermitsPerSecond, maxPermitsPerSecond, System::nanoTime);
+    }
+
+    AdaptivePushRateLimiter(double initialPermitsPerSecond, double minPermitsPerSecond,
+                            double maxPermitsPerSecond, LongSupplier nanoClock) {
+        if (minPermitsPerSecond <= 0 || maxPermitsPerSecond < minPermitsPerSecond) {
+            throw new IllegalArgumentException("push rate bounds must satisfy 0 < min <= max");
+        }
+        this.minPermitsPerSecond = minPermitsPerSecond;
+        this.maxPermitsPerSecond = maxPermitsPerSecond;
+        this.nanoClock = nanoClock;
+        this.permitsPerSecond = clamp(initialPermitsPerSecond);
+        this.availablePermits = permitsPerSecond;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    // permits 건을 보낼 차례가 될 때까지 기다린다.
+    public void acquire(int permits) {
+        long waitNanos = reserve(permits);
+        if (waitNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public synchronized void onThrottled() {
+        double previous = permitsPerSecond;
+        permitsPerSecond = clamp(permitsPerSecond / 2);
+        // 이미 쌓인 여유분으로 곧바로 다시 몰아치지 않도록 버킷을 비운다.
+        availablePermits = Math.min(availablePermits, 0);
+        log.warn("FCM 쿼터 응답으로 푸시 전송 속도를 낮춥니다: {} -> {}/s", previous, permitsPerSecond);
+    }
+
+    public synchronized void onSuccess() {
+        permitsPerSecond = clamp(permitsPerSecond + minPermitsPerSecond);
+    }
+
+    public synchronized double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    // permits 건을 예약하고, 예약분을 보내기 전에 기다려야 하는 시간을 돌려준다.
+    synchronized long reserve(int permits) {
+        long now = nanoClock.getAsLong();
+        double elapsedSeconds = (now - lastRefillNanos) / 1_000_000_000.0;
+        availablePermits = Math.min(permitsPerSecond, availablePermits + elapsedSeconds * permitsPerSecond);
+        lastRefillNanos = now;
+
+        double waitSeconds = availablePermits >= 0 ? 0 : -availablePermits / permitsPerSecond;
+        availablePermits -= permits;
+        return (long) (waitSeconds * 1_000_000_000L);
+    }
+
+    private double clamp(double rate) {
+        return Math.max(minPermitsPerSecond, Math.min(maxPermitsPerSecond, rate));
+    }
+}
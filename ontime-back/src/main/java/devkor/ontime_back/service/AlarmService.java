@@ -42,6 +42,9 @@ public class AlarmService {
     private static final Set<String> FAILURE_REASONS = Set.of("preparationLoadFailed", "scheduleInvalid", "platformError", "unknown");
     private static final String NATIVE_NONE = "none";
     private static final String FALLBACK_LOCAL_NOTIFICATION = "localNotification";
+    private static final Comparator<ActiveDeviceSessionDto> LAST_SEEN_ORDER = Comparator
+            .comparing(ActiveDeviceSessionDto::getLastSeenAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(ActiveDeviceSessionDto::getUserDeviceId);
 
     private final UserRepository userRepository;
     private final UserAlarmSettingRepository userAlarmSettingRepository;
@@ -49,6 +52,21 @@ public class AlarmService {
     private final UserAlarmStatusRepository userAlarmStatusRepository;
     private final ObjectMapper objectMapper;
 
+    public record LegacyReminder(Long userId, UUID scheduleId, LocalDateTime reminderTime) {
+    }
+
+    // 알람 상태의 armedScheduleIds JSON 은 한 번만 파싱해 Set 으로 들고 있는다.
+    private record ArmedAlarmCoverage(LocalDateTime start, LocalDateTime end, Set<String> armedScheduleIds) {
+
+        private boolean covers(LegacyReminder reminder) {
+            return reminder.reminderTime() != null
+                    && reminder.scheduleId() != null
+                    && !reminder.reminderTime().isBefore(start)
+                    && reminder.reminderTime().isBefore(end)
+                    && armedScheduleIds.contains(reminder.scheduleId().toString());
+        }
+    }
+
     @Transactional
     public AlarmSettingsResponseDto getAlarmSettings(Long userId) {
         UserAlarmSetting setting = getOrCreateAlarmSetting(userId);
@@ -131,7 +149,8 @@ public class AlarmService {
                 requestDto.getFallbackProvider(),
                 now
         );
-        device.bindSession(accessToken, refreshToken);
+        // 요청을 인증한 토큰의 jti 는 사용자의 activeSessionId 와 같다.
+        device.bindSession(accessToken, refreshToken, user.getActiveSessionId());
 
         UserDevice savedDevice = userDeviceRepository.save(device);
         return AlarmDeviceCurrentResponseDto.builder()
@@ -273,51 +292,82 @@ public class AlarmService {
     }
 
     public boolean shouldSuppressLegacyReminder(Long userId, UUID scheduleId, LocalDateTime reminderTime) {
-        boolean alarmsEnabled = userAlarmSettingRepository.findByUserId(userId)
-                .map(UserAlarmSetting::getAlarmsEnabled)
-                .orElse(true);
-        if (!alarmsEnabled) {
-            return false;
-        }
+        LegacyReminder reminder = new LegacyReminder(userId, scheduleId, reminderTime);
+        return findSuppressedLegacyReminders(List.of(reminder)).contains(reminder);
+    }
 
-        Optional<UserDevice> currentDevice = userDeviceRepository.findFirstByUserIdAndActiveTrueOrderByLastSeenAtDesc(userId);
-        if (currentDevice.isEmpty()) {
-            return false;
-        }
-        String currentAccessToken = userRepository.findById(userId)
-                .map(User::getAccessToken)
-                .orElse(null);
-        if (!currentDevice.get().belongsToAccessToken(currentAccessToken)) {
-            return false;
+    /**
+     * 현재 기기의 로컬 알람이 이미 덮고 있어 레거시 푸시를 생략할 알림만 골라 돌려준다.
+     * 알림 수와 관계없이 알람 설정, 현재 기기(세션 사용자 포함), 기기별 알람 상태를 한 번씩만 조회한다.
+     */
+    public Set<LegacyReminder> findSuppressedLegacyReminders(Collection<LegacyReminder> reminders) {
+        Set<Long> userIds = new HashSet<>();
+        reminders.forEach(reminder -> {
+            if (reminder.userId() != null) {
+                userIds.add(reminder.userId());
+            }
+        });
+        if (userIds.isEmpty()) {
+            return Set.of();
         }
 
-        Optional<UserAlarmStatus> latestStatus = userAlarmStatusRepository.findByUserDeviceUserDeviceId(currentDevice.get().getUserDeviceId());
-        if (latestStatus.isEmpty()) {
-            return false;
+        userAlarmSettingRepository.findAlarmsDisabledUserIds(userIds).forEach(userIds::remove);
+        if (userIds.isEmpty()) {
+            return Set.of();
         }
 
-        UserAlarmStatus status = latestStatus.get();
-        if (status.getReconciledAt() == null || status.getReconciledAt().isBefore(Instant.now().minus(Duration.ofHours(24)))) {
-            return false;
+        Map<Long, Long> userIdByCurrentDeviceId = findCurrentSessionDevices(userIds);
+        if (userIdByCurrentDeviceId.isEmpty()) {
+            return Set.of();
         }
 
-        if (!hasProviderCoverage(status)) {
-            return false;
+        Map<Long, ArmedAlarmCoverage> coverageByUserId = new HashMap<>();
+        Instant freshAfter = Instant.now().minus(Duration.ofHours(24));
+        for (UserAlarmStatus status : userAlarmStatusRepository.findAllByUserDeviceUserDeviceIdIn(userIdByCurrentDeviceId.keySet())) {
+            if (isCoveringStatus(status, freshAfter)) {
+                coverageByUserId.put(
+                        userIdByCurrentDeviceId.get(status.getUserDevice().getUserDeviceId()),
+                        new ArmedAlarmCoverage(
+                                status.getAlarmCoverageStart(),
+                                status.getAlarmCoverageEnd(),
+                                new HashSet<>(parseStringList(status.getArmedScheduleIds()))));
+            }
         }
 
-        if (!isSuppressibleStatus(status)) {
-            return false;
+        Set<LegacyReminder> suppressed = new HashSet<>();
+        for (LegacyReminder reminder : reminders) {
+            ArmedAlarmCoverage coverage = coverageByUserId.get(reminder.userId());
+            if (coverage != null && coverage.covers(reminder)) {
+                suppressed.add(reminder);
+            }
         }
+        return suppressed;
+    }
 
-        if (reminderTime == null || status.getAlarmCoverageStart() == null || status.getAlarmCoverageEnd() == null) {
-            return false;
+    // 사용자마다 마지막으로 접속한 활성 기기를 고르고, 그 기기가 현재 로그인 세션의 기기일 때만 남긴다. (deviceId -> userId)
+    private Map<Long, Long> findCurrentSessionDevices(Set<Long> userIds) {
+        Map<Long, ActiveDeviceSessionDto> latestDeviceByUserId = new HashMap<>();
+        for (ActiveDeviceSessionDto device : userDeviceRepository.findActiveSessionsByUserIdIn(userIds)) {
+            latestDeviceByUserId.merge(device.getUserId(), device, (current, candidate) ->
+                    LAST_SEEN_ORDER.compare(candidate, current) > 0 ? candidate : current);
         }
 
-        if (reminderTime.isBefore(status.getAlarmCoverageStart()) || !reminderTime.isBefore(status.getAlarmCoverageEnd())) {
-            return false;
-        }
+        Map<Long, Long> userIdByDeviceId = new HashMap<>();
+        latestDeviceByUserId.forEach((userId, device) -> {
+            if (device.getDeviceSessionId() != null && device.getDeviceSessionId().equals(device.getActiveSessionId())) {
+                userIdByDeviceId.put(device.getUserDeviceId(), userId);
+            }
+        });
+        return userIdByDeviceId;
+    }
 
-        return parseStringList(status.getArmedScheduleIds()).contains(scheduleId.toString());
+    private boolean isCoveringStatus(UserAlarmStatus status, Instant freshAfter) {
+        return status.getReconciledAt() != null
+                && !status.getReconciledAt().isBefore(freshAfter)
+                && hasProviderCoverage(status)
+                && isSuppressibleStatus(status)
+                && status.getAlarmCoverageStart() != null
+                && status.getAlarmCoverageEnd() != null;
     }
 
     private UserAlarmSetting getOrCreateAlarmSetting(Long userId) {
@@ -1,26 +1,17 @@
 package devkor.ontime_back.service;
 
 import devkor.ontime_back.entity.ApiLog;
-import devkor.ontime_back.repository.ApiLogRepository;
+import devkor.ontime_back.logging.ApiLogBatchWriter;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
-@Slf4j
 @RequiredArgsConstructor
 @Service
 public class ApiLogService {
-    private final ApiLogRepository apiLogRepository;
+    private final ApiLogBatchWriter apiLogBatchWriter;
 
-    @Async
+    // 요청 스레드에서는 버퍼에 넣기만 하고, 저장은 ApiLogBatchWriter 가 모아서 한다.
     public void saveLog(ApiLog apiLog) {
-        try {
-            log.info("[Async] saveLog started on thread: {}", Thread.currentThread().getName());
-            apiLogRepository.save(apiLog);
-            log.info("[Async] saveLog finished on thread: {}", Thread.currentThread().getName());
-        } catch (Exception e) {
-            log.error("API 로그 저장 실패", e);
-        }
+        apiLogBatchWriter.enqueue(apiLog);
     }
 }
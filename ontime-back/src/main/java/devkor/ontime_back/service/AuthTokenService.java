@@ -2,6 +2,7 @@ package devkor.ontime_back.service;
 
 import devkor.ontime_back.entity.User;
 import devkor.ontime_back.entity.UserRefreshToken;
+import devkor.ontime_back.global.jwt.AuthenticatedPrincipalCache;
 import devkor.ontime_back.global.jwt.JwtTokenProvider;
 import devkor.ontime_back.repository.UserRefreshTokenRepository;
 import devkor.ontime_back.repository.UserRepository;
@@ -11,6 +12,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.UUID;
+
 @Service
 @RequiredArgsConstructor
 public class AuthTokenService {
@@ -18,33 +22,47 @@ public class AuthTokenService {
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRefreshTokenRepository userRefreshTokenRepository;
     private final UserRepository userRepository;
+    private final AuthenticatedPrincipalCache authenticatedPrincipalCache;
 
+    /**
+     * 로그인 토큰을 새로 발급하고 저장까지 끝낸다. 호출한 쪽에서 user 를 다시 저장할 필요가 없다.
+     * 리프레시 토큰은 user_id 기준 upsert 한 번, user 는 토큰 컬럼만 고치는 UPDATE 한 번으로 저장한다.
+     */
     @Transactional
     public AuthTokens issueLoginTokens(User user, HttpServletResponse response) {
-        userRefreshTokenRepository.deleteByUser(user);
+        // 이전 엑세스 토큰으로 캐시된 인증 정보는 더 이상 유효하지 않다.
+        authenticatedPrincipalCache.invalidateUser(user.getId());
 
-        String accessToken = jwtTokenProvider.createAccessToken(user.getEmail(), user.getId());
+        String sessionId = UUID.randomUUID().toString();
+        String accessToken = jwtTokenProvider.createAccessToken(user.getEmail(), user.getId(), sessionId);
         String refreshToken = jwtTokenProvider.createRefreshToken();
 
         jwtTokenProvider.sendAccessAndRefreshToken(response, accessToken, refreshToken);
         user.updateAccessToken(accessToken);
+        user.updateActiveSessionId(sessionId);
         user.updateRefreshToken(refreshToken);
-        userRefreshTokenRepository.save(UserRefreshToken.create(user, refreshToken));
+        // 유저당 한 행이므로 이전 로그인의 리프레시 토큰은 덮어써져 더 쓸 수 없다.
+        userRefreshTokenRepository.upsertForUser(user.getId(), UserRefreshToken.hash(refreshToken), Instant.now());
+        // 소셜 로그인은 발급 직전에 socialLoginToken 을 바꾸므로 같은 UPDATE 에 싣는다.
+        userRepository.updateLoginTokens(user.getId(), accessToken, refreshToken, sessionId, user.getSocialLoginToken());
 
         return new AuthTokens(accessToken, refreshToken);
     }
 
     @Transactional
     public AuthTokens rotateRefreshToken(String refreshToken, HttpServletResponse response) {
-        UserRefreshToken storedToken = userRefreshTokenRepository.findByRefreshToken(refreshToken)
+        UserRefreshToken storedToken = userRefreshTokenRepository.findByRefreshTokenHash(UserRefreshToken.hash(refreshToken))
                 .orElseThrow(() -> new InvalidRefreshTokenException("Invalid Refresh token!~!"));
         User user = storedToken.getUser();
+        authenticatedPrincipalCache.invalidateUser(user.getId());
 
-        String accessToken = jwtTokenProvider.createAccessToken(user.getEmail(), user.getId());
+        String sessionId = UUID.randomUUID().toString();
+        String accessToken = jwtTokenProvider.createAccessToken(user.getEmail(), user.getId(), sessionId);
         String newRefreshToken = jwtTokenProvider.createRefreshToken();
 
         jwtTokenProvider.sendAccessAndRefreshToken(response, accessToken, newRefreshToken);
         user.updateAccessToken(accessToken);
+        user.updateActiveSessionId(sessionId);
         user.updateRefreshToken(newRefreshToken);
         storedToken.rotate(newRefreshToken);
         userRepository.saveAndFlush(user);
@@ -0,0 +1,194 @@
+package devkor.ontime_back.service;
+
+import devkor.ontime_back.entity.RetentionPurgeCheckpoint;
+import devkor.ontime_back.repository.RetentionPurgeCheckpointRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 보관 기간이 지난 행을 PK 구간 단위로 조금씩 지운다.
+ * <p>
+ * 청크마다 만료된 행의 PK 를 chunk-size 개까지 PK 순으로 찾고, 그 첫/끝 PK 구간만 DELETE 한다.
+ * 각 DELETE 는 따로 커밋되므로 잠금과 undo 가 청크 크기로 묶이고, 청크 사이에는 pause-ms 만큼 쉰다.
+ * 정해진 시각(deadline)이 지나면 멈추고, 테이블별 체크포인트에서 다음 실행이 이어서 지운다.
+ */
+@Slf4j
+@Component
+public class ChunkedPurger {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RetentionPurgeCheckpointRepository checkpointRepository;
+    private final int chunkSize;
+    private final long pauseNanos;
+    private final long maxRuntimeNanos;
+    private final LongSupplier nanoClock;
+    private final LongConsumer pause;
+
+    @Autowired
+    public ChunkedPurger(
+            JdbcTemplate jdbcTemplate,
+            RetentionPurgeCheckpointRepository checkpointRepository,
+            @Value("${retention.purge.chunk-size:1000}") int chunkSize,
+            @Value("${retention.purge.pause-ms:200}") long pauseMillis,
+            @Value("${retention.purge.max-runtime-seconds:1800}") long maxRuntimeSeconds) {
+        this(jdbcTemplate, checkpointRepository, chunkSize, pauseMillis, maxRuntimeSeconds,
+                System::nanoTime, ChunkedPurger::sleep);
+    }
+
+    ChunkedPurger(JdbcTemplate jdbcTemplate, RetentionPurgeCheckpointRepository checkpointRepository,
+                  int chunkSize, long pauseMillis, long maxRuntimeSeconds,
+                  LongSupplier nanoClock, LongConsumer pause) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.checkpointRepository = checkpointRepository;
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.pauseNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(pauseMillis, 0));
+        this.maxRuntimeNanos = TimeUnit.SECONDS.toNanos(Math.max(maxRuntimeSeconds, 1));
+        this.nanoClock = nanoClock;
+        this.pause = pause;
+    }
+
+    // 이번 실행에서 모든 테이블이 함께 쓰는 마감 시각(nanoTime 기준)
+    public long deadlineFromNow() {
+        return nanoClock.getAsLong() + maxRuntimeNanos;
+    }
+
+    public PurgeResult purge(PurgeTarget target, LocalDateTime cutoff, long deadlineNanos) {
+        long startedAt = nanoClock.getAsLong();
+        RetentionPurgeCheckpoint checkpoint = checkpointRepository.findById(target.tableName())
+                .orElseGet(() -> RetentionPurgeCheckpoint.start(target.tableName(), Instant.now()));
+        if (checkpoint.getLastKey() == null) {
+            checkpoint.restart(Instant.now());
+        }
+        Object lastKey = checkpoint.getLastKey() == null ? null : target.keyType().decode(checkpoint.getLastKey());
+        Timestamp cutoffTimestamp = Timestamp.valueOf(cutoff);
+
+        long deleted = 0;
+        int chunks = 0;
+        boolean completed = false;
+        while (nanoClock.getAsLong() - deadlineNanos < 0) {
+            List<Object> keys = lastKey == null
+                    ? jdbcTemplate.query(target.firstChunkSql(), (rs, rowNum) -> rs.getObject(1), cutoffTimestamp, chunkSize)
+                    : jdbcTemplate.query(target.nextChunkSql(), (rs, rowNum) -> rs.getObject(1), cutoffTimestamp, lastKey, chunkSize);
+            if (keys.isEmpty()) {
+                completed = true;
+                break;
+            }
+            Object fromKey = keys.get(0);
+            Object toKey = keys.get(keys.size() - 1);
+            int chunkDeleted = jdbcTemplate.update(target.deleteRangeSql(), fromKey, toKey, cutoffTimestamp);
+            deleted += chunkDeleted;
+            chunks++;
+            lastKey = toKey;
+            checkpoint.advance(target.keyType().encode(toKey), chunkDeleted, Instant.now());
+            checkpointRepository.save(checkpoint);
+
+            if (keys.size() < chunkSize) {
+                completed = true;
+                break;
+            }
+            if (pauseNanos > 0) {
+                pause.accept(pauseNanos);
+            }
+        }
+
+        if (completed) {
+            checkpoint.complete(Instant.now());
+            checkpointRepository.save(checkpoint);
+        }
+        PurgeResult result = new PurgeResult(target.tableName(), deleted, chunks,
+                nanoClock.getAsLong() - startedAt, completed);
+        log.info("Retention purge {}: deletedRows={}, chunks={}, rowsPerSecond={}, completed={}",
+                result.tableName(), result.deletedRows(), result.chunks(),
+                String.format("%.1f", result.rowsPerSecond()), result.completed());
+        return result;
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public enum PurgeKeyType {
+        NUMBER {
+            @Override
+            String encode(Object key) {
+                return String.valueOf(((Number) key).longValue());
+            }
+
+            @Override
+            Object decode(String key) {
+                return Long.parseLong(key);
+            }
+        },
+        // BINARY(16) UUID 키. MySQL 은 byte[], H2 는 UUID 로 돌려준다.
+        BINARY {
+            @Override
+            String encode(Object key) {
+                if (key instanceof UUID uuid) {
+                    return HexFormat.of().formatHex(ByteBuffer.allocate(16)
+                            .putLong(uuid.getMostSignificantBits())
+                            .putLong(uuid.getLeastSignificantBits())
+                            .array());
+                }
+                return HexFormat.of().formatHex((byte[]) key);
+            }
+
+            @Override
+            Object decode(String key) {
+                return HexFormat.of().parseHex(key);
+            }
+        };
+
+        abstract String encode(Object key);
+
+        abstract Object decode(String key);
+    }
+
+    /**
+     * 지울 테이블. 이름은 코드에 고정된 값만 쓴다(SQL 에 그대로 들어간다).
+     */
+    public record PurgeTarget(String tableName, String keyColumn, String createdAtColumn, PurgeKeyType keyType) {
+
+        String firstChunkSql() {
+            return "SELECT " + keyColumn + " FROM " + tableName
+                    + " WHERE " + createdAtColumn + " < ?"
+                    + " ORDER BY " + keyColumn + " LIMIT ?";
+        }
+
+        String nextChunkSql() {
+            return "SELECT " + keyColumn + " FROM " + tableName
+                    + " WHERE " + createdAtColumn + " < ? AND " + keyColumn + " > ?"
+                    + " ORDER BY " + keyColumn + " LIMIT ?";
+        }
+
+        String deleteRangeSql() {
+            return "DELETE FROM " + tableName
+                    + " WHERE " + keyColumn + " >= ? AND " + keyColumn + " <= ?"
+                    + " AND " + createdAtColumn + " < ?";
+        }
+    }
+
+    public record PurgeResult(String tableName, long deletedRows, int chunks, long elapsedNanos, boolean completed) {
+
+        public double rowsPerSecond() {
+            return elapsedNanos > 0 ? deletedRows * 1_000_000_000.0 / elapsedNanos : 0;
+        }
+    }
+}
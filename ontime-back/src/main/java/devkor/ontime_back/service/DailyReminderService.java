@@ -0,0 +1,294 @@
+package devkor.ontime_back.service;
+
+import devkor.ontime_back.dto.DailyReminderTargetDto;
+import devkor.ontime_back.entity.DailyReminderCheckpoint;
+import devkor.ontime_back.repository.DailyReminderCheckpointRepository;
+import devkor.ontime_back.repository.ScheduleRepository;
+import devkor.ontime_back.service.AlarmService.LegacyReminder;
+import devkor.ontime_back.service.PushTransport.PushMessage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 아침/저녁 약속 알림을 슬롯으로 나눠 발송 창 안에 고르게 보낸다.
+ * <p>
+ * 사용자 id 의 곱셈 해시(0 ~ 2^32) 를 spread-slots 개 구간으로 나누고, 슬롯마다 spread-window 안의 자기 시작 시각에
+ * 전용 스케줄러에서 실행되는 작업을 하나씩 예약한다. 슬롯 작업은 그때 자기 해시 구간의 약속만 keyset 페이지로 읽어
+ * 바로 발송 단계로 넘기므로, 약속 수와 관계없이 메모리에는 한 번에 한 페이지만 올라간다.
+ * 기기 로컬 알람이 이미 덮고 있는 약속은 페이지마다 한 번의 일괄 판정으로 걸러낸다.
+ * <p>
+ * 진행 위치(다음 슬롯과 그 슬롯 안의 마지막 keyset 위치)는 페이지마다 {@link DailyReminderCheckpoint} 에 남긴다.
+ * 발송 창 도중에 재시작하면 resume-within-seconds 안에 시작한 실행은 남은 슬롯부터 이어 보내고, 그보다 오래된 실행은 닫는다.
+ * 실패한 슬롯은 남은 약속을 건너뛰고 다음 슬롯으로 넘어가며, 실행 전체는 failed 로 남는다.
+ * <p>
+ * 슬롯 작업은 스레드 하나에서 차례로 돌므로 앞 슬롯이 늦게 끝나면 다음 슬롯은 바로 이어서 보내고,
+ * 발송 속도는 {@link AdaptivePushRateLimiter} 가 맞춘다. 기다리는 동안 @Scheduled 스레드를 붙잡지 않는다.
+ * 같은 사용자는 항상 같은 슬롯에 들어가므로 매일 비슷한 시각에 알림을 받는다. spread-window-seconds=0 이면 한 슬롯으로 보낸다.
+ */
+@Slf4j
+@Service
+public class DailyReminderService {
+
+    // 사용자 해시 공간의 크기. ScheduleRepository 의 MOD(u.id * 2654435761, 4294967296) 와 같은 값이어야 한다.
+    static final long HASH_SPACE = 1L << 32;
+    private static final long HASH_MULTIPLIER = 2654435761L;
+
+    private final ScheduleRepository scheduleRepository;
+    private final DailyReminderCheckpointRepository checkpointRepository;
+    private final PushDeliveryService pushDeliveryService;
+    private final AlarmService alarmService;
+    private final int pageSize;
+    private final int slotCount;
+    private final Duration spreadWindow;
+    private final Duration resumeWithin;
+    private final MeterRegistry meterRegistry;
+    private final TaskScheduler slotScheduler;
+    private final AtomicLong lastCompletedEpochSecond = new AtomicLong();
+
+    @Autowired
+    public DailyReminderService(
+            ScheduleRepository scheduleRepository,
+            DailyReminderCheckpointRepository checkpointRepository,
+            PushDeliveryService pushDeliveryService,
+            AlarmService alarmService,
+            @Value("${notification.daily-reminder.page-size:" + PushTransport.MAX_BATCH_SIZE + "}") int pageSize,
+            @Value("${notification.daily-reminder.spread-window-seconds:600}") long spreadWindowSeconds,
+            @Value("${notification.daily-reminder.spread-slots:20}") int spreadSlots,
+            @Value("${notification.daily-reminder.resume-within-seconds:1800}") long resumeWithinSeconds,
+            MeterRegistry meterRegistry) {
+        this(scheduleRepository, checkpointRepository, pushDeliveryService, alarmService, pageSize,
+                spreadWindowSeconds, spreadSlots, resumeWithinSeconds, meterRegistry, newSlotScheduler());
+    }
+
+    DailyReminderService(ScheduleRepository scheduleRepository, DailyReminderCheckpointRepository checkpointRepository,
+                         PushDeliveryService pushDeliveryService, AlarmService alarmService, int pageSize,
+                         long spreadWindowSeconds, int spreadSlots, long resumeWithinSeconds,
+                         MeterRegistry meterRegistry, TaskScheduler slotScheduler) {
+        this.scheduleRepository = scheduleRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.pushDeliveryService = pushDeliveryService;
+        this.alarmService = alarmService;
+        this.pageSize = Math.max(pageSize, 1);
+        this.slotCount = spreadWindowSeconds > 0 ? Math.max(spreadSlots, 1) : 1;
+        this.spreadWindow = Duration.ofSeconds(Math.max(spreadWindowSeconds, 0));
+        this.resumeWithin = Duration.ofSeconds(Math.max(resumeWithinSeconds, 0));
+        this.meterRegistry = meterRegistry;
+        this.slotScheduler = slotScheduler;
+        Gauge.builder("ontime.reminder.daily.last-completed", lastCompletedEpochSecond, AtomicLong::get)
+                .description("마지막으로 끝까지 완료된 약속 알림 일괄 발송 시각(epoch second)")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (slotScheduler instanceof ThreadPoolTaskScheduler threadPoolTaskScheduler) {
+            threadPoolTaskScheduler.shutdown();
+        }
+    }
+
+    /**
+     * 체크포인트를 남기고 슬롯 작업을 예약한 뒤 바로 돌아온다. 돌려준 future 는 모든 슬롯이 끝나면 보낸 건수로 완료된다.
+     */
+    public CompletableFuture<Integer> sendDailyReminder(LocalDateTime start, LocalDateTime end, String message) {
+        long startedAt = System.nanoTime();
+        Instant windowStart = Instant.now();
+        DailyReminderCheckpoint checkpoint = DailyReminderCheckpoint.start(
+                LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).toString(), start, end, message, windowStart, slotCount);
+        try {
+            checkpointRepository.save(checkpoint);
+        } catch (RuntimeException e) {
+            recordRun(startedAt, "failed", 0);
+            throw e;
+        }
+        return scheduleSlots(checkpoint, startedAt);
+    }
+
+    // 발송 창 도중에 재시작했으면 끝나지 않은 실행을 남은 슬롯부터 이어 보낸다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedRuns() {
+        Instant now = Instant.now();
+        for (DailyReminderCheckpoint checkpoint : checkpointRepository.findAllByCompletedFalse()) {
+            if (checkpoint.getWindowStart().plus(resumeWithin).isBefore(now)) {
+                log.warn("약속 알림 일괄 발송 {} 을 이어 보내기엔 늦어 남은 슬롯 {}/{} 를 건너뜀",
+                        checkpoint.getRunKey(), checkpoint.getSlotCount() - checkpoint.getNextSlot(), checkpoint.getSlotCount());
+                checkpoint.abandon(now);
+                checkpointRepository.save(checkpoint);
+                continue;
+            }
+            log.info("약속 알림 일괄 발송 {} 을 슬롯 {}/{} 부터 이어 보냄",
+                    checkpoint.getRunKey(), checkpoint.getNextSlot(), checkpoint.getSlotCount());
+            scheduleSlots(checkpoint, System.nanoTime());
+        }
+    }
+
+    private CompletableFuture<Integer> scheduleSlots(DailyReminderCheckpoint checkpoint, long startedAt) {
+        int slots = checkpoint.getSlotCount();
+        Duration slotInterval = spreadWindow.dividedBy(slots);
+        DailyReminderRun run = new DailyReminderRun(checkpoint, startedAt, slots - checkpoint.getNextSlot());
+        for (int slot = checkpoint.getNextSlot(); slot < slots; slot++) {
+            int currentSlot = slot;
+            slotScheduler.schedule(() -> run.sendSlot(currentSlot),
+                    checkpoint.getWindowStart().plus(slotInterval.multipliedBy(slot)));
+        }
+        return run.result;
+    }
+
+    // 슬롯의 해시 구간 [hashBound(slot), hashBound(slot + 1)) 에 드는 사용자의 약속을 체크포인트 위치부터 보낸다.
+    private int sendSlot(DailyReminderCheckpoint checkpoint, int slot) {
+        LocalDateTime start = checkpoint.getRangeStart();
+        LocalDateTime end = checkpoint.getRangeEnd();
+        long hashFrom = hashBound(slot, checkpoint.getSlotCount());
+        long hashTo = hashBound(slot + 1, checkpoint.getSlotCount());
+        LocalDateTime reminderTime = LocalDateTime.now();
+        int sentCount = 0;
+        List<DailyReminderTargetDto> page = checkpoint.getLastScheduleId() == null
+                ? scheduleRepository.findDailyReminderTargets(start, end, hashFrom, hashTo, PageRequest.of(0, pageSize))
+                : scheduleRepository.findDailyReminderTargetsAfter(start, end, hashFrom, hashTo,
+                        checkpoint.getLastScheduleTime(), checkpoint.getLastScheduleId(), PageRequest.of(0, pageSize));
+        while (!page.isEmpty()) {
+            List<DailyReminderTargetDto> deliverable = page.stream()
+                    .filter(this::isDeliverable)
+                    .toList();
+            Set<LegacyReminder> suppressed = deliverable.isEmpty()
+                    ? Set.of()
+                    : alarmService.findSuppressedLegacyReminders(
+                            deliverable.stream().map(target -> toLegacyReminder(target, reminderTime)).toList());
+            List<PushMessage> pushMessages = deliverable.stream()
+                    .filter(target -> !suppressed.contains(toLegacyReminder(target, reminderTime)))
+                    .map(target -> toPushMessage(target, checkpoint.getMessage()))
+                    .toList();
+            if (!pushMessages.isEmpty()) {
+                pushDeliveryService.deliver(pushMessages);
+                sentCount += pushMessages.size();
+            }
+
+            DailyReminderTargetDto last = page.get(page.size() - 1);
+            checkpoint.advance(last.getScheduleTime(), last.getScheduleId(), pushMessages.size(), Instant.now());
+            checkpointRepository.save(checkpoint);
+            if (page.size() < pageSize) {
+                break;
+            }
+            page = scheduleRepository.findDailyReminderTargetsAfter(start, end, hashFrom, hashTo,
+                    last.getScheduleTime(), last.getScheduleId(), PageRequest.of(0, pageSize));
+        }
+        return sentCount;
+    }
+
+    // id 가 연속으로 늘어나도 슬롯이 고르게 섞이도록 곱셈 해시(Knuth)를 쓴다. id 가 약 34억을 넘으면 DB 쪽 곱셈이 넘친다.
+    static long userHash(long userId) {
+        return Math.floorMod(userId * HASH_MULTIPLIER, HASH_SPACE);
+    }
+
+    static long hashBound(int slot, int slotCount) {
+        return HASH_SPACE * slot / slotCount;
+    }
+
+    private void recordRun(long startedAt, String outcome, int sentCount) {
+        Timer.builder("ontime.reminder.daily.run")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        meterRegistry.counter("ontime.reminder.daily.sent").increment(sentCount);
+    }
+
+    private static TaskScheduler newSlotScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("daily-reminder-");
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    // 한 번의 일괄 발송. 슬롯 하나가 실패해도 나머지 슬롯은 보내고, 마지막 슬롯이 끝날 때 결과를 남긴다.
+    private final class DailyReminderRun {
+
+        private final DailyReminderCheckpoint checkpoint;
+        private final long startedAt;
+        private final AtomicInteger remainingSlots;
+        private final AtomicInteger sentCount = new AtomicInteger();
+        private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        private final CompletableFuture<Integer> result = new CompletableFuture<>();
+
+        private DailyReminderRun(DailyReminderCheckpoint checkpoint, long startedAt, int slots) {
+            this.checkpoint = checkpoint;
+            this.startedAt = startedAt;
+            this.remainingSlots = new AtomicInteger(slots);
+        }
+
+        private void sendSlot(int slot) {
+            try {
+                sentCount.addAndGet(DailyReminderService.this.sendSlot(checkpoint, slot));
+            } catch (RuntimeException e) {
+                log.error("약속 알림 슬롯 {} 발송 실패: {} ~ {}", slot, checkpoint.getRangeStart(), checkpoint.getRangeEnd(), e);
+                failure.compareAndSet(null, e);
+            } finally {
+                finishSlot();
+            }
+        }
+
+        private void finishSlot() {
+            try {
+                checkpoint.finishSlot(Instant.now());
+                checkpointRepository.save(checkpoint);
+            } catch (RuntimeException e) {
+                log.error("약속 알림 체크포인트 저장 실패: {}", checkpoint.getRunKey(), e);
+                failure.compareAndSet(null, e);
+            }
+            if (remainingSlots.decrementAndGet() == 0) {
+                complete();
+            }
+        }
+
+        private void complete() {
+            RuntimeException error = failure.get();
+            recordRun(startedAt, error == null ? "completed" : "failed", sentCount.get());
+            if (error != null) {
+                result.completeExceptionally(error);
+                return;
+            }
+            lastCompletedEpochSecond.set(Instant.now().getEpochSecond());
+            log.info("약속 알림 일괄 발송 완료: {} ~ {}, 발송 대상 {}건, 슬롯 {}개",
+                    checkpoint.getRangeStart(), checkpoint.getRangeEnd(), sentCount.get(), checkpoint.getSlotCount());
+            result.complete(sentCount.get());
+        }
+    }
+
+    private boolean isDeliverable(DailyReminderTargetDto target) {
+        return Boolean.TRUE.equals(target.getNotificationsEnabled())
+                && target.getFirebaseToken() != null
+                && !target.getFirebaseToken().isBlank();
+    }
+
+    private LegacyReminder toLegacyReminder(DailyReminderTargetDto target, LocalDateTime reminderTime) {
+        return new LegacyReminder(target.getUserId(), target.getScheduleId(), reminderTime);
+    }
+
+    private PushMessage toPushMessage(DailyReminderTargetDto target, String message) {
+        return PushMessage.scheduleReminder(
+                target.getFirebaseToken(), target.getUserName(), target.getScheduleName(), message,
+                target.getUserId(), target.getScheduleId(), target.getScheduleTime());
+    }
+}
@@ -0,0 +1,101 @@
+package devkor.ontime_back.service;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class FirebasePushTransport implements PushTransport {
+
+    private final Supplier<FirebaseMessaging> firebaseMessaging;
+
+    @Autowired
+    public FirebasePushTransport() {
+        this(FirebaseMessaging::getInstance);
+    }
+
+    FirebasePushTransport(Supplier<FirebaseMessaging> firebaseMessaging) {
+        this.firebaseMessaging = firebaseMessaging;
+    }
+
+    @Override
+    public List<PushSendResult> sendEach(List<PushMessage> messages) {
+        // 토큰이나 내용이 비어 만들 수 없는 메시지는 그 메시지만 실패로 두고 나머지는 그대로 보낸다.
+        PushSendResult[] results = new PushSendResult[messages.size()];
+        List<Integer> sendIndexes = new ArrayList<>(messages.size());
+        List<Message> firebaseMessages = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            PushMessage message = messages.get(i);
+            try {
+                firebaseMessages.add(toFirebaseMessage(message));
+                sendIndexes.add(i);
+            } catch (RuntimeException e) {
+                log.warn("FCM 메시지를 만들 수 없어 건너뜀: index={}, reason={}", i, e.getClass().getSimpleName());
+                results[i] = PushSendResult.failure(message.firebaseToken(), MessagingErrorCode.INVALID_ARGUMENT);
+            }
+        }
+        if (firebaseMessages.isEmpty()) {
+            return Arrays.asList(results);
+        }
+
+        FirebaseMessaging messaging;
+        try {
+            messaging = firebaseMessaging.get();
+        } catch (IllegalStateException e) {
+            // FirebaseApp 이 초기화되지 않은 환경(로컬, 테스트). 다시 보내도 같으므로 재시도 큐에 넣지 않도록 건너뛴 결과로 채운다.
+            log.warn("Firebase 가 초기화되지 않아 푸시를 보내지 않음: size={}", firebaseMessages.size());
+            for (int index : sendIndexes) {
+                results[index] = PushSendResult.skipped(messages.get(index).firebaseToken());
+            }
+            return Arrays.asList(results);
+        }
+
+        try {
+            BatchResponse batchResponse = messaging.sendEach(firebaseMessages);
+            List<SendResponse> responses = batchResponse.getResponses();
+            for (int i = 0; i < sendIndexes.size(); i++) {
+                int index = sendIndexes.get(i);
+                results[index] = toResult(messages.get(index), responses.get(i));
+            }
+        } catch (FirebaseMessagingException e) {
+            log.error("FCM 배치 전송 실패: size={}, errorCode={}", firebaseMessages.size(), e.getMessagingErrorCode(), e);
+            failAll(messages, sendIndexes, results, e.getMessagingErrorCode());
+        }
+        return Arrays.asList(results);
+    }
+
+    private Message toFirebaseMessage(PushMessage message) {
+        return Message.builder()
+                .putData("title", message.title())
+                .putData("content", message.content())
+                .setToken(message.firebaseToken())
+                .build();
+    }
+
+    private PushSendResult toResult(PushMessage message, SendResponse response) {
+        if (response.isSuccessful()) {
+            return PushSendResult.success(message.firebaseToken());
+        }
+        FirebaseMessagingException exception = response.getException();
+        return PushSendResult.failure(message.firebaseToken(), exception == null ? null : exception.getMessagingErrorCode());
+    }
+
+    private void failAll(List<PushMessage> messages, List<Integer> sendIndexes, PushSendResult[] results,
+                         MessagingErrorCode errorCode) {
+        for (int index : sendIndexes) {
+            results[index] = PushSendResult.batchFailure(messages.get(index).firebaseToken(), errorCode);
+        }
+    }
+}
@@ -1,27 +1,26 @@
 package devkor.ontime_back.service;
 
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.Message;
+import devkor.ontime_back.dto.PendingNotificationDto;
+import devkor.ontime_back.dto.ReminderDispatchTargetDto;
 import devkor.ontime_back.entity.NotificationSchedule;
-import devkor.ontime_back.entity.Schedule;
-import devkor.ontime_back.entity.User;
-import devkor.ontime_back.entity.UserSetting;
 import devkor.ontime_back.repository.NotificationScheduleRepository;
-import devkor.ontime_back.repository.UserSettingRepository;
+import devkor.ontime_back.scheduler.ReminderRescheduleCoalescer;
+import devkor.ontime_back.scheduler.ReminderTimingWheel;
+import devkor.ontime_back.service.PushTransport.PushMessage;
+import devkor.ontime_back.service.PushTransport.PushSendResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.TaskScheduler;
-import org.springframework.scheduling.annotation.Async;
-import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.Date;
+import java.util.Collection;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
 
 @Slf4j
 @Service
@@ -29,97 +28,114 @@ import java.util.concurrent.ScheduledFuture;
 @Transactional(readOnly = true)
 public class NotificationService {
 
-    private final UserSettingRepository userSettingRepository;
+    static final String PREPARATION_REMINDER_MESSAGE = "준비 시작해야 합니다.(현재 시각: 약속시각 - (여유시간 + 이동시간 + 총준비시간) )";
+
     private final AlarmService alarmService;
-    private final TaskScheduler taskScheduler;
     private final NotificationScheduleRepository notificationScheduleRepository;
-    private final ConcurrentHashMap<Long, ScheduledFuture<?>> scheduledTasks = new ConcurrentHashMap<>();
-
-    public void scheduleReminder(NotificationSchedule notificationSchedule) {
-        LocalDateTime reminderTime = notificationSchedule.getNotificationTime();
-
-        if (reminderTime.isBefore(LocalDateTime.now())) {
-            log.warn("약속 알림 시간이 과거인 경우 알림 스케줄링하지 않습니다. {} ({})", notificationSchedule.getSchedule().getScheduleName(), reminderTime);
-            return;
+    private final PushDeliveryService pushDeliveryService;
+    private final ReminderTimingWheel reminderTimingWheel;
+    private final ReminderRescheduleCoalescer reminderRescheduleCoalescer;
+    private final TransactionOperations transactionOperations;
+
+    // 구간 안의 미발송 알림 id/시각을 keyset 페이지로 읽어 타이밍 휠에 올리고, 올린 건수를 돌려준다.
+    // 임대는 여기서 잡지 않고 발송 시각에 claimNotification 으로 잡으므로 여러 인스턴스가 같은 구간을 올려도 된다.
+    public int loadPendingNotifications(LocalDateTime windowStart, LocalDateTime windowEnd, LocalDateTime now, int pageSize) {
+        int loadedCount = 0;
+        List<PendingNotificationDto> page = notificationScheduleRepository.findPendingNotifications(
+                windowStart, windowEnd, now, PageRequest.of(0, pageSize));
+        while (!page.isEmpty()) {
+            page.forEach(pending -> reminderTimingWheel.schedule(
+                    pending.getNotificationId(), toEpochSecond(pending.getNotificationTime())));
+            loadedCount += page.size();
+            if (page.size() < pageSize) {
+                break;
+            }
+            PendingNotificationDto last = page.get(page.size() - 1);
+            page = notificationScheduleRepository.findPendingNotificationsAfter(
+                    windowStart, windowEnd, now, last.getNotificationTime(), last.getNotificationId(), PageRequest.of(0, pageSize));
         }
+        return loadedCount;
+    }
 
-        ScheduledFuture<?> future = taskScheduler.schedule(
-                () -> sendReminder(notificationSchedule, "준비 시작해야 합니다.(현재 시각: 약속시각 - (여유시간 + 이동시간 + 총준비시간) )"),
-                Date.from(reminderTime.atZone(ZoneId.systemDefault()).toInstant())
-        );
+    // 발송 시각이 된 알림을 이 인스턴스 몫으로 임대한다. 다른 인스턴스가 먼저 가져갔거나 시각이 바뀌었으면 false.
+    @Transactional
+    public boolean claimNotification(Long notificationId, String leaseOwner, LocalDateTime windowStart,
+                                     LocalDateTime now, Duration leaseDuration) {
+        return notificationScheduleRepository.claimForDispatch(
+                notificationId, leaseOwner, now.plus(leaseDuration), windowStart, now) == 1;
+    }
 
-        scheduledTasks.put(notificationSchedule.getId(), future);
+    // 약속 수정으로 바뀐 발송 시각을 이 인스턴스의 타이밍 휠에 반영한다. 적재 구간 밖이면 다음 구간 적재 때 올라간다.
+    // 트랜잭션 안에서 같은 알림이 여러 번 바뀌면 커밋 때 마지막 시각만 반영된다.
+    public void scheduleNotification(Long notificationId, LocalDateTime notificationTime) {
+        reminderRescheduleCoalescer.reschedule(notificationId, toEpochSecond(notificationTime));
+    }
 
-        log.info("스케줄 등록 완료 {} ({})", notificationSchedule.getSchedule().getScheduleName(), reminderTime);
+    // inFlightIds 는 아직 발송 중일 수 있는 알림이므로 임대를 풀지 않고 만료되도록 둔다.
+    @Transactional
+    public int releaseLeases(String leaseOwner, Collection<Long> inFlightIds) {
+        if (inFlightIds.isEmpty()) {
+            return notificationScheduleRepository.releaseUndispatchedLeases(leaseOwner);
+        }
+        return notificationScheduleRepository.releaseUndispatchedLeasesExcept(leaseOwner, inFlightIds);
     }
 
     public void cancelScheduledNotification(Long notificationId) {
-        ScheduledFuture<?> future = scheduledTasks.get(notificationId);
-        if (future != null && !future.isCancelled()) {
-            future.cancel(true);
-            scheduledTasks.remove(notificationId);
-            log.info("스케줄 취소 완료: notificationId={}", notificationId);
-        }
+        reminderRescheduleCoalescer.cancel(notificationId);
     }
 
-    @Async
-    @Transactional
-    public void sendReminder(NotificationSchedule notificationSchedule, String message) {
-        Long userId = notificationSchedule.getSchedule().getUser().getId();
-
-        if (userId != null) {
-            UserSetting userSetting = userSettingRepository.findByUserId(userId)
-                    .orElseThrow(() -> new IllegalArgumentException("No UserSetting found in schedule's user"));
-            log.debug("사용자 알림 전송 설정 여부: " + userSetting.getIsNotificationsEnabled());
-
-            if (Boolean.TRUE.equals(userSetting.getIsNotificationsEnabled())) {
-                if (alarmService.shouldSuppressLegacyReminder(
-                        userId,
-                        notificationSchedule.getSchedule().getScheduleId(),
-                        notificationSchedule.getNotificationTime())) {
-                    log.info("현재 기기 로컬 알람 커버리지로 인해 레거시 푸시 알림을 생략합니다. scheduleId={}",
-                            notificationSchedule.getSchedule().getScheduleId());
-                    return;
-                }
-                sendNotificationToUser(notificationSchedule.getSchedule(), message);
-                notificationSchedule.changeStatusToSent();
-                notificationScheduleRepository.save(notificationSchedule);
-            }
+    // 발송은 AdaptivePushRateLimiter 대기와 FCM HTTP 호출을 포함하므로 트랜잭션 밖에서 한다.
+    // (1) 임대와 발송 내용을 projection 으로 짧게 읽고 (2) 연결 없이 보낸 뒤 (3) 짧은 트랜잭션에서 발송 결과를 남긴다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void dispatchReminder(Long notificationId, String leaseOwner) {
+        ReminderDispatchTargetDto target = notificationScheduleRepository.findDispatchTarget(notificationId).orElse(null);
+        if (target == null || !leaseOwner.equals(target.getLeaseOwner())) {
+            log.info("다른 인스턴스가 가져갔거나 삭제된 알림이므로 발송하지 않습니다. notificationId={}", notificationId);
+            return;
         }
-    }
 
-    public void sendReminder(List<Schedule> schedules, String message) {
-        for (Schedule schedule : schedules) {
-            User user = schedule.getUser();
-            Long userId = user.getId();
+        boolean sent = sendReminder(target, PREPARATION_REMINDER_MESSAGE);
+        transactionOperations.executeWithoutResult(status -> settleDispatch(notificationId, leaseOwner, sent));
+    }
 
-            if (userId != null) {
-                UserSetting userSetting = userSettingRepository.findByUserId(userId)
-                        .orElseThrow(() -> new IllegalArgumentException("No UserSetting found in schedule's user"));// Repository 메서드 가정
+    // 사용자가 알림을 켰고 기기 로컬 알람이 덮지 않는 경우에만 보낸다. 보냈으면 true.
+    boolean sendReminder(ReminderDispatchTargetDto target, String message) {
+        if (target.getNotificationsEnabled() == null) {
+            throw new IllegalArgumentException("No UserSetting found in schedule's user");
+        }
+        log.debug("사용자 알림 전송 설정 여부: " + target.getNotificationsEnabled());
+        if (!target.getNotificationsEnabled()) {
+            return false;
+        }
+        if (alarmService.shouldSuppressLegacyReminder(
+                target.getUserId(), target.getScheduleId(), target.getNotificationTime())) {
+            log.info("현재 기기 로컬 알람 커버리지로 인해 레거시 푸시 알림을 생략합니다. scheduleId={}", target.getScheduleId());
+            return false;
+        }
 
-                if (userSetting != null && userSetting.getIsNotificationsEnabled()) {
-                    sendNotificationToUser(schedule, message);
-                }
-            }
+        List<PushSendResult> results = pushDeliveryService.deliver(List.of(PushMessage.scheduleReminder(
+                target.getFirebaseToken(), target.getUserName(), target.getScheduleName(), message,
+                target.getUserId(), target.getScheduleId(), target.getScheduleTime())));
+        if (results.stream().allMatch(PushSendResult::successful)) {
+            log.info("Firebase에 성공적으로 push notification 요청을 보냈으며, Firebase로부터 적절한 응답을 받았습니다 \n알림 푸시한 약속:" + target.getScheduleName());
         }
+        return true;
     }
 
-    @Transactional
-    public void sendNotificationToUser(Schedule schedule, String message) {
-        User user = schedule.getUser();
-        String firebaseToken = user.getFirebaseToken();
-
-        Message firebaseMessage = Message.builder()
-                .putData("title", "약속 알림")
-                .putData("content", user.getName() + "님 " + message + "\n약속명: " + schedule.getScheduleName())
-                .setToken(firebaseToken)
-                .build();
-
-        try {
-            FirebaseMessaging.getInstance().send(firebaseMessage);
-            log.info("Firebase에 성공적으로 push notification 요청을 보냈으며, Firebase로부터 적절한 응답을 받았습니다 \n알림 푸시한 약속:" + schedule.getScheduleName());
-        } catch (Exception e) {
-            e.printStackTrace();
+    // 보내는 동안 임대가 만료되어 다른 인스턴스가 가져갔으면 그쪽 결과를 덮어쓰지 않는다.
+    private void settleDispatch(Long notificationId, String leaseOwner, boolean sent) {
+        NotificationSchedule notificationSchedule = notificationScheduleRepository.findById(notificationId).orElse(null);
+        if (notificationSchedule == null || !notificationSchedule.isLeasedBy(leaseOwner)) {
+            log.warn("발송하는 동안 임대를 잃은 알림입니다. notificationId={}", notificationId);
+            return;
         }
+        if (sent) {
+            notificationSchedule.changeStatusToSent();
+        }
+        notificationSchedule.markDispatched(LocalDateTime.now());
+    }
+
+    private static long toEpochSecond(LocalDateTime notificationTime) {
+        return notificationTime.atZone(ZoneId.systemDefault()).toEpochSecond();
     }
 }
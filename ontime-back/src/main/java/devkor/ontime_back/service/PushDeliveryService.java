@@ -0,0 +1,125 @@
+package devkor.ontime_back.service;
+
+import devkor.ontime_back.entity.PushDeliveryRetry;
+import devkor.ontime_back.service.PushTransport.PushMessage;
+import devkor.ontime_back.service.PushTransport.PushSendResult;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 대량 푸시를 sendEach 배치(최대 500건)로 나누고, 정해진 수의 배치만 동시에 보낸다.
+ * 결과는 입력 메시지 순서대로 토큰별로 돌려준다.
+ * <p>
+ * 배치마다 {@link AdaptivePushRateLimiter} 의 허가를 받은 뒤 보내므로, FCM 으로 나가 있는 메시지는
+ * 최대 maxConcurrentBatches x batchSize 건이다. 일시적인 실패는 {@link PushRetryQueue} 에 남겨 두었다가 다시 보내고,
+ * 더는 전달될 수 없는 등록은 {@link PushRegistrationPruner} 로 지운다.
+ */
+@Slf4j
+@Service
+public class PushDeliveryService {
+
+    private final PushTransport pushTransport;
+    private final AdaptivePushRateLimiter rateLimiter;
+    private final PushRetryQueue pushRetryQueue;
+    private final PushRegistrationPruner pushRegistrationPruner;
+    private final int batchSize;
+    private final ExecutorService batchExecutor;
+
+    public PushDeliveryService(
+            PushTransport pushTransport,
+            AdaptivePushRateLimiter rateLimiter,
+            PushRetryQueue pushRetryQueue,
+            PushRegistrationPruner pushRegistrationPruner,
+            @Value("${notification.push.batch-size:" + PushTransport.MAX_BATCH_SIZE + "}") int batchSize,
+            @Value("${notification.push.max-concurrent-batches:4}") int maxConcurrentBatches) {
+        this.pushTransport = pushTransport;
+        this.rateLimiter = rateLimiter;
+        this.pushRetryQueue = pushRetryQueue;
+        this.pushRegistrationPruner = pushRegistrationPruner;
+        this.batchSize = Math.min(Math.max(batchSize, 1), PushTransport.MAX_BATCH_SIZE);
+        this.batchExecutor = Executors.newFixedThreadPool(
+                Math.max(maxConcurrentBatches, 1),
+                new CustomizableThreadFactory("push-delivery-"));
+    }
+
+    public List<PushSendResult> deliver(List<PushMessage> messages) {
+        if (messages.isEmpty()) {
+            return List.of();
+        }
+
+        List<PushSendResult> results = sendInBatches(messages);
+        int queuedCount = pushRetryQueue.enqueueRetryable(messages, results);
+        int prunedCount = pushRegistrationPruner.pruneUnregistered(results);
+
+        long failedCount = results.stream().filter(result -> !result.successful()).count();
+        log.info("푸시 배치 전송 완료: total={}, batches={}, failed={}, queuedForRetry={}, pruned={}",
+                results.size(), batchCount(messages.size()), failedCount, queuedCount, prunedCount);
+        return results;
+    }
+
+    // 다시 보낼 시각이 된 재시도 행을 한 페이지씩 꺼내 보낸다. 꽉 찬 페이지가 나오는 동안 이어서 꺼낸다.
+    public int retryDueDeliveries() {
+        int retriedCount = 0;
+        List<PushDeliveryRetry> claimed;
+        do {
+            claimed = pushRetryQueue.claimDue(batchSize);
+            if (claimed.isEmpty()) {
+                break;
+            }
+            List<PushMessage> messages = claimed.stream()
+                    .map(retry -> new PushMessage(retry.getFirebaseToken(), retry.getTitle(), retry.getContent(),
+                            retry.getUserId(), retry.getScheduleId(), retry.getExpiresAt()))
+                    .toList();
+            List<PushSendResult> results = sendInBatches(messages);
+            pushRetryQueue.settle(claimed, results);
+            pushRegistrationPruner.pruneUnregistered(results);
+            retriedCount += claimed.size();
+        } while (claimed.size() == batchSize);
+
+        if (retriedCount > 0) {
+            log.info("푸시 재시도 전송 완료: retried={}", retriedCount);
+        }
+        return retriedCount;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        batchExecutor.shutdown();
+    }
+
+    private List<PushSendResult> sendInBatches(List<PushMessage> messages) {
+        List<CompletableFuture<List<PushSendResult>>> batches = new ArrayList<>();
+        for (int from = 0; from < messages.size(); from += batchSize) {
+            List<PushMessage> batch = messages.subList(from, Math.min(from + batchSize, messages.size()));
+            batches.add(CompletableFuture.supplyAsync(() -> sendBatch(batch), batchExecutor));
+        }
+
+        List<PushSendResult> results = new ArrayList<>(messages.size());
+        batches.forEach(batch -> results.addAll(batch.join()));
+        return results;
+    }
+
+    private List<PushSendResult> sendBatch(List<PushMessage> batch) {
+        rateLimiter.acquire(batch.size());
+        List<PushSendResult> results = pushTransport.sendEach(batch);
+        if (results.stream().anyMatch(PushSendResult::throttled)) {
+            rateLimiter.onThrottled();
+        } else {
+            rateLimiter.onSuccess();
+        }
+        return results;
+    }
+
+    private int batchCount(int messageCount) {
+        return (messageCount + batchSize - 1) / batchSize;
+    }
+}
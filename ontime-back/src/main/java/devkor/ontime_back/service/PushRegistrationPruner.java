@@ -0,0 +1,55 @@
+package devkor.ontime_back.service;
+
+import devkor.ontime_back.repository.UserDeviceRepository;
+import devkor.ontime_back.repository.UserRepository;
+import devkor.ontime_back.service.PushTransport.PushSendResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * FCM 이 UNREGISTERED/SENDER_ID_MISMATCH 로 응답한 등록 토큰을 User 와 UserDevice 에서 지운다.
+ * 지운 사용자는 다음 일괄 발송부터 대상에서 빠지므로, 전달될 수 없는 기기로 나가는 요청이 매일 반복되지 않는다.
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class PushRegistrationPruner {
+
+    private static final int PRUNE_CHUNK_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final UserDeviceRepository userDeviceRepository;
+    private final MeterRegistry meterRegistry;
+
+    // 반환값과 지표는 실제로 지운 User/UserDevice 행 수다. 이미 지워졌거나 어디에도 없는 토큰은 세지 않는다.
+    public int pruneUnregistered(List<PushSendResult> results) {
+        List<String> deadRegistrations = results.stream()
+                .filter(PushSendResult::unregistered)
+                .map(PushSendResult::firebaseToken)
+                .distinct()
+                .toList();
+        if (deadRegistrations.isEmpty()) {
+            return 0;
+        }
+
+        int clearedUsers = 0;
+        int clearedDevices = 0;
+        for (int from = 0; from < deadRegistrations.size(); from += PRUNE_CHUNK_SIZE) {
+            List<String> chunk = deadRegistrations.subList(from, Math.min(from + PRUNE_CHUNK_SIZE, deadRegistrations.size()));
+            clearedUsers += userRepository.clearFirebaseTokens(chunk);
+            clearedDevices += userDeviceRepository.clearFirebaseTokens(chunk);
+        }
+
+        int pruned = clearedUsers + clearedDevices;
+        meterRegistry.counter("ontime.push.registrations.pruned").increment(pruned);
+        log.info("전달 불가 FCM 등록 정리: registrations={}, users={}, devices={}",
+                deadRegistrations.size(), clearedUsers, clearedDevices);
+        return pruned;
+    }
+}
@@ -0,0 +1,164 @@
+package devkor.ontime_back.service;
+
+import devkor.ontime_back.entity.PushDeliveryRetry;
+import devkor.ontime_back.repository.PushDeliveryRetryRepository;
+import devkor.ontime_back.service.PushTransport.PushMessage;
+import devkor.ontime_back.service.PushTransport.PushSendResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 일시적으로 실패한 푸시를 push_delivery_retry 에 남겨 두고, 지수 백오프로 다시 보낼 시각을 정한다.
+ * 여러 인스턴스가 함께 꺼내도 SKIP LOCKED 로 잠근 뒤 claim-timeout 만큼 미뤄 두므로 같은 행을 동시에 보내지 않는다.
+ * <p>
+ * 행마다 ttl 과 약속 시각 중 이른 쪽을 만료 시각으로 두고, 꺼낼 때 만료됐거나 약속이 지워졌거나 지났거나
+ * 사용자가 알림을 끈 행은 보내지 않고 지운다. 다음 시도가 만료 시각을 넘기는 행도 더 미루지 않고 지운다.
+ */
+@Slf4j
+@Service
+@Transactional
+public class PushRetryQueue {
+
+    private final PushDeliveryRetryRepository pushDeliveryRetryRepository;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+    private final Duration claimTimeout;
+    private final Duration ttl;
+
+    public PushRetryQueue(
+            PushDeliveryRetryRepository pushDeliveryRetryRepository,
+            @Value("${notification.push.retry.initial-backoff-seconds:30}") long initialBackoffSeconds,
+            @Value("${notification.push.retry.max-backoff-seconds:3600}") long maxBackoffSeconds,
+            @Value("${notification.push.retry.max-attempts:6}") int maxAttempts,
+            @Value("${notification.push.retry.claim-timeout-seconds:120}") long claimTimeoutSeconds,
+            @Value("${notification.push.retry.ttl-seconds:21600}") long ttlSeconds) {
+        this.pushDeliveryRetryRepository = pushDeliveryRetryRepository;
+        this.initialBackoff = Duration.ofSeconds(initialBackoffSeconds);
+        this.maxBackoff = Duration.ofSeconds(maxBackoffSeconds);
+        this.maxAttempts = maxAttempts;
+        this.claimTimeout = Duration.ofSeconds(claimTimeoutSeconds);
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    // 첫 전송 결과 중 재시도할 만한 실패만 큐에 넣는다. 첫 재시도 전에 만료되는 메시지는 넣지 않는다.
+    public int enqueueRetryable(List<PushMessage> messages, List<PushSendResult> results) {
+        Instant now = Instant.now();
+        List<PushDeliveryRetry> retries = new ArrayList<>();
+        for (int i = 0; i < results.size(); i++) {
+            PushSendResult result = results.get(i);
+            if (!result.retryable()) {
+                continue;
+            }
+            PushMessage message = messages.get(i);
+            Instant expiresAt = expiresAt(message, now);
+            Instant nextAttemptAt = now.plus(backoff(1));
+            if (nextAttemptAt.isBefore(expiresAt)) {
+                retries.add(PushDeliveryRetry.create(message.firebaseToken(), message.title(), message.content(),
+                        message.userId(), message.scheduleId(), errorCodeName(result), nextAttemptAt, expiresAt));
+            }
+        }
+        if (!retries.isEmpty()) {
+            pushDeliveryRetryRepository.saveAll(retries);
+        }
+        return retries.size();
+    }
+
+    // 다시 보낼 시각이 된 행을 최대 limit 건 꺼내고, 결과를 기록할 때까지 다른 인스턴스가 가져가지 않도록 미뤄 둔다.
+    // 더 보낼 이유가 없어진 행은 돌려주지 않고 지운다.
+    public List<PushDeliveryRetry> claimDue(int limit) {
+        Instant now = Instant.now();
+        List<PushDeliveryRetry> due = pushDeliveryRetryRepository.findDueForUpdate(now, PageRequest.of(0, limit));
+        Set<Long> obsoleteIds = findObsoleteIds(due);
+
+        List<PushDeliveryRetry> claimed = new ArrayList<>();
+        List<PushDeliveryRetry> dropped = new ArrayList<>();
+        for (PushDeliveryRetry retry : due) {
+            if (retry.isExpiredAt(now) || obsoleteIds.contains(retry.getPushDeliveryRetryId())) {
+                dropped.add(retry);
+            } else {
+                retry.postpone(now.plus(claimTimeout));
+                claimed.add(retry);
+            }
+        }
+        if (!dropped.isEmpty()) {
+            pushDeliveryRetryRepository.deleteAllInBatch(dropped);
+            log.info("만료됐거나 대상이 사라진 푸시 재시도 삭제: dropped={}", dropped.size());
+        }
+        return claimed;
+    }
+
+    // 재전송 결과를 반영한다. 성공했거나 더는 재시도하지 않을 행은 지우고, 나머지는 다음 시도 시각을 늦춘다.
+    public void settle(List<PushDeliveryRetry> claimed, List<PushSendResult> results) {
+        Map<Long, PushDeliveryRetry> managed = pushDeliveryRetryRepository
+                .findAllById(claimed.stream().map(PushDeliveryRetry::getPushDeliveryRetryId).toList())
+                .stream()
+                .collect(Collectors.toMap(PushDeliveryRetry::getPushDeliveryRetryId, Function.identity()));
+
+        Instant now = Instant.now();
+        List<PushDeliveryRetry> finished = new ArrayList<>();
+        for (int i = 0; i < claimed.size(); i++) {
+            PushDeliveryRetry retry = managed.get(claimed.get(i).getPushDeliveryRetryId());
+            if (retry == null) {
+                continue;
+            }
+            PushSendResult result = results.get(i);
+            Instant nextAttemptAt = now.plus(backoff(retry.getAttempts() + 1));
+            if (result.retryable() && retry.getAttempts() < maxAttempts && nextAttemptAt.isBefore(retry.getExpiresAt())) {
+                retry.recordFailure(errorCodeName(result), nextAttemptAt);
+                continue;
+            }
+            if (!result.successful()) {
+                log.warn("푸시 재시도 포기: retryId={}, attempts={}, errorCode={}",
+                        retry.getPushDeliveryRetryId(), retry.getAttempts(), result.errorCode());
+            }
+            finished.add(retry);
+        }
+        if (!finished.isEmpty()) {
+            pushDeliveryRetryRepository.deleteAllInBatch(finished);
+        }
+    }
+
+    // attempt 번째 시도가 실패한 뒤의 대기 시간. 같은 순간에 실패한 행들이 한꺼번에 몰리지 않도록 최대 10% 흔든다.
+    Duration backoff(int attempt) {
+        long exponent = Math.min(attempt - 1, 30);
+        long baseMillis = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << exponent);
+        long jitterMillis = ThreadLocalRandom.current().nextLong(baseMillis / 10 + 1);
+        return Duration.ofMillis(baseMillis + jitterMillis);
+    }
+
+    private Instant expiresAt(PushMessage message, Instant now) {
+        Instant ttlExpiry = now.plus(ttl);
+        return message.expiresAt() != null && message.expiresAt().isBefore(ttlExpiry) ? message.expiresAt() : ttlExpiry;
+    }
+
+    private Set<Long> findObsoleteIds(List<PushDeliveryRetry> due) {
+        List<Long> checkedIds = due.stream()
+                .filter(retry -> retry.getScheduleId() != null || retry.getUserId() != null)
+                .map(PushDeliveryRetry::getPushDeliveryRetryId)
+                .toList();
+        if (checkedIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(pushDeliveryRetryRepository.findObsoleteIds(checkedIds, LocalDateTime.now()));
+    }
+
+    private static String errorCodeName(PushSendResult result) {
+        return result.errorCode() == null ? null : result.errorCode().name();
+    }
+}
@@ -0,0 +1,88 @@
+package devkor.ontime_back.service;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * FCM 으로 푸시를 보내는 구간. 실제 구현은 {@link FirebasePushTransport} 이며,
+ * 테스트와 벤치마크에서는 네트워크 없이 응답을 흉내 내는 구현으로 바꿔 끼운다.
+ */
+public interface PushTransport {
+
+    /**
+     * FCM sendEach 한 번에 보낼 수 있는 최대 메시지 수
+     */
+    int MAX_BATCH_SIZE = 500;
+
+    /**
+     * messages 순서와 같은 순서로 결과를 돌려준다. 호출 자체가 실패하면 모든 메시지를 {@link PushSendResult#batchFailure} 로 채운다.
+     */
+    List<PushSendResult> sendEach(List<PushMessage> messages);
+
+    /**
+     * @param userId     재시도 전에 알림 설정을 다시 확인할 사용자. null 이면 확인하지 않는다.
+     * @param scheduleId 재시도 전에 아직 남아 있고 지나지 않았는지 다시 확인할 약속. null 이면 확인하지 않는다.
+     * @param expiresAt  이 시각 이후에는 보내도 의미가 없어 재시도하지 않는다. null 이면 재시도 TTL 만 적용한다.
+     */
+    record PushMessage(String firebaseToken, String title, String content,
+                       Long userId, UUID scheduleId, Instant expiresAt) {
+
+        public PushMessage(String firebaseToken, String title, String content) {
+            this(firebaseToken, title, content, null, null, null);
+        }
+
+        // 약속 시각이 지나면 더 보낼 이유가 없으므로 그 시각을 만료 시각으로 둔다.
+        public static PushMessage scheduleReminder(String firebaseToken, String userName, String scheduleName, String message,
+                                                   Long userId, UUID scheduleId, LocalDateTime scheduleTime) {
+            return new PushMessage(firebaseToken, "약속 알림", userName + "님 " + message + "\n약속명: " + scheduleName,
+                    userId, scheduleId, scheduleTime == null ? null : scheduleTime.atZone(ZoneId.systemDefault()).toInstant());
+        }
+    }
+
+    /**
+     * @param batchFailure sendEach 호출 자체가 실패해 메시지마다 같은 오류를 채운 결과. 토큰별 응답이 아니므로 토큰 정리에 쓰지 않는다.
+     * @param skipped      푸시를 보낼 수 없는 환경(Firebase 미설정)이라 보내지 않은 결과. 다시 보내도 같으므로 재시도하지 않는다.
+     */
+    record PushSendResult(String firebaseToken, boolean successful, MessagingErrorCode errorCode, boolean batchFailure,
+                          boolean skipped) {
+
+        public static PushSendResult success(String firebaseToken) {
+            return new PushSendResult(firebaseToken, true, null, false, false);
+        }
+
+        public static PushSendResult failure(String firebaseToken, MessagingErrorCode errorCode) {
+            return new PushSendResult(firebaseToken, false, errorCode, false, false);
+        }
+
+        public static PushSendResult batchFailure(String firebaseToken, MessagingErrorCode errorCode) {
+            return new PushSendResult(firebaseToken, false, errorCode, true, false);
+        }
+
+        public static PushSendResult skipped(String firebaseToken) {
+            return new PushSendResult(firebaseToken, false, null, true, true);
+        }
+
+        // FCM 이 전송 속도를 낮추라고 응답한 경우
+        public boolean throttled() {
+            return errorCode == MessagingErrorCode.QUOTA_EXCEEDED || errorCode == MessagingErrorCode.UNAVAILABLE;
+        }
+
+        // 앱 삭제, 토큰 만료 등으로 이 등록 토큰에는 다시 보내도 전달되지 않는 경우.
+        // INVALID_ARGUMENT 는 페이로드가 잘못돼도 오므로 토큰이 죽었다는 근거로 쓰지 않는다.
+        public boolean unregistered() {
+            return !batchFailure
+                    && (errorCode == MessagingErrorCode.UNREGISTERED || errorCode == MessagingErrorCode.SENDER_ID_MISMATCH);
+        }
+
+        // 같은 메시지를 나중에 다시 보내면 성공할 수 있는 실패. 토큰 자체가 잘못됐거나 보내지 않은 경우는 재시도하지 않는다.
+        public boolean retryable() {
+            return !successful && !skipped
+                    && (errorCode == null || throttled() || errorCode == MessagingErrorCode.INTERNAL);
+        }
+    }
+}
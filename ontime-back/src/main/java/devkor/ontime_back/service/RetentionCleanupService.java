@@ -1,14 +1,17 @@
 package devkor.ontime_back.service;
 
-import devkor.ontime_back.repository.AccountDeletionFeedbackRepository;
-import devkor.ontime_back.repository.ApiLogRepository;
+import devkor.ontime_back.logging.ApiLogPartitionManager;
+import devkor.ontime_back.service.ChunkedPurger.PurgeKeyType;
+import devkor.ontime_back.service.ChunkedPurger.PurgeResult;
+import devkor.ontime_back.service.ChunkedPurger.PurgeTarget;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -18,28 +21,49 @@ public class RetentionCleanupService {
     private static final int ACCOUNT_DELETION_FEEDBACK_RETENTION_YEARS = 1;
     private static final int API_LOG_RETENTION_DAYS = 90;
 
-    private final AccountDeletionFeedbackRepository accountDeletionFeedbackRepository;
-    private final ApiLogRepository apiLogRepository;
+    private static final PurgeTarget ACCOUNT_DELETION_FEEDBACK =
+            new PurgeTarget("account_deletion_feedback", "feedback_id", "created_at", PurgeKeyType.BINARY);
+    private static final PurgeTarget API_LOG =
+            new PurgeTarget("api_log", "api_log_id", "created_at", PurgeKeyType.NUMBER);
+
+    private final ApiLogPartitionManager apiLogPartitionManager;
+    private final ChunkedPurger chunkedPurger;
 
     @Scheduled(cron = "0 30 3 * * *")
     public void cleanupExpiredRetentionData() {
         cleanupExpiredRetentionData(LocalDateTime.now());
     }
 
-    @Transactional
+    // 파티션 DDL 은 MySQL 에서 트랜잭션을 암묵적으로 커밋하므로 이 메서드는 트랜잭션으로 묶지 않는다.
+    // 행 삭제는 ChunkedPurger 가 청크마다 따로 커밋하고, 두 테이블이 max-runtime 하나를 나눠 쓴다.
     public RetentionCleanupResult cleanupExpiredRetentionData(LocalDateTime now) {
         LocalDateTime accountDeletionFeedbackCutoff = now.minusYears(ACCOUNT_DELETION_FEEDBACK_RETENTION_YEARS);
         LocalDateTime apiLogCutoff = now.minusDays(API_LOG_RETENTION_DAYS);
 
-        long deletedAccountDeletionFeedback = accountDeletionFeedbackRepository.deleteByCreatedAtBefore(accountDeletionFeedbackCutoff);
-        long deletedApiLogs = apiLogRepository.deleteByCreatedAtBefore(apiLogCutoff);
+        long deadline = chunkedPurger.deadlineFromNow();
+
+        PurgeResult accountDeletionFeedback = chunkedPurger.purge(ACCOUNT_DELETION_FEEDBACK, accountDeletionFeedbackCutoff, deadline);
+        List<String> droppedApiLogPartitions = dropExpiredApiLogPartitions(apiLogCutoff);
+        // 남는 건 cutoff 가 걸친 하루치 파티션(또는 파티션이 없는 DB)의 오래된 행뿐이다.
+        PurgeResult apiLogs = chunkedPurger.purge(API_LOG, apiLogCutoff, deadline);
 
-        log.info("Retention cleanup completed. deletedAccountDeletionFeedback: {}, deletedApiLogs: {}",
-                deletedAccountDeletionFeedback, deletedApiLogs);
+        log.info("Retention cleanup completed. deletedAccountDeletionFeedback: {}, droppedApiLogPartitions: {}, deletedApiLogs: {}, completed: {}",
+                accountDeletionFeedback.deletedRows(), droppedApiLogPartitions, apiLogs.deletedRows(),
+                accountDeletionFeedback.completed() && apiLogs.completed());
+
+        return new RetentionCleanupResult(accountDeletionFeedback.deletedRows(), droppedApiLogPartitions.size(), apiLogs.deletedRows());
+    }
 
-        return new RetentionCleanupResult(deletedAccountDeletionFeedback, deletedApiLogs);
+    private List<String> dropExpiredApiLogPartitions(LocalDateTime cutoff) {
+        try {
+            return apiLogPartitionManager.dropPartitionsBefore(cutoff);
+        } catch (DataAccessException e) {
+            // 파티션을 못 지워도 아래 DELETE 가 오래된 행을 지운다.
+            log.warn("api_log 파티션 삭제 실패", e);
+            return List.of();
+        }
     }
 
-    public record RetentionCleanupResult(long deletedAccountDeletionFeedback, long deletedApiLogs) {
+    public record RetentionCleanupResult(long deletedAccountDeletionFeedback, int droppedApiLogPartitions, long deletedApiLogs) {
     }
 }
@@ -152,11 +152,10 @@ public class ScheduleService {
     public void updateAndRescheduleNotification(LocalDateTime newNotificationTime, NotificationSchedule notification) {
         if(newNotificationTime.equals(notification.getNotificationTime())) return;
 
-        notificationService.cancelScheduledNotification(notification.getId());
         notification.updateNotificationTime(newNotificationTime);
         notification.markAsUnsent();
         notificationScheduleRepository.save(notification);
-        notificationService.scheduleReminder(notification);
+        notificationService.scheduleNotification(notification.getId(), newNotificationTime);
         log.info("{}에 대한 알림정보 업데이트되고 스케줄링 계획도 리스케줄됨", notification.getSchedule().getScheduleName());
     }
 
@@ -187,8 +186,7 @@ public class ScheduleService {
                 .schedule(schedule)
                 .build();
         notificationScheduleRepository.save(notification);
-
-        notificationService.scheduleReminder(notification);
+        notificationService.scheduleNotification(notification.getId(), notificationTime);
     }
 
     @Transactional
@@ -568,10 +566,9 @@ public class ScheduleService {
         LocalDateTime newNotificationTime = getNotificationTime(schedule, schedule.getUser());
         NotificationSchedule notification = resolveNotificationForRefresh(schedule, newNotificationTime);
         if (newNotificationTime.equals(notification.getNotificationTime())) {
-            notificationService.cancelScheduledNotification(notification.getId());
             notification.markAsUnsent();
             notificationScheduleRepository.save(notification);
-            notificationService.scheduleReminder(notification);
+            notificationService.scheduleNotification(notification.getId(), newNotificationTime);
             return;
         }
         updateAndRescheduleNotification(newNotificationTime, notification);
@@ -11,6 +11,8 @@ import devkor.ontime_back.entity.User;
 import devkor.ontime_back.entity.UserAlarmSetting;
 import devkor.ontime_back.entity.UserSetting;
 import devkor.ontime_back.repository.AccountDeletionFeedbackRepository;
+import devkor.ontime_back.global.jwt.AuthenticatedPrincipalCache;
+import devkor.ontime_back.global.jwt.AuthenticatedPrincipalCache.AuthenticatedPrincipal;
 import devkor.ontime_back.global.jwt.JwtTokenProvider;
 import devkor.ontime_back.repository.UserAlarmSettingRepository;
 import devkor.ontime_back.repository.UserRepository;
@@ -47,11 +49,16 @@ public class UserAuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthTokenService authTokenService;
+    private final AuthenticatedPrincipalCache authenticatedPrincipalCache;
 
     // 엑세스토큰에서 UserId 추출
     public Long getUserIdFromToken(HttpServletRequest request) {
         String accessToken = getAccessTokenFromRequest(request);
-        return jwtTokenProvider.extractUserId(accessToken).orElseThrow(() -> new RuntimeException("User ID not found in token"));
+        // JwtAuthenticationFilter 가 이미 검증해 캐시한 토큰이면 다시 디코딩하지 않는다.
+        return authenticatedPrincipalCache.get(accessToken)
+                .map(AuthenticatedPrincipal::userId)
+                .or(() -> jwtTokenProvider.extractUserId(accessToken))
+                .orElseThrow(() -> new RuntimeException("User ID not found in token"));
     }
 
     public String getAccessTokenFromRequest(HttpServletRequest request) {
@@ -128,7 +135,6 @@ public class UserAuthService {
 
     private void createAndSendTokens(HttpServletResponse response, User user) {
         authTokenService.issueLoginTokens(user, response);
-        userRepository.saveAndFlush(user);
     }
 
     @Transactional
@@ -176,6 +182,7 @@ public class UserAuthService {
 
         saveAccountDeletionFeedback(user, feedbackAddDto);
         userRepository.delete(user);
+        authenticatedPrincipalCache.invalidateUser(userId);
 
         return userId;
     }
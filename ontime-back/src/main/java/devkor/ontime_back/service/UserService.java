@@ -4,6 +4,7 @@ import devkor.ontime_back.dto.UpdateSpareTimeDto;
 import devkor.ontime_back.dto.UserOnboardingDto;
 import devkor.ontime_back.entity.DoneStatus;
 import devkor.ontime_back.entity.User;
+import devkor.ontime_back.global.jwt.AuthenticatedPrincipalCache;
 import devkor.ontime_back.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -17,6 +18,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final UserAuthService userAuthService;
     private final PreparationUserService preparationUserService;
+    private final AuthenticatedPrincipalCache authenticatedPrincipalCache;
 
     // 성실도 점수 반환
     public Float getPunctualityScore(Long userId) {
@@ -93,6 +95,8 @@ public class UserService {
         preparationUserService.setFirstPreparationUser(userId, userOnboardingDto.getPreparationList());
         user.authorizeUser();
         userRepository.save(user);
+        // GUEST 권한으로 캐시된 인증 정보를 지워 다음 요청부터 USER 권한이 반영되게 한다.
+        authenticatedPrincipalCache.invalidateUser(userId);
     }
 
     public User getUserInfo(Long userId) {
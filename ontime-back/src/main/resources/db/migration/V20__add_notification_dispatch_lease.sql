@@ -0,0 +1,12 @@
+ALTER TABLE notification_schedule
+    ADD COLUMN lease_owner VARCHAR(64) NULL,
+    ADD COLUMN lease_expires_at TIMESTAMP NULL,
+    ADD COLUMN dispatched_at TIMESTAMP NULL;
+
+-- 배포 이전에 이미 지난 알림은 디스패처가 다시 집어가지 않도록 처리 완료로 기록
+UPDATE notification_schedule
+SET dispatched_at = notification_time
+WHERE notification_time < CURRENT_TIMESTAMP;
+
+CREATE INDEX idx_notification_schedule_due
+    ON notification_schedule (is_sent, notification_time);
@@ -0,0 +1,12 @@
+CREATE TABLE push_delivery_retry (
+    push_delivery_retry_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    firebase_token VARCHAR(255) NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    content VARCHAR(1000) NOT NULL,
+    attempts INT NOT NULL,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error_code VARCHAR(40),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_push_delivery_retry_next_attempt ON push_delivery_retry(next_attempt_at);
@@ -0,0 +1,4 @@
+-- 요청마다 LONGTEXT access_token 전체를 비교하지 않도록, 현재 Active Session 의 엑세스 토큰 jti 만 따로 둔다.
+-- 기존 세션은 NULL 로 남겨 두고, 다음 요청에서 access_token 비교를 한 번 거친 뒤 채운다.
+ALTER TABLE `user`
+    ADD COLUMN `active_session_id` VARCHAR(36) NULL;
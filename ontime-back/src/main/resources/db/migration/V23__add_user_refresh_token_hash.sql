@@ -0,0 +1,12 @@
+-- 리프레시 토큰은 SHA-256 다이제스트(32바이트)로 찾는다. 768자 문자열 unique 인덱스는 더 쓰지 않으므로 지운다.
+ALTER TABLE user_refresh_token
+    ADD COLUMN refresh_token_hash BINARY(32) NULL;
+
+UPDATE user_refresh_token
+SET refresh_token_hash = UNHEX(SHA2(refresh_token, 256))
+WHERE refresh_token_hash IS NULL;
+
+ALTER TABLE user_refresh_token
+    MODIFY COLUMN refresh_token_hash BINARY(32) NOT NULL,
+    ADD CONSTRAINT uk_user_refresh_token_hash UNIQUE (refresh_token_hash),
+    DROP INDEX uk_user_refresh_token_token;
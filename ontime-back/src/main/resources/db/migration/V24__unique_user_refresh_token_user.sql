@@ -0,0 +1,14 @@
+-- 로그인 토큰 발급을 user_id 기준 upsert 한 번으로 하기 위해 리프레시 토큰을 유저당 한 행으로 맞춘다.
+-- 로그인마다 이전 행을 지우고 새로 넣어 왔으므로, 남아 있는 중복은 가장 최근 행만 남긴다.
+DELETE older
+FROM user_refresh_token older
+JOIN user_refresh_token newer
+    ON newer.user_id = older.user_id
+    AND newer.user_refresh_token_id > older.user_refresh_token_id;
+
+ALTER TABLE user_refresh_token
+    ADD CONSTRAINT uk_user_refresh_token_user UNIQUE (user_id);
+
+-- user_id 외래 키는 이제 unique 인덱스를 쓰므로 따로 둔 인덱스는 지운다.
+ALTER TABLE user_refresh_token
+    DROP INDEX idx_user_refresh_token_user;
@@ -0,0 +1,44 @@
+-- api_log 를 created_at 의 일 단위 RANGE 파티션으로 나눈다.
+-- 보관 기간이 지난 로그는 큰 DELETE 대신 DROP PARTITION 으로 지운다(ApiLogPartitionManager).
+-- 파티션 키는 모든 unique 키에 들어가야 하므로 PK 를 (api_log_id, created_at) 으로 바꾼다.
+--
+-- 기존 테이블에 ALTER ... PARTITION BY 를 걸면 전체를 복사하는 동안 쓰기가 막히므로,
+-- 빈 파티션 테이블을 만들어 RENAME TABLE 로 한 번에 바꿔 끼우고 예전 행은 api_log_unpartitioned 에 남긴다.
+-- 예전 행은 애플리케이션이 청크 단위로 새 테이블에 옮기고 다 옮기면 예전 테이블을 지운다(ApiLogHistoryBackfill).
+-- 이 마이그레이션이 잡는 잠금은 RENAME 의 짧은 메타데이터 잠금뿐이다.
+CREATE TABLE api_log_partitioned (
+    api_log_id BIGINT NOT NULL AUTO_INCREMENT,
+    request_url VARCHAR(255),
+    request_method VARCHAR(255),
+    user_id VARCHAR(255),
+    client_ip VARCHAR(255),
+    response_status INT,
+    taken_time BIGINT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (api_log_id, created_at)
+);
+
+-- 옮겨 올 예전 행과 id 가 겹치지 않도록 새 테이블의 id 는 예전 테이블 다음부터 시작한다.
+SET @api_log_next_id_sql = CONCAT(
+    'ALTER TABLE api_log_partitioned AUTO_INCREMENT = ',
+    (SELECT COALESCE(MAX(api_log_id), 0) + 1 FROM api_log)
+);
+
+PREPARE api_log_next_id_statement FROM @api_log_next_id_sql;
+EXECUTE api_log_next_id_statement;
+DEALLOCATE PREPARE api_log_next_id_statement;
+
+-- 예전 로그가 들어갈 p_history 하나를 두고, 그 뒤 날짜의 파티션은 애플리케이션이 p_future 에서 떼어 만든다.
+-- p_history 는 모든 행이 보관 기간을 넘기면 통째로 지워진다.
+SET @partition_api_log_sql = CONCAT(
+    'ALTER TABLE api_log_partitioned PARTITION BY RANGE (UNIX_TIMESTAMP(created_at)) (',
+    'PARTITION p_history VALUES LESS THAN (', UNIX_TIMESTAMP(CURDATE() + INTERVAL 1 DAY), '), ',
+    'PARTITION p_future VALUES LESS THAN MAXVALUE)'
+);
+
+PREPARE partition_api_log_statement FROM @partition_api_log_sql;
+EXECUTE partition_api_log_statement;
+DEALLOCATE PREPARE partition_api_log_statement;
+
+RENAME TABLE api_log TO api_log_unpartitioned,
+             api_log_partitioned TO api_log;
@@ -0,0 +1,10 @@
+-- 보관 기간 정리를 PK 구간 단위로 나눠 지우면서 테이블별로 어디까지 지웠는지 남긴다.
+CREATE TABLE retention_purge_checkpoint (
+    table_name VARCHAR(64) PRIMARY KEY,
+    last_key VARCHAR(64),
+    deleted_rows BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+-- 정리 쿼리가 created_at 으로 만료된 행만 찾도록 인덱스를 둔다(파티션별 로컬 인덱스).
+CREATE INDEX idx_api_log_created_at ON api_log (created_at);
@@ -0,0 +1,5 @@
+-- FCM 이 전달 불가로 응답한 등록 토큰을 지우는 UPDATE ... WHERE firebase_token IN (...) 가 풀 스캔하지 않도록 한다.
+CREATE INDEX idx_user_firebase_token ON `user` (firebase_token);
+
+-- user_device.firebase_token 은 TEXT 라 앞부분 인덱스만 걸 수 있다. FCM 토큰은 이 길이 안에서 구분된다.
+CREATE INDEX idx_user_device_firebase_token ON user_device (firebase_token(255));
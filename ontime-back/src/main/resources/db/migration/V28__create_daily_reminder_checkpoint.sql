@@ -0,0 +1,15 @@
+-- 아침/저녁 약속 알림을 슬롯으로 나눠 보내는 동안 어디까지 보냈는지 남겨, 재시작해도 남은 슬롯을 이어 보낸다.
+CREATE TABLE daily_reminder_checkpoint (
+    run_key VARCHAR(32) PRIMARY KEY,
+    range_start TIMESTAMP(6) NOT NULL,
+    range_end TIMESTAMP(6) NOT NULL,
+    message VARCHAR(255) NOT NULL,
+    window_start TIMESTAMP NOT NULL,
+    slot_count INT NOT NULL,
+    next_slot INT NOT NULL,
+    last_schedule_time TIMESTAMP,
+    last_schedule_id BINARY(16),
+    sent_count INT NOT NULL,
+    completed BOOLEAN NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
@@ -0,0 +1,8 @@
+-- 리프레시 토큰 원문은 더 쓰지 않는다. 조회와 upsert 는 refresh_token_hash 만 쓴다.
+-- 원문 컬럼을 NULL 허용으로 바꾸고 남아 있는 원문은 바로 지운다. 컬럼 자체는 V30 에서 지운다.
+ALTER TABLE user_refresh_token
+    MODIFY COLUMN refresh_token VARCHAR(768) NULL;
+
+UPDATE user_refresh_token
+SET refresh_token = NULL
+WHERE refresh_token IS NOT NULL;
@@ -0,0 +1,3 @@
+-- V29 에서 비운 리프레시 토큰 원문 컬럼을 지운다.
+ALTER TABLE user_refresh_token
+    DROP COLUMN refresh_token;
@@ -0,0 +1,11 @@
+-- 알림 억제 판단에서 기기 세션 토큰과 user.access_token(LONGTEXT)을 비교하지 않도록, 기기에도 바인딩한 토큰의 jti 를 둔다.
+ALTER TABLE user_device
+    ADD COLUMN session_id VARCHAR(36) NULL;
+
+-- 이미 현재 세션에 바인딩된 기기는 마이그레이션에서 한 번만 토큰을 비교해 채운다.
+-- active_session_id 가 아직 없는 예전 세션의 기기는 다음 기기 등록 때 채워진다.
+UPDATE user_device d
+JOIN `user` u ON u.user_id = d.user_id
+SET d.session_id = u.active_session_id
+WHERE u.active_session_id IS NOT NULL
+  AND d.session_access_token = u.access_token;
@@ -0,0 +1,14 @@
+-- 재시도 행마다 다시 확인할 사용자/약속과 만료 시각을 둔다.
+-- 꺼낼 때 만료됐거나 약속이 지워졌거나 지났거나 사용자가 알림을 끈 행은 보내지 않고 지운다(PushRetryQueue).
+ALTER TABLE push_delivery_retry
+    ADD COLUMN user_id BIGINT NULL,
+    ADD COLUMN schedule_id BINARY(16) NULL,
+    ADD COLUMN expires_at TIMESTAMP NULL;
+
+-- 이미 쌓인 행은 대상을 모르므로 기본 TTL(6시간)만 적용한다.
+UPDATE push_delivery_retry
+SET expires_at = created_at + INTERVAL 6 HOUR
+WHERE expires_at IS NULL;
+
+ALTER TABLE push_delivery_retry
+    MODIFY COLUMN expires_at TIMESTAMP NOT NULL;
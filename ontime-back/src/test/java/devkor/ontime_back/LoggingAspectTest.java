@@ -2,9 +2,13 @@ package devkor.ontime_back;
 
 import devkor.ontime_back.entity.ApiLog;
 import devkor.ontime_back.logging.RequestLogPolicy;
+import devkor.ontime_back.logging.RequestLogSampler;
+import devkor.ontime_back.logging.RouteLatencyMetrics;
 import devkor.ontime_back.response.ErrorCode;
 import devkor.ontime_back.response.GeneralException;
 import devkor.ontime_back.service.ApiLogService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,23 +22,29 @@ import org.springframework.security.authentication.TestingAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class LoggingAspectTest {
 
     private ApiLogService apiLogService;
+    private SimpleMeterRegistry meterRegistry;
     private LoggingAspect loggingAspect;
     private MockHttpServletResponse response;
 
     @BeforeEach
     void setUp() {
         apiLogService = mock(ApiLogService.class);
-        loggingAspect = new LoggingAspect(apiLogService);
+        meterRegistry = new SimpleMeterRegistry();
+        loggingAspect = new LoggingAspect(apiLogService, new RouteLatencyMetrics(meterRegistry),
+                new RequestLogSampler(meterRegistry, 1.0, 1000, ""));
         response = new MockHttpServletResponse();
         TestingAuthenticationToken authentication = new TestingAuthenticationToken("user-7", null);
         authentication.setAuthenticated(true);
@@ -100,5 +110,63 @@ class LoggingAspectTest {
         ArgumentCaptor<ApiLog> captor = ArgumentCaptor.forClass(ApiLog.class);
         verify(apiLogService).saveLog(captor.capture());
         assertThat(captor.getValue().getResponseStatus()).isEqualTo(500);
+        Timer timer = meterRegistry.get("ontime.api.latency")
+                .tags("route", "UNKNOWN", "method", "GET", "status", "500")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void logRequestRecordsLatencyByRouteTemplate() throws Throwable {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/schedules/42");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/schedules/{scheduleId}");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.proceed()).thenReturn(ResponseEntity.ok("ok"));
+
+        loggingAspect.logRequest(joinPoint);
+        loggingAspect.logRequest(joinPoint);
+
+        Timer timer = meterRegistry.get("ontime.api.latency")
+                .tags("route", "/schedules/{scheduleId}", "method", "GET", "status", "200")
+                .timer();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(meterRegistry.find("ontime.api.latency").tag("route", "/schedules/42").timer()).isNull();
+    }
+
+    @Test
+    void logRequestSkipsApiLogForSampledOutFastSuccessButKeepsLatencyMetric() throws Throwable {
+        loggingAspect = new LoggingAspect(apiLogService, new RouteLatencyMetrics(meterRegistry),
+                new RequestLogSampler(meterRegistry, 0.0, 1000, ""));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/schedules/42");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/schedules/{scheduleId}");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.proceed()).thenReturn(ResponseEntity.ok("ok"));
+
+        Object result = loggingAspect.logRequest(joinPoint);
+
+        assertThat(result).isInstanceOf(ResponseEntity.class);
+        verify(apiLogService, never()).saveLog(any());
+        assertThat(meterRegistry.get("ontime.request-log.sampled-out").tag("route", "/schedules/{scheduleId}").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("ontime.api.latency").tag("route", "/schedules/{scheduleId}").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void logRequestKeepsErrorsEvenWhenFastSuccessesAreSampledOut() throws Throwable {
+        loggingAspect = new LoggingAspect(apiLogService, new RouteLatencyMetrics(meterRegistry),
+                new RequestLogSampler(meterRegistry, 0.0, 1000, ""));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/me");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.proceed()).thenReturn(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+
+        loggingAspect.logRequest(joinPoint);
+
+        ArgumentCaptor<ApiLog> captor = ArgumentCaptor.forClass(ApiLog.class);
+        verify(apiLogService).saveLog(captor.capture());
+        assertThat(captor.getValue().getResponseStatus()).isEqualTo(404);
     }
 }
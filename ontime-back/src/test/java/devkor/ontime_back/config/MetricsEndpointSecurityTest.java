@@ -0,0 +1,55 @@
+package devkor.ontime_back.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "management.endpoints.web.exposure.include=health,prometheus",
+        "management.endpoint.health.probes.enabled=true",
+        "security.metrics.scrape-username=scraper",
+        "security.metrics.scrape-password=scrape-test-password"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsEndpointSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @DisplayName("지표 엔드포인트는 수집 계정 없이 열리지 않는다")
+    @Test
+    void prometheusRejectsAnonymousRequest() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @DisplayName("지표 엔드포인트는 비밀번호가 틀리면 거절한다")
+    @Test
+    void prometheusRejectsWrongPassword() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("scraper", "wrong")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @DisplayName("수집 계정으로는 지표를 읽는다")
+    @Test
+    void prometheusAllowsScrapeAccount() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("scraper", "scrape-test-password")))
+                .andExpect(status().isOk());
+    }
+
+    @DisplayName("헬스 체크는 계속 인증 없이 열린다")
+    @Test
+    void healthStaysPublic() throws Exception {
+        mockMvc.perform(get("/actuator/health/liveness"))
+                .andExpect(status().isOk());
+    }
+}
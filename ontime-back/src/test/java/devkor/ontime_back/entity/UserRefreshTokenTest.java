@@ -0,0 +1,27 @@
+package devkor.ontime_back.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserRefreshTokenTest {
+
+    @Test
+    void hashMatchesMysqlSha2Backfill() {
+        // SELECT SHA2('abc', 256)
+        assertThat(HexFormat.of().formatHex(UserRefreshToken.hash("abc")))
+                .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+    }
+
+    @Test
+    void createAndRotateStoreOnlyTheDigest() {
+        UserRefreshToken token = UserRefreshToken.create(User.builder().id(1L).build(), "refresh-a");
+        assertThat(token.getRefreshTokenHash()).hasSize(32).isEqualTo(UserRefreshToken.hash("refresh-a"));
+
+        token.rotate("refresh-b");
+
+        assertThat(token.getRefreshTokenHash()).isEqualTo(UserRefreshToken.hash("refresh-b"));
+    }
+}
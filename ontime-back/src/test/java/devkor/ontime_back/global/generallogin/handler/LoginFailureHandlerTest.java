@@ -1,5 +1,6 @@
 package devkor.ontime_back.global.generallogin.handler;
 
+import devkor.ontime_back.global.generallogin.service.LoginCapacityExceededException;
 import org.junit.jupiter.api.Test;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
@@ -24,4 +25,20 @@ class LoginFailureHandlerTest {
         assertThat(response.getContentType()).isEqualTo("text/plain;charset=UTF-8");
         assertThat(response.getContentAsString()).isEqualTo("로그인 실패! 이메일이나 비밀번호를 확인해주세요.");
     }
+
+    @Test
+    void loginCapacityExceededReturnsServiceUnavailableWithRetryAfter() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new LoginFailureHandler().onAuthenticationFailure(
+                new MockHttpServletRequest(),
+                response,
+                new LoginCapacityExceededException()
+        );
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(response.getContentType()).isEqualTo("text/plain;charset=UTF-8");
+        assertThat(response.getContentAsString()).isEqualTo("로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+    }
 }
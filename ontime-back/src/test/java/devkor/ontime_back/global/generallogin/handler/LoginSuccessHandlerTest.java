@@ -1,8 +1,10 @@
 package devkor.ontime_back.global.generallogin.handler;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import devkor.ontime_back.entity.Role;
 import devkor.ontime_back.entity.User;
 import devkor.ontime_back.repository.UserRepository;
+import devkor.ontime_back.response.LoginResponseWriter;
 import devkor.ontime_back.service.AuthTokenService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,7 +31,7 @@ class LoginSuccessHandlerTest {
 
     @Test
     void successfulUserLoginRotatesTokensAndWritesUserResponse() throws Exception {
-        LoginSuccessHandler handler = new LoginSuccessHandler(userRepository, authTokenService);
+        LoginSuccessHandler handler = new LoginSuccessHandler(userRepository, authTokenService, new LoginResponseWriter(new ObjectMapper()));
         User user = user(Role.USER);
         when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
         when(authTokenService.issueLoginTokens(eq(user), any()))
@@ -44,12 +46,13 @@ class LoginSuccessHandlerTest {
         assertThat(user.getAccessToken()).isEqualTo("access-token");
         assertThat(user.getRefreshToken()).isEqualTo("refresh-token");
         verify(authTokenService).issueLoginTokens(eq(user), any());
-        verify(userRepository).saveAndFlush(user);
+        // 토큰 저장은 issueLoginTokens 가 끝내므로 user 를 다시 저장하지 않는다.
+        verify(userRepository, never()).saveAndFlush(any());
     }
 
     @Test
     void successfulGuestLoginTellsClientToContinueOnboarding() throws Exception {
-        LoginSuccessHandler handler = new LoginSuccessHandler(userRepository, authTokenService);
+        LoginSuccessHandler handler = new LoginSuccessHandler(userRepository, authTokenService, new LoginResponseWriter(new ObjectMapper()));
         User user = user(Role.GUEST);
         when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
         when(authTokenService.issueLoginTokens(eq(user), any()))
@@ -59,12 +62,12 @@ class LoginSuccessHandlerTest {
         handler.onAuthenticationSuccess(new MockHttpServletRequest(), response, authentication());
 
         assertThat(response.getContentAsString()).contains("온보딩API를 호출해 온보딩을 진행해야합니다.");
-        assertThat(response.getContentAsString()).contains("\"role\": \"GUEST\"");
+        assertThat(response.getContentAsString()).contains("\"role\":\"GUEST\"");
     }
 
     @Test
     void successfulAuthenticationDoesNothingWhenEmailNoLongerExists() throws Exception {
-        LoginSuccessHandler handler = new LoginSuccessHandler(userRepository, authTokenService);
+        LoginSuccessHandler handler = new LoginSuccessHandler(userRepository, authTokenService, new LoginResponseWriter(new ObjectMapper()));
         when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.empty());
 
         handler.onAuthenticationSuccess(new MockHttpServletRequest(), new MockHttpServletResponse(), authentication());
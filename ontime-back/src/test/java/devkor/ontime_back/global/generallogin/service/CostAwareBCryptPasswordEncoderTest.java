@@ -0,0 +1,83 @@
+package devkor.ontime_back.global.generallogin.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CostAwareBCryptPasswordEncoderTest {
+
+    @Test
+    void upgradeEncodingWhenStoredCostDiffersInEitherDirection() {
+        CostAwareBCryptPasswordEncoder encoder = new CostAwareBCryptPasswordEncoder(5);
+
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password1234"))).isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("password1234"))).isTrue();
+        assertThat(encoder.upgradeEncoding(encoder.encode("password1234"))).isFalse();
+        assertThat(encoder.upgradeEncoding("not-a-bcrypt-hash")).isFalse();
+        assertThat(encoder.upgradeEncoding(null)).isFalse();
+    }
+
+    @Test
+    void successfulLoginRehashesPasswordStoredWithAnotherCost() {
+        PasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(
+                "bcrypt", Map.of("bcrypt", new CostAwareBCryptPasswordEncoder(5)));
+        String storedHash = "{bcrypt}" + new BCryptPasswordEncoder(4).encode("password1234");
+        AtomicReference<String> rehashed = new AtomicReference<>();
+        UserDetailsPasswordService passwordService = (user, newPassword) -> {
+            rehashed.set(newPassword);
+            return User.withUserDetails(user).password(newPassword).build();
+        };
+
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setPasswordEncoder(passwordEncoder);
+        provider.setUserDetailsService(email -> user(email, storedHash));
+        provider.setUserDetailsPasswordService(passwordService);
+
+        Authentication authentication = provider.authenticate(
+                new UsernamePasswordAuthenticationToken("user@example.com", "password1234"));
+
+        assertThat(authentication.isAuthenticated()).isTrue();
+        assertThat(rehashed.get()).startsWith("{bcrypt}$2a$05$");
+        assertThat(passwordEncoder.matches("password1234", rehashed.get())).isTrue();
+    }
+
+    @Test
+    void successfulLoginKeepsPasswordStoredWithCurrentCost() {
+        CostAwareBCryptPasswordEncoder bcrypt = new CostAwareBCryptPasswordEncoder(4);
+        PasswordEncoder passwordEncoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        String storedHash = "{bcrypt}" + bcrypt.encode("password1234");
+        AtomicReference<String> rehashed = new AtomicReference<>();
+
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setPasswordEncoder(passwordEncoder);
+        provider.setUserDetailsService(email -> user(email, storedHash));
+        provider.setUserDetailsPasswordService((user, newPassword) -> {
+            rehashed.set(newPassword);
+            return user;
+        });
+
+        provider.authenticate(new UsernamePasswordAuthenticationToken("user@example.com", "password1234"));
+
+        assertThat(rehashed.get()).isNull();
+    }
+
+    private static UserDetails user(String email, String password) {
+        return User.builder()
+                .username(email)
+                .password(password)
+                .roles("USER")
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package devkor.ontime_back.global.generallogin.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginAuthenticationExecutorTest {
+
+    private static final Authentication LOGIN_REQUEST =
+            new UsernamePasswordAuthenticationToken("user@example.com", "password1234");
+
+    private LoginAuthenticationExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void authenticateRunsOnLoginPoolAndReturnsResult() {
+        executor = new LoginAuthenticationExecutor(2, 4);
+        AuthenticationManager manager = authRequest -> new UsernamePasswordAuthenticationToken(
+                Thread.currentThread().getName(), null, List.of());
+
+        Authentication authentication = executor.authenticate(manager, LOGIN_REQUEST);
+
+        assertThat(authentication.isAuthenticated()).isTrue();
+        assertThat((String) authentication.getPrincipal()).startsWith("login-auth-");
+    }
+
+    @Test
+    void authenticationFailureIsRethrownAsIs() {
+        executor = new LoginAuthenticationExecutor(1, 1);
+        AuthenticationManager manager = authRequest -> {
+            throw new BadCredentialsException("bad credentials");
+        };
+
+        assertThatThrownBy(() -> executor.authenticate(manager, LOGIN_REQUEST))
+                .isInstanceOf(BadCredentialsException.class)
+                .hasMessage("bad credentials");
+    }
+
+    @Test
+    void loginIsRejectedWhenPoolAndQueueAreFull() throws Exception {
+        executor = new LoginAuthenticationExecutor(1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AuthenticationManager blockingManager = authRequest -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return authRequest;
+        };
+
+        CompletableFuture<Authentication> running = CompletableFuture.supplyAsync(
+                () -> executor.authenticate(blockingManager, LOGIN_REQUEST));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Authentication> queued = CompletableFuture.supplyAsync(
+                () -> executor.authenticate(blockingManager, LOGIN_REQUEST));
+        waitUntilQueued(queued);
+
+        assertThatThrownBy(() -> executor.authenticate(blockingManager, LOGIN_REQUEST))
+                .isInstanceOf(LoginCapacityExceededException.class);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isSameAs(LOGIN_REQUEST);
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isSameAs(LOGIN_REQUEST);
+    }
+
+    private void waitUntilQueued(CompletableFuture<Authentication> queued) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.queuedLogins() == 0 && !queued.isDone() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(executor.queuedLogins()).isEqualTo(1);
+    }
+}
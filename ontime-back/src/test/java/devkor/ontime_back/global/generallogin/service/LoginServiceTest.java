@@ -4,6 +4,7 @@ import devkor.ontime_back.entity.Role;
 import devkor.ontime_back.entity.User;
 import devkor.ontime_back.repository.UserRepository;
 import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import java.util.Optional;
@@ -43,4 +44,24 @@ class LoginServiceTest {
                 .isInstanceOf(UsernameNotFoundException.class)
                 .hasMessage("해당 이메일이 존재하지 않습니다.");
     }
+
+    @Test
+    void updatePasswordStoresRehashedPasswordAndReturnsUpdatedUserDetails() {
+        UserRepository userRepository = mock(UserRepository.class);
+        LoginService loginService = new LoginService(userRepository);
+        User user = User.builder()
+                .email("user@example.com")
+                .password("{bcrypt}old-hash")
+                .role(Role.USER)
+                .build();
+        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
+
+        UserDetails updated = loginService.updatePassword(
+                loginService.loadUserByUsername("user@example.com"), "{bcrypt}new-hash");
+
+        assertThat(user.getPassword()).isEqualTo("{bcrypt}new-hash");
+        assertThat(updated.getUsername()).isEqualTo("user@example.com");
+        assertThat(updated.getPassword()).isEqualTo("{bcrypt}new-hash");
+        assertThat(updated.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
 }
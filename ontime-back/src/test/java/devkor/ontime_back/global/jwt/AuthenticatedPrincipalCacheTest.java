@@ -0,0 +1,151 @@
+package devkor.ontime_back.global.jwt;
+
+import devkor.ontime_back.entity.Role;
+import devkor.ontime_back.entity.User;
+import devkor.ontime_back.global.jwt.AuthenticatedPrincipalCache.AuthenticatedPrincipal;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthenticatedPrincipalCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final AtomicReference<Instant> clock = new AtomicReference<>(NOW);
+
+    @Test
+    void cachedPrincipalIsReturnedUntilTtlElapses() {
+        AuthenticatedPrincipalCache cache = cache(10, Duration.ofSeconds(60));
+        cache.put("access-a", principal(1L), NOW.plusSeconds(3600), cache.generation());
+
+        clock.set(NOW.plusSeconds(59));
+        assertThat(cache.get("access-a")).contains(principal(1L));
+
+        clock.set(NOW.plusSeconds(60));
+        assertThat(cache.get("access-a")).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void entryNeverOutlivesTheTokenItself() {
+        AuthenticatedPrincipalCache cache = cache(10, Duration.ofSeconds(300));
+        cache.put("access-a", principal(1L), NOW.plusSeconds(10), cache.generation());
+
+        clock.set(NOW.plusSeconds(10));
+
+        assertThat(cache.get("access-a")).isEmpty();
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvictedWhenFull() {
+        AuthenticatedPrincipalCache cache = cache(2, Duration.ofSeconds(300));
+        cache.put("access-a", principal(1L), null, cache.generation());
+        cache.put("access-b", principal(2L), null, cache.generation());
+        cache.get("access-a");
+
+        cache.put("access-c", principal(3L), null, cache.generation());
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("access-a")).isPresent();
+        assertThat(cache.get("access-b")).isEmpty();
+        assertThat(cache.get("access-c")).isPresent();
+    }
+
+    @Test
+    void newTokenForSameUserReplacesPreviousEntry() {
+        AuthenticatedPrincipalCache cache = cache(10, Duration.ofSeconds(300));
+        cache.put("access-old", principal(1L), null, cache.generation());
+
+        cache.put("access-new", principal(1L), null, cache.generation());
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("access-old")).isEmpty();
+        assertThat(cache.get("access-new")).isPresent();
+    }
+
+    @Test
+    void invalidateUserEvictsOnlyThatUser() {
+        AuthenticatedPrincipalCache cache = cache(10, Duration.ofSeconds(300));
+        cache.put("access-a", principal(1L), null, cache.generation());
+        cache.put("access-b", principal(2L), null, cache.generation());
+
+        cache.invalidateUser(1L);
+
+        assertThat(cache.get("access-a")).isEmpty();
+        assertThat(cache.get("access-b")).isPresent();
+        assertThat(cache.get(null)).isEmpty();
+    }
+
+    @Test
+    void invalidateUserInsideTransactionEvictsAgainAfterCommit() {
+        AuthenticatedPrincipalCache cache = cache(10, Duration.ofSeconds(300));
+        cache.put("access-a", principal(1L), null, cache.generation());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidateUser(1L);
+            // 커밋 전 다른 요청이 옛 토큰으로 다시 채운 경우
+            cache.put("access-a", principal(1L), null, cache.generation());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cache.get("access-a")).isEmpty();
+    }
+
+    @Test
+    void putIsIgnoredWhenUserWasInvalidatedAfterVerificationStarted() {
+        AuthenticatedPrincipalCache cache = cache(10, Duration.ofSeconds(300));
+        long readGeneration = cache.generation();
+
+        // 검증이 옛 세션을 읽은 뒤 로그인이 커밋되어 무효화된 경우
+        cache.invalidateUser(1L);
+        cache.put("access-old", principal(1L), null, readGeneration);
+        cache.put("access-b", principal(2L), null, readGeneration);
+
+        assertThat(cache.get("access-old")).isEmpty();
+        assertThat(cache.get("access-b")).isPresent();
+        cache.put("access-new", principal(1L), null, cache.generation());
+        assertThat(cache.get("access-new")).isPresent();
+    }
+
+    @Test
+    void putIsIgnoredWhenInvalidationRecordWasEvictedAfterVerificationStarted() {
+        AuthenticatedPrincipalCache cache = cache(1, Duration.ofSeconds(300));
+        long readGeneration = cache.generation();
+
+        cache.invalidateUser(1L);
+        // 1번 사용자의 무효화 기록이 밀려나도 그 세대보다 오래된 검증 결과는 받지 않는다.
+        cache.invalidateUser(2L);
+        cache.put("access-old", principal(1L), null, readGeneration);
+
+        assertThat(cache.get("access-old")).isEmpty();
+    }
+
+    @Test
+    void principalUsesEmailOrUserIdAsAuthenticationName() {
+        User withEmail = User.builder().id(1L).email("user@example.com").role(Role.GUEST).build();
+        User withoutEmail = User.builder().id(2L).role(Role.USER).build();
+
+        assertThat(AuthenticatedPrincipal.of(withEmail))
+                .isEqualTo(new AuthenticatedPrincipal(1L, "GUEST", "user@example.com"));
+        assertThat(AuthenticatedPrincipal.of(withoutEmail))
+                .isEqualTo(new AuthenticatedPrincipal(2L, "USER", "user:2"));
+    }
+
+    private AuthenticatedPrincipalCache cache(int maxEntries, Duration ttl) {
+        return new AuthenticatedPrincipalCache(maxEntries, ttl, clock::get);
+    }
+
+    private AuthenticatedPrincipal principal(Long userId) {
+        return new AuthenticatedPrincipal(userId, "USER", "user" + userId + "@example.com");
+    }
+}
@@ -1,10 +1,11 @@
 package devkor.ontime_back.global.jwt;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import devkor.ontime_back.entity.Role;
 import devkor.ontime_back.entity.User;
-import devkor.ontime_back.repository.UserRepository;
 import devkor.ontime_back.response.InvalidAccessTokenException;
 import devkor.ontime_back.response.InvalidRefreshTokenException;
+import devkor.ontime_back.response.LoginResponseWriter;
 import devkor.ontime_back.service.AuthTokenService;
 import jakarta.servlet.FilterChain;
 import org.junit.jupiter.api.DisplayName;
@@ -16,11 +17,14 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.Instant;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -36,10 +40,9 @@ class JwtAuthenticationFilterTest {
     @ValueSource(strings = {"/account-deletion", "/account-deletion/en", "/privacy-policy", "/privacy-policy/en"})
     void skipsPublicHtmlPages(String path) throws Exception {
         JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
-        UserRepository userRepository = mock(UserRepository.class);
         AuthTokenService authTokenService = mock(AuthTokenService.class);
         FilterChain filterChain = mock(FilterChain.class);
-        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtTokenProvider, userRepository, authTokenService);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtTokenProvider, authTokenService, principalCache(), new LoginResponseWriter(new ObjectMapper()));
         MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
         MockHttpServletResponse response = new MockHttpServletResponse();
 
@@ -53,19 +56,17 @@ class JwtAuthenticationFilterTest {
     @Test
     void validAccessTokenAuthenticatesUserAndContinuesFilterChain() throws Exception {
         JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
-        UserRepository userRepository = mock(UserRepository.class);
         AuthTokenService authTokenService = mock(AuthTokenService.class);
         FilterChain filterChain = mock(FilterChain.class);
-        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtTokenProvider, userRepository, authTokenService);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtTokenProvider, authTokenService, principalCache(), new LoginResponseWriter(new ObjectMapper()));
         MockHttpServletRequest request = new MockHttpServletRequest("GET", "/schedules");
         MockHttpServletResponse response = new MockHttpServletResponse();
         User user = user("user@example.com", "encoded-password");
 
         when(jwtTokenProvider.extractAccessToken(request)).thenReturn(Optional.of("access-token"));
         when(jwtTokenProvider.extractRefreshToken(request)).thenReturn(Optional.empty());
-        when(jwtTokenProvider.isAccessTokenValid("access-token")).thenReturn(true);
-        when(jwtTokenProvider.extractUserId("access-token")).thenReturn(Optional.of(1L));
-        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(jwtTokenProvider.verifyAccessToken("access-token"))
+                .thenReturn(new JwtTokenProvider.VerifiedAccessToken(AuthenticatedPrincipalCache.AuthenticatedPrincipal.of(user), Instant.now().plusSeconds(600)));
 
         filter.doFilter(request, response, filterChain);
 
@@ -73,13 +74,35 @@ class JwtAuthenticationFilterTest {
         assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("user@example.com");
     }
 
+    @Test
+    void repeatedAccessTokenIsAuthenticatedFromCacheWithoutVerifyingAgain() throws Exception {
+        JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+        AuthTokenService authTokenService = mock(AuthTokenService.class);
+        FilterChain filterChain = mock(FilterChain.class);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtTokenProvider, authTokenService, principalCache(), new LoginResponseWriter(new ObjectMapper()));
+        User user = user("user@example.com", "encoded-password");
+
+        when(jwtTokenProvider.extractAccessToken(any())).thenReturn(Optional.of("access-token"));
+        when(jwtTokenProvider.extractRefreshToken(any())).thenReturn(Optional.empty());
+        when(jwtTokenProvider.verifyAccessToken("access-token"))
+                .thenReturn(new JwtTokenProvider.VerifiedAccessToken(AuthenticatedPrincipalCache.AuthenticatedPrincipal.of(user), Instant.now().plusSeconds(600)));
+
+        for (int i = 0; i < 3; i++) {
+            SecurityContextHolder.clearContext();
+            filter.doFilter(new MockHttpServletRequest("GET", "/schedules"), new MockHttpServletResponse(), filterChain);
+            assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("user@example.com");
+        }
+
+        verify(jwtTokenProvider, times(1)).verifyAccessToken("access-token");
+        verify(filterChain, times(3)).doFilter(any(), any());
+    }
+
     @Test
     void validRefreshTokenReissuesAccessTokenWithoutContinuingRequest() throws Exception {
         JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
-        UserRepository userRepository = mock(UserRepository.class);
         AuthTokenService authTokenService = mock(AuthTokenService.class);
         FilterChain filterChain = mock(FilterChain.class);
-        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtTokenProvider, userRepository, authTokenService);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtTokenProvider, authTokenService, principalCache(), new LoginResponseWriter(new ObjectMapper()));
         MockHttpServletRequest request = new MockHttpServletRequest("GET", "/schedules");
         MockHttpServletResponse response = new MockHttpServletResponse();
         User user = user("user@example.com", "encoded-password");
@@ -99,10 +122,9 @@ class JwtAuthenticationFilterTest {
     @Test
     void missingAccessTokenReturnsTokenEmptyErrorEnvelope() throws Exception {
         JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
-        UserRepository userRepository = mock(UserRepository.class);
         AuthTokenService authTokenService = mock(AuthTokenService.class);
         FilterChain filterChain = mock(FilterChain.class);
-        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtTokenProvider, userRepository, authTokenService);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtTokenProvider, authTokenService, principalCache(), new LoginResponseWriter(new ObjectMapper()));
         MockHttpServletRequest request = new MockHttpServletRequest("GET", "/schedules");
         MockHttpServletResponse response = new MockHttpServletResponse();
 
@@ -119,10 +141,9 @@ class JwtAuthenticationFilterTest {
     @Test
     void invalidRefreshTokenReturnsRefreshSpecificErrorEnvelope() throws Exception {
         JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
-        UserRepository userRepository = mock(UserRepository.class);
         AuthTokenService authTokenService = mock(AuthTokenService.class);
         FilterChain filterChain = mock(FilterChain.class);
-        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtTokenProvider, userRepository, authTokenService);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtTokenProvider, authTokenService, principalCache(), new LoginResponseWriter(new ObjectMapper()));
         MockHttpServletRequest request = new MockHttpServletRequest("GET", "/schedules");
         MockHttpServletResponse response = new MockHttpServletResponse();
 
@@ -141,16 +162,15 @@ class JwtAuthenticationFilterTest {
     @Test
     void invalidAccessTokenReturnsAccessSpecificErrorEnvelope() throws Exception {
         JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
-        UserRepository userRepository = mock(UserRepository.class);
         AuthTokenService authTokenService = mock(AuthTokenService.class);
         FilterChain filterChain = mock(FilterChain.class);
-        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtTokenProvider, userRepository, authTokenService);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtTokenProvider, authTokenService, principalCache(), new LoginResponseWriter(new ObjectMapper()));
         MockHttpServletRequest request = new MockHttpServletRequest("GET", "/schedules");
         MockHttpServletResponse response = new MockHttpServletResponse();
 
         when(jwtTokenProvider.extractAccessToken(request)).thenReturn(Optional.of("access-token"));
         when(jwtTokenProvider.extractRefreshToken(request)).thenReturn(Optional.empty());
-        when(jwtTokenProvider.isAccessTokenValid("access-token"))
+        when(jwtTokenProvider.verifyAccessToken("access-token"))
                 .thenThrow(new InvalidAccessTokenException("bad access"));
 
         filter.doFilter(request, response, filterChain);
@@ -161,8 +181,8 @@ class JwtAuthenticationFilterTest {
     }
 
     @Test
-    void socialLoginUserWithoutPasswordReceivesGeneratedAuthenticationPassword() {
-        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(mock(JwtTokenProvider.class), mock(UserRepository.class), mock(AuthTokenService.class));
+    void socialLoginUserWithoutPasswordIsAuthenticated() {
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(mock(JwtTokenProvider.class), mock(AuthTokenService.class), principalCache(), new LoginResponseWriter(new ObjectMapper()));
         User user = user("social@example.com", null);
 
         filter.saveAuthentication(user);
@@ -175,7 +195,7 @@ class JwtAuthenticationFilterTest {
 
     @Test
     void socialLoginUserWithoutEmailUsesUserIdAuthenticationName() {
-        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(mock(JwtTokenProvider.class), mock(UserRepository.class), mock(AuthTokenService.class));
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(mock(JwtTokenProvider.class), mock(AuthTokenService.class), principalCache(), new LoginResponseWriter(new ObjectMapper()));
         User user = user(null, null);
 
         filter.saveAuthentication(user);
@@ -186,6 +206,10 @@ class JwtAuthenticationFilterTest {
                 .containsExactly("ROLE_USER");
     }
 
+    private AuthenticatedPrincipalCache principalCache() {
+        return new AuthenticatedPrincipalCache(100, 300);
+    }
+
     private User user(String email, String password) {
         return User.builder()
                 .id(1L)
@@ -1,5 +1,6 @@
 package devkor.ontime_back.global.jwt;
 
+import devkor.ontime_back.dto.UserSessionDto;
 import devkor.ontime_back.entity.Role;
 import devkor.ontime_back.entity.User;
 import devkor.ontime_back.repository.UserRepository;
@@ -20,6 +21,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
+import java.time.Instant;
 import java.util.Optional;
 
 @ExtendWith(MockitoExtension.class)
@@ -91,17 +93,31 @@ class JwtTokenProviderTest {
     }
 
     @Test
-    void accessTokenValidityRequiresCurrentStoredAccessCredential() {
-        String accessToken = jwtTokenProvider.createAccessToken("user@example.com", 7L);
-        when(userRepository.findById(7L)).thenReturn(Optional.of(user("user@example.com", accessToken)));
+    void accessTokenValidityRequiresCurrentActiveSession() {
+        String accessToken = jwtTokenProvider.createAccessToken("user@example.com", 7L, "session-a");
+        when(userRepository.findSessionById(7L)).thenReturn(Optional.of(session("session-a")));
 
         assertThat(jwtTokenProvider.isAccessTokenValid(accessToken)).isTrue();
+        // 세션 id 만 비교하므로 access_token 컬럼이 있는 User 행은 읽지 않는다.
+        verify(userRepository, never()).findById(anyLong());
     }
 
     @Test
-    void accessTokenValidityRejectsStaleAccessCredential() {
-        String accessToken = jwtTokenProvider.createAccessToken("user@example.com", 7L);
-        when(userRepository.findById(7L)).thenReturn(Optional.of(user("user@example.com", "newer-access-token")));
+    void verifyAccessTokenReturnsPrincipalAndExpiry() {
+        String accessToken = jwtTokenProvider.createAccessToken("user@example.com", 7L, "session-a");
+        when(userRepository.findSessionById(7L)).thenReturn(Optional.of(session("session-a")));
+
+        JwtTokenProvider.VerifiedAccessToken verified = jwtTokenProvider.verifyAccessToken(accessToken);
+
+        assertThat(verified.principal())
+                .isEqualTo(new AuthenticatedPrincipalCache.AuthenticatedPrincipal(7L, "USER", "user@example.com"));
+        assertThat(verified.expiresAt()).isAfter(Instant.now().plusSeconds(3500));
+    }
+
+    @Test
+    void accessTokenValidityRejectsSupersededSession() {
+        String accessToken = jwtTokenProvider.createAccessToken("user@example.com", 7L, "session-a");
+        when(userRepository.findSessionById(7L)).thenReturn(Optional.of(session("session-b")));
 
         assertThatThrownBy(() -> jwtTokenProvider.isAccessTokenValid(accessToken))
                 .isInstanceOf(InvalidAccessTokenException.class);
@@ -110,10 +126,31 @@ class JwtTokenProviderTest {
     @Test
     void accessTokenValidityRejectsValidJwtForMissingUser() {
         String accessToken = jwtTokenProvider.createAccessToken("user@example.com", 7L);
-        when(userRepository.findById(7L)).thenReturn(Optional.empty());
+        when(userRepository.findSessionById(7L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> jwtTokenProvider.isAccessTokenValid(accessToken))
+                .isInstanceOf(InvalidAccessTokenException.class);
+    }
+
+    @Test
+    void legacySessionIsComparedOnceByStoredAccessCredentialAndThenRecorded() {
+        String accessToken = jwtTokenProvider.createAccessToken("user@example.com", 7L, "session-a");
+        when(userRepository.findSessionById(7L)).thenReturn(Optional.of(session(null)));
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user("user@example.com", accessToken)));
+
+        assertThat(jwtTokenProvider.isAccessTokenValid(accessToken)).isTrue();
+        verify(userRepository).initializeActiveSessionId(7L, "session-a");
+    }
+
+    @Test
+    void legacySessionRejectsStaleAccessCredential() {
+        String accessToken = jwtTokenProvider.createAccessToken("user@example.com", 7L, "session-a");
+        when(userRepository.findSessionById(7L)).thenReturn(Optional.of(session(null)));
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user("user@example.com", "newer-access-token")));
 
         assertThatThrownBy(() -> jwtTokenProvider.isAccessTokenValid(accessToken))
                 .isInstanceOf(InvalidAccessTokenException.class);
+        verify(userRepository, never()).initializeActiveSessionId(anyLong(), anyString());
     }
 
     @Test
@@ -143,6 +180,10 @@ class JwtTokenProviderTest {
         assertThat(jwtTokenProvider.isRefreshTokenValid(refreshToken)).isTrue();
     }
 
+    private UserSessionDto session(String activeSessionId) {
+        return new UserSessionDto(7L, "user@example.com", Role.USER, activeSessionId);
+    }
+
     private User user(String email, String accessToken) {
         return User.builder()
                 .id(7L)
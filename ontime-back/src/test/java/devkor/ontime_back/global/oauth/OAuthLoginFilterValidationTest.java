@@ -16,6 +16,7 @@ import devkor.ontime_back.entity.User;
 import devkor.ontime_back.entity.UserAlarmSetting;
 import devkor.ontime_back.repository.UserAlarmSettingRepository;
 import devkor.ontime_back.repository.UserRepository;
+import devkor.ontime_back.response.LoginResponseWriter;
 import devkor.ontime_back.service.AnalyticsPreferenceService;
 import devkor.ontime_back.service.AuthTokenService;
 import jakarta.validation.Validation;
@@ -40,7 +41,6 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -246,7 +246,8 @@ class OAuthLoginFilterValidationTest {
                 userRepository,
                 userAlarmSettingRepository,
                 analyticsPreferenceService,
-                authTokenService);
+                authTokenService,
+                new LoginResponseWriter(objectMapper));
         MockHttpServletResponse response = new MockHttpServletResponse();
 
         assertThatThrownBy(() -> filter.attemptAuthentication(
@@ -280,7 +281,7 @@ class OAuthLoginFilterValidationTest {
         assertThat(existingUser.getRefreshToken()).isEqualTo("refresh-token");
         assertThat(response.getContentAsString()).contains("로그인에 성공하였습니다.");
         verify(authTokenService).issueLoginTokens(existingUser, response);
-        verify(userRepository).saveAndFlush(existingUser);
+        verify(userRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -306,7 +307,7 @@ class OAuthLoginFilterValidationTest {
         assertThat(savedUser.getRefreshToken()).isEqualTo("refresh-token");
         assertThat(response.getContentAsString()).contains("온보딩이 필요합니다.");
         verify(authTokenService).issueLoginTokens(savedUser, response);
-        verify(userRepository, times(2)).save(any(User.class));
+        verify(userRepository).save(any(User.class));
         verify(userAlarmSettingRepository).save(any(UserAlarmSetting.class));
     }
 
@@ -486,7 +487,8 @@ class OAuthLoginFilterValidationTest {
                 userRepository,
                 userAlarmSettingRepository,
                 analyticsPreferenceService,
-                authTokenService);
+                authTokenService,
+                new LoginResponseWriter(objectMapper));
     }
 
     private MockHttpServletRequest request(String uri, String body) {
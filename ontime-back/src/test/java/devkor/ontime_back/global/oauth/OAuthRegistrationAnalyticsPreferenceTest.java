@@ -7,11 +7,13 @@ import devkor.ontime_back.dto.OAuthGoogleUserDto;
 import devkor.ontime_back.global.jwt.JwtTokenProvider;
 import devkor.ontime_back.global.jwt.JwtUtils;
 import devkor.ontime_back.global.oauth.apple.AppleLoginService;
-import devkor.ontime_back.global.oauth.apple.ApplePublicKeyGenerator;
+import devkor.ontime_back.global.oauth.apple.ApplePublicKeyStore;
 import devkor.ontime_back.global.oauth.google.GoogleLoginService;
+import devkor.ontime_back.global.oauth.google.GooglePublicKeyStore;
 import devkor.ontime_back.global.oauth.kakao.KakaoLoginFilter;
 import devkor.ontime_back.repository.UserAlarmSettingRepository;
 import devkor.ontime_back.repository.UserRepository;
+import devkor.ontime_back.response.LoginResponseWriter;
 import devkor.ontime_back.service.AnalyticsPreferenceService;
 import devkor.ontime_back.service.AuthTokenService;
 import jakarta.validation.Validation;
@@ -51,7 +53,10 @@ class OAuthRegistrationAnalyticsPreferenceTest {
     private AuthTokenService authTokenService;
 
     @Mock
-    private ApplePublicKeyGenerator applePublicKeyGenerator;
+    private ApplePublicKeyStore applePublicKeyStore;
+
+    @Mock
+    private GooglePublicKeyStore googlePublicKeyStore;
 
     @Mock
     private JwtUtils jwtUtils;
@@ -68,6 +73,8 @@ class OAuthRegistrationAnalyticsPreferenceTest {
                 userAlarmSettingRepository,
                 analyticsPreferenceService,
                 authTokenService,
+                googlePublicKeyStore,
+                new LoginResponseWriter(new ObjectMapper()),
                 "123-web.apps.googleusercontent.com",
                 "123-app.apps.googleusercontent.com"
         );
@@ -94,13 +101,15 @@ class OAuthRegistrationAnalyticsPreferenceTest {
     @DisplayName("애플 신규 가입은 계정 분석 설정 기본 행을 생성한다")
     void appleRegisterCreatesAnalyticsPreference() throws Exception {
         AppleLoginService appleLoginService = new AppleLoginService(
-                applePublicKeyGenerator,
+                applePublicKeyStore,
                 jwtUtils,
                 userRepository,
                 userAlarmSettingRepository,
                 jwtTokenProvider,
                 analyticsPreferenceService,
-                authTokenService
+                authTokenService,
+                new LoginResponseWriter(new ObjectMapper()),
+                new ObjectMapper()
         );
         when(userRepository.save(any())).thenAnswer(invocation -> {
             Object user = invocation.getArgument(0);
@@ -125,7 +134,8 @@ class OAuthRegistrationAnalyticsPreferenceTest {
                 userRepository,
                 userAlarmSettingRepository,
                 analyticsPreferenceService,
-                authTokenService
+                authTokenService,
+                new LoginResponseWriter(objectMapper)
         );
         when(userRepository.findBySocialTypeAndSocialId(any(), anyString())).thenReturn(Optional.empty());
         when(userRepository.save(any())).thenAnswer(invocation -> {
@@ -13,6 +13,7 @@ import devkor.ontime_back.global.jwt.JwtUtils;
 import devkor.ontime_back.repository.UserAlarmSettingRepository;
 import devkor.ontime_back.repository.UserRepository;
 import devkor.ontime_back.response.InvalidTokenException;
+import devkor.ontime_back.response.LoginResponseWriter;
 import devkor.ontime_back.service.AnalyticsPreferenceService;
 import devkor.ontime_back.service.AuthTokenService;
 import io.jsonwebtoken.Claims;
@@ -48,7 +49,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -56,7 +57,7 @@ import static org.mockito.Mockito.when;
 class AppleLoginServiceTest {
 
     @Mock
-    private ApplePublicKeyGenerator applePublicKeyGenerator;
+    private ApplePublicKeyStore applePublicKeyStore;
 
     @Mock
     private JwtUtils jwtUtils;
@@ -81,13 +82,15 @@ class AppleLoginServiceTest {
     @BeforeEach
     void setUp() {
         appleLoginService = new AppleLoginService(
-                applePublicKeyGenerator,
+                applePublicKeyStore,
                 jwtUtils,
                 userRepository,
                 userAlarmSettingRepository,
                 jwtTokenProvider,
                 analyticsPreferenceService,
-                authTokenService
+                authTokenService,
+                new LoginResponseWriter(new ObjectMapper()),
+                new ObjectMapper()
         );
     }
 
@@ -112,9 +115,9 @@ class AppleLoginServiceTest {
         assertThat(user.getSocialLoginToken()).isEqualTo("apple-refresh-token");
         assertThat(user.getAccessToken()).isEqualTo("access-token");
         assertThat(user.getRefreshToken()).isEqualTo("refresh-token");
-        assertThat(response.getContentAsString()).contains("\"message\": \"로그인에 성공하였습니다.\"");
+        assertThat(response.getContentAsString()).contains("\"message\":\"로그인에 성공하였습니다.\"");
         verify(authTokenService).issueLoginTokens(user, response);
-        verify(userRepository).saveAndFlush(user);
+        verify(userRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -136,15 +139,13 @@ class AppleLoginServiceTest {
         assertThat(savedUser.getRefreshToken()).isEqualTo("refresh-token");
         assertThat(response.getContentAsString()).contains("회원가입에 성공하였습니다.");
         verify(authTokenService).issueLoginTokens(savedUser, response);
-        verify(userRepository, times(2)).save(any(User.class));
+        verify(userRepository).save(any(User.class));
         verify(userAlarmSettingRepository).save(any(UserAlarmSetting.class));
         verify(analyticsPreferenceService).createDefaultPreference(savedUser);
     }
 
     @Test
     void verifyIdentityTokenReturnsClaimsWhenIssuerAudienceAndExpirationAreValid() throws Exception {
-        RestTemplate restTemplate = mockRestTemplate();
-        ApplePublicKeyResponse appleKeys = new ApplePublicKeyResponse(java.util.List.of());
         PublicKey publicKey = java.security.KeyPairGenerator.getInstance("RSA").generateKeyPair().getPublic();
         Claims claims = Jwts.claims()
                 .setIssuer("https://appleid.apple.com")
@@ -152,76 +153,21 @@ class AppleLoginServiceTest {
                 .setExpiration(Date.from(Instant.now().plusSeconds(60)));
         ReflectionTestUtils.setField(appleLoginService, "clientId", "com.ontime.service");
         when(jwtUtils.parseHeaders("identity-token")).thenReturn(Map.of("kid", "key-id", "alg", "RS256"));
-        when(restTemplate.getForObject("https://appleid.apple.com/auth/keys", ApplePublicKeyResponse.class))
-                .thenReturn(appleKeys);
-        when(applePublicKeyGenerator.generatePublicKey(Map.of("kid", "key-id", "alg", "RS256"), appleKeys))
-                .thenReturn(publicKey);
-        when(jwtUtils.getTokenClaims("identity-token", publicKey)).thenReturn(claims);
-
-        Claims verifiedClaims = appleLoginService.verifyIdentityToken("identity-token");
-
-        assertThat(verifiedClaims).isSameAs(claims);
-    }
-
-    @Test
-    void verifyIdentityTokenReusesCachedApplePublicKeys() throws Exception {
-        RestTemplate restTemplate = mockRestTemplate();
-        ApplePublicKeyResponse appleKeys = new ApplePublicKeyResponse(java.util.List.of());
-        PublicKey publicKey = java.security.KeyPairGenerator.getInstance("RSA").generateKeyPair().getPublic();
-        Claims claims = validAppleClaims();
-        Map<String, String> headers = Map.of("kid", "key-id", "alg", "RS256");
-        ReflectionTestUtils.setField(appleLoginService, "clientId", "com.ontime.service");
-        when(jwtUtils.parseHeaders("identity-token")).thenReturn(headers);
-        when(restTemplate.getForObject("https://appleid.apple.com/auth/keys", ApplePublicKeyResponse.class))
-                .thenReturn(appleKeys);
-        when(applePublicKeyGenerator.generatePublicKey(headers, appleKeys)).thenReturn(publicKey);
-        when(jwtUtils.getTokenClaims("identity-token", publicKey)).thenReturn(claims);
-
-        appleLoginService.verifyIdentityToken("identity-token");
-        appleLoginService.verifyIdentityToken("identity-token");
-
-        verify(restTemplate, times(1)).getForObject("https://appleid.apple.com/auth/keys", ApplePublicKeyResponse.class);
-        verify(applePublicKeyGenerator, times(2)).generatePublicKey(headers, appleKeys);
-    }
-
-    @Test
-    void verifyIdentityTokenRefreshesApplePublicKeysOnceWhenKidIsUnknown() throws Exception {
-        RestTemplate restTemplate = mockRestTemplate();
-        ApplePublicKeyResponse staleKeys = new ApplePublicKeyResponse(java.util.List.of(
-                new ApplePublicKey("RSA", "old-key-id", "RS256", "AQAB", "AQAB")
-        ));
-        ApplePublicKeyResponse rotatedKeys = new ApplePublicKeyResponse(java.util.List.of(
-                new ApplePublicKey("RSA", "new-key-id", "RS256", "AQAB", "AQAB")
-        ));
-        PublicKey publicKey = java.security.KeyPairGenerator.getInstance("RSA").generateKeyPair().getPublic();
-        Claims claims = validAppleClaims();
-        Map<String, String> headers = Map.of("kid", "new-key-id", "alg", "RS256");
-        ReflectionTestUtils.setField(appleLoginService, "clientId", "com.ontime.service");
-        when(jwtUtils.parseHeaders("identity-token")).thenReturn(headers);
-        when(restTemplate.getForObject("https://appleid.apple.com/auth/keys", ApplePublicKeyResponse.class))
-                .thenReturn(staleKeys)
-                .thenReturn(rotatedKeys);
-        when(applePublicKeyGenerator.generatePublicKey(headers, staleKeys))
-                .thenThrow(new IllegalArgumentException("Invalid JWT: No matching Apple Public Key found"));
-        when(applePublicKeyGenerator.generatePublicKey(headers, rotatedKeys)).thenReturn(publicKey);
+        when(applePublicKeyStore.resolve("key-id", "RS256")).thenReturn(publicKey);
         when(jwtUtils.getTokenClaims("identity-token", publicKey)).thenReturn(claims);
 
         Claims verifiedClaims = appleLoginService.verifyIdentityToken("identity-token");
 
         assertThat(verifiedClaims).isSameAs(claims);
-        verify(restTemplate, times(2)).getForObject("https://appleid.apple.com/auth/keys", ApplePublicKeyResponse.class);
     }
 
     @Test
     void verifyIdentityTokenRejectsTokenFromUnexpectedIssuer() throws Exception {
-        RestTemplate restTemplate = mockRestTemplate();
         PublicKey publicKey = java.security.KeyPairGenerator.getInstance("RSA").generateKeyPair().getPublic();
         Claims claims = validAppleClaims().setIssuer("https://attacker.example");
         ReflectionTestUtils.setField(appleLoginService, "clientId", "com.ontime.service");
         when(jwtUtils.parseHeaders("identity-token")).thenReturn(Map.of());
-        when(restTemplate.getForObject("https://appleid.apple.com/auth/keys", ApplePublicKeyResponse.class))
-                .thenReturn(new ApplePublicKeyResponse(java.util.List.of()));
-        when(applePublicKeyGenerator.generatePublicKey(any(), any())).thenReturn(publicKey);
+        when(applePublicKeyStore.resolve(any(), any())).thenReturn(publicKey);
         when(jwtUtils.getTokenClaims("identity-token", publicKey)).thenReturn(claims);
 
         assertThatThrownBy(() -> appleLoginService.verifyIdentityToken("identity-token"))
@@ -231,14 +177,11 @@ class AppleLoginServiceTest {
 
     @Test
     void verifyIdentityTokenRejectsTokenForUnexpectedAudience() throws Exception {
-        RestTemplate restTemplate = mockRestTemplate();
         PublicKey publicKey = java.security.KeyPairGenerator.getInstance("RSA").generateKeyPair().getPublic();
         Claims claims = validAppleClaims().setAudience("other-client-id");
         ReflectionTestUtils.setField(appleLoginService, "clientId", "com.ontime.service");
         when(jwtUtils.parseHeaders("identity-token")).thenReturn(Map.of());
-        when(restTemplate.getForObject("https://appleid.apple.com/auth/keys", ApplePublicKeyResponse.class))
-                .thenReturn(new ApplePublicKeyResponse(java.util.List.of()));
-        when(applePublicKeyGenerator.generatePublicKey(any(), any())).thenReturn(publicKey);
+        when(applePublicKeyStore.resolve(any(), any())).thenReturn(publicKey);
         when(jwtUtils.getTokenClaims("identity-token", publicKey)).thenReturn(claims);
 
         assertThatThrownBy(() -> appleLoginService.verifyIdentityToken("identity-token"))
@@ -248,14 +191,11 @@ class AppleLoginServiceTest {
 
     @Test
     void verifyIdentityTokenRejectsExpiredToken() throws Exception {
-        RestTemplate restTemplate = mockRestTemplate();
         PublicKey publicKey = java.security.KeyPairGenerator.getInstance("RSA").generateKeyPair().getPublic();
         Claims claims = validAppleClaims().setExpiration(Date.from(Instant.now().minusSeconds(1)));
         ReflectionTestUtils.setField(appleLoginService, "clientId", "com.ontime.service");
         when(jwtUtils.parseHeaders("identity-token")).thenReturn(Map.of());
-        when(restTemplate.getForObject("https://appleid.apple.com/auth/keys", ApplePublicKeyResponse.class))
-                .thenReturn(new ApplePublicKeyResponse(java.util.List.of()));
-        when(applePublicKeyGenerator.generatePublicKey(any(), any())).thenReturn(publicKey);
+        when(applePublicKeyStore.resolve(any(), any())).thenReturn(publicKey);
         when(jwtUtils.getTokenClaims("identity-token", publicKey)).thenReturn(claims);
 
         assertThatThrownBy(() -> appleLoginService.verifyIdentityToken("identity-token"))
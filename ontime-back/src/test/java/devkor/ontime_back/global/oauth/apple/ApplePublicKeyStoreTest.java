@@ -0,0 +1,211 @@
+package devkor.ontime_back.global.oauth.apple;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ApplePublicKeyStoreTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Duration TTL = Duration.ofHours(24);
+    private static final Duration REFRESH_AHEAD = Duration.ofHours(1);
+    private static final Duration MIN_REFRESH_INTERVAL = Duration.ofSeconds(10);
+
+    private final AtomicReference<Instant> clock = new AtomicReference<>(NOW);
+    private final AtomicInteger fetchCount = new AtomicInteger();
+    private final List<ApplePublicKeyStore> stores = new ArrayList<>();
+
+    @AfterEach
+    void shutdownStores() {
+        stores.forEach(ApplePublicKeyStore::shutdown);
+    }
+
+    @Test
+    void coldCacheFetchesOnceAndReusesParsedKey() throws Exception {
+        RSAPublicKey key = rsaKey();
+        ApplePublicKeyStore store = store(counting(() -> keys(jwk("key-a", key))));
+
+        PublicKey first = store.resolve("key-a", "RS256");
+        PublicKey second = store.resolve("key-a", "RS256");
+
+        assertThat(((RSAPublicKey) first).getModulus()).isEqualTo(key.getModulus());
+        assertThat(second).isSameAs(first);
+        assertThat(fetchCount).hasValue(1);
+    }
+
+    @Test
+    void concurrentColdRequestsShareSingleFetch() throws Exception {
+        RSAPublicKey key = rsaKey();
+        CountDownLatch release = new CountDownLatch(1);
+        ApplePublicKeyStore store = store(counting(() -> {
+            await(release);
+            return keys(jwk("key-a", key));
+        }));
+
+        ExecutorService callers = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<PublicKey>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(callers.submit(() -> store.resolve("key-a", "RS256")));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<PublicKey> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isNotNull();
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        assertThat(fetchCount).hasValue(1);
+    }
+
+    @Test
+    void unknownKidRefreshesOnceAndFindsRotatedKey() throws Exception {
+        RSAPublicKey oldKey = rsaKey();
+        RSAPublicKey newKey = rsaKey();
+        AtomicReference<ApplePublicKeyResponse> served = new AtomicReference<>(keys(jwk("old-key", oldKey)));
+        ApplePublicKeyStore store = store(counting(served::get));
+        store.resolve("old-key", "RS256");
+
+        served.set(keys(jwk("new-key", newKey)));
+        clock.set(NOW.plus(MIN_REFRESH_INTERVAL));
+
+        assertThat(((RSAPublicKey) store.resolve("new-key", "RS256")).getModulus()).isEqualTo(newKey.getModulus());
+        assertThat(fetchCount).hasValue(2);
+    }
+
+    @Test
+    void unknownKidRightAfterFetchIsRejectedWithoutFetchingAgain() throws Exception {
+        ApplePublicKeyStore store = store(counting(() -> keys(jwk("key-a", rsaKey()))));
+        store.resolve("key-a", "RS256");
+
+        assertThatThrownBy(() -> store.resolve("forged-key", "RS256"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid JWT: No matching Apple Public Key found");
+        assertThatThrownBy(() -> store.resolve("key-a", "ES256"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(fetchCount).hasValue(1);
+    }
+
+    @Test
+    void snapshotNearExpiryIsServedWhileBackgroundRefreshRuns() throws Exception {
+        RSAPublicKey oldKey = rsaKey();
+        RSAPublicKey newKey = rsaKey();
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ApplePublicKeyStore store = store(counting(() -> {
+            if (fetchCount.get() == 1) {
+                return keys(jwk("key-a", oldKey));
+            }
+            refreshStarted.countDown();
+            await(release);
+            return keys(jwk("key-a", newKey));
+        }));
+        PublicKey original = store.resolve("key-a", "RS256");
+
+        clock.set(NOW.plus(TTL).minus(REFRESH_AHEAD));
+
+        // 갱신이 끝나지 않았어도 기존 키로 바로 응답한다.
+        assertThat(store.resolve("key-a", "RS256")).isSameAs(original);
+        assertThat(refreshStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(store.resolve("key-a", "RS256")).isSameAs(original);
+
+        release.countDown();
+        awaitUntil(() -> !store.resolve("key-a", "RS256").equals(original));
+        assertThat(((RSAPublicKey) store.resolve("key-a", "RS256")).getModulus()).isEqualTo(newKey.getModulus());
+        assertThat(fetchCount).hasValue(2);
+    }
+
+    @Test
+    void expiredSnapshotIsKeptWhenRefreshFails() throws Exception {
+        RSAPublicKey key = rsaKey();
+        ApplePublicKeyStore store = store(counting(() -> {
+            if (fetchCount.get() > 1) {
+                throw new IllegalStateException("apple unavailable");
+            }
+            return keys(jwk("key-a", key));
+        }));
+        PublicKey original = store.resolve("key-a", "RS256");
+
+        clock.set(NOW.plus(TTL));
+
+        assertThat(store.resolve("key-a", "RS256")).isSameAs(original);
+        assertThat(fetchCount).hasValue(2);
+    }
+
+    @Test
+    void coldFetchFailureIsPropagated() {
+        ApplePublicKeyStore store = store(() -> {
+            throw new IllegalStateException("apple unavailable");
+        });
+
+        assertThatThrownBy(() -> store.resolve("key-a", "RS256"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("apple unavailable");
+    }
+
+    private ApplePublicKeyStore store(Supplier<ApplePublicKeyResponse> fetcher) {
+        ApplePublicKeyStore store = new ApplePublicKeyStore(new ApplePublicKeyGenerator(), fetcher,
+                TTL, REFRESH_AHEAD, MIN_REFRESH_INTERVAL, clock::get, Executors.newSingleThreadExecutor());
+        stores.add(store);
+        return store;
+    }
+
+    private Supplier<ApplePublicKeyResponse> counting(Supplier<ApplePublicKeyResponse> fetcher) {
+        return () -> {
+            fetchCount.incrementAndGet();
+            return fetcher.get();
+        };
+    }
+
+    private static ApplePublicKeyResponse keys(ApplePublicKey... keys) {
+        return new ApplePublicKeyResponse(List.of(keys));
+    }
+
+    private static ApplePublicKey jwk(String kid, RSAPublicKey key) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return new ApplePublicKey("RSA", kid, "RS256",
+                encoder.encodeToString(key.getModulus().toByteArray()),
+                encoder.encodeToString(key.getPublicExponent().toByteArray()));
+    }
+
+    private static RSAPublicKey rsaKey() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(1024);
+        return (RSAPublicKey) generator.generateKeyPair().getPublic();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitUntil(Supplier<Boolean> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.get() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package devkor.ontime_back.global.oauth.google;
 
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import devkor.ontime_back.dto.OAuthGoogleRequestDto;
 import devkor.ontime_back.dto.OAuthGoogleUserDto;
 import devkor.ontime_back.entity.Role;
@@ -9,6 +11,7 @@ import devkor.ontime_back.entity.UserAlarmSetting;
 import devkor.ontime_back.global.jwt.JwtTokenProvider;
 import devkor.ontime_back.repository.UserAlarmSettingRepository;
 import devkor.ontime_back.repository.UserRepository;
+import devkor.ontime_back.response.LoginResponseWriter;
 import devkor.ontime_back.service.AnalyticsPreferenceService;
 import devkor.ontime_back.service.AuthTokenService;
 import org.junit.jupiter.api.AfterEach;
@@ -26,6 +29,9 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.RestTemplate;
 
 import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.List;
@@ -35,7 +41,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -57,6 +63,9 @@ class GoogleLoginServiceTest {
     @Mock
     private AuthTokenService authTokenService;
 
+    @Mock
+    private GooglePublicKeyStore googlePublicKeyStore;
+
     private GoogleLoginService googleLoginService;
     @Mock
     private RestTemplate revokeRestTemplate;
@@ -69,6 +78,8 @@ class GoogleLoginServiceTest {
                 userAlarmSettingRepository,
                 analyticsPreferenceService,
                 authTokenService,
+                googlePublicKeyStore,
+                new LoginResponseWriter(new ObjectMapper()),
                 "web-client.apps.googleusercontent.com",
                 "ios-client.apps.googleusercontent.com, android-client.apps.googleusercontent.com",
                 revokeRestTemplate
@@ -98,9 +109,9 @@ class GoogleLoginServiceTest {
         assertThat(user.getAccessToken()).isEqualTo("access-token");
         assertThat(user.getRefreshToken()).isEqualTo("refresh-token");
         assertThat(response.getContentType()).startsWith("application/json");
-        assertThat(response.getContentAsString()).contains("\"message\": \"로그인에 성공하였습니다.\"");
+        assertThat(response.getContentAsString()).contains("\"message\":\"로그인에 성공하였습니다.\"");
         verify(authTokenService).issueLoginTokens(user, response);
-        verify(userRepository).saveAndFlush(user);
+        verify(userRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -128,7 +139,7 @@ class GoogleLoginServiceTest {
         assertThat(savedUser.getRefreshToken()).isEqualTo("refresh-token");
         assertThat(response.getContentAsString()).contains("회원가입에 성공하였습니다.");
         verify(authTokenService).issueLoginTokens(savedUser, response);
-        verify(userRepository, times(2)).save(any(User.class));
+        verify(userRepository).save(any(User.class));
         verify(userAlarmSettingRepository).save(any(UserAlarmSetting.class));
         verify(analyticsPreferenceService).createDefaultPreference(savedUser);
     }
@@ -141,6 +152,8 @@ class GoogleLoginServiceTest {
                 userAlarmSettingRepository,
                 analyticsPreferenceService,
                 authTokenService,
+                googlePublicKeyStore,
+                new LoginResponseWriter(new ObjectMapper()),
                 "web-client.apps.googleusercontent.com",
                 " ios-client.apps.googleusercontent.com, ,android-client.apps.googleusercontent.com "
         );
@@ -161,6 +174,36 @@ class GoogleLoginServiceTest {
                 .isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    void verifyIdentityTokenChecksSignatureAgainstStoredGooglePublicKeys() throws Exception {
+        KeyPair signingKey = rsaKeyPair();
+        when(googlePublicKeyStore.publicKeys()).thenReturn(List.of(rsaKeyPair().getPublic(), signingKey.getPublic()));
+
+        GoogleIdToken.Payload payload = googleLoginService.verifyIdentityToken(
+                signedGoogleToken(signingKey, "android-client.apps.googleusercontent.com", "https://accounts.google.com"));
+
+        assertThat(payload.getSubject()).isEqualTo("google-id");
+    }
+
+    @Test
+    void verifyIdentityTokenRejectsUnknownSigningKey() throws Exception {
+        when(googlePublicKeyStore.publicKeys()).thenReturn(List.of(rsaKeyPair().getPublic()));
+
+        assertThat(googleLoginService.verifyIdentityToken(
+                signedGoogleToken(rsaKeyPair(), "web-client.apps.googleusercontent.com", "accounts.google.com"))).isNull();
+    }
+
+    @Test
+    void verifyIdentityTokenRejectsForeignAudienceOrIssuerWithoutLoadingKeys() throws Exception {
+        KeyPair signingKey = rsaKeyPair();
+
+        assertThat(googleLoginService.verifyIdentityToken(
+                signedGoogleToken(signingKey, "other-client.apps.googleusercontent.com", "https://accounts.google.com"))).isNull();
+        assertThat(googleLoginService.verifyIdentityToken(
+                signedGoogleToken(signingKey, "web-client.apps.googleusercontent.com", "https://evil.example.com"))).isNull();
+        verify(googlePublicKeyStore, never()).publicKeys();
+    }
+
     @Test
     void revokeTokenPostsTheStoredGoogleRefreshTokenAndReturnsSuccessFor2xxResponse() {
         User user = user(4L, "user@example.com", "Existing User", Role.USER);
@@ -205,6 +248,25 @@ class GoogleLoginServiceTest {
                 .isEqualTo("<invalid-client-id>");
     }
 
+    private String signedGoogleToken(KeyPair keyPair, String audience, String issuer) throws Exception {
+        long now = Instant.now().getEpochSecond();
+        String signingInput = base64Url("{\"alg\":\"RS256\",\"kid\":\"test\",\"typ\":\"JWT\"}")
+                + "."
+                + base64Url("""
+                {"aud":"%s","iss":"%s","sub":"google-id","iat":%d,"exp":%d}
+                """.formatted(audience, issuer, now, now + 600).trim());
+        Signature signature = Signature.getInstance("SHA256withRSA");
+        signature.initSign(keyPair.getPrivate());
+        signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return signingInput + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature.sign());
+    }
+
+    private KeyPair rsaKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
     private String fakeGoogleToken(String payloadJson) {
         return base64Url("{\"alg\":\"RS256\",\"kid\":\"test\"}")
                 + "."
@@ -0,0 +1,116 @@
+package devkor.ontime_back.global.oauth.google;
+
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GooglePublicKeyStoreTest {
+
+    private static final long NOW_MILLIS = 1_767_225_600_000L;
+    private static final Duration REFRESH_AHEAD = Duration.ofMinutes(10);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+
+    private final AtomicInteger fetchCount = new AtomicInteger();
+    private final AtomicLong maxAgeSeconds = new AtomicLong(21600);
+    private final AtomicBoolean unavailable = new AtomicBoolean();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+    private final MockHttpTransport transport = new MockHttpTransport() {
+        @Override
+        public LowLevelHttpRequest buildRequest(String method, String url) {
+            fetchCount.incrementAndGet();
+            return new MockLowLevelHttpRequest(url) {
+                @Override
+                public MockLowLevelHttpResponse execute() {
+                    if (unavailable.get()) {
+                        return new MockLowLevelHttpResponse().setStatusCode(503);
+                    }
+                    return certs(maxAgeSeconds.get());
+                }
+            };
+        }
+    };
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void nextRefreshIsScheduledRefreshAheadOfCacheControlMaxAge() {
+        GooglePublicKeyStore store = store();
+        GooglePublicKeysManager initial = store.publicKeysManager();
+
+        Duration nextRefresh = store.refresh();
+
+        assertThat(nextRefresh).isEqualTo(Duration.ofSeconds(21600).minus(REFRESH_AHEAD));
+        assertThat(store.publicKeysManager()).isSameAs(initial);
+        assertThat(initial.getExpirationTimeMilliseconds()).isEqualTo(NOW_MILLIS + 21600_000L);
+        assertThat(fetchCount).hasValue(1);
+    }
+
+    @Test
+    void laterRefreshSwapsInANewlyLoadedCertificateSet() {
+        GooglePublicKeyStore store = store();
+        store.refresh();
+        GooglePublicKeysManager previous = store.publicKeysManager();
+
+        store.refresh();
+
+        assertThat(store.publicKeysManager()).isNotSameAs(previous);
+        assertThat(store.publicKeysManager().getExpirationTimeMilliseconds()).isEqualTo(NOW_MILLIS + 21600_000L);
+        // 이전 묶음은 그대로 남아 있어 갱신 중 검증하던 요청도 영향을 받지 않는다.
+        assertThat(previous.getExpirationTimeMilliseconds()).isEqualTo(NOW_MILLIS + 21600_000L);
+        assertThat(fetchCount).hasValue(2);
+    }
+
+    @Test
+    void failedRefreshKeepsCurrentCertificatesAndRetriesLater() {
+        GooglePublicKeyStore store = store();
+        store.refresh();
+        GooglePublicKeysManager previous = store.publicKeysManager();
+        unavailable.set(true);
+
+        Duration nextRefresh = store.refresh();
+
+        assertThat(nextRefresh).isEqualTo(RETRY_DELAY);
+        assertThat(store.publicKeysManager()).isSameAs(previous);
+    }
+
+    @Test
+    void maxAgeShorterThanRefreshAheadFallsBackToRetryDelay() {
+        maxAgeSeconds.set(60);
+        GooglePublicKeyStore store = store();
+
+        assertThat(store.refresh()).isEqualTo(RETRY_DELAY);
+    }
+
+    private GooglePublicKeyStore store() {
+        return new GooglePublicKeyStore(
+                () -> new GooglePublicKeysManager.Builder(transport, GsonFactory.getDefaultInstance())
+                        .setClock(() -> NOW_MILLIS)
+                        .build(),
+                REFRESH_AHEAD, RETRY_DELAY, executor);
+    }
+
+    private static MockLowLevelHttpResponse certs(long maxAgeSeconds) {
+        return new MockLowLevelHttpResponse()
+                .setContentType("application/json; charset=UTF-8")
+                .addHeader("Cache-Control", "public, max-age=" + maxAgeSeconds + ", must-revalidate, no-transform")
+                .setContent("{}");
+    }
+}
@@ -5,6 +5,7 @@ import devkor.ontime_back.entity.User;
 import devkor.ontime_back.global.jwt.JwtTokenProvider;
 import devkor.ontime_back.repository.UserAlarmSettingRepository;
 import devkor.ontime_back.repository.UserRepository;
+import devkor.ontime_back.response.LoginResponseWriter;
 import devkor.ontime_back.service.AnalyticsPreferenceService;
 import devkor.ontime_back.service.AuthTokenService;
 import jakarta.servlet.FilterChain;
@@ -62,7 +63,8 @@ class KakaoLoginFilterAuthenticationResultTest {
                     mock(UserRepository.class),
                     mock(UserAlarmSettingRepository.class),
                     mock(AnalyticsPreferenceService.class),
-                    mock(AuthTokenService.class)
+                    mock(AuthTokenService.class),
+                    new LoginResponseWriter(new ObjectMapper())
             );
         }
 
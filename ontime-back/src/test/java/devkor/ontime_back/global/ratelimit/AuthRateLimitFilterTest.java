@@ -0,0 +1,97 @@
+package devkor.ontime_back.global.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthRateLimitFilterTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void requestsOverPerIpLimitAreRejectedWithTooManyRequests() throws Exception {
+        AuthRateLimitFilter filter = filter(true, 2, 200);
+
+        assertThat(send(filter, "/login", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(send(filter, "/login", "10.0.0.1").getStatus()).isEqualTo(200);
+        MockHttpServletResponse rejected = send(filter, "/login", "10.0.0.1");
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(rejected.getContentType()).isEqualTo("application/json;charset=UTF-8");
+        assertThat(objectMapper.readTree(rejected.getContentAsString()).get("code").asInt()).isEqualTo(429);
+        assertThat(objectMapper.readTree(rejected.getContentAsString()).get("status").asText()).isEqualTo("error");
+    }
+
+    @Test
+    void perIpLimitIsSeparatePerClientAndEndpoint() throws Exception {
+        AuthRateLimitFilter filter = filter(true, 1, 200);
+
+        assertThat(send(filter, "/oauth2/google/login", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(send(filter, "/oauth2/google/login", "10.0.0.1").getStatus()).isEqualTo(429);
+        assertThat(send(filter, "/oauth2/google/login", "10.0.0.2").getStatus()).isEqualTo(200);
+        assertThat(send(filter, "/oauth2/kakao/login", "10.0.0.1").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void perEndpointLimitAppliesAcrossClients() throws Exception {
+        AuthRateLimitFilter filter = filter(true, 20, 3);
+
+        for (int client = 1; client <= 3; client++) {
+            assertThat(send(filter, "/sign-up", "10.0.0." + client).getStatus()).isEqualTo(200);
+        }
+
+        assertThat(send(filter, "/sign-up", "10.0.0.4").getStatus()).isEqualTo(429);
+        assertThat(send(filter, "/oauth2/apple/login", "10.0.0.4").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void otherRequestsAreNotLimited() throws Exception {
+        AuthRateLimitFilter filter = filter(true, 1, 1);
+
+        for (int attempt = 0; attempt < 5; attempt++) {
+            assertThat(send(filter, "GET", "/login", "10.0.0.1").getStatus()).isEqualTo(200);
+            assertThat(send(filter, "POST", "/schedules", "10.0.0.1").getStatus()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    void disabledLimiterLetsEveryRequestThrough() throws Exception {
+        AuthRateLimitFilter filter = filter(false, 1, 1);
+
+        for (int attempt = 0; attempt < 5; attempt++) {
+            assertThat(send(filter, "/login", "10.0.0.1").getStatus()).isEqualTo(200);
+        }
+    }
+
+    private AuthRateLimitFilter filter(boolean enabled, long perIpCapacity, long perEndpointCapacity) {
+        AuthRateLimiter limiter = new AuthRateLimiter(
+                new InMemoryTokenBucketStore(1000, now::get),
+                enabled,
+                perIpCapacity,
+                0.5,
+                perEndpointCapacity,
+                100);
+        return new AuthRateLimitFilter(limiter, objectMapper);
+    }
+
+    private MockHttpServletResponse send(AuthRateLimitFilter filter, String path, String clientIp) throws Exception {
+        return send(filter, "POST", path, clientIp);
+    }
+
+    private MockHttpServletResponse send(AuthRateLimitFilter filter, String method, String path, String clientIp)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr(clientIp);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
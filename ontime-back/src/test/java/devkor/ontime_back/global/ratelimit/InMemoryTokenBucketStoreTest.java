@@ -0,0 +1,70 @@
+package devkor.ontime_back.global.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryTokenBucketStoreTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final InMemoryTokenBucketStore store = new InMemoryTokenBucketStore(1000, now::get);
+
+    @Test
+    void burstUpToCapacityIsAllowedThenRejectedWithWaitUntilNextToken() {
+        TokenBucketPolicy policy = new TokenBucketPolicy(3, 2);
+
+        assertThat(store.tryConsume("ip:/login:10.0.0.1", policy)).isZero();
+        assertThat(store.tryConsume("ip:/login:10.0.0.1", policy)).isZero();
+        assertThat(store.tryConsume("ip:/login:10.0.0.1", policy)).isZero();
+
+        assertThat(store.tryConsume("ip:/login:10.0.0.1", policy)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    void bucketRefillsOverTimeWithoutExceedingCapacity() {
+        TokenBucketPolicy policy = new TokenBucketPolicy(2, 1);
+        store.tryConsume("key", policy);
+        store.tryConsume("key", policy);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(store.tryConsume("key", policy)).isZero();
+        assertThat(store.tryConsume("key", policy)).isPositive();
+
+        now.addAndGet(TimeUnit.HOURS.toNanos(1));
+        assertThat(store.tryConsume("key", policy)).isZero();
+        assertThat(store.tryConsume("key", policy)).isZero();
+        assertThat(store.tryConsume("key", policy)).isPositive();
+    }
+
+    @Test
+    void keysHaveIndependentBuckets() {
+        TokenBucketPolicy policy = new TokenBucketPolicy(1, 1);
+
+        assertThat(store.tryConsume("ip:/login:10.0.0.1", policy)).isZero();
+        assertThat(store.tryConsume("ip:/login:10.0.0.1", policy)).isPositive();
+        assertThat(store.tryConsume("ip:/login:10.0.0.2", policy)).isZero();
+        assertThat(store.tryConsume("ip:/sign-up:10.0.0.1", policy)).isZero();
+    }
+
+    @Test
+    void bucketCountStaysBoundedByEvictingLeastRecentlyUsedBuckets() {
+        InMemoryTokenBucketStore boundedStore = new InMemoryTokenBucketStore(64, now::get);
+        TokenBucketPolicy policy = new TokenBucketPolicy(1, 1);
+
+        for (int index = 0; index < 10_000; index++) {
+            boundedStore.tryConsume("ip:/login:10.0." + (index / 256) + "." + (index % 256), policy);
+        }
+
+        assertThat(boundedStore.bucketCount()).isLessThanOrEqualTo(64);
+    }
+
+    @Test
+    void policyRejectsInvalidSettings() {
+        assertThatThrownBy(() -> new TokenBucketPolicy(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucketPolicy(1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,121 @@
+package devkor.ontime_back.logging;
+
+import devkor.ontime_back.entity.ApiLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ApiLogBatchWriterTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void flushWritesBufferedLogsAsMultiRowInsertsOfAtMostBatchSize() {
+        ApiLogBatchWriter writer = new ApiLogBatchWriter(jdbcTemplate, meterRegistry, 64, 4, executor);
+        LocalDateTime createdAt = LocalDateTime.of(2026, 5, 10, 12, 0);
+        for (int i = 0; i < 3; i++) {
+            writer.enqueue(apiLog(i, createdAt));
+        }
+
+        assertThat(writer.flush()).isEqualTo(3);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).update(sql.capture(), args.capture());
+        assertThat(sql.getValue()).startsWith("INSERT INTO api_log");
+        assertThat(sql.getValue()).containsOnlyOnce("VALUES").contains("), (");
+        assertThat(args.getValue()).hasSize(3 * 7);
+        assertThat(args.getValue()[0]).isEqualTo("/schedules");
+        assertThat(args.getValue()[6]).isEqualTo(Timestamp.valueOf(createdAt));
+        assertThat(meterRegistry.counter("ontime.api-log.written").count()).isEqualTo(3);
+        assertThat(writer.buffered()).isZero();
+    }
+
+    @Test
+    void fullBufferDropsLogsAndCountsThem() {
+        ApiLogBatchWriter writer = new ApiLogBatchWriter(jdbcTemplate, meterRegistry, 2, 100, executor);
+
+        assertThat(writer.enqueue(apiLog(0, null))).isTrue();
+        assertThat(writer.enqueue(apiLog(1, null))).isTrue();
+        assertThat(writer.enqueue(apiLog(2, null))).isFalse();
+
+        assertThat(meterRegistry.counter("ontime.api-log.dropped").count()).isEqualTo(1);
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void reachingBatchSizeTriggersEarlyFlushOnWriterThread() {
+        ApiLogBatchWriter writer = new ApiLogBatchWriter(jdbcTemplate, meterRegistry, 64, 2, executor);
+
+        writer.enqueue(apiLog(0, null));
+        writer.enqueue(apiLog(1, null));
+
+        verify(jdbcTemplate, timeout(2000)).update(startsWith("INSERT INTO api_log"), any(Object[].class));
+        assertThat(meterRegistry.counter("ontime.api-log.backpressure").count()).isEqualTo(1);
+    }
+
+    @Test
+    void failedInsertIsCountedAndDoesNotStopLaterBatches() {
+        ApiLogBatchWriter writer = new ApiLogBatchWriter(jdbcTemplate, meterRegistry, 64, 2, executor);
+        when(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .thenThrow(new DataAccessResourceFailureException("database unavailable"))
+                .thenReturn(2);
+        executor.shutdown();
+        for (int i = 0; i < 4; i++) {
+            writer.enqueue(apiLog(i, null));
+        }
+
+        assertThat(writer.flush()).isEqualTo(2);
+        assertThat(meterRegistry.counter("ontime.api-log.failed").count()).isEqualTo(2);
+        verify(jdbcTemplate, times(2)).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void shutdownFlushesLogsStillInBuffer() {
+        ApiLogBatchWriter writer = new ApiLogBatchWriter(jdbcTemplate, meterRegistry, 64, 100, executor);
+        writer.enqueue(apiLog(0, null));
+
+        writer.shutdown();
+
+        verify(jdbcTemplate).update(startsWith("INSERT INTO api_log"), any(Object[].class));
+        assertThat(writer.buffered()).isZero();
+    }
+
+    private ApiLog apiLog(long takenTime, LocalDateTime createdAt) {
+        return ApiLog.builder()
+                .requestUrl("/schedules")
+                .requestMethod("GET")
+                .userId("1")
+                .clientIp("127.0.0.1")
+                .responseStatus(200)
+                .takenTime(takenTime)
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,127 @@
+package devkor.ontime_back.logging;
+
+import devkor.ontime_back.repository.ApiLogRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ApiLogHistoryBackfillTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 10, 1, 9, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApiLogRepository apiLogRepository;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Long> pauses = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + ApiLogHistoryBackfill.SOURCE_TABLE);
+        apiLogRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("예전 테이블의 로그를 id 그대로 청크 단위로 옮기고 다 옮기면 예전 테이블을 지운다")
+    @Test
+    void backfillMovesRowsInChunksAndDropsSourceTable() {
+        // given
+        createSourceTable();
+        insertSourceRows(1_000_001L, 5);
+
+        // when
+        long moved = backfill(2, 10, 60).backfill();
+
+        // then
+        assertThat(moved).isEqualTo(5);
+        assertThat(pauses).hasSize(3);
+        assertThat(jdbcTemplate.queryForList("SELECT api_log_id FROM api_log ORDER BY api_log_id", Long.class))
+                .containsExactly(1_000_001L, 1_000_002L, 1_000_003L, 1_000_004L, 1_000_005L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT created_at FROM api_log WHERE api_log_id = 1000001", Timestamp.class).toLocalDateTime())
+                .isEqualTo(CREATED_AT);
+        assertThat(sourceTableExists()).isFalse();
+    }
+
+    @DisplayName("마감 시각이 지나면 멈추고 다음 실행이 남은 행부터 이어서 옮긴다")
+    @Test
+    void backfillStopsAtDeadlineAndResumesWithRemainingRows() {
+        // given
+        createSourceTable();
+        insertSourceRows(2_000_001L, 5);
+        // 청크 하나를 옮기고 쉬는 동안 1초 마감이 지난다.
+        ApiLogHistoryBackfill backfill = backfill(2, 1000, 1);
+
+        // when
+        long first = backfill.backfill();
+
+        // then
+        assertThat(first).isEqualTo(2);
+        assertThat(apiLogRepository.count()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + ApiLogHistoryBackfill.SOURCE_TABLE, Long.class)).isEqualTo(3);
+
+        // when
+        long second = backfill(10, 0, 1).backfill();
+
+        // then
+        assertThat(second).isEqualTo(3);
+        assertThat(apiLogRepository.count()).isEqualTo(5);
+        assertThat(sourceTableExists()).isFalse();
+    }
+
+    @DisplayName("예전 테이블이 없으면 아무것도 하지 않는다")
+    @Test
+    void backfillDoesNothingWithoutSourceTable() {
+        assertThat(backfill(2, 10, 60).backfill()).isZero();
+        assertThat(pauses).isEmpty();
+    }
+
+    private ApiLogHistoryBackfill backfill(int chunkSize, long pauseMillis, long maxRuntimeSeconds) {
+        return new ApiLogHistoryBackfill(jdbcTemplate, transactionManager, chunkSize, pauseMillis, maxRuntimeSeconds,
+                clock::get, nanos -> {
+                    pauses.add(nanos);
+                    clock.addAndGet(nanos);
+                });
+    }
+
+    private void createSourceTable() {
+        jdbcTemplate.execute("CREATE TABLE " + ApiLogHistoryBackfill.SOURCE_TABLE + " ("
+                + "api_log_id BIGINT PRIMARY KEY, request_url VARCHAR(255), request_method VARCHAR(255), "
+                + "user_id VARCHAR(255), client_ip VARCHAR(255), response_status INT, taken_time BIGINT, "
+                + "created_at TIMESTAMP)");
+    }
+
+    private void insertSourceRows(long firstId, int count) {
+        for (int i = 0; i < count; i++) {
+            jdbcTemplate.update("INSERT INTO " + ApiLogHistoryBackfill.SOURCE_TABLE
+                            + " VALUES (?, ?, 'GET', ?, '127.0.0.1', 200, 1, ?)",
+                    firstId + i, "/history/" + i, String.valueOf(i), CREATED_AT);
+        }
+    }
+
+    private boolean sourceTableExists() {
+        return !jdbcTemplate.queryForList(
+                "SELECT TABLE_NAME FROM information_schema.TABLES WHERE TABLE_NAME = ?",
+                String.class, ApiLogHistoryBackfill.SOURCE_TABLE).isEmpty();
+    }
+}
@@ -0,0 +1,83 @@
+package devkor.ontime_back.logging;
+
+import devkor.ontime_back.logging.ApiLogPartitionManager.ApiLogPartition;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ApiLogPartitionManagerTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ApiLogPartitionManager manager = new ApiLogPartitionManager(jdbcTemplate, 2);
+
+    @Test
+    void ensureFuturePartitionsSplitsDailyPartitionsOutOfFuturePartition() {
+        partitioned(List.of(new ApiLogPartition("p_history", LocalDateTime.of(2026, 10, 18, 0, 0))));
+
+        int created = manager.ensureFuturePartitions(LocalDate.of(2026, 10, 18));
+
+        ArgumentCaptor<String> ddl = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).execute(ddl.capture());
+        assertThat(created).isEqualTo(3);
+        assertThat(ddl.getValue()).isEqualTo("ALTER TABLE api_log REORGANIZE PARTITION p_future INTO ("
+                + "PARTITION p20261018 VALUES LESS THAN (UNIX_TIMESTAMP('2026-10-19 00:00:00')), "
+                + "PARTITION p20261019 VALUES LESS THAN (UNIX_TIMESTAMP('2026-10-20 00:00:00')), "
+                + "PARTITION p20261020 VALUES LESS THAN (UNIX_TIMESTAMP('2026-10-21 00:00:00')), "
+                + "PARTITION p_future VALUES LESS THAN MAXVALUE)");
+    }
+
+    @Test
+    void ensureFuturePartitionsDoesNothingWhenPartitionsAlreadyCoverTheHorizon() {
+        partitioned(List.of(new ApiLogPartition("p20261020", LocalDateTime.of(2026, 10, 21, 0, 0))));
+
+        assertThat(manager.ensureFuturePartitions(LocalDate.of(2026, 10, 18))).isZero();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void dropPartitionsBeforeDropsOnlyPartitionsWhoseRowsAreAllExpired() {
+        partitioned(List.of(
+                new ApiLogPartition("p_history", LocalDateTime.of(2026, 7, 19, 0, 0)),
+                new ApiLogPartition("p20260719", LocalDateTime.of(2026, 7, 20, 0, 0)),
+                new ApiLogPartition("p20260720", LocalDateTime.of(2026, 7, 21, 0, 0))));
+
+        List<String> dropped = manager.dropPartitionsBefore(LocalDateTime.of(2026, 7, 20, 3, 30));
+
+        assertThat(dropped).containsExactly("p_history", "p20260719");
+        verify(jdbcTemplate).execute("ALTER TABLE api_log DROP PARTITION p_history, p20260719");
+    }
+
+    @Test
+    void unpartitionedDatabaseIsLeftAlone() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class)))
+                .thenThrow(new BadSqlGrammarException("partitions", "SELECT", new SQLException("no table")));
+
+        assertThat(manager.ensureFuturePartitions(LocalDate.of(2026, 10, 18))).isZero();
+        assertThat(manager.dropPartitionsBefore(LocalDateTime.of(2026, 7, 20, 0, 0))).isEmpty();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void partitioned(List<ApiLogPartition> boundedPartitions) {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class))).thenReturn(1);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class))).thenReturn(boundedPartitions);
+    }
+}
@@ -0,0 +1,91 @@
+package devkor.ontime_back.logging;
+
+import devkor.ontime_back.entity.ApiLog;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApiLogRingBufferTest {
+
+    @Test
+    void capacityIsRoundedUpToPowerOfTwoAndFullBufferRejectsOffers() {
+        ApiLogRingBuffer buffer = new ApiLogRingBuffer(3);
+
+        assertThat(buffer.capacity()).isEqualTo(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(apiLog(i))).isTrue();
+        }
+        assertThat(buffer.offer(apiLog(4))).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+    }
+
+    @Test
+    void drainReturnsLogsInInsertionOrderAndFreesSlots() {
+        ApiLogRingBuffer buffer = new ApiLogRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            buffer.offer(apiLog(i));
+        }
+        List<ApiLog> drained = new ArrayList<>();
+
+        assertThat(buffer.drainTo(drained, 3)).isEqualTo(3);
+        assertThat(buffer.offer(apiLog(4))).isTrue();
+        assertThat(buffer.drainTo(drained, 10)).isEqualTo(2);
+
+        assertThat(drained).extracting(ApiLog::getTakenTime).containsExactly(0L, 1L, 2L, 3L, 4L);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void concurrentProducersNeverLoseOrDuplicateAcceptedLogs() throws Exception {
+        ApiLogRingBuffer buffer = new ApiLogRingBuffer(1 << 14);
+        int producers = 4;
+        int perProducer = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < producers; p++) {
+            int offset = p * perProducer;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    buffer.offer(apiLog(offset + i));
+                }
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        List<ApiLog> drained = new ArrayList<>();
+        buffer.drainTo(drained, Integer.MAX_VALUE);
+        Set<Long> takenTimes = new HashSet<>();
+        drained.forEach(apiLog -> takenTimes.add(apiLog.getTakenTime()));
+        assertThat(drained).hasSize(producers * perProducer);
+        assertThat(takenTimes).hasSize(producers * perProducer);
+    }
+
+    private ApiLog apiLog(long sequence) {
+        return ApiLog.builder()
+                .requestUrl("/schedules")
+                .requestMethod("GET")
+                .userId("1")
+                .clientIp("127.0.0.1")
+                .responseStatus(200)
+                .takenTime(sequence)
+                .build();
+    }
+}
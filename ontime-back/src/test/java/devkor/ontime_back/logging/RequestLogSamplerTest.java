@@ -0,0 +1,63 @@
+package devkor.ontime_back.logging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestLogSamplerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void shouldRecordKeepsErrorsAndSlowRequestsRegardlessOfRate() {
+        RequestLogSampler sampler = new RequestLogSampler(meterRegistry, 0.0, 500, Map.of(), () -> 0.99);
+
+        assertThat(sampler.shouldRecord("/users/me", 404, 10)).isTrue();
+        assertThat(sampler.shouldRecord("/users/me", 500, 10)).isTrue();
+        assertThat(sampler.shouldRecord("/users/me", 200, 500)).isTrue();
+        assertThat(meterRegistry.get("ontime.request-log.slow").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.find("ontime.request-log.sampled-out").counter()).isNull();
+    }
+
+    @Test
+    void shouldRecordSamplesFastSuccessesByRouteRateAndCountsSampledOut() {
+        RequestLogSampler sampler = new RequestLogSampler(meterRegistry, 1.0, 500,
+                Map.of("/schedules/{scheduleId}", 0.25), () -> 0.5);
+
+        assertThat(sampler.shouldRecord("/schedules/{scheduleId}", 200, 10)).isFalse();
+        assertThat(sampler.shouldRecord("/schedules/{scheduleId}", 204, 10)).isFalse();
+        assertThat(sampler.shouldRecord("/users/me", 200, 10)).isTrue();
+        assertThat(meterRegistry.get("ontime.request-log.sampled-out")
+                .tag("route", "/schedules/{scheduleId}")
+                .counter()
+                .count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void shouldRecordKeepsFastSuccessWhenRandomFallsUnderRate() {
+        RequestLogSampler sampler = new RequestLogSampler(meterRegistry, 0.1, 500, Map.of(), () -> 0.05);
+
+        assertThat(sampler.shouldRecord("/alarm/status", 200, 10)).isTrue();
+    }
+
+    @Test
+    void parseRouteRatesReadsCommaSeparatedEntriesAndClampsRates() {
+        Map<String, Double> rates = RequestLogSampler.parseRouteRates(" /schedules/{scheduleId}=0.05, /alarm/status=2 ");
+
+        assertThat(rates).containsEntry("/schedules/{scheduleId}", 0.05)
+                .containsEntry("/alarm/status", 1.0);
+        assertThat(RequestLogSampler.parseRouteRates("")).isEmpty();
+        assertThatThrownBy(() -> RequestLogSampler.parseRouteRates("/alarm/status"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
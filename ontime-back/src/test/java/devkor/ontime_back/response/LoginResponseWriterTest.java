@@ -0,0 +1,111 @@
+package devkor.ontime_back.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import devkor.ontime_back.entity.Role;
+import devkor.ontime_back.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginResponseWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LoginResponseWriter writer = new LoginResponseWriter(objectMapper);
+
+    @Test
+    void loginResponseKeepsEnvelopeAndWritesTypedUserData() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        writer.writeLogin(response, user(Role.USER, "note"));
+
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentType()).startsWith("application/json");
+        assertThat(body.get("status").asText()).isEqualTo("success");
+        assertThat(body.get("code").asText()).isEqualTo("200");
+        assertThat(body.get("message").asText()).isEqualTo(LoginResponseWriter.LOGIN_MESSAGE);
+        assertThat(body.at("/data/userId").asLong()).isEqualTo(1L);
+        assertThat(body.at("/data/email").asText()).isEqualTo("user@example.com");
+        assertThat(body.at("/data/spareTime").isInt()).isTrue();
+        assertThat(body.at("/data/note").asText()).isEqualTo("note");
+        assertThat(body.at("/data/punctualityScore").asDouble()).isEqualTo(95.0);
+        assertThat(body.at("/data/role").asText()).isEqualTo("USER");
+    }
+
+    @Test
+    void guestLoginAndRegisterUseTheirOwnMessages() throws Exception {
+        MockHttpServletResponse login = new MockHttpServletResponse();
+        MockHttpServletResponse register = new MockHttpServletResponse();
+
+        writer.writeLogin(login, user(Role.GUEST, null));
+        writer.writeRegister(register, user(Role.GUEST, null));
+
+        JsonNode loginBody = objectMapper.readTree(login.getContentAsByteArray());
+        JsonNode registerBody = objectMapper.readTree(register.getContentAsByteArray());
+        assertThat(loginBody.get("message").asText()).isEqualTo(LoginResponseWriter.GUEST_LOGIN_MESSAGE);
+        assertThat(loginBody.at("/data/note").isNull()).isTrue();
+        assertThat(registerBody.get("message").asText()).isEqualTo(LoginResponseWriter.REGISTER_MESSAGE);
+    }
+
+    @Test
+    void userFieldsAreEscapedInsteadOfBreakingTheBody() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        writer.writeLogin(response, user(Role.USER, "say \"hi\"\n"));
+
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(body.at("/data/note").asText()).isEqualTo("say \"hi\"\n");
+    }
+
+    @Test
+    void kakaoRegisterResponseKeepsMessageAndRoleShape() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        writer.writeKakaoRegister(response, user(Role.GUEST, null));
+
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(body.get("message").asText()).isEqualTo(LoginResponseWriter.KAKAO_REGISTER_MESSAGE);
+        assertThat(body.get("role").asText()).isEqualTo("GUEST");
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void invalidTokenBodiesMatchApiResponseFormForEachTokenState() throws Exception {
+        ErrorCode errorCode = ErrorCode.UNAUTHORIZED;
+
+        assertThat(invalidTokenBody(new EmptyAccessTokenException("empty")))
+                .isEqualTo(objectMapper.writeValueAsString(
+                        ApiResponseForm.accessTokenEmpty(errorCode.getCode(), errorCode.getMessage())));
+        assertThat(invalidTokenBody(new InvalidAccessTokenException("invalid")))
+                .isEqualTo(objectMapper.writeValueAsString(
+                        ApiResponseForm.accessTokenInvalid(errorCode.getCode(), errorCode.getMessage())));
+        assertThat(invalidTokenBody(new InvalidRefreshTokenException("invalid")))
+                .isEqualTo(objectMapper.writeValueAsString(
+                        ApiResponseForm.refreshTokenInvalid(errorCode.getCode(), errorCode.getMessage())));
+    }
+
+    private String invalidTokenBody(InvalidTokenException ex) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        writer.writeInvalidToken(response, ex);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        return response.getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private User user(Role role, String note) {
+        return User.builder()
+                .id(1L)
+                .email("user@example.com")
+                .name("User")
+                .spareTime(10)
+                .note(note)
+                .punctualityScore(95.0f)
+                .role(role)
+                .build();
+    }
+}
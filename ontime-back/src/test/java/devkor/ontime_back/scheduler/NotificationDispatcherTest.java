@@ -0,0 +1,152 @@
+package devkor.ontime_back.scheduler;
+
+import devkor.ontime_back.service.NotificationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDispatcherTest {
+
+    @Mock
+    private NotificationService notificationService;
+
+    private ReminderTimingWheel timingWheel;
+
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        timingWheel = new ReminderTimingWheel();
+        dispatcher = new NotificationDispatcher(notificationService, timingWheel, 2, 60, 10, 180, 2, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void rollHorizonLoadsWholeHorizonOnStartupAndOnlyNewSlicesAfterwards() {
+        dispatcher.rollHorizon();
+        dispatcher.rollHorizon();
+
+        ArgumentCaptor<LocalDateTime> windowStarts = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> windowEnds = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(notificationService, times(3)).loadPendingNotifications(
+                windowStarts.capture(), windowEnds.capture(), any(), eq(2));
+        LocalDateTime initialHorizonEnd = windowEnds.getAllValues().get(0);
+        assertThat(Duration.between(windowStarts.getAllValues().get(0), initialHorizonEnd))
+                .isEqualTo(Duration.ofMinutes(190));
+        // 두 번째 주기: catch-up 구간과, 직전 horizon 끝 이후의 새 구간
+        assertThat(Duration.between(windowStarts.getAllValues().get(1), windowEnds.getAllValues().get(1)))
+                .isEqualTo(Duration.ofMinutes(10));
+        assertThat(windowStarts.getAllValues().get(2)).isEqualTo(initialHorizonEnd);
+        assertThat(timingWheel.scheduleWithinHorizon(99L, Instant.now().getEpochSecond() + 3600)).isTrue();
+    }
+
+    @Test
+    void fireDueNotificationsSkipsRemindersClaimedByAnotherNode() {
+        String leaseOwner = dispatcher.getLeaseOwner();
+        timingWheel.schedule(1L, Instant.now().getEpochSecond() - 1);
+        when(notificationService.claimNotification(eq(1L), eq(leaseOwner), any(), any(), eq(Duration.ofSeconds(60))))
+                .thenReturn(false);
+
+        dispatcher.fireDueNotifications();
+
+        verify(notificationService, timeout(1000)).claimNotification(eq(1L), eq(leaseOwner), any(), any(), any());
+        verify(notificationService, after(100).never()).dispatchReminder(any(), any());
+    }
+
+    @Test
+    void fireDueNotificationsDispatchesOnlyRemindersWhoseSecondHasArrived() {
+        String leaseOwner = dispatcher.getLeaseOwner();
+        long now = Instant.now().getEpochSecond();
+        timingWheel.schedule(1L, now - 1);
+        timingWheel.schedule(2L, now + 3600);
+        when(notificationService.claimNotification(any(), eq(leaseOwner), any(), any(), any())).thenReturn(true);
+
+        dispatcher.fireDueNotifications();
+
+        verify(notificationService, timeout(1000)).dispatchReminder(1L, leaseOwner);
+        assertThat(timingWheel.contains(1L)).isFalse();
+        assertThat(timingWheel.contains(2L)).isTrue();
+    }
+
+    @Test
+    void fireDueNotificationsContinuesAfterSingleReminderFailure() {
+        String leaseOwner = dispatcher.getLeaseOwner();
+        long now = Instant.now().getEpochSecond();
+        timingWheel.schedule(1L, now - 1);
+        timingWheel.schedule(2L, now - 1);
+        when(notificationService.claimNotification(any(), eq(leaseOwner), any(), any(), any())).thenReturn(true);
+        doThrow(new IllegalArgumentException("No UserSetting found in schedule's user"))
+                .when(notificationService).dispatchReminder(1L, leaseOwner);
+
+        dispatcher.fireDueNotifications();
+
+        verify(notificationService, timeout(1000)).dispatchReminder(1L, leaseOwner);
+        verify(notificationService, timeout(1000)).dispatchReminder(2L, leaseOwner);
+    }
+
+    @Test
+    void shutdownDropsPendingEntriesAndReleasesLeases() {
+        String leaseOwner = dispatcher.getLeaseOwner();
+        timingWheel.schedule(1L, Instant.now().getEpochSecond() + 30);
+        when(notificationService.releaseLeases(leaseOwner, List.of())).thenReturn(1);
+
+        dispatcher.shutdown();
+
+        assertThat(timingWheel.size()).isZero();
+        verify(notificationService).releaseLeases(leaseOwner, List.of());
+    }
+
+    @Test
+    void shutdownKeepsLeasesOfRemindersStillBeingDispatched() throws InterruptedException {
+        String leaseOwner = dispatcher.getLeaseOwner();
+        timingWheel.schedule(1L, Instant.now().getEpochSecond() - 1);
+        CountDownLatch dispatching = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(notificationService.claimNotification(eq(1L), eq(leaseOwner), any(), any(), any())).thenReturn(true);
+        doAnswer(invocation -> {
+            dispatching.countDown();
+            // 종료 대기 시간(1초)보다 오래 발송 중인 상황. 인터럽트도 무시하고 계속 보낸다.
+            while (true) {
+                try {
+                    release.await();
+                    return null;
+                } catch (InterruptedException ignored) {
+                }
+            }
+        }).when(notificationService).dispatchReminder(1L, leaseOwner);
+
+        dispatcher.fireDueNotifications();
+        assertThat(dispatching.await(1, TimeUnit.SECONDS)).isTrue();
+        dispatcher.shutdown();
+        release.countDown();
+
+        verify(notificationService).releaseLeases(leaseOwner, List.of(1L));
+    }
+}
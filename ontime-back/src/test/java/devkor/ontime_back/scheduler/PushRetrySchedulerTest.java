@@ -0,0 +1,23 @@
+package devkor.ontime_back.scheduler;
+
+import devkor.ontime_back.service.PushDeliveryService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PushRetrySchedulerTest {
+
+    @Mock
+    private PushDeliveryService pushDeliveryService;
+
+    @Test
+    void retryDueDeliveriesDrainsRetryQueue() {
+        new PushRetryScheduler(pushDeliveryService).retryDueDeliveries();
+
+        verify(pushDeliveryService).retryDueDeliveries();
+    }
+}
@@ -0,0 +1,95 @@
+package devkor.ontime_back.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReminderRescheduleCoalescerTest {
+
+    private ReminderTimingWheel timingWheel;
+
+    private ReminderRescheduleCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        timingWheel = new ReminderTimingWheel(2, 3, 0);
+        timingWheel.extendHorizon(1_000);
+        coalescer = new ReminderRescheduleCoalescer(timingWheel);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(coalescer);
+    }
+
+    @Test
+    void outsideTransactionRequestsApplyImmediately() {
+        coalescer.reschedule(1L, 10);
+        assertThat(timingWheel.contains(1L)).isTrue();
+
+        coalescer.cancel(1L);
+        assertThat(timingWheel.contains(1L)).isFalse();
+    }
+
+    @Test
+    void repeatedReschedulesInOneTransactionApplyOnlyFinalTimeAtCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        coalescer.reschedule(1L, 10);
+        coalescer.reschedule(1L, 20);
+        coalescer.reschedule(1L, 30);
+        coalescer.reschedule(2L, 15);
+        coalescer.cancel(2L);
+
+        assertThat(timingWheel.size()).isZero();
+        commit();
+
+        assertThat(timingWheel.size()).isEqualTo(1);
+        assertThat(fireUntil(40)).containsExactly(List.of(30L, 1L));
+        assertThat(TransactionSynchronizationManager.getResource(coalescer)).isNull();
+    }
+
+    @Test
+    void rolledBackTransactionLeavesTimingWheelUntouched() {
+        timingWheel.schedule(1L, 10);
+        TransactionSynchronizationManager.initSynchronization();
+        coalescer.reschedule(1L, 50);
+        coalescer.cancel(1L);
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(fireUntil(60)).containsExactly(List.of(10L, 1L));
+        assertThat(TransactionSynchronizationManager.getResource(coalescer)).isNull();
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private List<List<Long>> fireUntil(long to) {
+        List<List<Long>> fired = new ArrayList<>();
+        for (long second = 1; second <= to; second++) {
+            for (Long notificationId : timingWheel.advanceTo(second)) {
+                fired.add(List.of(second, notificationId));
+            }
+        }
+        return fired;
+    }
+}
@@ -0,0 +1,119 @@
+package devkor.ontime_back.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReminderTimingWheelTest {
+
+    // 2비트 슬롯 x 3 level: level 0 은 4초, level 1 은 16초, level 2 는 64초를 덮는다.
+    private static final int SLOT_BITS = 2;
+    private static final int LEVELS = 3;
+
+    @Test
+    void advanceToFiresLevelZeroEntriesExactlyAtTheirSecond() {
+        ReminderTimingWheel wheel = new ReminderTimingWheel(SLOT_BITS, LEVELS, 0);
+        wheel.schedule(1L, 2);
+        wheel.schedule(2L, 3);
+
+        assertThat(wheel.advanceTo(1)).isEmpty();
+        assertThat(wheel.advanceTo(2)).containsExactly(1L);
+        assertThat(wheel.advanceTo(3)).containsExactly(2L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void entriesOnUpperLevelsCascadeDownAndFireOnTime() {
+        ReminderTimingWheel wheel = new ReminderTimingWheel(SLOT_BITS, LEVELS, 0);
+        wheel.schedule(1L, 7);
+        wheel.schedule(2L, 21);
+        wheel.schedule(3L, 50);
+
+        assertThat(fireEachSecond(wheel, 0, 64)).containsExactly(
+                List.of(7L, 1L), List.of(21L, 2L), List.of(50L, 3L));
+    }
+
+    @Test
+    void entriesBeyondTopLevelHorizonAreRequeuedUntilTheirSecond() {
+        ReminderTimingWheel wheel = new ReminderTimingWheel(SLOT_BITS, LEVELS, 0);
+        wheel.schedule(1L, 200);
+
+        assertThat(fireEachSecond(wheel, 0, 256)).containsExactly(List.of(200L, 1L));
+    }
+
+    @Test
+    void cancelRemovesEntryWithoutFiringIt() {
+        ReminderTimingWheel wheel = new ReminderTimingWheel(SLOT_BITS, LEVELS, 0);
+        wheel.schedule(1L, 5);
+        wheel.schedule(2L, 5);
+
+        assertThat(wheel.cancel(1L)).isTrue();
+        assertThat(wheel.cancel(1L)).isFalse();
+        assertThat(wheel.advanceTo(10)).containsExactly(2L);
+    }
+
+    @Test
+    void scheduleReplacesPreviousSecondForSameNotification() {
+        ReminderTimingWheel wheel = new ReminderTimingWheel(SLOT_BITS, LEVELS, 0);
+        wheel.schedule(1L, 5);
+        wheel.schedule(1L, 30);
+
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(fireEachSecond(wheel, 0, 40)).containsExactly(List.of(30L, 1L));
+    }
+
+    @Test
+    void entriesAtOrBeforeCurrentSecondFireOnNextAdvance() {
+        ReminderTimingWheel wheel = new ReminderTimingWheel(SLOT_BITS, LEVELS, 100);
+        wheel.schedule(1L, 90);
+        wheel.schedule(2L, 100);
+        wheel.schedule(3L, 95);
+        wheel.cancel(3L);
+
+        assertThat(wheel.advanceTo(100)).containsExactly(1L, 2L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void scheduleWithinHorizonOnlyAcceptsSecondsAlreadyLoaded() {
+        ReminderTimingWheel wheel = new ReminderTimingWheel(SLOT_BITS, LEVELS, 0);
+        assertThat(wheel.scheduleWithinHorizon(1L, 5)).isFalse();
+
+        wheel.extendHorizon(20);
+        assertThat(wheel.scheduleWithinHorizon(1L, 5)).isTrue();
+        // 구간 밖으로 옮겨진 알림은 기존 엔트리를 지우고 다음 구간 적재에 맡긴다.
+        assertThat(wheel.scheduleWithinHorizon(1L, 30)).isFalse();
+        assertThat(wheel.contains(1L)).isFalse();
+    }
+
+    @Test
+    void drainAllReturnsAndClearsPendingEntries() {
+        ReminderTimingWheel wheel = new ReminderTimingWheel(SLOT_BITS, LEVELS, 0);
+        wheel.schedule(1L, 3);
+        wheel.schedule(2L, 40);
+
+        assertThat(wheel.drainAll()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(wheel.size()).isZero();
+        assertThat(wheel.advanceTo(64)).isEmpty();
+    }
+
+    @Test
+    void constructorRejectsDegenerateWheel() {
+        assertThatThrownBy(() -> new ReminderTimingWheel(SLOT_BITS, 1, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<List<Long>> fireEachSecond(ReminderTimingWheel wheel, long from, long to) {
+        List<List<Long>> fired = new ArrayList<>();
+        for (long second = from + 1; second <= to; second++) {
+            for (Long notificationId : wheel.advanceTo(second)) {
+                fired.add(List.of(second, notificationId));
+            }
+        }
+        return fired;
+    }
+}
@@ -0,0 +1,66 @@
+package devkor.ontime_back.service;
+
+import devkor.ontime_back.dto.ActiveDeviceSessionDto;
+import devkor.ontime_back.entity.User;
+import devkor.ontime_back.entity.UserDevice;
+import devkor.ontime_back.repository.UserDeviceRepository;
+import devkor.ontime_back.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ActiveDeviceSessionQueryTest {
+
+    @Autowired
+    private UserDeviceRepository userDeviceRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        userDeviceRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("활성 기기만 기기 세션 id 와 사용자의 현재 세션 id 를 함께 읽는다")
+    @Test
+    void findActiveSessionsReadsDeviceAndUserSessionIds() {
+        // given
+        User user = userRepository.save(User.builder()
+                .email("device-session@example.com")
+                .activeSessionId("current-session-id")
+                .build());
+        UserDevice activeDevice = saveDevice(user, "active-device-id-1234", "current-session-id", true);
+        saveDevice(user, "inactive-device-id-1234", "previous-session-id", false);
+
+        // when
+        List<ActiveDeviceSessionDto> sessions = userDeviceRepository.findActiveSessionsByUserIdIn(List.of(user.getId()));
+
+        // then
+        assertThat(sessions).singleElement().satisfies(session -> {
+            assertThat(session.getUserDeviceId()).isEqualTo(activeDevice.getUserDeviceId());
+            assertThat(session.getUserId()).isEqualTo(user.getId());
+            assertThat(session.getDeviceSessionId()).isEqualTo("current-session-id");
+            assertThat(session.getActiveSessionId()).isEqualTo("current-session-id");
+        });
+    }
+
+    private UserDevice saveDevice(User user, String deviceId, String sessionId, boolean active) {
+        UserDevice device = UserDevice.create(user, deviceId);
+        device.activate("ios", "1.0.0", "17.0", true, "iosAlarmKit", "localNotification", Instant.now());
+        device.bindSession("access-" + deviceId, null, sessionId);
+        if (!active) {
+            device.deactivate();
+        }
+        return userDeviceRepository.save(device);
+    }
+}
@@ -0,0 +1,70 @@
+package devkor.ontime_back.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptivePushRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void reserveLetsBurstUpToOneSecondOfPermitsThenChargesTheDebt() {
+        AdaptivePushRateLimiter limiter = new AdaptivePushRateLimiter(1000, 50, 5000, clock::get);
+
+        assertThat(limiter.reserve(500)).isZero();
+        assertThat(limiter.reserve(500)).isZero();
+        assertThat(limiter.reserve(500)).isZero();
+        // 앞선 요청이 500건을 빌려 갔으므로 0.5초를 기다린다.
+        assertThat(limiter.reserve(500)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    void reserveRefillsWithElapsedTimeButNotBeyondOneSecond() {
+        AdaptivePushRateLimiter limiter = new AdaptivePushRateLimiter(1000, 50, 5000, clock::get);
+        limiter.reserve(1500);
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(limiter.reserve(100)).isZero();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertThat(limiter.reserve(1000)).isZero();
+        assertThat(limiter.reserve(1)).isZero();
+        assertThat(limiter.reserve(1)).isPositive();
+    }
+
+    @Test
+    void onThrottledHalvesRateDownToMinimumAndDrainsBucket() {
+        AdaptivePushRateLimiter limiter = new AdaptivePushRateLimiter(1000, 300, 5000, clock::get);
+
+        limiter.onThrottled();
+        assertThat(limiter.getPermitsPerSecond()).isEqualTo(500);
+        assertThat(limiter.reserve(1)).isZero();
+        assertThat(limiter.reserve(1)).isPositive();
+
+        limiter.onThrottled();
+        assertThat(limiter.getPermitsPerSecond()).isEqualTo(300);
+    }
+
+    @Test
+    void onSuccessRaisesRateAdditivelyUpToMaximum() {
+        AdaptivePushRateLimiter limiter = new AdaptivePushRateLimiter(1000, 50, 1080, clock::get);
+
+        limiter.onSuccess();
+        assertThat(limiter.getPermitsPerSecond()).isEqualTo(1050);
+        limiter.onSuccess();
+        assertThat(limiter.getPermitsPerSecond()).isEqualTo(1080);
+    }
+
+    @Test
+    void constructorRejectsInvalidBounds() {
+        assertThatThrownBy(() -> new AdaptivePushRateLimiter(100, 0, 100, clock::get))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptivePushRateLimiter(100, 200, 100, clock::get))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
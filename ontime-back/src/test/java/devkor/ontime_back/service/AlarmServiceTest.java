@@ -1,6 +1,7 @@
 package devkor.ontime_back.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import devkor.ontime_back.dto.ActiveDeviceSessionDto;
 import devkor.ontime_back.dto.AlarmDeviceCurrentRequestDto;
 import devkor.ontime_back.dto.AlarmDeviceCurrentResponseDto;
 import devkor.ontime_back.dto.AlarmDeviceUnregisterRequestDto;
@@ -37,6 +38,7 @@ import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -53,6 +55,7 @@ class AlarmServiceTest {
     private static final String DEVICE_ID = "4f78cdd2-2d90-43b8-8bc5-53df8d9c5b12";
     private static final String ACCESS_TOKEN = "current-access-token";
     private static final String REFRESH_TOKEN = "current-refresh-token";
+    private static final String SESSION_ID = "current-session-id";
 
     @Mock
     private UserRepository userRepository;
@@ -82,6 +85,7 @@ class AlarmServiceTest {
                 .id(USER_ID)
                 .email("user@example.com")
                 .accessToken(ACCESS_TOKEN)
+                .activeSessionId(SESSION_ID)
                 .build();
     }
 
@@ -89,7 +93,7 @@ class AlarmServiceTest {
     @DisplayName("registerCurrentDevice binds the active device to the current access token and deactivates older devices")
     void registerCurrentDeviceBindsSessionAndDeactivatesOlderDevices() {
         UserDevice oldDevice = userDevice("old-device-id-1234", 10L);
-        oldDevice.bindSession("old-access-token", null);
+        oldDevice.bindSession("old-access-token", null, null);
 
         when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
         when(userDeviceRepository.findAllByUserIdAndActiveTrue(USER_ID)).thenReturn(List.of(oldDevice));
@@ -116,7 +120,9 @@ class AlarmServiceTest {
         assertThat(response.getDeviceId()).isEqualTo(DEVICE_ID);
         assertThat(response.getActive()).isTrue();
         assertThat(oldDevice.getActive()).isFalse();
-        verify(userDeviceRepository).save(any(UserDevice.class));
+        ArgumentCaptor<UserDevice> savedDevice = forClass(UserDevice.class);
+        verify(userDeviceRepository).save(savedDevice.capture());
+        assertThat(savedDevice.getValue().getSessionId()).isEqualTo(SESSION_ID);
     }
 
     @Test
@@ -198,7 +204,7 @@ class AlarmServiceTest {
     @DisplayName("reportAlarmStatus rejects a device whose session token is no longer current")
     void reportAlarmStatusRejectsWrongSession() {
         UserDevice currentDevice = userDevice(DEVICE_ID, 11L);
-        currentDevice.bindSession("different-access-token", null);
+        currentDevice.bindSession("different-access-token", null, null);
 
         when(userDeviceRepository.findByUserIdAndDeviceIdAndActiveTrue(USER_ID, DEVICE_ID))
                 .thenReturn(Optional.of(currentDevice));
@@ -213,7 +219,7 @@ class AlarmServiceTest {
     @DisplayName("reportAlarmStatus persists normalized counts and failure details for the active device session")
     void reportAlarmStatusPersistsStatusForCurrentDeviceSession() {
         UserDevice currentDevice = userDevice(DEVICE_ID, 11L);
-        currentDevice.bindSession(ACCESS_TOKEN, null);
+        currentDevice.bindSession(ACCESS_TOKEN, null, null);
         AlarmStatusReportRequestDto request = AlarmStatusReportRequestDto.builder()
                 .deviceId(DEVICE_ID)
                 .reconciledAt(OffsetDateTime.parse("2026-05-05T09:00:00.000Z"))
@@ -255,7 +261,7 @@ class AlarmServiceTest {
     @DisplayName("reportAlarmStatus updates an existing status record for the active device")
     void reportAlarmStatusUpdatesExistingDeviceStatus() {
         UserDevice currentDevice = userDevice(DEVICE_ID, 11L);
-        currentDevice.bindSession(ACCESS_TOKEN, null);
+        currentDevice.bindSession(ACCESS_TOKEN, null, null);
         UserAlarmStatus existingStatus = UserAlarmStatus.create(user, currentDevice);
         when(userDeviceRepository.findByUserIdAndDeviceIdAndActiveTrue(USER_ID, DEVICE_ID))
                 .thenReturn(Optional.of(currentDevice));
@@ -272,7 +278,7 @@ class AlarmServiceTest {
     @DisplayName("getCurrentAlarmStatus returns inactive when no active device belongs to the access token")
     void getCurrentAlarmStatusReturnsInactiveWithoutCurrentSessionDevice() {
         UserDevice otherDevice = userDevice(DEVICE_ID, 12L);
-        otherDevice.bindSession("other-token", null);
+        otherDevice.bindSession("other-token", null, null);
         when(userDeviceRepository.findAllByUserIdAndActiveTrue(USER_ID)).thenReturn(List.of(otherDevice));
 
         AlarmStatusCurrentResponseDto response = alarmService.getCurrentAlarmStatus(USER_ID, ACCESS_TOKEN);
@@ -284,7 +290,7 @@ class AlarmServiceTest {
     @DisplayName("getCurrentAlarmStatus returns the active device and parsed status payload")
     void getCurrentAlarmStatusReturnsDeviceAndLatestStatus() {
         UserDevice currentDevice = userDevice(DEVICE_ID, 12L);
-        currentDevice.bindSession(ACCESS_TOKEN, null);
+        currentDevice.bindSession(ACCESS_TOKEN, null, null);
         UserAlarmStatus status = UserAlarmStatus.builder()
                 .user(user)
                 .userDevice(currentDevice)
@@ -321,7 +327,7 @@ class AlarmServiceTest {
     @DisplayName("getCurrentAlarmStatus treats malformed stored JSON as empty lists")
     void getCurrentAlarmStatusIgnoresMalformedStoredJsonLists() {
         UserDevice currentDevice = userDevice(DEVICE_ID, 12L);
-        currentDevice.bindSession(ACCESS_TOKEN, null);
+        currentDevice.bindSession(ACCESS_TOKEN, null, null);
         UserAlarmStatus status = UserAlarmStatus.builder()
                 .user(user)
                 .userDevice(currentDevice)
@@ -353,7 +359,7 @@ class AlarmServiceTest {
     @DisplayName("unregisterCurrentDevice deactivates the named current-session device")
     void unregisterCurrentDeviceDeactivatesNamedSessionDevice() {
         UserDevice currentDevice = userDevice(DEVICE_ID, 13L);
-        currentDevice.bindSession(ACCESS_TOKEN, null);
+        currentDevice.bindSession(ACCESS_TOKEN, null, null);
         when(userDeviceRepository.findByUserIdAndDeviceIdAndActiveTrue(USER_ID, DEVICE_ID))
                 .thenReturn(Optional.of(currentDevice));
 
@@ -386,9 +392,9 @@ class AlarmServiceTest {
     @DisplayName("unregisterCurrentDevice deactivates only devices bound to the current session when present")
     void unregisterCurrentDeviceWithoutDeviceIdPrefersCurrentSessionDevices() {
         UserDevice currentDevice = userDevice(DEVICE_ID, 13L);
-        currentDevice.bindSession(ACCESS_TOKEN, null);
+        currentDevice.bindSession(ACCESS_TOKEN, null, null);
         UserDevice otherDevice = userDevice("other-device-id-1234", 14L);
-        otherDevice.bindSession("other-token", null);
+        otherDevice.bindSession("other-token", null, null);
         when(userDeviceRepository.findAllByUserIdAndActiveTrue(USER_ID)).thenReturn(List.of(currentDevice, otherDevice));
 
         alarmService.unregisterCurrentDevice(USER_ID, null, ACCESS_TOKEN);
@@ -401,9 +407,9 @@ class AlarmServiceTest {
     @DisplayName("unregisterCurrentDevice deactivates all active devices when none belongs to the current session")
     void unregisterCurrentDeviceWithoutDeviceIdDeactivatesAllDevicesWhenNoSessionDeviceMatches() {
         UserDevice firstDevice = userDevice(DEVICE_ID, 13L);
-        firstDevice.bindSession("first-token", null);
+        firstDevice.bindSession("first-token", null, null);
         UserDevice secondDevice = userDevice("other-device-id-1234", 14L);
-        secondDevice.bindSession("second-token", null);
+        secondDevice.bindSession("second-token", null, null);
         when(userDeviceRepository.findAllByUserIdAndActiveTrue(USER_ID)).thenReturn(List.of(firstDevice, secondDevice));
 
         alarmService.unregisterCurrentDevice(USER_ID, null, ACCESS_TOKEN);
@@ -416,7 +422,7 @@ class AlarmServiceTest {
     @DisplayName("linkFirebaseToken writes the token only for the active device session")
     void linkFirebaseTokenUpdatesCurrentSessionDevice() {
         UserDevice currentDevice = userDevice(DEVICE_ID, 15L);
-        currentDevice.bindSession(ACCESS_TOKEN, null);
+        currentDevice.bindSession(ACCESS_TOKEN, null, null);
         when(userDeviceRepository.findByUserIdAndDeviceIdAndActiveTrue(USER_ID, DEVICE_ID))
                 .thenReturn(Optional.of(currentDevice));
 
@@ -430,7 +436,7 @@ class AlarmServiceTest {
     void shouldSuppressLegacyReminderRequiresCurrentSessionAndArmedSchedule() {
         UUID scheduleId = UUID.fromString("123e4567-e89b-12d3-a456-426614170105");
         UserDevice currentDevice = userDevice(DEVICE_ID, 12L);
-        currentDevice.bindSession(ACCESS_TOKEN, null);
+        currentDevice.bindSession(ACCESS_TOKEN, null, SESSION_ID);
         UserAlarmStatus alarmStatus = UserAlarmStatus.builder()
                 .user(user)
                 .userDevice(currentDevice)
@@ -448,13 +454,11 @@ class AlarmServiceTest {
                 .updatedAt(Instant.now())
                 .build();
 
-        when(userAlarmSettingRepository.findByUserId(USER_ID))
-                .thenReturn(Optional.of(UserAlarmSetting.defaultFor(user)));
-        when(userDeviceRepository.findFirstByUserIdAndActiveTrueOrderByLastSeenAtDesc(USER_ID))
-                .thenReturn(Optional.of(currentDevice));
-        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
-        when(userAlarmStatusRepository.findByUserDeviceUserDeviceId(currentDevice.getUserDeviceId()))
-                .thenReturn(Optional.of(alarmStatus));
+        when(userAlarmSettingRepository.findAlarmsDisabledUserIds(Set.of(USER_ID))).thenReturn(List.of());
+        when(userDeviceRepository.findActiveSessionsByUserIdIn(Set.of(USER_ID)))
+                .thenReturn(List.of(session(currentDevice)));
+        when(userAlarmStatusRepository.findAllByUserDeviceUserDeviceIdIn(Set.of(currentDevice.getUserDeviceId())))
+                .thenReturn(List.of(alarmStatus));
 
         boolean shouldSuppress = alarmService.shouldSuppressLegacyReminder(
                 USER_ID,
@@ -470,7 +474,7 @@ class AlarmServiceTest {
     void shouldSuppressLegacyReminderReturnsFalseForStaleAlarmStatus() {
         UUID scheduleId = UUID.fromString("123e4567-e89b-12d3-a456-426614170105");
         UserDevice currentDevice = userDevice(DEVICE_ID, 12L);
-        currentDevice.bindSession(ACCESS_TOKEN, null);
+        currentDevice.bindSession(ACCESS_TOKEN, null, SESSION_ID);
         UserAlarmStatus alarmStatus = UserAlarmStatus.builder()
                 .user(user)
                 .userDevice(currentDevice)
@@ -488,13 +492,11 @@ class AlarmServiceTest {
                 .updatedAt(Instant.now())
                 .build();
 
-        when(userAlarmSettingRepository.findByUserId(USER_ID))
-                .thenReturn(Optional.of(UserAlarmSetting.defaultFor(user)));
-        when(userDeviceRepository.findFirstByUserIdAndActiveTrueOrderByLastSeenAtDesc(USER_ID))
-                .thenReturn(Optional.of(currentDevice));
-        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
-        when(userAlarmStatusRepository.findByUserDeviceUserDeviceId(currentDevice.getUserDeviceId()))
-                .thenReturn(Optional.of(alarmStatus));
+        when(userAlarmSettingRepository.findAlarmsDisabledUserIds(Set.of(USER_ID))).thenReturn(List.of());
+        when(userDeviceRepository.findActiveSessionsByUserIdIn(Set.of(USER_ID)))
+                .thenReturn(List.of(session(currentDevice)));
+        when(userAlarmStatusRepository.findAllByUserDeviceUserDeviceIdIn(Set.of(currentDevice.getUserDeviceId())))
+                .thenReturn(List.of(alarmStatus));
 
         boolean shouldSuppress = alarmService.shouldSuppressLegacyReminder(
                 USER_ID,
@@ -753,7 +755,7 @@ class AlarmServiceTest {
     @DisplayName("reportAlarmStatus fails when the owning user disappears before status persistence")
     void reportAlarmStatusRejectsMissingUserAfterSessionValidation() {
         UserDevice currentDevice = userDevice(DEVICE_ID, 11L);
-        currentDevice.bindSession(ACCESS_TOKEN, null);
+        currentDevice.bindSession(ACCESS_TOKEN, null, null);
         when(userDeviceRepository.findByUserIdAndDeviceIdAndActiveTrue(USER_ID, DEVICE_ID))
                 .thenReturn(Optional.of(currentDevice));
         when(userRepository.findById(USER_ID)).thenReturn(Optional.empty());
@@ -779,9 +781,7 @@ class AlarmServiceTest {
     @Test
     @DisplayName("shouldSuppressLegacyReminder does not suppress when user disabled native alarms")
     void shouldSuppressLegacyReminderReturnsFalseWhenAlarmsDisabled() {
-        UserAlarmSetting setting = UserAlarmSetting.defaultFor(user);
-        setting.update(false, null);
-        when(userAlarmSettingRepository.findByUserId(USER_ID)).thenReturn(Optional.of(setting));
+        when(userAlarmSettingRepository.findAlarmsDisabledUserIds(Set.of(USER_ID))).thenReturn(List.of(USER_ID));
 
         boolean shouldSuppress = alarmService.shouldSuppressLegacyReminder(
                 USER_ID,
@@ -883,6 +883,67 @@ class AlarmServiceTest {
         )).isFalse();
     }
 
+    @Test
+    @DisplayName("findSuppressedLegacyReminders resolves many reminders with one query per source")
+    void findSuppressedLegacyRemindersResolvesBatchWithFixedQueries() {
+        UUID armedScheduleId = UUID.fromString("123e4567-e89b-12d3-a456-426614170105");
+        UserAlarmStatus status = suppressibleStatus(armedScheduleId);
+        UserDevice currentDevice = status.getUserDevice();
+        User otherUser = User.builder()
+                .id(2L)
+                .email("other@example.com")
+                .accessToken("other-access-token")
+                .activeSessionId("other-session-id")
+                .build();
+        UserDevice otherSessionDevice = UserDevice.builder()
+                .userDeviceId(21L)
+                .user(otherUser)
+                .deviceId("5a78cdd2-2d90-43b8-8bc5-53df8d9c5b21")
+                .platform("android")
+                .supportsNativeAlarm(true)
+                .nativeAlarmProvider("androidAlarmManager")
+                .fallbackProvider("none")
+                .active(true)
+                .lastSeenAt(Instant.now().minus(Duration.ofHours(1)))
+                .build();
+        otherSessionDevice.bindSession("other-access-token", null, "other-session-id");
+        UserDevice otherLatestDevice = UserDevice.builder()
+                .userDeviceId(22L)
+                .user(otherUser)
+                .deviceId("6b78cdd2-2d90-43b8-8bc5-53df8d9c5b22")
+                .platform("android")
+                .supportsNativeAlarm(true)
+                .nativeAlarmProvider("androidAlarmManager")
+                .fallbackProvider("none")
+                .active(true)
+                .lastSeenAt(Instant.now())
+                .build();
+        otherLatestDevice.bindSession("previous-access-token", null, "previous-session-id");
+
+        when(userAlarmSettingRepository.findAlarmsDisabledUserIds(Set.of(USER_ID, 2L))).thenReturn(List.of());
+        when(userDeviceRepository.findActiveSessionsByUserIdIn(Set.of(USER_ID, 2L)))
+                .thenReturn(List.of(session(currentDevice), session(otherSessionDevice), session(otherLatestDevice)));
+        when(userAlarmStatusRepository.findAllByUserDeviceUserDeviceIdIn(Set.of(12L)))
+                .thenReturn(List.of(status));
+
+        AlarmService.LegacyReminder covered = new AlarmService.LegacyReminder(
+                USER_ID, armedScheduleId, LocalDateTime.of(2026, 5, 5, 8, 50));
+        AlarmService.LegacyReminder notArmed = new AlarmService.LegacyReminder(
+                USER_ID, UUID.randomUUID(), LocalDateTime.of(2026, 5, 5, 8, 50));
+        AlarmService.LegacyReminder outsideCoverage = new AlarmService.LegacyReminder(
+                USER_ID, armedScheduleId, LocalDateTime.of(2026, 5, 12, 0, 0));
+        AlarmService.LegacyReminder staleSession = new AlarmService.LegacyReminder(
+                2L, armedScheduleId, LocalDateTime.of(2026, 5, 5, 8, 50));
+
+        Set<AlarmService.LegacyReminder> suppressed = alarmService.findSuppressedLegacyReminders(
+                List.of(covered, notArmed, outsideCoverage, staleSession));
+
+        assertThat(suppressed).containsExactly(covered);
+        verify(userAlarmSettingRepository).findAlarmsDisabledUserIds(any());
+        verify(userDeviceRepository).findActiveSessionsByUserIdIn(any());
+        verify(userAlarmStatusRepository).findAllByUserDeviceUserDeviceIdIn(any());
+    }
+
     private AlarmStatusReportRequestDto validStatusReport() {
         return validStatusReportBuilder().build();
     }
@@ -933,19 +994,17 @@ class AlarmServiceTest {
 
     private void stubSuppressionContext(UserAlarmStatus status) {
         UserDevice currentDevice = status.getUserDevice();
-        currentDevice.bindSession(ACCESS_TOKEN, null);
-        when(userAlarmSettingRepository.findByUserId(USER_ID))
-                .thenReturn(Optional.of(UserAlarmSetting.defaultFor(user)));
-        when(userDeviceRepository.findFirstByUserIdAndActiveTrueOrderByLastSeenAtDesc(USER_ID))
-                .thenReturn(Optional.of(currentDevice));
-        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
-        when(userAlarmStatusRepository.findByUserDeviceUserDeviceId(currentDevice.getUserDeviceId()))
-                .thenReturn(Optional.of(status));
+        currentDevice.bindSession(ACCESS_TOKEN, null, SESSION_ID);
+        when(userAlarmSettingRepository.findAlarmsDisabledUserIds(Set.of(USER_ID))).thenReturn(List.of());
+        when(userDeviceRepository.findActiveSessionsByUserIdIn(Set.of(USER_ID)))
+                .thenReturn(List.of(session(currentDevice)));
+        when(userAlarmStatusRepository.findAllByUserDeviceUserDeviceIdIn(Set.of(currentDevice.getUserDeviceId())))
+                .thenReturn(List.of(status));
     }
 
     private UserAlarmStatus suppressibleStatus(UUID scheduleId) {
         UserDevice currentDevice = userDevice(DEVICE_ID, 12L);
-        currentDevice.bindSession(ACCESS_TOKEN, null);
+        currentDevice.bindSession(ACCESS_TOKEN, null, SESSION_ID);
         return UserAlarmStatus.builder()
                 .user(user)
                 .userDevice(currentDevice)
@@ -966,6 +1025,11 @@ class AlarmServiceTest {
                 .build();
     }
 
+    private ActiveDeviceSessionDto session(UserDevice device) {
+        return new ActiveDeviceSessionDto(device.getUserDeviceId(), device.getUser().getId(), device.getLastSeenAt(),
+                device.getSessionId(), device.getUser().getActiveSessionId());
+    }
+
     private UserDevice userDevice(String deviceId, Long userDeviceId) {
         return UserDevice.builder()
                 .userDeviceId(userDeviceId)
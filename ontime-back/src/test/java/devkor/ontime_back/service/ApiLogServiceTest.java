@@ -1,46 +1,46 @@
 package devkor.ontime_back.service;
 
 import devkor.ontime_back.entity.ApiLog;
-import devkor.ontime_back.repository.ApiLogRepository;
+import devkor.ontime_back.logging.ApiLogBatchWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class ApiLogServiceTest {
 
     @Mock
-    private ApiLogRepository apiLogRepository;
+    private ApiLogBatchWriter apiLogBatchWriter;
 
     private ApiLogService apiLogService;
 
     @BeforeEach
     void setUp() {
-        apiLogService = new ApiLogService(apiLogRepository);
+        apiLogService = new ApiLogService(apiLogBatchWriter);
     }
 
     @Test
-    void saveLogPersistsStructuredRequestAuditRecord() {
+    void saveLogHandsStructuredRequestAuditRecordToBatchWriter() {
         ApiLog apiLog = apiLog();
 
         apiLogService.saveLog(apiLog);
 
-        verify(apiLogRepository).save(apiLog);
+        verify(apiLogBatchWriter).enqueue(apiLog);
     }
 
     @Test
-    void saveLogDoesNotBreakRequestFlowWhenAuditPersistenceFails() {
+    void saveLogDoesNotBreakRequestFlowWhenBufferIsFull() {
         ApiLog apiLog = apiLog();
-        doThrow(new RuntimeException("database unavailable")).when(apiLogRepository).save(apiLog);
+        when(apiLogBatchWriter.enqueue(apiLog)).thenReturn(false);
 
         apiLogService.saveLog(apiLog);
 
-        verify(apiLogRepository).save(apiLog);
+        verify(apiLogBatchWriter).enqueue(apiLog);
     }
 
     private ApiLog apiLog() {
@@ -1,18 +1,31 @@
 package devkor.ontime_back.service;
 
+import devkor.ontime_back.dto.UserSessionDto;
 import devkor.ontime_back.entity.Role;
 import devkor.ontime_back.entity.User;
 import devkor.ontime_back.global.jwt.JwtTokenProvider;
+import devkor.ontime_back.entity.UserRefreshToken;
+import devkor.ontime_back.repository.UserRefreshTokenRepository;
 import devkor.ontime_back.repository.UserRepository;
 import devkor.ontime_back.response.InvalidAccessTokenException;
 import devkor.ontime_back.response.InvalidRefreshTokenException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
 
 @SpringBootTest
 @Transactional
@@ -24,9 +37,27 @@ class AuthTokenServiceIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @SpyBean
+    private UserRefreshTokenRepository userRefreshTokenRepository;
+
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // upsertForUser 는 MySQL 8 의 row alias 문법이라 H2 가 읽지 못한다. 같은 결과를 H2 의 MERGE ... KEY 로 만든다.
+    @BeforeEach
+    void upsertWithH2Merge() {
+        doAnswer(invocation -> {
+            Timestamp now = Timestamp.from(invocation.getArgument(2, Instant.class));
+            return jdbcTemplate.update("MERGE INTO user_refresh_token (user_id, refresh_token_hash, created_at, updated_at) "
+                            + "KEY (user_id) VALUES (?, ?, "
+                            + "COALESCE((SELECT created_at FROM user_refresh_token WHERE user_id = ?), ?), ?)",
+                    invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(0), now, now);
+        }).when(userRefreshTokenRepository).upsertForUser(anyLong(), any(byte[].class), any(Instant.class));
+    }
+
     @Test
     void loggingInAgainMakesPreviousRefreshCredentialUnusable() {
         User user = userRepository.saveAndFlush(user());
@@ -54,6 +85,38 @@ class AuthTokenServiceIntegrationTest {
                 .isInstanceOf(InvalidAccessTokenException.class);
     }
 
+    @Test
+    void latestAccessCredentialIsValidatedAgainstStoredSessionId() {
+        User user = userRepository.saveAndFlush(user());
+        AuthTokenService.AuthTokens tokens = authTokenService.issueLoginTokens(user, new MockHttpServletResponse());
+
+        assertThatCode(() -> jwtTokenProvider.verifyAccessToken(tokens.accessToken()))
+                .doesNotThrowAnyException();
+        assertThat(userRepository.findSessionById(user.getId()))
+                .get()
+                .extracting(UserSessionDto::getActiveSessionId)
+                .isEqualTo(user.getActiveSessionId());
+    }
+
+    @Test
+    void repeatedLoginsKeepOneRefreshCredentialRowAndStoreTokenColumns() {
+        User user = userRepository.saveAndFlush(user());
+
+        authTokenService.issueLoginTokens(user, new MockHttpServletResponse());
+        AuthTokenService.AuthTokens latestTokens = authTokenService.issueLoginTokens(user, new MockHttpServletResponse());
+
+        assertThat(userRefreshTokenRepository.findAll())
+                .singleElement()
+                .satisfies(stored -> {
+                    assertThat(stored.getUser().getId()).isEqualTo(user.getId());
+                    assertThat(stored.getRefreshTokenHash()).isEqualTo(UserRefreshToken.hash(latestTokens.refreshToken()));
+                });
+        assertThat(userRepository.findSessionById(user.getId()))
+                .get()
+                .extracting(UserSessionDto::getActiveSessionId)
+                .isEqualTo(user.getActiveSessionId());
+    }
+
     private User user() {
         return User.builder()
                 .email("single-session@example.com")
@@ -3,20 +3,26 @@ package devkor.ontime_back.service;
 import devkor.ontime_back.entity.Role;
 import devkor.ontime_back.entity.User;
 import devkor.ontime_back.entity.UserRefreshToken;
+import devkor.ontime_back.global.jwt.AuthenticatedPrincipalCache;
 import devkor.ontime_back.global.jwt.JwtTokenProvider;
 import devkor.ontime_back.repository.UserRefreshTokenRepository;
 import devkor.ontime_back.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletResponse;
 
+import java.time.Instant;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -33,18 +39,22 @@ class AuthTokenServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private AuthenticatedPrincipalCache authenticatedPrincipalCache;
+
     private AuthTokenService authTokenService;
 
     @BeforeEach
     void setUp() {
-        authTokenService = new AuthTokenService(jwtTokenProvider, userRefreshTokenRepository, userRepository);
+        authTokenService = new AuthTokenService(jwtTokenProvider, userRefreshTokenRepository, userRepository, authenticatedPrincipalCache);
     }
 
     @Test
-    void issueLoginTokensClearsPreviousRefreshCredentialsBeforeSavingTheNewLogin() {
+    void issueLoginTokensUpsertsRefreshCredentialAndUpdatesOnlyTokenColumns() {
         User user = user();
+        user.updateSocialLoginToken("social-token");
         MockHttpServletResponse response = new MockHttpServletResponse();
-        when(jwtTokenProvider.createAccessToken("user@example.com", 1L))
+        when(jwtTokenProvider.createAccessToken(eq("user@example.com"), eq(1L), anyString()))
                 .thenReturn("access-token-a", "access-token-b");
         when(jwtTokenProvider.createRefreshToken())
                 .thenReturn("refresh-token-a", "refresh-token-b");
@@ -52,15 +62,18 @@ class AuthTokenServiceTest {
         authTokenService.issueLoginTokens(user, response);
         authTokenService.issueLoginTokens(user, response);
 
-        ArgumentCaptor<UserRefreshToken> tokenCaptor = ArgumentCaptor.forClass(UserRefreshToken.class);
-        verify(userRefreshTokenRepository, times(2)).deleteByUser(user);
-        verify(userRefreshTokenRepository, times(2)).save(tokenCaptor.capture());
-        assertThat(tokenCaptor.getAllValues())
-                .extracting(UserRefreshToken::getRefreshToken)
-                .containsExactly("refresh-token-a", "refresh-token-b");
+        verify(userRefreshTokenRepository).upsertForUser(
+                eq(1L), aryEq(UserRefreshToken.hash("refresh-token-a")), any(Instant.class));
+        verify(userRefreshTokenRepository).upsertForUser(
+                eq(1L), aryEq(UserRefreshToken.hash("refresh-token-b")), any(Instant.class));
+        verify(userRepository).updateLoginTokens(
+                eq(1L), eq("access-token-b"), eq("refresh-token-b"), eq(user.getActiveSessionId()), eq("social-token"));
+        verify(userRepository, never()).saveAndFlush(any());
+        assertThat(user.getAccessToken()).isEqualTo("access-token-b");
         assertThat(user.getRefreshToken()).isEqualTo("refresh-token-b");
         verify(jwtTokenProvider).sendAccessAndRefreshToken(response, "access-token-a", "refresh-token-a");
         verify(jwtTokenProvider).sendAccessAndRefreshToken(response, "access-token-b", "refresh-token-b");
+        verify(authenticatedPrincipalCache, times(2)).invalidateUser(1L);
     }
 
     @Test
@@ -68,9 +81,9 @@ class AuthTokenServiceTest {
         User user = user();
         UserRefreshToken storedToken = UserRefreshToken.create(user, "refresh-token-a");
         MockHttpServletResponse response = new MockHttpServletResponse();
-        when(userRefreshTokenRepository.findByRefreshToken("refresh-token-a"))
+        when(userRefreshTokenRepository.findByRefreshTokenHash(aryEq(UserRefreshToken.hash("refresh-token-a"))))
                 .thenReturn(Optional.of(storedToken));
-        when(jwtTokenProvider.createAccessToken("user@example.com", 1L))
+        when(jwtTokenProvider.createAccessToken(eq("user@example.com"), eq(1L), anyString()))
                 .thenReturn("new-access-token");
         when(jwtTokenProvider.createRefreshToken())
                 .thenReturn("new-refresh-token-a");
@@ -79,11 +92,13 @@ class AuthTokenServiceTest {
 
         assertThat(tokens.accessToken()).isEqualTo("new-access-token");
         assertThat(tokens.refreshToken()).isEqualTo("new-refresh-token-a");
-        assertThat(storedToken.getRefreshToken()).isEqualTo("new-refresh-token-a");
+        assertThat(storedToken.getRefreshTokenHash()).isEqualTo(UserRefreshToken.hash("new-refresh-token-a"));
         assertThat(user.getAccessToken()).isEqualTo("new-access-token");
+        assertThat(user.getActiveSessionId()).isNotNull();
         assertThat(user.getRefreshToken()).isEqualTo("new-refresh-token-a");
         verify(jwtTokenProvider).sendAccessAndRefreshToken(response, "new-access-token", "new-refresh-token-a");
         verify(userRepository).saveAndFlush(user);
+        verify(authenticatedPrincipalCache).invalidateUser(1L);
     }
 
     private User user() {
@@ -0,0 +1,138 @@
+package devkor.ontime_back.service;
+
+import devkor.ontime_back.entity.ApiLog;
+import devkor.ontime_back.entity.RetentionPurgeCheckpoint;
+import devkor.ontime_back.repository.ApiLogRepository;
+import devkor.ontime_back.repository.RetentionPurgeCheckpointRepository;
+import devkor.ontime_back.service.ChunkedPurger.PurgeKeyType;
+import devkor.ontime_back.service.ChunkedPurger.PurgeResult;
+import devkor.ontime_back.service.ChunkedPurger.PurgeTarget;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ChunkedPurgerTest {
+
+    private static final PurgeTarget API_LOG =
+            new PurgeTarget("api_log", "api_log_id", "created_at", PurgeKeyType.NUMBER);
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2026, 2, 1, 0, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApiLogRepository apiLogRepository;
+
+    @Autowired
+    private RetentionPurgeCheckpointRepository checkpointRepository;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Long> pauses = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        apiLogRepository.deleteAllInBatch();
+        checkpointRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("만료된 행을 chunk-size 개씩 나눠 지우고 청크 사이에 쉰다")
+    @Test
+    void purgeDeletesExpiredRowsInChunks() {
+        // given
+        List<Long> expired = saveApiLogs(5, CUTOFF.minusSeconds(1));
+        List<Long> retained = saveApiLogs(2, CUTOFF);
+        ChunkedPurger purger = purger(2, 10, 60);
+
+        // when
+        PurgeResult result = purger.purge(API_LOG, CUTOFF, purger.deadlineFromNow());
+
+        // then
+        assertThat(result.deletedRows()).isEqualTo(5);
+        assertThat(result.chunks()).isEqualTo(3);
+        assertThat(result.completed()).isTrue();
+        assertThat(pauses).containsExactly(TimeUnit.MILLISECONDS.toNanos(10), TimeUnit.MILLISECONDS.toNanos(10));
+        assertThat(apiLogRepository.findAllById(expired)).isEmpty();
+        assertThat(apiLogRepository.findAllById(retained)).hasSize(2);
+
+        RetentionPurgeCheckpoint checkpoint = checkpointRepository.findById("api_log").orElseThrow();
+        assertThat(checkpoint.getLastKey()).isNull();
+        assertThat(checkpoint.getDeletedRows()).isEqualTo(5);
+    }
+
+    @DisplayName("마감 시각이 지나면 멈추고 다음 실행이 체크포인트부터 이어서 지운다")
+    @Test
+    void purgeStopsAtDeadlineAndResumesFromCheckpoint() {
+        // given
+        List<Long> expired = saveApiLogs(5, CUTOFF.minusDays(1));
+        // 청크 하나를 지우고 쉬는 동안 1초 마감이 지난다.
+        ChunkedPurger purger = purger(2, 1000, 1);
+
+        // when
+        PurgeResult first = purger.purge(API_LOG, CUTOFF, purger.deadlineFromNow());
+
+        // then
+        assertThat(first.deletedRows()).isEqualTo(2);
+        assertThat(first.completed()).isFalse();
+        assertThat(apiLogRepository.count()).isEqualTo(3);
+        RetentionPurgeCheckpoint checkpoint = checkpointRepository.findById("api_log").orElseThrow();
+        assertThat(checkpoint.getLastKey()).isEqualTo(String.valueOf(expired.get(1)));
+        assertThat(checkpoint.getDeletedRows()).isEqualTo(2);
+
+        // when
+        PurgeResult second = purger(10, 1000, 1).purge(API_LOG, CUTOFF, clock.get() + TimeUnit.SECONDS.toNanos(1));
+
+        // then
+        assertThat(second.deletedRows()).isEqualTo(3);
+        assertThat(second.completed()).isTrue();
+        assertThat(apiLogRepository.count()).isZero();
+        RetentionPurgeCheckpoint completed = checkpointRepository.findById("api_log").orElseThrow();
+        assertThat(completed.getLastKey()).isNull();
+        assertThat(completed.getDeletedRows()).isEqualTo(5);
+    }
+
+    @DisplayName("처리한 행 수를 걸린 시간으로 나눠 초당 처리량을 낸다")
+    @Test
+    void rowsPerSecondUsesElapsedTime() {
+        assertThat(new PurgeResult("api_log", 500, 1, TimeUnit.MILLISECONDS.toNanos(250), true).rowsPerSecond())
+                .isEqualTo(2000.0);
+        assertThat(new PurgeResult("api_log", 0, 0, 0, true).rowsPerSecond()).isZero();
+    }
+
+    private ChunkedPurger purger(int chunkSize, long pauseMillis, long maxRuntimeSeconds) {
+        return new ChunkedPurger(jdbcTemplate, checkpointRepository, chunkSize, pauseMillis, maxRuntimeSeconds,
+                clock::get, nanos -> {
+                    pauses.add(nanos);
+                    clock.addAndGet(nanos);
+                });
+    }
+
+    private List<Long> saveApiLogs(int count, LocalDateTime createdAt) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Long apiLogId = apiLogRepository.save(ApiLog.builder()
+                    .requestUrl("/purge/" + i)
+                    .requestMethod("GET")
+                    .userId(String.valueOf(i))
+                    .clientIp("127.0.0.1")
+                    .responseStatus(200)
+                    .takenTime(1L)
+                    .build()).getApiLogId();
+            // created_at 은 @CreationTimestamp 가 채우므로 저장한 뒤에 바꾼다.
+            jdbcTemplate.update("UPDATE api_log SET created_at = ? WHERE api_log_id = ?", createdAt, apiLogId);
+            ids.add(apiLogId);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,314 @@
+package devkor.ontime_back.service;
+
+import devkor.ontime_back.dto.DailyReminderTargetDto;
+import devkor.ontime_back.entity.DailyReminderCheckpoint;
+import devkor.ontime_back.repository.DailyReminderCheckpointRepository;
+import devkor.ontime_back.repository.ScheduleRepository;
+import devkor.ontime_back.service.AlarmService.LegacyReminder;
+import devkor.ontime_back.service.PushTransport.PushMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static devkor.ontime_back.service.DailyReminderService.HASH_SPACE;
+import static devkor.ontime_back.service.DailyReminderService.hashBound;
+import static devkor.ontime_back.service.DailyReminderService.userHash;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DailyReminderServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 10, 18, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2026, 10, 18, 23, 59, 59);
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private DailyReminderCheckpointRepository checkpointRepository;
+
+    @Mock
+    private PushDeliveryService pushDeliveryService;
+
+    @Mock
+    private AlarmService alarmService;
+
+    @Mock
+    private TaskScheduler slotScheduler;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private final List<Instant> slotStarts = new ArrayList<>();
+
+    private DailyReminderService dailyReminderService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 슬롯 작업은 예약 시각만 기록하고 바로 실행한다.
+        lenient().when(slotScheduler.schedule(any(Runnable.class), any(Instant.class))).thenAnswer(invocation -> {
+            slotStarts.add(invocation.getArgument(1));
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        });
+        dailyReminderService = service(2, 0, 1);
+    }
+
+    @Test
+    void sendDailyReminderFeedsEachKeysetPageToDeliveryAndCheckpointsTheLastRow() {
+        DailyReminderTargetDto first = target(1L, START.plusHours(9), true, "firebase-token-1");
+        DailyReminderTargetDto second = target(2L, START.plusHours(9), true, "firebase-token-2");
+        DailyReminderTargetDto third = target(3L, START.plusHours(10), true, "firebase-token-3");
+        when(scheduleRepository.findDailyReminderTargets(START, END, 0L, HASH_SPACE, PageRequest.of(0, 2)))
+                .thenReturn(List.of(first, second));
+        when(scheduleRepository.findDailyReminderTargetsAfter(
+                START, END, 0L, HASH_SPACE, second.getScheduleTime(), second.getScheduleId(), PageRequest.of(0, 2)))
+                .thenReturn(List.of(third));
+
+        CompletableFuture<Integer> sentCount = dailyReminderService.sendDailyReminder(START, END, "오늘 예정된 약속이 있습니다.");
+
+        ArgumentCaptor<List<PushMessage>> pageCaptor = ArgumentCaptor.forClass(List.class);
+        verify(pushDeliveryService, times(2)).deliver(pageCaptor.capture());
+        assertThat(pageCaptor.getAllValues().get(0))
+                .extracting(PushMessage::firebaseToken)
+                .containsExactly("firebase-token-1", "firebase-token-2");
+        assertThat(pageCaptor.getAllValues().get(1).get(0).content())
+                .isEqualTo("User 3님 오늘 예정된 약속이 있습니다.\n약속명: Schedule 3");
+        assertThat(sentCount.join()).isEqualTo(3);
+        // 처음 한 번, 페이지마다 한 번, 슬롯을 끝내며 한 번 남긴다.
+        ArgumentCaptor<DailyReminderCheckpoint> checkpointCaptor = ArgumentCaptor.forClass(DailyReminderCheckpoint.class);
+        verify(checkpointRepository, times(4)).save(checkpointCaptor.capture());
+        DailyReminderCheckpoint checkpoint = checkpointCaptor.getValue();
+        assertThat(checkpoint.isCompleted()).isTrue();
+        assertThat(checkpoint.getSentCount()).isEqualTo(3);
+        assertThat(checkpoint.getLastScheduleId()).isNull();
+    }
+
+    @Test
+    void sendDailyReminderSkipsUsersWithoutNotificationsOrRegisteredDevice() {
+        when(scheduleRepository.findDailyReminderTargets(START, END, 0L, HASH_SPACE, PageRequest.of(0, 2)))
+                .thenReturn(List.of(
+                        target(1L, START.plusHours(9), false, "firebase-token-1"),
+                        target(2L, START.plusHours(9), null, null)));
+        when(scheduleRepository.findDailyReminderTargetsAfter(eq(START), eq(END), eq(0L), eq(HASH_SPACE), any(), any(), any()))
+                .thenReturn(List.of());
+
+        CompletableFuture<Integer> sentCount = dailyReminderService.sendDailyReminder(START, END, "message");
+
+        verify(pushDeliveryService, never()).deliver(anyList());
+        assertThat(sentCount.join()).isZero();
+    }
+
+    @Test
+    void sendDailyReminderSkipsSchedulesCoveredByLocalAlarmsWithOneBatchLookupPerPage() {
+        DailyReminderTargetDto covered = target(1L, START.plusHours(9), true, "firebase-token-1");
+        DailyReminderTargetDto uncovered = target(2L, START.plusHours(9), true, "firebase-token-2");
+        when(scheduleRepository.findDailyReminderTargets(START, END, 0L, HASH_SPACE, PageRequest.of(0, 2)))
+                .thenReturn(List.of(covered, uncovered));
+        when(scheduleRepository.findDailyReminderTargetsAfter(eq(START), eq(END), eq(0L), eq(HASH_SPACE), any(), any(), any()))
+                .thenReturn(List.of());
+        when(alarmService.findSuppressedLegacyReminders(anyList())).thenAnswer(invocation -> {
+            List<LegacyReminder> reminders = invocation.getArgument(0);
+            return reminders.stream()
+                    .filter(reminder -> reminder.scheduleId().equals(covered.getScheduleId()))
+                    .collect(Collectors.toSet());
+        });
+
+        CompletableFuture<Integer> sentCount = dailyReminderService.sendDailyReminder(START, END, "message");
+
+        ArgumentCaptor<List<PushMessage>> pageCaptor = ArgumentCaptor.forClass(List.class);
+        verify(pushDeliveryService).deliver(pageCaptor.capture());
+        assertThat(pageCaptor.getValue()).extracting(PushMessage::firebaseToken).containsExactly("firebase-token-2");
+        verify(alarmService, times(1)).findSuppressedLegacyReminders(anyList());
+        assertThat(sentCount.join()).isEqualTo(1);
+    }
+
+    @Test
+    void sendDailyReminderQueriesEachHashedUserSlotWhenItsTurnComesAcrossDispatchWindow() {
+        dailyReminderService = service(100, 60, 3);
+        List<DailyReminderTargetDto> targets = LongStream.rangeClosed(1, 30)
+                .mapToObj(userId -> target(userId, START.plusHours(9), true, "firebase-token-" + userId))
+                .toList();
+        // 저장소는 해시 구간에 드는 사용자의 약속만 돌려준다.
+        when(scheduleRepository.findDailyReminderTargets(eq(START), eq(END), anyLong(), anyLong(), eq(PageRequest.of(0, 100))))
+                .thenAnswer(invocation -> {
+                    long hashFrom = invocation.getArgument(2);
+                    long hashTo = invocation.getArgument(3);
+                    return targets.stream()
+                            .filter(target -> userHash(target.getUserId()) >= hashFrom && userHash(target.getUserId()) < hashTo)
+                            .toList();
+                });
+        when(alarmService.findSuppressedLegacyReminders(anyList())).thenReturn(Set.of());
+
+        CompletableFuture<Integer> sentCount = dailyReminderService.sendDailyReminder(START, END, "message");
+
+        // 슬롯은 60초 창을 3등분한 0초/20초/40초 지점에 예약되고, 슬롯마다 자기 해시 구간만 조회한다.
+        assertThat(slotStarts).hasSize(3);
+        assertThat(Duration.between(slotStarts.get(0), slotStarts.get(1))).isEqualTo(Duration.ofSeconds(20));
+        assertThat(Duration.between(slotStarts.get(0), slotStarts.get(2))).isEqualTo(Duration.ofSeconds(40));
+        for (int slot = 0; slot < 3; slot++) {
+            verify(scheduleRepository).findDailyReminderTargets(
+                    START, END, hashBound(slot, 3), hashBound(slot + 1, 3), PageRequest.of(0, 100));
+        }
+        ArgumentCaptor<List<PushMessage>> pageCaptor = ArgumentCaptor.forClass(List.class);
+        verify(pushDeliveryService, times(3)).deliver(pageCaptor.capture());
+        assertThat(pageCaptor.getAllValues()).allSatisfy(page -> assertThat(page).isNotEmpty());
+        assertThat(sentCount.join()).isEqualTo(30);
+    }
+
+    @Test
+    void hashBoundsSplitTheUserHashSpaceIntoContiguousSlots() {
+        assertThat(hashBound(0, 20)).isZero();
+        assertThat(hashBound(20, 20)).isEqualTo(HASH_SPACE);
+        for (long userId = 1; userId <= 1000; userId++) {
+            long hash = userHash(userId);
+            long slots = LongStream.range(0, 20)
+                    .filter(slot -> hash >= hashBound((int) slot, 20) && hash < hashBound((int) slot + 1, 20))
+                    .count();
+            assertThat(slots).isEqualTo(1);
+        }
+        // DB 쪽 MOD(u.id * 2654435761, 4294967296) 와 같은 값이다.
+        assertThat(userHash(7L)).isEqualTo(7L * 2654435761L % HASH_SPACE);
+    }
+
+    @Test
+    void sendDailyReminderRecordsCompletionMetrics() {
+        when(scheduleRepository.findDailyReminderTargets(START, END, 0L, HASH_SPACE, PageRequest.of(0, 2)))
+                .thenReturn(List.of(target(1L, START.plusHours(9), true, "firebase-token-1")));
+        when(alarmService.findSuppressedLegacyReminders(anyList())).thenReturn(Set.of());
+
+        dailyReminderService.sendDailyReminder(START, END, "message").join();
+
+        assertThat(meterRegistry.get("ontime.reminder.daily.run").tag("outcome", "completed").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ontime.reminder.daily.sent").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ontime.reminder.daily.last-completed").gauge().value()).isPositive();
+    }
+
+    @Test
+    void sendDailyReminderRecordsFailedRunWhenCheckpointCannotBeSaved() {
+        when(checkpointRepository.save(any())).thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> dailyReminderService.sendDailyReminder(START, END, "message"))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(slotScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+        assertThat(meterRegistry.get("ontime.reminder.daily.run").tag("outcome", "failed").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ontime.reminder.daily.last-completed").gauge().value()).isZero();
+    }
+
+    @Test
+    void sendDailyReminderKeepsSendingOtherSlotsWhenOneSlotFails() {
+        meterRegistry = new SimpleMeterRegistry();
+        dailyReminderService = service(2, 60, 2);
+        DailyReminderTargetDto delivered = target(3L, START.plusHours(9), true, "firebase-token-3");
+        when(scheduleRepository.findDailyReminderTargets(START, END, 0L, hashBound(1, 2), PageRequest.of(0, 2)))
+                .thenThrow(new IllegalStateException("db down"));
+        when(scheduleRepository.findDailyReminderTargets(START, END, hashBound(1, 2), HASH_SPACE, PageRequest.of(0, 2)))
+                .thenReturn(List.of(delivered));
+        when(alarmService.findSuppressedLegacyReminders(anyList())).thenReturn(Set.of());
+
+        CompletableFuture<Integer> sentCount = dailyReminderService.sendDailyReminder(START, END, "message");
+
+        verify(pushDeliveryService).deliver(anyList());
+        assertThat(sentCount).isCompletedExceptionally();
+        assertThat(meterRegistry.get("ontime.reminder.daily.run").tag("outcome", "failed").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ontime.reminder.daily.sent").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ontime.reminder.daily.last-completed").gauge().value()).isZero();
+    }
+
+    @Test
+    void resumeUnfinishedRunsContinuesFromCheckpointedSlotAndKeyset() {
+        dailyReminderService = service(2, 60, 3);
+        UUID lastScheduleId = UUID.randomUUID();
+        DailyReminderCheckpoint checkpoint = DailyReminderCheckpoint.builder()
+                .runKey("2026-10-17T21:00")
+                .rangeStart(START)
+                .rangeEnd(END)
+                .message("message")
+                .windowStart(Instant.now().minusSeconds(30))
+                .slotCount(3)
+                .nextSlot(1)
+                .lastScheduleTime(START.plusHours(9))
+                .lastScheduleId(lastScheduleId)
+                .updatedAt(Instant.now())
+                .build();
+        when(checkpointRepository.findAllByCompletedFalse()).thenReturn(List.of(checkpoint));
+        DailyReminderTargetDto resumed = target(4L, START.plusHours(10), true, "firebase-token-4");
+        when(scheduleRepository.findDailyReminderTargetsAfter(START, END, hashBound(1, 3), hashBound(2, 3),
+                START.plusHours(9), lastScheduleId, PageRequest.of(0, 2)))
+                .thenReturn(List.of(resumed));
+        when(scheduleRepository.findDailyReminderTargets(START, END, hashBound(2, 3), HASH_SPACE, PageRequest.of(0, 2)))
+                .thenReturn(List.of());
+        when(alarmService.findSuppressedLegacyReminders(anyList())).thenReturn(Set.of());
+
+        dailyReminderService.resumeUnfinishedRuns();
+
+        // 이미 끝난 0번 슬롯은 다시 보내지 않는다.
+        assertThat(slotStarts).containsExactly(
+                checkpoint.getWindowStart().plusSeconds(20), checkpoint.getWindowStart().plusSeconds(40));
+        verify(scheduleRepository, never()).findDailyReminderTargets(
+                START, END, 0L, hashBound(1, 3), PageRequest.of(0, 2));
+        ArgumentCaptor<List<PushMessage>> pageCaptor = ArgumentCaptor.forClass(List.class);
+        verify(pushDeliveryService).deliver(pageCaptor.capture());
+        assertThat(pageCaptor.getValue()).extracting(PushMessage::firebaseToken).containsExactly("firebase-token-4");
+        assertThat(checkpoint.isCompleted()).isTrue();
+        assertThat(checkpoint.getSentCount()).isEqualTo(1);
+    }
+
+    @Test
+    void resumeUnfinishedRunsClosesRunsTooOldToResume() {
+        DailyReminderCheckpoint checkpoint = DailyReminderCheckpoint.start(
+                "2026-10-17T21:00", START, END, "message", Instant.now().minus(Duration.ofHours(2)), 3);
+        when(checkpointRepository.findAllByCompletedFalse()).thenReturn(List.of(checkpoint));
+
+        dailyReminderService.resumeUnfinishedRuns();
+
+        verify(slotScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+        verify(checkpointRepository).save(checkpoint);
+        assertThat(checkpoint.isCompleted()).isTrue();
+        assertThat(checkpoint.getNextSlot()).isZero();
+    }
+
+    private DailyReminderService service(int pageSize, long spreadWindowSeconds, int spreadSlots) {
+        return new DailyReminderService(scheduleRepository, checkpointRepository, pushDeliveryService, alarmService,
+                pageSize, spreadWindowSeconds, spreadSlots, 1800, meterRegistry, slotScheduler);
+    }
+
+    private DailyReminderTargetDto target(Long userId, LocalDateTime scheduleTime, Boolean notificationsEnabled, String firebaseToken) {
+        return new DailyReminderTargetDto(
+                UUID.randomUUID(),
+                scheduleTime,
+                "Schedule " + userId,
+                userId,
+                "User " + userId,
+                firebaseToken,
+                notificationsEnabled);
+    }
+}
@@ -0,0 +1,129 @@
+package devkor.ontime_back.service;
+
+import devkor.ontime_back.dto.DailyReminderTargetDto;
+import devkor.ontime_back.entity.Schedule;
+import devkor.ontime_back.entity.User;
+import devkor.ontime_back.entity.UserSetting;
+import devkor.ontime_back.repository.ScheduleRepository;
+import devkor.ontime_back.repository.UserRepository;
+import devkor.ontime_back.repository.UserSettingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class DailyReminderTargetQueryTest {
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSettingRepository userSettingRepository;
+
+    @AfterEach
+    void tearDown() {
+        userSettingRepository.deleteAllInBatch();
+        scheduleRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("같은 시각의 약속이 페이지 경계에 걸쳐도 keyset 페이지를 이어 읽으면 누락이나 중복이 없다")
+    @Test
+    void keysetPagesCoverEveryScheduleOnceInScheduleTimeAndIdOrder() {
+        // given
+        LocalDateTime start = LocalDateTime.of(2026, 10, 18, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2026, 10, 18, 23, 59, 59);
+        User enabledUser = saveUser("enabled@example.com", true);
+        User disabledUser = saveUser("disabled@example.com", false);
+        saveSchedule(enabledUser, start.plusHours(9));
+        saveSchedule(disabledUser, start.plusHours(9));
+        saveSchedule(enabledUser, start.plusHours(9));
+        saveSchedule(enabledUser, start.plusHours(12));
+        saveSchedule(enabledUser, start.minusHours(1));
+
+        // when
+        List<DailyReminderTargetDto> targets = new ArrayList<>();
+        List<DailyReminderTargetDto> page = scheduleRepository.findDailyReminderTargets(
+                start, end, 0L, DailyReminderService.HASH_SPACE, PageRequest.of(0, 2));
+        while (!page.isEmpty()) {
+            targets.addAll(page);
+            DailyReminderTargetDto last = page.get(page.size() - 1);
+            page = scheduleRepository.findDailyReminderTargetsAfter(start, end, 0L, DailyReminderService.HASH_SPACE,
+                    last.getScheduleTime(), last.getScheduleId(), PageRequest.of(0, 2));
+        }
+
+        // then
+        assertThat(targets).hasSize(4);
+        assertThat(targets).extracting(DailyReminderTargetDto::getScheduleId).doesNotHaveDuplicates();
+        assertThat(targets).extracting(DailyReminderTargetDto::getScheduleTime)
+                .containsExactly(start.plusHours(9), start.plusHours(9), start.plusHours(9), start.plusHours(12));
+        assertThat(targets).filteredOn(target -> target.getUserId().equals(disabledUser.getId()))
+                .extracting(DailyReminderTargetDto::getNotificationsEnabled)
+                .containsExactly(false);
+    }
+
+    @DisplayName("사용자 해시 구간별로 나눠 읽으면 각 사용자는 자바 쪽 해시와 같은 한 슬롯에만 들어간다")
+    @Test
+    void userHashRangesPartitionTargetsWithoutOverlap() {
+        // given
+        LocalDateTime start = LocalDateTime.of(2026, 10, 18, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2026, 10, 18, 23, 59, 59);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            User user = saveUser("slot" + i + "@example.com", true);
+            saveSchedule(user, start.plusHours(9));
+            users.add(user);
+        }
+
+        // when
+        List<Long> slotUserIds = new ArrayList<>();
+        for (int slot = 0; slot < 3; slot++) {
+            long hashFrom = DailyReminderService.hashBound(slot, 3);
+            long hashTo = DailyReminderService.hashBound(slot + 1, 3);
+            for (DailyReminderTargetDto target : scheduleRepository.findDailyReminderTargets(
+                    start, end, hashFrom, hashTo, PageRequest.of(0, 10))) {
+                assertThat(DailyReminderService.userHash(target.getUserId())).isGreaterThanOrEqualTo(hashFrom).isLessThan(hashTo);
+                slotUserIds.add(target.getUserId());
+            }
+        }
+
+        // then
+        assertThat(slotUserIds).containsExactlyInAnyOrderElementsOf(users.stream().map(User::getId).toList());
+    }
+
+    private User saveUser(String email, boolean notificationsEnabled) {
+        User user = userRepository.save(User.builder()
+                .email(email)
+                .name(email)
+                .firebaseToken("firebase-" + email)
+                .build());
+        userSettingRepository.save(UserSetting.builder()
+                .userSettingId(UUID.randomUUID())
+                .user(user)
+                .isNotificationsEnabled(notificationsEnabled)
+                .build());
+        return user;
+    }
+
+    private void saveSchedule(User user, LocalDateTime scheduleTime) {
+        scheduleRepository.save(Schedule.builder()
+                .scheduleId(UUID.randomUUID())
+                .scheduleName("daily")
+                .scheduleTime(scheduleTime)
+                .user(user)
+                .build());
+    }
+}
@@ -0,0 +1,76 @@
+package devkor.ontime_back.service;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import devkor.ontime_back.service.PushTransport.PushMessage;
+import devkor.ontime_back.service.PushTransport.PushSendResult;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FirebasePushTransportTest {
+
+    private final FirebaseMessaging firebaseMessaging = mock(FirebaseMessaging.class);
+    private final FirebasePushTransport transport = new FirebasePushTransport(() -> firebaseMessaging);
+
+    @Test
+    void sendEachFailsOnlyMessagesThatCannotBeBuiltAndSendsTheRest() throws Exception {
+        SendResponse success = mock(SendResponse.class);
+        when(success.isSuccessful()).thenReturn(true);
+        BatchResponse batchResponse = mock(BatchResponse.class);
+        when(batchResponse.getResponses()).thenReturn(List.of(success, success));
+        when(firebaseMessaging.sendEach(anyList())).thenReturn(batchResponse);
+
+        List<PushSendResult> results = transport.sendEach(List.of(
+                new PushMessage("firebase-token-1", "약속 알림", "내용"),
+                new PushMessage(null, "약속 알림", "내용"),
+                new PushMessage("firebase-token-3", "약속 알림", null),
+                new PushMessage("firebase-token-4", "약속 알림", "내용")));
+
+        assertThat(results).containsExactly(
+                PushSendResult.success("firebase-token-1"),
+                PushSendResult.failure(null, MessagingErrorCode.INVALID_ARGUMENT),
+                PushSendResult.failure("firebase-token-3", MessagingErrorCode.INVALID_ARGUMENT),
+                PushSendResult.success("firebase-token-4"));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Message>> sent = ArgumentCaptor.forClass(List.class);
+        verify(firebaseMessaging).sendEach(sent.capture());
+        assertThat(sent.getValue()).hasSize(2);
+    }
+
+    @Test
+    void sendEachSkipsTheCallWhenNoMessageCanBeBuilt() throws Exception {
+        List<PushSendResult> results = transport.sendEach(List.of(new PushMessage(null, "약속 알림", "내용")));
+
+        assertThat(results).containsExactly(PushSendResult.failure(null, MessagingErrorCode.INVALID_ARGUMENT));
+        verify(firebaseMessaging, never()).sendEach(anyList());
+    }
+
+    @Test
+    void sendEachSkipsBuiltMessagesWithoutRetryWhenFirebaseIsNotInitialized() {
+        FirebasePushTransport uninitialized = new FirebasePushTransport(() -> {
+            throw new IllegalStateException("FirebaseApp not initialized");
+        });
+
+        List<PushSendResult> results = uninitialized.sendEach(List.of(
+                new PushMessage("firebase-token-1", "약속 알림", "내용"),
+                new PushMessage(null, "약속 알림", "내용")));
+
+        assertThat(results).containsExactly(
+                PushSendResult.skipped("firebase-token-1"),
+                PushSendResult.failure(null, MessagingErrorCode.INVALID_ARGUMENT));
+        assertThat(results).noneMatch(PushSendResult::retryable);
+        assertThat(results).noneMatch(PushSendResult::unregistered);
+    }
+}
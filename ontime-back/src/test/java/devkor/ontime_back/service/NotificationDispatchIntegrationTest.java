@@ -0,0 +1,130 @@
+package devkor.ontime_back.service;
+
+import devkor.ontime_back.dto.PendingNotificationDto;
+import devkor.ontime_back.entity.NotificationSchedule;
+import devkor.ontime_back.entity.Schedule;
+import devkor.ontime_back.entity.User;
+import devkor.ontime_back.repository.NotificationScheduleRepository;
+import devkor.ontime_back.repository.ScheduleRepository;
+import devkor.ontime_back.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class NotificationDispatchIntegrationTest {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationScheduleRepository notificationScheduleRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        notificationScheduleRepository.deleteAllInBatch();
+        scheduleRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("horizon 안의 임대되지 않은 미발송 알림만 id/시각 keyset 페이지로 읽힌다")
+    @Test
+    void pendingNotificationPagesCoverOnlyUnleasedRowsInsideWindow() {
+        // given
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        User user = saveUser();
+        NotificationSchedule overdue = saveNotification(user, now.minusMinutes(1), null);
+        NotificationSchedule sameTimeFirst = saveNotification(user, now.plusHours(1), null);
+        NotificationSchedule sameTimeSecond = saveNotification(user, now.plusHours(1), null);
+        saveNotification(user, now.plusHours(4), null);
+        saveNotification(user, now.minusSeconds(30), "node-b");
+        saveNotification(user, now.minusHours(1), null);
+
+        // when
+        List<PendingNotificationDto> pending = new ArrayList<>();
+        List<PendingNotificationDto> page = notificationScheduleRepository.findPendingNotifications(
+                now.minusMinutes(10), now.plusHours(3), now, PageRequest.of(0, 2));
+        while (!page.isEmpty()) {
+            pending.addAll(page);
+            PendingNotificationDto last = page.get(page.size() - 1);
+            page = notificationScheduleRepository.findPendingNotificationsAfter(
+                    now.minusMinutes(10), now.plusHours(3), now,
+                    last.getNotificationTime(), last.getNotificationId(), PageRequest.of(0, 2));
+        }
+
+        // then
+        assertThat(pending).extracting(PendingNotificationDto::getNotificationId)
+                .containsExactly(overdue.getId(), sameTimeFirst.getId(), sameTimeSecond.getId());
+    }
+
+    @DisplayName("발송 시각이 된 알림은 여러 인스턴스가 동시에 임대를 시도해도 한 곳만 가져간다")
+    @Test
+    void claimNotificationLeasesDueRowToOnlyOneNode() {
+        // given
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        User user = saveUser();
+        NotificationSchedule due = saveNotification(user, now.minusSeconds(1), null);
+        NotificationSchedule notYetDue = saveNotification(user, now.plusMinutes(5), null);
+        NotificationSchedule leasedElsewhere = saveNotification(user, now.minusSeconds(30), "node-b");
+
+        // when
+        boolean firstClaim = notificationService.claimNotification(
+                due.getId(), "node-a", now.minusMinutes(10), now, Duration.ofMinutes(1));
+        boolean secondClaim = notificationService.claimNotification(
+                due.getId(), "node-c", now.minusMinutes(10), now, Duration.ofMinutes(1));
+
+        // then
+        assertThat(firstClaim).isTrue();
+        assertThat(secondClaim).isFalse();
+        assertThat(notificationService.claimNotification(
+                notYetDue.getId(), "node-a", now.minusMinutes(10), now, Duration.ofMinutes(1))).isFalse();
+        assertThat(notificationService.claimNotification(
+                leasedElsewhere.getId(), "node-a", now.minusMinutes(10), now, Duration.ofMinutes(1))).isFalse();
+        assertThat(notificationScheduleRepository.findById(due.getId()))
+                .get()
+                .satisfies(notification -> assertThat(notification.isLeasedBy("node-a")).isTrue());
+    }
+
+    private User saveUser() {
+        return userRepository.save(User.builder()
+                .email("dispatch@example.com")
+                .name("dispatch")
+                .build());
+    }
+
+    private NotificationSchedule saveNotification(User user, LocalDateTime notificationTime, String leaseOwner) {
+        Schedule schedule = scheduleRepository.save(Schedule.builder()
+                .scheduleId(UUID.randomUUID())
+                .scheduleName("dispatch")
+                .scheduleTime(notificationTime.plusHours(1))
+                .user(user)
+                .build());
+        NotificationSchedule notification = NotificationSchedule.builder()
+                .notificationTime(notificationTime)
+                .isSent(false)
+                .schedule(schedule)
+                .build();
+        if (leaseOwner != null) {
+            notification.lease(leaseOwner, notificationTime.plusHours(1));
+        }
+        return notificationScheduleRepository.save(notification);
+    }
+}
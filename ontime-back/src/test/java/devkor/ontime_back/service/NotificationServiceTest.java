@@ -1,203 +1,254 @@
 package devkor.ontime_back.service;
 
+import com.google.firebase.messaging.MessagingErrorCode;
+import devkor.ontime_back.dto.PendingNotificationDto;
+import devkor.ontime_back.dto.ReminderDispatchTargetDto;
 import devkor.ontime_back.entity.NotificationSchedule;
 import devkor.ontime_back.entity.Role;
 import devkor.ontime_back.entity.Schedule;
 import devkor.ontime_back.entity.User;
-import devkor.ontime_back.entity.UserSetting;
 import devkor.ontime_back.repository.NotificationScheduleRepository;
-import devkor.ontime_back.repository.UserSettingRepository;
+import devkor.ontime_back.scheduler.ReminderRescheduleCoalescer;
+import devkor.ontime_back.scheduler.ReminderTimingWheel;
+import devkor.ontime_back.service.PushTransport.PushMessage;
+import devkor.ontime_back.service.PushTransport.PushSendResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.scheduling.TaskScheduler;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Date;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.ScheduledFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class NotificationServiceTest {
 
     @Mock
-    private UserSettingRepository userSettingRepository;
+    private AlarmService alarmService;
 
     @Mock
-    private AlarmService alarmService;
+    private NotificationScheduleRepository notificationScheduleRepository;
 
     @Mock
-    private TaskScheduler taskScheduler;
+    private PushDeliveryService pushDeliveryService;
 
     @Mock
-    private NotificationScheduleRepository notificationScheduleRepository;
+    private ReminderTimingWheel reminderTimingWheel;
 
     private NotificationService notificationService;
 
+    private boolean inTransaction;
+
     @BeforeEach
     void setUp() {
         notificationService = new NotificationService(
-                userSettingRepository,
                 alarmService,
-                taskScheduler,
-                notificationScheduleRepository
+                notificationScheduleRepository,
+                pushDeliveryService,
+                reminderTimingWheel,
+                new ReminderRescheduleCoalescer(reminderTimingWheel),
+                new TransactionOperations() {
+                    @Override
+                    public <T> T execute(TransactionCallback<T> action) {
+                        inTransaction = true;
+                        try {
+                            return action.doInTransaction(null);
+                        } finally {
+                            inTransaction = false;
+                        }
+                    }
+                }
         );
     }
 
     @Test
-    void scheduleReminderIgnoresPastReminderTimes() {
-        NotificationSchedule notification = notificationSchedule(LocalDateTime.now().minusMinutes(1));
-
-        notificationService.scheduleReminder(notification);
-
-        verifyNoInteractions(taskScheduler);
+    void loadPendingNotificationsPagesThroughWindowAndLoadsTimingWheel() {
+        LocalDateTime now = LocalDateTime.of(2026, 10, 18, 9, 0);
+        LocalDateTime windowStart = now.minusMinutes(10);
+        LocalDateTime windowEnd = now.plusHours(3);
+        PendingNotificationDto first = new PendingNotificationDto(1L, now.plusMinutes(5));
+        PendingNotificationDto second = new PendingNotificationDto(2L, now.plusMinutes(5));
+        PendingNotificationDto third = new PendingNotificationDto(3L, now.plusHours(2));
+        when(notificationScheduleRepository.findPendingNotifications(windowStart, windowEnd, now, PageRequest.of(0, 2)))
+                .thenReturn(List.of(first, second));
+        when(notificationScheduleRepository.findPendingNotificationsAfter(
+                windowStart, windowEnd, now, second.getNotificationTime(), 2L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(third));
+
+        int loadedCount = notificationService.loadPendingNotifications(windowStart, windowEnd, now, 2);
+
+        assertThat(loadedCount).isEqualTo(3);
+        verify(reminderTimingWheel).schedule(1L, epochSecond(now.plusMinutes(5)));
+        verify(reminderTimingWheel).schedule(2L, epochSecond(now.plusMinutes(5)));
+        verify(reminderTimingWheel).schedule(3L, epochSecond(now.plusHours(2)));
     }
 
     @Test
-    void scheduleReminderRegistersFutureTaskAndCanCancelIt() {
-        NotificationSchedule notification = notificationSchedule(LocalDateTime.now().plusHours(1));
-        ReflectionTestUtils.setField(notification, "id", 10L);
-        ScheduledFuture<?> future = mock(ScheduledFuture.class);
-        doReturn(future).when(taskScheduler).schedule(any(Runnable.class), any(Date.class));
-        when(future.isCancelled()).thenReturn(false);
-
-        notificationService.scheduleReminder(notification);
-        notificationService.cancelScheduledNotification(10L);
-
-        verify(taskScheduler).schedule(any(Runnable.class), any(Date.class));
-        verify(future).cancel(true);
+    void claimNotificationLeasesFromNowAndReportsWhetherThisNodeWon() {
+        LocalDateTime now = LocalDateTime.now();
+        when(notificationScheduleRepository.claimForDispatch(10L, "node-a", now.plusMinutes(1), now.minusMinutes(10), now))
+                .thenReturn(1);
+        when(notificationScheduleRepository.claimForDispatch(11L, "node-a", now.plusMinutes(1), now.minusMinutes(10), now))
+                .thenReturn(0);
+
+        assertThat(notificationService.claimNotification(10L, "node-a", now.minusMinutes(10), now, Duration.ofMinutes(1)))
+                .isTrue();
+        assertThat(notificationService.claimNotification(11L, "node-a", now.minusMinutes(10), now, Duration.ofMinutes(1)))
+                .isFalse();
     }
 
     @Test
-    void sendReminderDoesNothingWhenUserIdIsMissing() {
-        NotificationSchedule notification = NotificationSchedule.builder()
-                .notificationTime(LocalDateTime.now())
-                .isSent(false)
-                .schedule(Schedule.builder()
-                        .scheduleId(UUID.randomUUID())
-                        .scheduleName("No owner")
-                        .user(User.builder().build())
-                        .build())
-                .build();
+    void scheduleNotificationRegistersOnlyWithinLoadedHorizon() {
+        LocalDateTime notificationTime = LocalDateTime.of(2026, 10, 18, 9, 0);
 
-        notificationService.sendReminder(notification, "message");
+        notificationService.scheduleNotification(10L, notificationTime);
 
-        verifyNoInteractions(userSettingRepository, alarmService, notificationScheduleRepository);
-        assertThat(notification.getIsSent()).isFalse();
+        verify(reminderTimingWheel).scheduleWithinHorizon(10L, epochSecond(notificationTime));
     }
 
     @Test
-    void sendReminderDoesNotSendWhenUserDisabledNotifications() {
-        NotificationSchedule notification = notificationSchedule(LocalDateTime.now());
-        when(userSettingRepository.findByUserId(1L)).thenReturn(Optional.of(userSetting(false)));
+    void cancelScheduledNotificationRemovesPendingTimingWheelEntry() {
+        when(reminderTimingWheel.cancel(10L)).thenReturn(true);
 
-        notificationService.sendReminder(notification, "message");
+        notificationService.cancelScheduledNotification(10L);
 
-        verifyNoInteractions(alarmService, notificationScheduleRepository);
-        assertThat(notification.getIsSent()).isFalse();
+        verify(reminderTimingWheel).cancel(10L);
     }
 
     @Test
-    void sendReminderDoesNotSendWhenNativeAlarmAlreadyCoversSchedule() {
-        NotificationSchedule notification = notificationSchedule(LocalDateTime.now());
-        UUID scheduleId = notification.getSchedule().getScheduleId();
-        when(userSettingRepository.findByUserId(1L)).thenReturn(Optional.of(userSetting(true)));
-        when(alarmService.shouldSuppressLegacyReminder(1L, scheduleId, notification.getNotificationTime()))
-                .thenReturn(true);
+    void dispatchReminderSkipsNotificationsLeasedByAnotherNode() {
+        when(notificationScheduleRepository.findDispatchTarget(10L)).thenReturn(Optional.of(target("node-b", true)));
 
-        notificationService.sendReminder(notification, "message");
+        notificationService.dispatchReminder(10L, "node-a");
 
-        verify(notificationScheduleRepository, never()).save(notification);
-        assertThat(notification.getIsSent()).isFalse();
+        verifyNoInteractions(alarmService, pushDeliveryService);
+        verify(notificationScheduleRepository, never()).findById(any());
     }
 
     @Test
-    void sendReminderMarksNotificationSentWhenUserEnabledNotificationsAndNativeAlarmDoesNotCoverIt() {
-        NotificationSchedule notification = notificationSchedule(LocalDateTime.now());
-        UUID scheduleId = notification.getSchedule().getScheduleId();
-        NotificationService spyService = spy(notificationService);
-        doNothing().when(spyService).sendNotificationToUser(notification.getSchedule(), "message");
-        when(userSettingRepository.findByUserId(1L)).thenReturn(Optional.of(userSetting(true)));
-        when(alarmService.shouldSuppressLegacyReminder(1L, scheduleId, notification.getNotificationTime()))
+    void dispatchReminderSendsOutsideTransactionAndSettlesInSeparateTransaction() {
+        ReminderDispatchTargetDto target = target("node-a", true);
+        NotificationSchedule notification = leasedNotification("node-a");
+        when(notificationScheduleRepository.findDispatchTarget(10L)).thenReturn(Optional.of(target));
+        when(alarmService.shouldSuppressLegacyReminder(1L, target.getScheduleId(), target.getNotificationTime()))
                 .thenReturn(false);
-
-        spyService.sendReminder(notification, "message");
-
-        verify(spyService).sendNotificationToUser(notification.getSchedule(), "message");
-        verify(notificationScheduleRepository).save(notification);
+        when(pushDeliveryService.deliver(anyList())).thenAnswer(invocation -> {
+            assertThat(inTransaction).isFalse();
+            return List.of(PushSendResult.success("firebase-token"));
+        });
+        when(notificationScheduleRepository.findById(10L)).thenAnswer(invocation -> {
+            assertThat(inTransaction).isTrue();
+            return Optional.of(notification);
+        });
+
+        notificationService.dispatchReminder(10L, "node-a");
+
+        verify(pushDeliveryService).deliver(List.of(PushMessage.scheduleReminder(
+                "firebase-token", "User", "Morning meeting", NotificationService.PREPARATION_REMINDER_MESSAGE,
+                1L, target.getScheduleId(), target.getScheduleTime())));
         assertThat(notification.getIsSent()).isTrue();
+        assertThat(notification.getDispatchedAt()).isNotNull();
+        assertThat(notification.getLeaseOwner()).isNull();
     }
 
     @Test
-    void sendReminderFailsClearlyWhenUserSettingsAreMissing() {
-        NotificationSchedule notification = notificationSchedule(LocalDateTime.now());
-        when(userSettingRepository.findByUserId(1L)).thenReturn(Optional.empty());
+    void dispatchReminderMarksLeasedNotificationDispatchedEvenWhenUserDisabledNotifications() {
+        NotificationSchedule notification = leasedNotification("node-a");
+        when(notificationScheduleRepository.findDispatchTarget(10L)).thenReturn(Optional.of(target("node-a", false)));
+        when(notificationScheduleRepository.findById(10L)).thenReturn(Optional.of(notification));
 
-        assertThatThrownBy(() -> notificationService.sendReminder(notification, "message"))
-                .isInstanceOf(IllegalArgumentException.class)
-                .hasMessage("No UserSetting found in schedule's user");
+        notificationService.dispatchReminder(10L, "node-a");
+
+        verifyNoInteractions(alarmService, pushDeliveryService);
+        assertThat(notification.getIsSent()).isFalse();
+        assertThat(notification.getDispatchedAt()).isNotNull();
+        assertThat(notification.getLeaseOwner()).isNull();
     }
 
     @Test
-    void listReminderSkipsSchedulesWithoutPersistedUsers() {
-        Schedule schedule = Schedule.builder()
-                .scheduleId(UUID.randomUUID())
-                .scheduleName("Unsaved user")
-                .user(User.builder().build())
-                .build();
+    void dispatchReminderDoesNotSendWhenNativeAlarmAlreadyCoversSchedule() {
+        ReminderDispatchTargetDto target = target("node-a", true);
+        NotificationSchedule notification = leasedNotification("node-a");
+        when(notificationScheduleRepository.findDispatchTarget(10L)).thenReturn(Optional.of(target));
+        when(alarmService.shouldSuppressLegacyReminder(1L, target.getScheduleId(), target.getNotificationTime()))
+                .thenReturn(true);
+        when(notificationScheduleRepository.findById(10L)).thenReturn(Optional.of(notification));
 
-        notificationService.sendReminder(List.of(schedule), "message");
+        notificationService.dispatchReminder(10L, "node-a");
 
-        verifyNoInteractions(userSettingRepository, alarmService, notificationScheduleRepository);
+        verifyNoInteractions(pushDeliveryService);
+        assertThat(notification.getIsSent()).isFalse();
+        assertThat(notification.getDispatchedAt()).isNotNull();
     }
 
     @Test
-    void listReminderSendsOnlyForSchedulesWhoseUsersAllowNotifications() {
-        Schedule enabledSchedule = scheduleForListReminder(1L, "Enabled");
-        Schedule disabledSchedule = scheduleForListReminder(2L, "Disabled");
-        NotificationService spyService = spy(notificationService);
-        doNothing().when(spyService).sendNotificationToUser(any(Schedule.class), eq("message"));
-        when(userSettingRepository.findByUserId(1L)).thenReturn(Optional.of(userSetting(true)));
-        when(userSettingRepository.findByUserId(2L)).thenReturn(Optional.of(userSetting(false)));
-
-        spyService.sendReminder(List.of(enabledSchedule, disabledSchedule), "message");
-
-        verify(spyService).sendNotificationToUser(enabledSchedule, "message");
-        verify(spyService, never()).sendNotificationToUser(disabledSchedule, "message");
+    void dispatchReminderKeepsResultOfNodeThatTookOverExpiredLeaseDuringSend() {
+        ReminderDispatchTargetDto target = target("node-a", true);
+        NotificationSchedule notification = leasedNotification("node-b");
+        when(notificationScheduleRepository.findDispatchTarget(10L)).thenReturn(Optional.of(target));
+        when(alarmService.shouldSuppressLegacyReminder(1L, target.getScheduleId(), target.getNotificationTime()))
+                .thenReturn(false);
+        when(pushDeliveryService.deliver(anyList())).thenReturn(List.of(PushSendResult.success("firebase-token")));
+        when(notificationScheduleRepository.findById(10L)).thenReturn(Optional.of(notification));
+
+        notificationService.dispatchReminder(10L, "node-a");
+
+        assertThat(notification.getIsSent()).isFalse();
+        assertThat(notification.getDispatchedAt()).isNull();
+        assertThat(notification.isLeasedBy("node-b")).isTrue();
     }
 
     @Test
-    void listReminderFailsClearlyWhenPersistedUserHasNoSettings() {
-        Schedule schedule = scheduleForListReminder(1L, "Missing setting");
-        when(userSettingRepository.findByUserId(1L)).thenReturn(Optional.empty());
+    void dispatchReminderFailsClearlyWhenUserSettingsAreMissing() {
+        when(notificationScheduleRepository.findDispatchTarget(10L)).thenReturn(Optional.of(target("node-a", null)));
 
-        assertThatThrownBy(() -> notificationService.sendReminder(List.of(schedule), "message"))
+        assertThatThrownBy(() -> notificationService.dispatchReminder(10L, "node-a"))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("No UserSetting found in schedule's user");
+        verify(notificationScheduleRepository, never()).findById(any());
     }
 
     @Test
-    void sendNotificationToUserDoesNotPropagateFirebaseClientFailures() {
-        Schedule schedule = scheduleForListReminder(1L, "Firebase smoke test");
+    void dispatchReminderDoesNotPropagateFirebaseClientFailures() {
+        ReminderDispatchTargetDto target = target("node-a", true);
+        NotificationSchedule notification = leasedNotification("node-a");
+        when(notificationScheduleRepository.findDispatchTarget(10L)).thenReturn(Optional.of(target));
+        when(alarmService.shouldSuppressLegacyReminder(1L, target.getScheduleId(), target.getNotificationTime()))
+                .thenReturn(false);
+        when(pushDeliveryService.deliver(anyList()))
+                .thenReturn(List.of(PushSendResult.failure("firebase-token", MessagingErrorCode.INTERNAL)));
+        when(notificationScheduleRepository.findById(10L)).thenReturn(Optional.of(notification));
+
+        notificationService.dispatchReminder(10L, "node-a");
 
-        notificationService.sendNotificationToUser(schedule, "message");
+        assertThat(notification.getDispatchedAt()).isNotNull();
+    }
+
+    private long epochSecond(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
 
-        assertThat(schedule.getUser().getFirebaseToken()).isEqualTo("firebase-token-1");
+    private ReminderDispatchTargetDto target(String leaseOwner, Boolean notificationsEnabled) {
+        return new ReminderDispatchTargetDto(10L, LocalDateTime.now(), leaseOwner, UUID.randomUUID(), LocalDateTime.now().plusHours(1),
+                "Morning meeting", 1L, "User", "firebase-token", notificationsEnabled);
     }
 
-    private NotificationSchedule notificationSchedule(LocalDateTime notificationTime) {
-        return NotificationSchedule.builder()
-                .notificationTime(notificationTime)
+    private NotificationSchedule leasedNotification(String leaseOwner) {
+        NotificationSchedule notification = NotificationSchedule.builder()
+                .notificationTime(LocalDateTime.now())
                 .isSent(false)
                 .schedule(Schedule.builder()
                         .scheduleId(UUID.randomUUID())
@@ -210,25 +261,7 @@ class NotificationServiceTest {
                                 .build())
                         .build())
                 .build();
-    }
-
-    private UserSetting userSetting(boolean notificationsEnabled) {
-        return UserSetting.builder()
-                .userSettingId(UUID.randomUUID())
-                .isNotificationsEnabled(notificationsEnabled)
-                .build();
-    }
-
-    private Schedule scheduleForListReminder(Long userId, String scheduleName) {
-        return Schedule.builder()
-                .scheduleId(UUID.randomUUID())
-                .scheduleName(scheduleName)
-                .user(User.builder()
-                        .id(userId)
-                        .name("User " + userId)
-                        .firebaseToken("firebase-token-" + userId)
-                        .role(Role.USER)
-                        .build())
-                .build();
+        notification.lease(leaseOwner, LocalDateTime.now().plusMinutes(1));
+        return notification;
     }
 }
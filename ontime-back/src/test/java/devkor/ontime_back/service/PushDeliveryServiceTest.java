@@ -0,0 +1,224 @@
+package devkor.ontime_back.service;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+import devkor.ontime_back.entity.PushDeliveryRetry;
+import devkor.ontime_back.service.PushTransport.PushMessage;
+import devkor.ontime_back.service.PushTransport.PushSendResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PushDeliveryServiceTest {
+
+    private static final long STUB_BATCH_LATENCY_MILLIS = 50;
+    // 처리량 테스트가 속도 제한에 걸리지 않도록 충분히 큰 값
+    private static final double UNLIMITED_PERMITS_PER_SECOND = 1_000_000_000;
+
+    @Mock
+    private PushRetryQueue pushRetryQueue;
+
+    @Mock
+    private PushRegistrationPruner pushRegistrationPruner;
+
+    private AdaptivePushRateLimiter rateLimiter;
+
+    private PushDeliveryService pushDeliveryService;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new AdaptivePushRateLimiter(
+                UNLIMITED_PERMITS_PER_SECOND, UNLIMITED_PERMITS_PER_SECOND / 4, UNLIMITED_PERMITS_PER_SECOND, System::nanoTime);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pushDeliveryService != null) {
+            pushDeliveryService.shutdown();
+        }
+    }
+
+    @Test
+    void deliverSplitsIntoSendEachBatchesAndReturnsResultsInInputOrder() {
+        StubPushTransport transport = new StubPushTransport(0, "firebase-token-3");
+        pushDeliveryService = new PushDeliveryService(transport, rateLimiter, pushRetryQueue, pushRegistrationPruner, 2, 2);
+
+        List<PushSendResult> results = pushDeliveryService.deliver(messages(5));
+
+        assertThat(transport.batchSizes()).containsExactlyInAnyOrder(2, 2, 1);
+        assertThat(results)
+                .extracting(PushSendResult::firebaseToken)
+                .containsExactly("firebase-token-0", "firebase-token-1", "firebase-token-2", "firebase-token-3", "firebase-token-4");
+        assertThat(results.get(3)).isEqualTo(PushSendResult.failure("firebase-token-3", MessagingErrorCode.UNREGISTERED));
+    }
+
+    @Test
+    void deliverCapsBatchSizeAtFcmSendEachLimit() {
+        StubPushTransport transport = new StubPushTransport(0, null);
+        pushDeliveryService = new PushDeliveryService(transport, rateLimiter, pushRetryQueue, pushRegistrationPruner, 10_000, 1);
+
+        pushDeliveryService.deliver(messages(1_200));
+
+        assertThat(transport.batchSizes()).containsExactly(500, 500, 200);
+    }
+
+    @Test
+    void dailyBurstThroughputScalesWithConcurrentBatches() {
+        int messageCount = 10_000;
+        int maxConcurrentBatches = 4;
+        StubPushTransport transport = new StubPushTransport(STUB_BATCH_LATENCY_MILLIS, null);
+        pushDeliveryService = new PushDeliveryService(transport, rateLimiter, pushRetryQueue, pushRegistrationPruner, PushTransport.MAX_BATCH_SIZE, maxConcurrentBatches);
+
+        long startedAt = System.nanoTime();
+        List<PushSendResult> results = pushDeliveryService.deliver(messages(messageCount));
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        int batchCount = messageCount / PushTransport.MAX_BATCH_SIZE;
+        long serialMillis = batchCount * STUB_BATCH_LATENCY_MILLIS;
+        double messagesPerSecond = messageCount * 1000.0 / Math.max(elapsedMillis, 1);
+
+        assertThat(results).hasSize(messageCount).allMatch(PushSendResult::successful);
+        assertThat(transport.maxInFlight()).isEqualTo(maxConcurrentBatches);
+        assertThat(elapsedMillis).isLessThan(serialMillis);
+        assertThat(messagesPerSecond).isGreaterThan(messageCount * 1000.0 / serialMillis);
+    }
+
+    @Test
+    void deliverQueuesTransientFailuresAndSlowsDownOnQuotaResponses() {
+        StubPushTransport transport = new StubPushTransport(0, null, "firebase-token-1");
+        pushDeliveryService = new PushDeliveryService(transport, rateLimiter, pushRetryQueue, pushRegistrationPruner, 2, 1);
+        List<PushMessage> messages = messages(4);
+        when(pushRetryQueue.enqueueRetryable(eq(messages), anyList())).thenReturn(1);
+
+        List<PushSendResult> results = pushDeliveryService.deliver(messages);
+
+        verify(pushRetryQueue).enqueueRetryable(messages, results);
+        assertThat(results.get(1).throttled()).isTrue();
+        assertThat(rateLimiter.getPermitsPerSecond()).isLessThan(UNLIMITED_PERMITS_PER_SECOND);
+    }
+
+    @Test
+    void deliverPrunesRegistrationsThatCanNoLongerReceivePushes() {
+        StubPushTransport transport = new StubPushTransport(0, "firebase-token-0");
+        pushDeliveryService = new PushDeliveryService(transport, rateLimiter, pushRetryQueue, pushRegistrationPruner, 2, 1);
+
+        List<PushSendResult> results = pushDeliveryService.deliver(messages(2));
+
+        verify(pushRegistrationPruner).pruneUnregistered(results);
+    }
+
+    @Test
+    void retryDueDeliveriesResendsClaimedPagesUntilPageIsNotFull() {
+        StubPushTransport transport = new StubPushTransport(0, null);
+        pushDeliveryService = new PushDeliveryService(transport, rateLimiter, pushRetryQueue, pushRegistrationPruner, 2, 1);
+        List<PushDeliveryRetry> firstPage = List.of(retry(1L), retry(2L));
+        List<PushDeliveryRetry> secondPage = List.of(retry(3L));
+        when(pushRetryQueue.claimDue(anyInt())).thenReturn(firstPage, secondPage);
+
+        int retried = pushDeliveryService.retryDueDeliveries();
+
+        assertThat(retried).isEqualTo(3);
+        assertThat(transport.batchSizes()).containsExactly(2, 1);
+        verify(pushRetryQueue).settle(firstPage,
+                List.of(PushSendResult.success("firebase-token-1"), PushSendResult.success("firebase-token-2")));
+        verify(pushRetryQueue).settle(secondPage, List.of(PushSendResult.success("firebase-token-3")));
+    }
+
+    @Test
+    void retryDueDeliveriesDoesNothingWhenQueueIsEmpty() {
+        StubPushTransport transport = new StubPushTransport(0, null);
+        pushDeliveryService = new PushDeliveryService(transport, rateLimiter, pushRetryQueue, pushRegistrationPruner, 2, 1);
+        when(pushRetryQueue.claimDue(2)).thenReturn(List.of());
+
+        assertThat(pushDeliveryService.retryDueDeliveries()).isZero();
+        assertThat(transport.batchSizes()).isEmpty();
+    }
+
+    private PushDeliveryRetry retry(Long id) {
+        return PushDeliveryRetry.builder()
+                .pushDeliveryRetryId(id)
+                .firebaseToken("firebase-token-" + id)
+                .title("약속 알림")
+                .content("content-" + id)
+                .attempts(1)
+                .nextAttemptAt(Instant.now())
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    private List<PushMessage> messages(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new PushMessage("firebase-token-" + i, "약속 알림", "content-" + i))
+                .toList();
+    }
+
+    private static class StubPushTransport implements PushTransport {
+
+        private final long latencyMillis;
+        private final String unregisteredToken;
+        private final String quotaExceededToken;
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        private StubPushTransport(long latencyMillis, String unregisteredToken) {
+            this(latencyMillis, unregisteredToken, null);
+        }
+
+        private StubPushTransport(long latencyMillis, String unregisteredToken, String quotaExceededToken) {
+            this.latencyMillis = latencyMillis;
+            this.unregisteredToken = unregisteredToken;
+            this.quotaExceededToken = quotaExceededToken;
+        }
+
+        @Override
+        public List<PushSendResult> sendEach(List<PushMessage> messages) {
+            batchSizes.add(messages.size());
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            return messages.stream()
+                    .map(this::respond)
+                    .toList();
+        }
+
+        private PushSendResult respond(PushMessage message) {
+            if (message.firebaseToken().equals(unregisteredToken)) {
+                return PushSendResult.failure(message.firebaseToken(), MessagingErrorCode.UNREGISTERED);
+            }
+            if (message.firebaseToken().equals(quotaExceededToken)) {
+                return PushSendResult.failure(message.firebaseToken(), MessagingErrorCode.QUOTA_EXCEEDED);
+            }
+            return PushSendResult.success(message.firebaseToken());
+        }
+
+        private List<Integer> batchSizes() {
+            return batchSizes;
+        }
+
+        private int maxInFlight() {
+            return maxInFlight.get();
+        }
+    }
+}
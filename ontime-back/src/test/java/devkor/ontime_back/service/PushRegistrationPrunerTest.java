@@ -0,0 +1,110 @@
+package devkor.ontime_back.service;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+import devkor.ontime_back.repository.UserDeviceRepository;
+import devkor.ontime_back.repository.UserRepository;
+import devkor.ontime_back.service.PushTransport.PushSendResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PushRegistrationPrunerTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserDeviceRepository userDeviceRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private PushRegistrationPruner pushRegistrationPruner;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pushRegistrationPruner = new PushRegistrationPruner(userRepository, userDeviceRepository, meterRegistry);
+    }
+
+    @Test
+    void pruneUnregisteredClearsOnlyDeadRegistrationsOnce() {
+        when(userRepository.clearFirebaseTokens(List.of("firebase-token-1", "firebase-token-2"))).thenReturn(2);
+        when(userDeviceRepository.clearFirebaseTokens(List.of("firebase-token-1", "firebase-token-2"))).thenReturn(1);
+
+        int pruned = pushRegistrationPruner.pruneUnregistered(List.of(
+                PushSendResult.success("firebase-token-0"),
+                PushSendResult.failure("firebase-token-1", MessagingErrorCode.UNREGISTERED),
+                PushSendResult.failure("firebase-token-2", MessagingErrorCode.SENDER_ID_MISMATCH),
+                PushSendResult.failure("firebase-token-1", MessagingErrorCode.UNREGISTERED),
+                PushSendResult.failure("firebase-token-3", MessagingErrorCode.QUOTA_EXCEEDED)));
+
+        assertThat(pruned).isEqualTo(3);
+        assertThat(meterRegistry.get("ontime.push.registrations.pruned").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void pruneUnregisteredSplitsLargeResultsIntoChunkedUpdates() {
+        List<PushSendResult> results = IntStream.range(0, 1_200)
+                .mapToObj(i -> PushSendResult.failure("firebase-token-" + i, MessagingErrorCode.UNREGISTERED))
+                .toList();
+        when(userRepository.clearFirebaseTokens(anyCollection())).thenReturn(500, 500, 200);
+        when(userDeviceRepository.clearFirebaseTokens(anyCollection())).thenReturn(0, 10, 0);
+
+        int pruned = pushRegistrationPruner.pruneUnregistered(results);
+
+        assertThat(pruned).isEqualTo(1_210);
+        verify(userRepository, times(3)).clearFirebaseTokens(anyCollection());
+        verify(userDeviceRepository, times(3)).clearFirebaseTokens(anyCollection());
+    }
+
+    @Test
+    void pruneUnregisteredCountsOnlyRowsActuallyCleared() {
+        // 다른 배치에서 이미 지운 토큰이면 응답은 UNREGISTERED 여도 지울 행이 없다.
+        when(userRepository.clearFirebaseTokens(List.of("firebase-token-1"))).thenReturn(0);
+        when(userDeviceRepository.clearFirebaseTokens(List.of("firebase-token-1"))).thenReturn(0);
+
+        int pruned = pushRegistrationPruner.pruneUnregistered(List.of(
+                PushSendResult.failure("firebase-token-1", MessagingErrorCode.UNREGISTERED)));
+
+        assertThat(pruned).isZero();
+        assertThat(meterRegistry.get("ontime.push.registrations.pruned").counter().count()).isZero();
+    }
+
+    @Test
+    void pruneUnregisteredSkipsUpdatesWhenEveryRegistrationIsAlive() {
+        int pruned = pushRegistrationPruner.pruneUnregistered(List.of(
+                PushSendResult.success("firebase-token-0"),
+                PushSendResult.failure("firebase-token-1", MessagingErrorCode.UNAVAILABLE)));
+
+        assertThat(pruned).isZero();
+        verify(userRepository, never()).clearFirebaseTokens(anyCollection());
+        verify(userDeviceRepository, never()).clearFirebaseTokens(anyCollection());
+    }
+
+    @Test
+    void pruneUnregisteredIgnoresInvalidArgumentAndBatchLevelFailures() {
+        // INVALID_ARGUMENT 는 페이로드 문제일 수 있고, 배치 실패는 토큰별 응답이 아니다.
+        int pruned = pushRegistrationPruner.pruneUnregistered(List.of(
+                PushSendResult.failure("firebase-token-1", MessagingErrorCode.INVALID_ARGUMENT),
+                PushSendResult.batchFailure("firebase-token-2", MessagingErrorCode.UNREGISTERED),
+                PushSendResult.batchFailure("firebase-token-3", MessagingErrorCode.INVALID_ARGUMENT)));
+
+        assertThat(pruned).isZero();
+        verify(userRepository, never()).clearFirebaseTokens(anyCollection());
+        verify(userDeviceRepository, never()).clearFirebaseTokens(anyCollection());
+    }
+}
@@ -0,0 +1,100 @@
+package devkor.ontime_back.service;
+
+import devkor.ontime_back.entity.PushDeliveryRetry;
+import devkor.ontime_back.entity.Schedule;
+import devkor.ontime_back.entity.User;
+import devkor.ontime_back.entity.UserSetting;
+import devkor.ontime_back.repository.PushDeliveryRetryRepository;
+import devkor.ontime_back.repository.ScheduleRepository;
+import devkor.ontime_back.repository.UserRepository;
+import devkor.ontime_back.repository.UserSettingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class PushRetryObsoleteQueryTest {
+
+    @Autowired
+    private PushDeliveryRetryRepository pushDeliveryRetryRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSettingRepository userSettingRepository;
+
+    @AfterEach
+    void tearDown() {
+        pushDeliveryRetryRepository.deleteAllInBatch();
+        userSettingRepository.deleteAllInBatch();
+        scheduleRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("약속이 지워졌거나 지났거나 사용자가 알림을 끈 재시도만 더 보낼 이유가 없는 행으로 고른다")
+    @Test
+    void findObsoleteIdsMatchesGoneOrPastSchedulesAndDisabledUsers() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        User enabledUser = saveUser("retry-enabled@example.com", true);
+        User disabledUser = saveUser("retry-disabled@example.com", false);
+        UUID futureSchedule = saveSchedule(enabledUser, now.plusHours(1));
+        UUID pastSchedule = saveSchedule(enabledUser, now.minusMinutes(1));
+        UUID disabledUserSchedule = saveSchedule(disabledUser, now.plusHours(1));
+
+        Long live = saveRetry(enabledUser.getId(), futureSchedule);
+        Long past = saveRetry(enabledUser.getId(), pastSchedule);
+        Long deleted = saveRetry(enabledUser.getId(), UUID.randomUUID());
+        Long disabled = saveRetry(disabledUser.getId(), disabledUserSchedule);
+        Long userOnly = saveRetry(enabledUser.getId(), null);
+
+        // when
+        List<Long> obsolete = pushDeliveryRetryRepository.findObsoleteIds(
+                List.of(live, past, deleted, disabled, userOnly), now);
+
+        // then
+        assertThat(obsolete).containsExactlyInAnyOrder(past, deleted, disabled);
+    }
+
+    private User saveUser(String email, boolean notificationsEnabled) {
+        User user = userRepository.save(User.builder()
+                .email(email)
+                .name(email)
+                .build());
+        userSettingRepository.save(UserSetting.builder()
+                .userSettingId(UUID.randomUUID())
+                .user(user)
+                .isNotificationsEnabled(notificationsEnabled)
+                .build());
+        return user;
+    }
+
+    private UUID saveSchedule(User user, LocalDateTime scheduleTime) {
+        return scheduleRepository.save(Schedule.builder()
+                .scheduleId(UUID.randomUUID())
+                .scheduleName("retry")
+                .scheduleTime(scheduleTime)
+                .user(user)
+                .build()).getScheduleId();
+    }
+
+    private Long saveRetry(Long userId, UUID scheduleId) {
+        Instant now = Instant.now();
+        return pushDeliveryRetryRepository.save(PushDeliveryRetry.create(
+                "firebase-token", "약속 알림", "content", userId, scheduleId,
+                "UNAVAILABLE", now, now.plusSeconds(3600))).getPushDeliveryRetryId();
+    }
+}
@@ -0,0 +1,227 @@
+package devkor.ontime_back.service;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+import devkor.ontime_back.entity.PushDeliveryRetry;
+import devkor.ontime_back.repository.PushDeliveryRetryRepository;
+import devkor.ontime_back.service.PushTransport.PushMessage;
+import devkor.ontime_back.service.PushTransport.PushSendResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PushRetryQueueTest {
+
+    @Mock
+    private PushDeliveryRetryRepository pushDeliveryRetryRepository;
+
+    private PushRetryQueue pushRetryQueue;
+
+    @BeforeEach
+    void setUp() {
+        pushRetryQueue = new PushRetryQueue(pushDeliveryRetryRepository, 30, 3600, 3, 120, 21600);
+    }
+
+    @Test
+    void enqueueRetryableKeepsOnlyTransientFailures() {
+        List<PushMessage> messages = List.of(
+                new PushMessage("firebase-token-0", "약속 알림", "content-0"),
+                new PushMessage("firebase-token-1", "약속 알림", "content-1"),
+                new PushMessage("firebase-token-2", "약속 알림", "content-2"),
+                new PushMessage("firebase-token-3", "약속 알림", "content-3"));
+        List<PushSendResult> results = List.of(
+                PushSendResult.success("firebase-token-0"),
+                PushSendResult.failure("firebase-token-1", MessagingErrorCode.QUOTA_EXCEEDED),
+                PushSendResult.failure("firebase-token-2", MessagingErrorCode.UNREGISTERED),
+                PushSendResult.failure("firebase-token-3", MessagingErrorCode.UNAVAILABLE));
+        Instant before = Instant.now();
+
+        int queued = pushRetryQueue.enqueueRetryable(messages, results);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PushDeliveryRetry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pushDeliveryRetryRepository).saveAll(captor.capture());
+        assertThat(queued).isEqualTo(2);
+        assertThat(captor.getValue())
+                .extracting(PushDeliveryRetry::getFirebaseToken, PushDeliveryRetry::getLastErrorCode, PushDeliveryRetry::getAttempts)
+                .containsExactly(
+                        tuple("firebase-token-1", "QUOTA_EXCEEDED", 1),
+                        tuple("firebase-token-3", "UNAVAILABLE", 1));
+        assertThat(captor.getValue().get(0).getNextAttemptAt())
+                .isBetween(before.plusSeconds(30), Instant.now().plusSeconds(34));
+    }
+
+    @Test
+    void enqueueRetryableExpiresAtScheduleTimeOrTtlAndSkipsMessagesExpiringBeforeFirstRetry() {
+        UUID scheduleId = UUID.randomUUID();
+        LocalDateTime soonSchedule = LocalDateTime.now().plusSeconds(10);
+        LocalDateTime laterSchedule = LocalDateTime.now().plusHours(1);
+        LocalDateTime farSchedule = LocalDateTime.now().plusDays(2);
+        List<PushMessage> messages = List.of(
+                PushMessage.scheduleReminder("firebase-token-0", "User", "soon", "약속", 1L, scheduleId, soonSchedule),
+                PushMessage.scheduleReminder("firebase-token-1", "User", "later", "약속", 1L, scheduleId, laterSchedule),
+                PushMessage.scheduleReminder("firebase-token-2", "User", "far", "약속", 1L, scheduleId, farSchedule));
+        List<PushSendResult> results = List.of(
+                PushSendResult.failure("firebase-token-0", MessagingErrorCode.UNAVAILABLE),
+                PushSendResult.failure("firebase-token-1", MessagingErrorCode.UNAVAILABLE),
+                PushSendResult.failure("firebase-token-2", MessagingErrorCode.UNAVAILABLE));
+        Instant before = Instant.now();
+
+        int queued = pushRetryQueue.enqueueRetryable(messages, results);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PushDeliveryRetry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pushDeliveryRetryRepository).saveAll(captor.capture());
+        // 첫 재시도(30초 뒤)보다 먼저 약속 시각이 되는 메시지는 넣지 않는다.
+        assertThat(queued).isEqualTo(2);
+        assertThat(captor.getValue())
+                .extracting(PushDeliveryRetry::getFirebaseToken, PushDeliveryRetry::getUserId, PushDeliveryRetry::getScheduleId)
+                .containsExactly(
+                        tuple("firebase-token-1", 1L, scheduleId),
+                        tuple("firebase-token-2", 1L, scheduleId));
+        assertThat(captor.getValue().get(0).getExpiresAt())
+                .isEqualTo(laterSchedule.atZone(ZoneId.systemDefault()).toInstant());
+        assertThat(captor.getValue().get(1).getExpiresAt())
+                .isBetween(before.plus(Duration.ofHours(6)), Instant.now().plus(Duration.ofHours(6)));
+    }
+
+    @Test
+    void enqueueRetryableSkipsSaveWhenNothingIsRetryable() {
+        int queued = pushRetryQueue.enqueueRetryable(
+                List.of(new PushMessage("firebase-token-0", "약속 알림", "content-0")),
+                List.of(PushSendResult.success("firebase-token-0")));
+
+        assertThat(queued).isZero();
+        verify(pushDeliveryRetryRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void claimDuePostponesClaimedRowsByClaimTimeout() {
+        PushDeliveryRetry retry = retry(1L, 1);
+        when(pushDeliveryRetryRepository.findDueForUpdate(any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of(retry));
+        Instant before = Instant.now();
+
+        List<PushDeliveryRetry> claimed = pushRetryQueue.claimDue(500);
+
+        assertThat(claimed).containsExactly(retry);
+        assertThat(retry.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(120));
+    }
+
+    @Test
+    void claimDueDropsExpiredAndObsoleteRowsInsteadOfResending() {
+        PushDeliveryRetry live = retry(1L, 1, 10L, UUID.randomUUID(), Instant.now().plusSeconds(600));
+        PushDeliveryRetry expired = retry(2L, 1, null, null, Instant.now().minusSeconds(1));
+        PushDeliveryRetry obsolete = retry(3L, 1, 11L, UUID.randomUUID(), Instant.now().plusSeconds(600));
+        PushDeliveryRetry unbound = retry(4L, 1);
+        when(pushDeliveryRetryRepository.findDueForUpdate(any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of(live, expired, obsolete, unbound));
+        when(pushDeliveryRetryRepository.findObsoleteIds(eq(List.of(1L, 3L)), any(LocalDateTime.class)))
+                .thenReturn(List.of(3L));
+
+        List<PushDeliveryRetry> claimed = pushRetryQueue.claimDue(500);
+
+        assertThat(claimed).containsExactly(live, unbound);
+        verify(pushDeliveryRetryRepository).deleteAllInBatch(List.of(expired, obsolete));
+    }
+
+    @Test
+    void claimDueSkipsObsoleteLookupWhenNoRowHasTarget() {
+        when(pushDeliveryRetryRepository.findDueForUpdate(any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of(retry(1L, 1)));
+
+        assertThat(pushRetryQueue.claimDue(500)).hasSize(1);
+        verify(pushDeliveryRetryRepository, never()).findObsoleteIds(any(), any());
+        verify(pushDeliveryRetryRepository, never()).deleteAllInBatch(anyList());
+    }
+
+    @Test
+    void settleReschedulesWithExponentialBackoffAndDeletesFinishedRows() {
+        PushDeliveryRetry succeeded = retry(1L, 1);
+        PushDeliveryRetry throttledAgain = retry(2L, 2);
+        PushDeliveryRetry exhausted = retry(3L, 3);
+        PushDeliveryRetry invalid = retry(4L, 1);
+        List<PushDeliveryRetry> claimed = List.of(succeeded, throttledAgain, exhausted, invalid);
+        when(pushDeliveryRetryRepository.findAllById(List.of(1L, 2L, 3L, 4L))).thenReturn(claimed);
+        Instant before = Instant.now();
+
+        pushRetryQueue.settle(claimed, List.of(
+                PushSendResult.success("firebase-token-1"),
+                PushSendResult.failure("firebase-token-2", MessagingErrorCode.QUOTA_EXCEEDED),
+                PushSendResult.failure("firebase-token-3", MessagingErrorCode.UNAVAILABLE),
+                PushSendResult.failure("firebase-token-4", MessagingErrorCode.UNREGISTERED)));
+
+        verify(pushDeliveryRetryRepository).deleteAllInBatch(List.of(succeeded, exhausted, invalid));
+        assertThat(throttledAgain.getAttempts()).isEqualTo(3);
+        assertThat(throttledAgain.getLastErrorCode()).isEqualTo("QUOTA_EXCEEDED");
+        // 세 번째 시도 실패 뒤에는 30s x 2^2 = 120s (+최대 10%) 를 기다린다.
+        assertThat(throttledAgain.getNextAttemptAt())
+                .isBetween(before.plusSeconds(120), Instant.now().plusSeconds(133));
+    }
+
+    @Test
+    void settleDropsRetryWhoseNextAttemptWouldPassExpiry() {
+        PushDeliveryRetry expiringSoon = retry(1L, 1, null, null, Instant.now().plusSeconds(10));
+        when(pushDeliveryRetryRepository.findAllById(List.of(1L))).thenReturn(List.of(expiringSoon));
+
+        pushRetryQueue.settle(List.of(expiringSoon),
+                List.of(PushSendResult.failure("firebase-token-1", MessagingErrorCode.UNAVAILABLE)));
+
+        verify(pushDeliveryRetryRepository).deleteAllInBatch(List.of(expiringSoon));
+        assertThat(expiringSoon.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void backoffIsCappedAtMaximum() {
+        assertThat(pushRetryQueue.backoff(1)).isBetween(Duration.ofSeconds(30), Duration.ofSeconds(33));
+        assertThat(pushRetryQueue.backoff(40)).isBetween(Duration.ofSeconds(3600), Duration.ofSeconds(3960));
+    }
+
+    private PushDeliveryRetry retry(Long id, int attempts, Long userId, UUID scheduleId, Instant expiresAt) {
+        return PushDeliveryRetry.builder()
+                .pushDeliveryRetryId(id)
+                .firebaseToken("firebase-token-" + id)
+                .title("약속 알림")
+                .content("content-" + id)
+                .attempts(attempts)
+                .nextAttemptAt(Instant.now())
+                .userId(userId)
+                .scheduleId(scheduleId)
+                .expiresAt(expiresAt)
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    private PushDeliveryRetry retry(Long id, int attempts) {
+        return PushDeliveryRetry.builder()
+                .pushDeliveryRetryId(id)
+                .firebaseToken("firebase-token-" + id)
+                .title("약속 알림")
+                .content("content-" + id)
+                .attempts(attempts)
+                .nextAttemptAt(Instant.now())
+                .expiresAt(Instant.now().plus(Duration.ofHours(6)))
+                .createdAt(Instant.now())
+                .build();
+    }
+}
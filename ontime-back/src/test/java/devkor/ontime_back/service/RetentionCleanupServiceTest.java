@@ -119,6 +119,8 @@ class RetentionCleanupServiceTest {
         RetentionCleanupService.RetentionCleanupResult result = retentionCleanupService.cleanupExpiredRetentionData(now);
 
         // then
+        // H2 에는 파티션이 없으므로 DELETE 로만 지운다.
+        assertThat(result.droppedApiLogPartitions()).isZero();
         assertThat(result.deletedApiLogs()).isEqualTo(1);
         assertThat(apiLogRepository.findById(expiredLog.getApiLogId())).isEmpty();
         assertThat(apiLogRepository.findById(cutoffLog.getApiLogId())).isPresent();
@@ -113,6 +113,7 @@ class ScheduleServiceNotificationRefreshTest {
         scheduleService.refreshNotStartedDefaultModeSchedules(1L);
 
         assertThat(canonical.getNotificationTime()).isEqualTo(LocalDateTime.of(2026, 6, 29, 13, 29));
+        verify(notificationService).scheduleNotification(1L, LocalDateTime.of(2026, 6, 29, 13, 29));
         verify(notificationService).cancelScheduledNotification(2L);
         verify(notificationService).cancelScheduledNotification(3L);
         verify(notificationService).cancelScheduledNotification(4L);
@@ -120,7 +121,9 @@ class ScheduleServiceNotificationRefreshTest {
         verify(notificationScheduleRepository).delete(duplicate2);
         verify(notificationScheduleRepository).delete(duplicate3);
         verify(notificationScheduleRepository).save(canonical);
-        verify(notificationService).scheduleReminder(canonical);
+        assertThat(canonical.getIsSent()).isFalse();
+        assertThat(canonical.getDispatchedAt()).isNull();
+        assertThat(canonical.getLeaseOwner()).isNull();
     }
 
     private NotificationSchedule notification(Long id, Schedule schedule, LocalDateTime notificationTime) {
@@ -530,7 +530,7 @@ class UserAuthServiceTest {
         userAlarmSettingRepository.save(UserAlarmSetting.defaultFor(targetUser));
         UserDevice userDevice = UserDevice.create(targetUser, "device-" + socialType.name().toLowerCase());
         userDevice.activate("ios", "1.0.0", "17.0", true, "native", "fcm", Instant.now());
-        userDevice.bindSession("session-access-token", "session-refresh-token");
+        userDevice.bindSession("session-access-token", "session-refresh-token", null);
         userDevice.updateFirebaseToken("device-firebase-token");
         userDeviceRepository.save(userDevice);
         UserAlarmStatus alarmStatus = UserAlarmStatus.create(targetUser, userDevice);
@@ -7,22 +7,47 @@ const stubUrl = __ENV.APPLE_STUB_URL || "http://127.0.0.1:18080";
 const vus = Number(__ENV.K6_VUS || 1);
 const duration = __ENV.K6_DURATION || "5m";
 const resultJson = __ENV.K6_RESULT_JSON || "k6-summary.json";
+// steady: 고정 VU 로 duration 동안 반복, cold-burst: 서명 키를 바꾼 직후 모든 VU 가 한 번씩 동시에 로그인
+const scenario = __ENV.K6_SCENARIO || "steady";
+const burstIterations = Number(__ENV.K6_BURST_ITERATIONS || 1);
+const seededUsers = Number(__ENV.K6_SEEDED_USERS || 256);
 
 const loginRequests = new Counter("apple_login_requests");
 const loginFailed = new Rate("apple_login_failed");
 const loginDuration = new Trend("apple_login_duration", true);
 
-export const options = {
-  vus,
-  duration,
-  thresholds: {
-    http_req_failed: ["rate==0"],
-  },
+const thresholds = {
+  http_req_failed: ["rate==0"],
 };
 
+export const options = scenario === "cold-burst"
+  ? {
+    scenarios: {
+      cold_burst: {
+        executor: "per-vu-iterations",
+        vus,
+        iterations: burstIterations,
+        maxDuration: duration,
+      },
+    },
+    thresholds,
+  }
+  : {
+    vus,
+    duration,
+    thresholds,
+  };
+
 export function setup() {
+  if (scenario === "cold-burst") {
+    const rotated = http.post(`${stubUrl}/__rotate-key`);
+    if (rotated.status !== 200) {
+      throw new Error(`key rotation failed with status ${rotated.status}`);
+    }
+  }
+
   const payloads = [];
-  for (let index = 1; index <= vus; index += 1) {
+  for (let index = 1; index <= Math.min(vus, seededUsers); index += 1) {
     const subject = `bench-apple-user-${index}`;
     const response = http.get(`${stubUrl}/fixture/apple-login-payload?subject=${subject}`);
     if (response.status !== 200) {
@@ -55,7 +80,9 @@ export default function (payloads) {
   loginFailed.add(response.status !== 200);
   loginDuration.add(response.timings.duration);
 
-  sleep(0.1);
+  if (scenario !== "cold-burst") {
+    sleep(0.1);
+  }
 }
 
 export function handleSummary(data) {
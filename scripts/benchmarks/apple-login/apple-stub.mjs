@@ -8,13 +8,23 @@ const fullName = process.env.BENCH_APPLE_FULL_NAME || "Bench User";
 const email = process.env.BENCH_APPLE_EMAIL || "bench.apple@example.com";
 const keyDelayMs = Number(process.env.APPLE_KEYS_DELAY_MS || 80);
 const exchangeDelayMs = Number(process.env.APPLE_EXCHANGE_DELAY_MS || 300);
-const kid = "bench-rsa-key";
-
-const { publicKey, privateKey } = generateKeyPairSync("rsa", {
-  modulusLength: 2048,
-});
+let keyGeneration = 0;
+let kid;
+let privateKey;
+let publicJwk;
+
+// /__rotate-key 로 서명 키를 바꾸면 백엔드가 캐시해 둔 kid 가 모두 낡은 키가 된다. (cold-burst 시나리오)
+function rotateSigningKey() {
+  keyGeneration += 1;
+  const pair = generateKeyPairSync("rsa", {
+    modulusLength: 2048,
+  });
+  kid = keyGeneration === 1 ? "bench-rsa-key" : `bench-rsa-key-${keyGeneration}`;
+  privateKey = pair.privateKey;
+  publicJwk = pair.publicKey.export({ format: "jwk" });
+}
 
-const publicJwk = publicKey.export({ format: "jwk" });
+rotateSigningKey();
 let counts = {
   keys: 0,
   exchange: 0,
@@ -120,6 +130,12 @@ const server = http.createServer(async (request, response) => {
       return;
     }
 
+    if (request.method === "POST" && url.pathname === "/__rotate-key") {
+      rotateSigningKey();
+      jsonResponse(response, 200, { kid });
+      return;
+    }
+
     if (request.method === "POST" && url.pathname === "/__reset") {
       counts = { keys: 0, exchange: 0 };
       jsonResponse(response, 200, counts);
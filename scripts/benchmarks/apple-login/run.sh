@@ -44,6 +44,10 @@ fi
 WARMUP_DURATION="${WARMUP_DURATION:-2m}"
 MEASUREMENT_DURATION="${MEASUREMENT_DURATION:-5m}"
 SCENARIOS="${SCENARIOS:-1 10 20}"
+COLD_SCENARIOS="${COLD_SCENARIOS:-200}"
+COLD_BURST_ITERATIONS="${COLD_BURST_ITERATIONS:-1}"
+# 백엔드는 직전 JWKS 조회 뒤 10초 안에는 처음 보는 kid 로 다시 조회하지 않으므로, cold-burst 전에 그만큼 기다린다.
+COLD_BURST_SETTLE_SECONDS="${COLD_BURST_SETTLE_SECONDS:-11}"
 
 TIMESTAMP="$(date -u +%Y%m%dT%H%M%SZ)"
 RESULT_DIR="${RESULT_DIR:-$SCRIPT_DIR/results/${TIMESTAMP}-${LABEL}-${MODE}}"
@@ -118,6 +122,18 @@ FLUSH PRIVILEGES;
 SQL
 }
 
+# 로그인 한 번에 나가는 SQL 문 수를 보려고, 측정 구간의 문장별 실행 횟수를 performance_schema 에서 읽는다.
+reset_statement_stats() {
+  mysql -h"$DB_HOST" -P"$DB_PORT" -uroot -p"$DB_ROOT_PASSWORD" \
+    -e "TRUNCATE TABLE performance_schema.events_statements_summary_by_digest"
+}
+
+dump_statement_stats() {
+  mysql -h"$DB_HOST" -P"$DB_PORT" -uroot -p"$DB_ROOT_PASSWORD" -N -B \
+    -e "SELECT COUNT_STAR, DIGEST_TEXT FROM performance_schema.events_statements_summary_by_digest WHERE SCHEMA_NAME = '${DB_NAME}'" \
+    > "$1"
+}
+
 seed_returning_user() {
   mysql -h"$DB_HOST" -P"$DB_PORT" -u"$DB_USER" -p"$DB_PASSWORD" "$DB_NAME" < "$SCRIPT_DIR/seed-returning-user.sql"
 }
@@ -201,6 +217,7 @@ run_k6_once() {
     k6 run "$SCRIPT_DIR/apple-login.k6.js" > "$RESULT_DIR/warmup-${LABEL}-c${concurrency}-${run_id}.log"
 
   curl -fsS -X POST "$APPLE_STUB_URL/__reset" >/dev/null
+  reset_statement_stats
 
   K6_VUS="$concurrency" \
   K6_DURATION="$MEASUREMENT_DURATION" \
@@ -210,6 +227,30 @@ run_k6_once() {
     k6 run "$SCRIPT_DIR/apple-login.k6.js" > "$RESULT_DIR/k6-${LABEL}-c${concurrency}-${run_id}.log"
 
   curl -fsS "$APPLE_STUB_URL/__counts" > "$RESULT_DIR/stub-${LABEL}-c${concurrency}-${run_id}.json"
+  dump_statement_stats "$RESULT_DIR/sql-${LABEL}-c${concurrency}-${run_id}.tsv"
+}
+
+# 스텁 서명 키를 바꾼 직후 COLD_SCENARIOS 개 VU 가 동시에 한 번씩 로그인한다.
+# 첫 실행은 백엔드를 막 띄운 상태라 키 캐시가 비어 있고, 이후 실행은 처음 보는 kid 로 캐시가 빗나간다.
+run_cold_burst_once() {
+  local concurrency="$1"
+  local run_number="$2"
+  local run_id
+  run_id="$(printf 'run%02d' "$run_number")"
+
+  sleep "$COLD_BURST_SETTLE_SECONDS"
+  curl -fsS -X POST "$APPLE_STUB_URL/__reset" >/dev/null
+
+  K6_SCENARIO="cold-burst" \
+  K6_VUS="$concurrency" \
+  K6_BURST_ITERATIONS="$COLD_BURST_ITERATIONS" \
+  K6_DURATION="$MEASUREMENT_DURATION" \
+  BACKEND_URL="$BACKEND_URL" \
+  APPLE_STUB_URL="$APPLE_STUB_URL" \
+  K6_RESULT_JSON="$RESULT_DIR/k6-${LABEL}-cold-c${concurrency}-${run_id}.json" \
+    k6 run "$SCRIPT_DIR/apple-login.k6.js" > "$RESULT_DIR/k6-${LABEL}-cold-c${concurrency}-${run_id}.log"
+
+  curl -fsS "$APPLE_STUB_URL/__counts" > "$RESULT_DIR/stub-${LABEL}-cold-c${concurrency}-${run_id}.json"
 }
 
 main() {
@@ -225,6 +266,13 @@ main() {
   start_stub
   start_backend
 
+  for concurrency in $COLD_SCENARIOS; do
+    for run_number in $(seq 1 "$RUNS"); do
+      echo "running ${LABEL}/${MODE}: cold-burst concurrency=${concurrency}, run=${run_number}/${RUNS}"
+      run_cold_burst_once "$concurrency" "$run_number"
+    done
+  done
+
   for concurrency in $SCENARIOS; do
     for run_number in $(seq 1 "$RUNS"); do
       echo "running ${LABEL}/${MODE}: concurrency=${concurrency}, run=${run_number}/${RUNS}"
@@ -39,16 +39,19 @@ INSERT INTO `user` (
   'bench-existing-provider-grant',
   NULL
 FROM (
-  SELECT ones.n + tens.n * 10 + 1 AS n
+  SELECT ones.n + tens.n * 10 + hundreds.n * 100 + 1 AS n
   FROM (
     SELECT 0 n UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4
     UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9
   ) ones
   CROSS JOIN (
     SELECT 0 n UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4
-    UNION ALL SELECT 5 UNION ALL SELECT 6
+    UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9
   ) tens
-  WHERE ones.n + tens.n * 10 + 1 <= 64
+  CROSS JOIN (
+    SELECT 0 n UNION ALL SELECT 1 UNION ALL SELECT 2
+  ) hundreds
+  WHERE ones.n + tens.n * 10 + hundreds.n * 100 + 1 <= 256
 ) seq
 ON DUPLICATE KEY UPDATE
   email = VALUES(email),
@@ -6,7 +6,7 @@ import sys
 from pathlib import Path
 
 
-K6_NAME = re.compile(r"k6-(?P<label>[^-]+)-c(?P<concurrency>\d+)-run(?P<run>\d+)\.json")
+K6_NAME = re.compile(r"k6-(?P<label>[^-]+)-(?:(?P<scenario>cold)-)?c(?P<concurrency>\d+)-run(?P<run>\d+)\.json")
 
 
 def metric_value(metrics, name, field, default=0):
@@ -28,6 +28,24 @@ def read_json(path):
         return json.load(file)
 
 
+WRITE_STATEMENT = re.compile(r"^\s*(INSERT|UPDATE|DELETE|REPLACE)\b", re.IGNORECASE)
+
+
+def read_statement_counts(path):
+    # run.sh 가 남긴 performance_schema 덤프: "<실행 횟수>\t<정규화된 SQL>"
+    statements = 0
+    writes = 0
+    with path.open() as file:
+        for line in file:
+            count, _, digest = line.rstrip("\n").partition("\t")
+            if not count.isdigit():
+                continue
+            statements += int(count)
+            if WRITE_STATEMENT.match(digest):
+                writes += int(count)
+    return statements, writes
+
+
 def summarize(result_dir):
     rows = []
     for k6_path in sorted(result_dir.glob("k6-*-c*-run*.json")):
@@ -36,11 +54,15 @@ def summarize(result_dir):
             continue
 
         label = match.group("label")
+        scenario = match.group("scenario") or "warm"
         concurrency = match.group("concurrency")
         run = match.group("run")
-        stub_path = result_dir / f"stub-{label}-c{concurrency}-run{run}.json"
+        scenario_part = "cold-" if scenario == "cold" else ""
+        stub_path = result_dir / f"stub-{label}-{scenario_part}c{concurrency}-run{run}.json"
         k6_summary = read_json(k6_path)
         stub_counts = read_json(stub_path) if stub_path.exists() else {}
+        sql_path = result_dir / f"sql-{label}-{scenario_part}c{concurrency}-run{run}.tsv"
+        sql_statements, sql_writes = read_statement_counts(sql_path) if sql_path.exists() else (None, None)
 
         metrics = k6_summary.get("metrics", {})
         requests = metric_value(metrics, "apple_login_requests", "count", 0)
@@ -51,6 +73,7 @@ def summarize(result_dir):
         rows.append(
             {
                 "label": label,
+                "scenario": scenario,
                 "concurrency": concurrency,
                 "run": run,
                 "requests": requests,
@@ -62,6 +85,8 @@ def summarize(result_dir):
                 "token_exchange_calls": exchange,
                 "jwks_calls_per_request": keys / requests if requests else None,
                 "token_exchange_calls_per_request": exchange / requests if requests else None,
+                "sql_statements_per_request": sql_statements / requests if requests and sql_statements is not None else None,
+                "sql_writes_per_request": sql_writes / requests if requests and sql_writes is not None else None,
             }
         )
 
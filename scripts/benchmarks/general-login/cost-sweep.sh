@@ -0,0 +1,39 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+# BCrypt cost 마다 run.sh 를 한 번씩 돌리고(매번 DB 와 백엔드를 새로 띄운다) 결과를 cost-sweep.csv 하나로 모은다.
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+LABEL="${1:-after}"
+MODE="${2:-quick}"
+BCRYPT_STRENGTHS="${BCRYPT_STRENGTHS:-8 10 12}"
+TIMESTAMP="$(date -u +%Y%m%dT%H%M%SZ)"
+SWEEP_DIR="$SCRIPT_DIR/results/${TIMESTAMP}-${LABEL}-${MODE}-cost-sweep"
+
+# 가입 경로는 sign-up 해시까지 같은 CPU 를 쓰므로 기본으로 returning 만 잰다.
+export LOGIN_PATHS="${LOGIN_PATHS:-returning}"
+
+for strength in $BCRYPT_STRENGTHS; do
+  echo "bcrypt cost ${strength}"
+  BCRYPT_STRENGTH="$strength" RESULT_DIR="$SWEEP_DIR/cost-${strength}" \
+    "$SCRIPT_DIR/run.sh" "$LABEL" "$MODE"
+done
+
+python3 - "$SWEEP_DIR" <<'PY'
+import csv
+import sys
+from pathlib import Path
+
+sweep_dir = Path(sys.argv[1])
+rows = []
+for summary in sorted(sweep_dir.glob("cost-*/summary.csv"), key=lambda path: int(path.parent.name[len("cost-"):])):
+    with summary.open() as file:
+        for row in csv.DictReader(file):
+            rows.append({"bcrypt_strength": summary.parent.name[len("cost-"):], **row})
+
+output_path = sweep_dir / "cost-sweep.csv"
+with output_path.open("w", newline="") as file:
+    writer = csv.DictWriter(file, fieldnames=list(rows[0].keys()))
+    writer.writeheader()
+    writer.writerows(rows)
+print(output_path)
+PY
@@ -0,0 +1,100 @@
+import http from "k6/http";
+import { check, sleep } from "k6";
+import { Counter, Rate, Trend } from "k6/metrics";
+
+const backendUrl = __ENV.BACKEND_URL || "http://127.0.0.1:18081";
+const vus = Number(__ENV.K6_VUS || 1);
+const duration = __ENV.K6_DURATION || "5m";
+const resultJson = __ENV.K6_RESULT_JSON || "k6-summary.json";
+// returning: run.sh 가 가입시켜 둔 유저로 로그인, new: 반복마다 새로 가입한 유저로 첫 로그인
+const loginPath = __ENV.K6_LOGIN_PATH || "returning";
+const runTag = __ENV.K6_RUN_TAG || `${Date.now()}`;
+const seededUsers = Number(__ENV.K6_SEEDED_USERS || 256);
+const password = __ENV.BENCH_GENERAL_PASSWORD || "bench-Password1!";
+
+const loginRequests = new Counter("login_requests");
+const loginFailed = new Rate("login_failed");
+const loginDuration = new Trend("login_duration", true);
+const signUpDuration = new Trend("sign_up_duration", true);
+
+export const options = {
+  vus,
+  duration,
+  thresholds: {
+    http_req_failed: ["rate==0"],
+  },
+};
+
+const jsonHeaders = {
+  "content-type": "application/json",
+};
+
+function signUp(email, name) {
+  const response = http.post(
+    `${backendUrl}/sign-up`,
+    JSON.stringify({ email, password, name }),
+    {
+      headers: jsonHeaders,
+      tags: {
+        endpoint: "sign-up",
+      },
+    },
+  );
+  check(response, {
+    "sign-up status is 200": (res) => res.status === 200,
+  });
+  signUpDuration.add(response.timings.duration);
+}
+
+export default function () {
+  let email;
+  if (loginPath === "new") {
+    const subject = `${runTag}-${__VU}-${__ITER}`;
+    email = `bench.general.new+${subject}@example.com`;
+    signUp(email, `Bench New ${subject}`);
+  } else {
+    email = `bench.general+${((__VU - 1) % seededUsers) + 1}@example.com`;
+  }
+
+  const response = http.post(
+    `${backendUrl}/login`,
+    JSON.stringify({ email, password }),
+    {
+      headers: jsonHeaders,
+      tags: {
+        endpoint: "general-login",
+      },
+    },
+  );
+
+  check(response, {
+    "status is 200": (res) => res.status === 200,
+  });
+  loginRequests.add(1);
+  loginFailed.add(response.status !== 200);
+  loginDuration.add(response.timings.duration);
+
+  sleep(0.1);
+}
+
+export function handleSummary(data) {
+  const requestValues = data.metrics.login_requests?.values || {};
+  const failedValues = data.metrics.login_failed?.values || {};
+  const durationValues = data.metrics.login_duration?.values || {};
+
+  return {
+    [resultJson]: JSON.stringify(data, null, 2),
+    stdout: JSON.stringify(
+      {
+        path: loginPath,
+        requests: requestValues.count || 0,
+        failedRate: failedValues.rate || 0,
+        p50: durationValues["p(50)"] || durationValues.med || null,
+        p95: durationValues["p(95)"] || null,
+        p99: durationValues["p(99)"] || null,
+      },
+      null,
+      2,
+    ) + "\n",
+  };
+}
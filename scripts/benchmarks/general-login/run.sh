@@ -0,0 +1,28 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+K6_SCRIPT="$SCRIPT_DIR/general-login.k6.js"
+SEEDED_USERS="${SEEDED_USERS:-256}"
+BENCH_GENERAL_PASSWORD="${BENCH_GENERAL_PASSWORD:-bench-Password1!}"
+export BENCH_GENERAL_PASSWORD
+# 백엔드 BCrypt cost 와 로그인 전용 풀 설정. 비워 두면 bench 프로필 기본값을 쓴다.
+BACKEND_ENV=()
+[[ -n "${BCRYPT_STRENGTH:-}" ]] && BACKEND_ENV+=("SECURITY_PASSWORD_BCRYPT_STRENGTH=$BCRYPT_STRENGTH")
+[[ -n "${LOGIN_EXECUTOR_POOL_SIZE:-}" ]] && BACKEND_ENV+=("LOGIN_EXECUTOR_POOL_SIZE=$LOGIN_EXECUTOR_POOL_SIZE")
+[[ -n "${LOGIN_EXECUTOR_QUEUE_CAPACITY:-}" ]] && BACKEND_ENV+=("LOGIN_EXECUTOR_QUEUE_CAPACITY=$LOGIN_EXECUTOR_QUEUE_CAPACITY")
+
+# shellcheck source=../login-common/lib.sh
+source "$SCRIPT_DIR/../login-common/lib.sh"
+
+# 비밀번호 해시가 백엔드 설정과 같은 방식으로 만들어지도록, SQL 이 아니라 /sign-up 으로 유저를 만든다.
+seed_returning_users() {
+  for index in $(seq 1 "$SEEDED_USERS"); do
+    curl -fsS -o /dev/null \
+      -H 'content-type: application/json' \
+      -d "{\"email\":\"bench.general+${index}@example.com\",\"password\":\"${BENCH_GENERAL_PASSWORD}\",\"name\":\"Bench General ${index}\"}" \
+      "$BACKEND_URL/sign-up"
+  done
+}
+
+run_benchmark
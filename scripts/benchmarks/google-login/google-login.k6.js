@@ -0,0 +1,97 @@
+import http from "k6/http";
+import { check, sleep } from "k6";
+import { Counter, Rate, Trend } from "k6/metrics";
+
+const backendUrl = __ENV.BACKEND_URL || "http://127.0.0.1:18081";
+const stubUrl = __ENV.STUB_URL || "http://127.0.0.1:18082";
+const vus = Number(__ENV.K6_VUS || 1);
+const duration = __ENV.K6_DURATION || "5m";
+const resultJson = __ENV.K6_RESULT_JSON || "k6-summary.json";
+// returning: 시드한 구글 유저로 로그인, new: 반복마다 처음 보는 sub 로 가입
+const loginPath = __ENV.K6_LOGIN_PATH || "returning";
+const runTag = __ENV.K6_RUN_TAG || `${Date.now()}`;
+const seededUsers = Number(__ENV.K6_SEEDED_USERS || 256);
+
+const loginRequests = new Counter("login_requests");
+const loginFailed = new Rate("login_failed");
+const loginDuration = new Trend("login_duration", true);
+
+export const options = {
+  vus,
+  duration,
+  thresholds: {
+    http_req_failed: ["rate==0"],
+  },
+};
+
+function fixture(subject) {
+  const response = http.get(`${stubUrl}/fixture/google-login-payload?subject=${subject}`, {
+    tags: {
+      endpoint: "fixture",
+    },
+  });
+  if (response.status !== 200) {
+    throw new Error(`fixture request failed for ${subject} with status ${response.status}`);
+  }
+  return response.json();
+}
+
+export function setup() {
+  const payloads = [];
+  if (loginPath === "returning") {
+    for (let index = 1; index <= Math.min(vus, seededUsers); index += 1) {
+      payloads.push(fixture(`bench-google-user-${index}`));
+    }
+  }
+  return payloads;
+}
+
+export default function (payloads) {
+  // 새 유저 토큰은 스텁에서 바로 받아 오고, 측정은 백엔드 로그인 요청만 한다.
+  const payload = loginPath === "new"
+    ? fixture(`bench-google-new-${runTag}-${__VU}-${__ITER}`)
+    : payloads[(__VU - 1) % payloads.length];
+  const response = http.post(
+    `${backendUrl}/oauth2/google/login`,
+    JSON.stringify(payload),
+    {
+      headers: {
+        "content-type": "application/json",
+      },
+      tags: {
+        endpoint: "google-login",
+      },
+    },
+  );
+
+  check(response, {
+    "status is 200": (res) => res.status === 200,
+  });
+  loginRequests.add(1);
+  loginFailed.add(response.status !== 200);
+  loginDuration.add(response.timings.duration);
+
+  sleep(0.1);
+}
+
+export function handleSummary(data) {
+  const requestValues = data.metrics.login_requests?.values || {};
+  const failedValues = data.metrics.login_failed?.values || {};
+  const durationValues = data.metrics.login_duration?.values || {};
+
+  return {
+    [resultJson]: JSON.stringify(data, null, 2),
+    stdout: JSON.stringify(
+      {
+        path: loginPath,
+        requests: requestValues.count || 0,
+        failedRate: failedValues.rate || 0,
+        p50: durationValues["p(50)"] || durationValues.med || null,
+        p95: durationValues["p(95)"] || null,
+        p99: durationValues["p(99)"] || null,
+      },
+      null,
+      2,
+    ) + "\n",
+  };
+}
@@ -0,0 +1,114 @@
+import http from "node:http";
+import { readFileSync } from "node:fs";
+import { createSign } from "node:crypto";
+
+const port = Number(process.env.GOOGLE_STUB_PORT || 18082);
+const clientId = process.env.GOOGLE_CLIENT_ID || "bench-google-web-client-id";
+const defaultSubject = process.env.BENCH_GOOGLE_SUB || "bench-google-user-1";
+const fullName = process.env.BENCH_GOOGLE_FULL_NAME || "Bench User";
+const certsDelayMs = Number(process.env.GOOGLE_CERTS_DELAY_MS || 80);
+// 백엔드는 이 max-age 로 인증서 만료 시각을 정한다.
+const certsMaxAgeSeconds = Number(process.env.GOOGLE_CERTS_MAX_AGE_SECONDS || 21600);
+// GooglePublicKeysManager 가 읽는 v1/certs 형식은 kid -> X.509 PEM 이라, 키와 인증서는 run.sh 가 openssl 로 만들어 넘긴다.
+const privateKey = readFileSync(process.env.GOOGLE_STUB_KEY_PATH, "utf8");
+const certificate = readFileSync(process.env.GOOGLE_STUB_CERT_PATH, "utf8");
+const kid = "bench-google-key";
+
+let counts = {
+  certs: 0,
+};
+
+function base64url(input) {
+  return Buffer.from(input)
+    .toString("base64")
+    .replaceAll("+", "-")
+    .replaceAll("/", "_")
+    .replaceAll("=", "");
+}
+
+function jsonResponse(response, statusCode, body, headers = {}) {
+  response.writeHead(statusCode, {
+    "content-type": "application/json; charset=UTF-8",
+    "cache-control": "no-store",
+    ...headers,
+  });
+  response.end(JSON.stringify(body));
+}
+
+function delay(ms) {
+  return new Promise((resolve) => setTimeout(resolve, ms));
+}
+
+function signedIdentity(subject) {
+  const nowSeconds = Math.floor(Date.now() / 1000);
+  const header = {
+    alg: "RS256",
+    kid,
+    typ: "JWT",
+  };
+  const payload = {
+    iss: "https://accounts.google.com",
+    aud: clientId,
+    azp: clientId,
+    exp: nowSeconds + 3600,
+    iat: nowSeconds,
+    sub: subject || defaultSubject,
+    email: `bench.google+${subject || defaultSubject}@example.com`,
+    email_verified: true,
+    name: fullName,
+  };
+  const signingInput = `${base64url(JSON.stringify(header))}.${base64url(JSON.stringify(payload))}`;
+  const signature = createSign("RSA-SHA256")
+    .update(signingInput)
+    .sign(privateKey);
+  return `${signingInput}.${base64url(signature)}`;
+}
+
+const server = http.createServer(async (request, response) => {
+  try {
+    const url = new URL(request.url, `http://${request.headers.host}`);
+
+    if (request.method === "GET" && url.pathname === "/oauth2/v1/certs") {
+      counts.certs += 1;
+      await delay(certsDelayMs);
+      jsonResponse(response, 200, { [kid]: certificate }, {
+        "cache-control": `public, max-age=${certsMaxAgeSeconds}, must-revalidate, no-transform`,
+      });
+      return;
+    }
+
+    if (request.method === "GET" && url.pathname === "/fixture/google-login-payload") {
+      const subject = url.searchParams.get("subject") || defaultSubject;
+      jsonResponse(response, 200, {
+        idToken: signedIdentity(subject),
+        refreshToken: "bench-google-refresh",
+      });
+      return;
+    }
+
+    if (request.method === "POST" && url.pathname === "/__reset") {
+      counts = { certs: 0 };
+      jsonResponse(response, 200, counts);
+      return;
+    }
+
+    if (request.method === "GET" && url.pathname === "/__counts") {
+      jsonResponse(response, 200, counts);
+      return;
+    }
+
+    jsonResponse(response, 404, { error: "not_found" });
+  } catch (error) {
+    jsonResponse(response, 500, { error: error.message });
+  }
+});
+
+server.listen(port, "127.0.0.1", () => {
+  console.log(`Google benchmark stub listening on http://127.0.0.1:${port}`);
+});
+
+for (const signal of ["SIGINT", "SIGTERM"]) {
+  process.on(signal, () => {
+    server.close(() => process.exit(0));
+  });
+}
@@ -0,0 +1,55 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+K6_SCRIPT="$SCRIPT_DIR/google-login.k6.js"
+STUB_PORT="${GOOGLE_STUB_PORT:-18082}"
+STUB_URL="http://127.0.0.1:${STUB_PORT}"
+GOOGLE_CLIENT_ID="${GOOGLE_CLIENT_ID:-bench-google-web-client-id}"
+# 스텁 인증서의 Cache-Control max-age. 백엔드는 만료 REFRESH_AHEAD 초 전에 백그라운드에서 다시 받는다.
+# GooglePublicKeysManager 는 만료 5분 전부터 요청 경로에서 직접 갱신하므로, REFRESH_AHEAD 는 300 보다 커야 한다.
+CERTS_MAX_AGE_SECONDS="${CERTS_MAX_AGE_SECONDS:-900}"
+CERTS_REFRESH_AHEAD_SECONDS="${CERTS_REFRESH_AHEAD_SECONDS:-600}"
+BACKEND_ENV=(
+  "GOOGLE_WEB_CLIENT_ID=$GOOGLE_CLIENT_ID"
+  "GOOGLE_CERTS_URL=$STUB_URL/oauth2/v1/certs"
+  "GOOGLE_PUBLIC_KEYS_REFRESH_AHEAD_SECONDS=$CERTS_REFRESH_AHEAD_SECONDS"
+)
+STUB_KEY_DIR=""
+
+# shellcheck source=../login-common/lib.sh
+source "$SCRIPT_DIR/../login-common/lib.sh"
+
+cleanup_extra() {
+  if [[ -n "$STUB_KEY_DIR" ]]; then
+    rm -rf "$STUB_KEY_DIR"
+  fi
+}
+
+generate_signing_certificate() {
+  STUB_KEY_DIR="$(mktemp -d)"
+  openssl req -x509 -newkey rsa:2048 -nodes -sha256 -days 2 \
+    -subj "/CN=bench-google-certs" \
+    -keyout "$STUB_KEY_DIR/key.pem" \
+    -out "$STUB_KEY_DIR/cert.pem" >/dev/null 2>&1
+}
+
+start_stub() {
+  require_command openssl
+  generate_signing_certificate
+  GOOGLE_STUB_PORT="$STUB_PORT" \
+  GOOGLE_CLIENT_ID="$GOOGLE_CLIENT_ID" \
+  GOOGLE_STUB_KEY_PATH="$STUB_KEY_DIR/key.pem" \
+  GOOGLE_STUB_CERT_PATH="$STUB_KEY_DIR/cert.pem" \
+  GOOGLE_CERTS_MAX_AGE_SECONDS="$CERTS_MAX_AGE_SECONDS" \
+  GOOGLE_CERTS_DELAY_MS=80 \
+    node "$SCRIPT_DIR/google-stub.mjs" > "$RESULT_DIR/google-stub.log" 2>&1 &
+  STUB_PID="$!"
+  wait_for_http "$STUB_URL/fixture/google-login-payload" "Google stub" "$RESULT_DIR/google-stub.log"
+}
+
+seed_returning_users() {
+  run_sql_file "$SCRIPT_DIR/seed-returning-user.sql"
+}
+
+run_benchmark
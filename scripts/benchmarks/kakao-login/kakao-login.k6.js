@@ -0,0 +1,88 @@
+import http from "k6/http";
+import { check, sleep } from "k6";
+import { Counter, Rate, Trend } from "k6/metrics";
+
+const backendUrl = __ENV.BACKEND_URL || "http://127.0.0.1:18081";
+const vus = Number(__ENV.K6_VUS || 1);
+const duration = __ENV.K6_DURATION || "5m";
+const resultJson = __ENV.K6_RESULT_JSON || "k6-summary.json";
+// returning: 시드한 카카오 유저로 로그인, new: 반복마다 처음 보는 카카오 id 로 가입
+const loginPath = __ENV.K6_LOGIN_PATH || "returning";
+const runTag = __ENV.K6_RUN_TAG || `${Date.now()}`;
+const seededUsers = Number(__ENV.K6_SEEDED_USERS || 256);
+
+const loginRequests = new Counter("login_requests");
+const loginFailed = new Rate("login_failed");
+const loginDuration = new Trend("login_duration", true);
+
+export const options = {
+  vus,
+  duration,
+  thresholds: {
+    http_req_failed: ["rate==0"],
+  },
+};
+
+// 앱이 카카오 SDK 로 받은 사용자 정보를 그대로 넘기는 형태. 백엔드는 카카오를 호출하지 않는다.
+function kakaoUser(id) {
+  return {
+    id,
+    profile: {
+      nickname: "Bench Kakao",
+      thumbnailImageUrl: "https://example.com/kakao-thumbnail.png",
+      profile_image_url: "https://example.com/kakao-profile.png",
+      isDefaultImage: false,
+      isDefaultNickname: false,
+    },
+  };
+}
+
+export default function () {
+  const id = loginPath === "new"
+    ? `bench-kakao-new-${runTag}-${__VU}-${__ITER}`
+    : `bench-kakao-user-${((__VU - 1) % seededUsers) + 1}`;
+
+  const response = http.post(
+    `${backendUrl}/oauth2/kakao/login`,
+    JSON.stringify(kakaoUser(id)),
+    {
+      headers: {
+        "content-type": "application/json",
+      },
+      tags: {
+        endpoint: "kakao-login",
+      },
+    },
+  );
+
+  check(response, {
+    "status is 200": (res) => res.status === 200,
+  });
+  loginRequests.add(1);
+  loginFailed.add(response.status !== 200);
+  loginDuration.add(response.timings.duration);
+
+  sleep(0.1);
+}
+
+export function handleSummary(data) {
+  const requestValues = data.metrics.login_requests?.values || {};
+  const failedValues = data.metrics.login_failed?.values || {};
+  const durationValues = data.metrics.login_duration?.values || {};
+
+  return {
+    [resultJson]: JSON.stringify(data, null, 2),
+    stdout: JSON.stringify(
+      {
+        path: loginPath,
+        requests: requestValues.count || 0,
+        failedRate: failedValues.rate || 0,
+        p50: durationValues["p(50)"] || durationValues.med || null,
+        p95: durationValues["p(95)"] || null,
+        p99: durationValues["p(99)"] || null,
+      },
+      null,
+      2,
+    ) + "\n",
+  };
+}
@@ -0,0 +1,14 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+K6_SCRIPT="$SCRIPT_DIR/kakao-login.k6.js"
+
+# shellcheck source=../login-common/lib.sh
+source "$SCRIPT_DIR/../login-common/lib.sh"
+
+seed_returning_users() {
+  run_sql_file "$SCRIPT_DIR/seed-returning-user.sql"
+}
+
+run_benchmark
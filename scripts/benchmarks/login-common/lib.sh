@@ -0,0 +1,258 @@
+#!/usr/bin/env bash
+# general-login, kakao-login, google-login 러너가 함께 쓰는 함수 모음. 각 run.sh 가 source 한다.
+#
+# source 하기 전에 run.sh 가 정해야 하는 값:
+#   SCRIPT_DIR   run.sh 가 있는 디렉터리
+#   K6_SCRIPT    실행할 k6 스크립트
+# 필요하면 정하는 값:
+#   STUB_URL     공급자 스텁 주소. 있으면 측정 전 /__reset, 측정 후 /__counts 를 부른다.
+#   BACKEND_ENV  백엔드에 추가로 넘길 환경 변수 배열 (NAME=value)
+# 필요하면 정의하는 함수:
+#   start_stub, seed_returning_users, cleanup_extra
+
+set -euo pipefail
+
+LABEL="${1:-}"
+MODE="${2:-quick}"
+
+if [[ "$LABEL" != "before" && "$LABEL" != "after" ]]; then
+  echo "usage: $0 <before|after> [quick|full]" >&2
+  exit 2
+fi
+
+if [[ "$MODE" != "quick" && "$MODE" != "full" ]]; then
+  echo "usage: $0 <before|after> [quick|full]" >&2
+  exit 2
+fi
+
+COMMON_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+REPO_ROOT="$(cd "$COMMON_DIR/../../.." && pwd)"
+APP_DIR="$REPO_ROOT/ontime-back"
+
+DB_CONTAINER="${BENCH_DB_CONTAINER:-ontime-bench-mysql}"
+DB_HOST="${BENCH_DB_HOST:-127.0.0.1}"
+DB_PORT="${BENCH_DB_PORT:-3307}"
+DB_NAME="${BENCH_DB_NAME:-ontime_bench}"
+DB_USER="${BENCH_DB_USER:-ontime_bench}"
+DB_PASSWORD="${BENCH_DB_PASSWORD:-ontime_bench_password}"
+DB_ROOT_PASSWORD="${BENCH_DB_ROOT_PASSWORD:-ontime_bench_root_password}"
+
+BACKEND_PORT="${BENCH_BACKEND_PORT:-18081}"
+# summary.csv 의 코어당 초당 로그인 수를 계산할 때 쓰는 백엔드 코어 수
+BACKEND_CPUS="${BACKEND_CPUS:-$(getconf _NPROCESSORS_ONLN)}"
+BACKEND_URL="http://127.0.0.1:${BACKEND_PORT}"
+STUB_URL="${STUB_URL:-}"
+BACKEND_ENV=("${BACKEND_ENV[@]+"${BACKEND_ENV[@]}"}")
+
+RUNS="${RUNS:-}"
+if [[ -z "$RUNS" ]]; then
+  if [[ "$MODE" == "full" ]]; then
+    RUNS=10
+  else
+    RUNS=1
+  fi
+fi
+
+WARMUP_DURATION="${WARMUP_DURATION:-2m}"
+MEASUREMENT_DURATION="${MEASUREMENT_DURATION:-5m}"
+SCENARIOS="${SCENARIOS:-1 10 20}"
+# returning: 미리 만들어 둔 유저로 로그인, new: 반복마다 처음 보는 유저로 가입/로그인
+LOGIN_PATHS="${LOGIN_PATHS:-returning new}"
+
+TIMESTAMP="$(date -u +%Y%m%dT%H%M%SZ)"
+RESULT_DIR="${RESULT_DIR:-$SCRIPT_DIR/results/${TIMESTAMP}-${LABEL}-${MODE}}"
+mkdir -p "$RESULT_DIR"
+
+BACKEND_PID=""
+STUB_PID=""
+
+require_command() {
+  if ! command -v "$1" >/dev/null 2>&1; then
+    echo "missing required command: $1" >&2
+    exit 1
+  fi
+}
+
+require_docker_daemon() {
+  if ! docker info >/dev/null 2>&1; then
+    echo "Docker daemon is not running. Start Docker Desktop and retry." >&2
+    exit 1
+  fi
+}
+
+cleanup() {
+  if [[ -n "$BACKEND_PID" ]] && kill -0 "$BACKEND_PID" >/dev/null 2>&1; then
+    kill "$BACKEND_PID" >/dev/null 2>&1 || true
+    wait "$BACKEND_PID" >/dev/null 2>&1 || true
+  fi
+  if [[ -n "$STUB_PID" ]] && kill -0 "$STUB_PID" >/dev/null 2>&1; then
+    kill "$STUB_PID" >/dev/null 2>&1 || true
+    wait "$STUB_PID" >/dev/null 2>&1 || true
+  fi
+  if declare -F cleanup_extra >/dev/null; then
+    cleanup_extra
+  fi
+}
+trap cleanup EXIT
+
+wait_for_mysql() {
+  for _ in {1..90}; do
+    if mysqladmin ping -h"$DB_HOST" -P"$DB_PORT" -uroot -p"$DB_ROOT_PASSWORD" --silent >/dev/null 2>&1; then
+      return 0
+    fi
+    sleep 1
+  done
+  echo "MySQL did not become ready" >&2
+  exit 1
+}
+
+wait_for_http() {
+  local url="$1"
+  local name="$2"
+  local log_path="${3:-}"
+  for _ in {1..180}; do
+    if curl -fsS "$url" >/dev/null 2>&1; then
+      return 0
+    fi
+    sleep 1
+  done
+  echo "$name did not become ready at $url" >&2
+  if [[ -n "$log_path" && -f "$log_path" ]]; then
+    tail -n 120 "$log_path" >&2 || true
+  fi
+  exit 1
+}
+
+reset_database() {
+  mysql -h"$DB_HOST" -P"$DB_PORT" -uroot -p"$DB_ROOT_PASSWORD" <<SQL
+DROP DATABASE IF EXISTS ${DB_NAME};
+CREATE DATABASE ${DB_NAME} CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;
+GRANT ALL PRIVILEGES ON ${DB_NAME}.* TO '${DB_USER}'@'%';
+FLUSH PRIVILEGES;
+SQL
+}
+
+run_sql_file() {
+  mysql -h"$DB_HOST" -P"$DB_PORT" -u"$DB_USER" -p"$DB_PASSWORD" "$DB_NAME" < "$1"
+}
+
+start_mysql() {
+  if docker ps -a --format '{{.Names}}' | grep -qx "$DB_CONTAINER"; then
+    docker start "$DB_CONTAINER" >/dev/null
+  else
+    docker run -d \
+      --name "$DB_CONTAINER" \
+      -e MYSQL_DATABASE="$DB_NAME" \
+      -e MYSQL_USER="$DB_USER" \
+      -e MYSQL_PASSWORD="$DB_PASSWORD" \
+      -e MYSQL_ROOT_PASSWORD="$DB_ROOT_PASSWORD" \
+      -e TZ=Asia/Seoul \
+      -p "127.0.0.1:${DB_PORT}:3306" \
+      mysql:8.0 \
+      --character-set-server=utf8mb4 \
+      --collation-server=utf8mb4_unicode_ci \
+      --default-time-zone=+09:00 >/dev/null
+  fi
+  wait_for_mysql
+  reset_database
+}
+
+# bench 프로필은 Apple 로그인도 켜 두므로, 측정과 상관없는 Apple 설정에는 형식만 맞는 값을 넘긴다.
+generate_apple_private_key_base64() {
+  node - <<'NODE'
+const { generateKeyPairSync } = require("node:crypto");
+const { privateKey } = generateKeyPairSync("ec", { namedCurve: "P-256" });
+const pem = privateKey.export({ type: "pkcs8", format: "pem" });
+process.stdout.write(Buffer.from(pem).toString("base64"));
+NODE
+}
+
+start_backend() {
+  local apple_private_key_base64
+  apple_private_key_base64="$(generate_apple_private_key_base64)"
+  (
+    cd "$APP_DIR"
+    env \
+      SPRING_PROFILES_ACTIVE=bench \
+      SERVER_PORT="$BACKEND_PORT" \
+      SPRING_DATASOURCE_URL="jdbc:mysql://${DB_HOST}:${DB_PORT}/${DB_NAME}?useSSL=false&serverTimezone=Asia/Seoul&characterEncoding=UTF-8&allowPublicKeyRetrieval=true" \
+      SPRING_DATASOURCE_USERNAME="$DB_USER" \
+      SPRING_DATASOURCE_PASSWORD="$DB_PASSWORD" \
+      JWT_SECRET_KEY="bench_secret_key_for_ontime_back_application_benchmark_environment_1234567890" \
+      APPLE_CLIENT_ID="club.devkor.ontime.bench" \
+      APPLE_TEAM_ID="BENCHTEAM1" \
+      APPLE_LOGIN_KEY="BENCHKEY1" \
+      APPLE_PRIVATE_KEY_BASE64="$apple_private_key_base64" \
+      "${BACKEND_ENV[@]+"${BACKEND_ENV[@]}"}" \
+      ./gradlew bootRun
+  ) > "$RESULT_DIR/backend.log" 2>&1 &
+  BACKEND_PID="$!"
+  wait_for_http "$BACKEND_URL/health" "backend" "$RESULT_DIR/backend.log"
+}
+
+run_k6() {
+  local login_path="$1"
+  local concurrency="$2"
+  local duration="$3"
+  local name="$4"
+
+  K6_LOGIN_PATH="$login_path" \
+  K6_VUS="$concurrency" \
+  K6_DURATION="$duration" \
+  K6_RUN_TAG="${TIMESTAMP}-${name}" \
+  BACKEND_URL="$BACKEND_URL" \
+  STUB_URL="$STUB_URL" \
+  K6_RESULT_JSON="$RESULT_DIR/${name}.json" \
+    k6 run "$K6_SCRIPT" > "$RESULT_DIR/${name}.log"
+}
+
+run_k6_once() {
+  local login_path="$1"
+  local concurrency="$2"
+  local run_number="$3"
+  local run_id
+  run_id="$(printf 'run%02d' "$run_number")"
+
+  run_k6 "$login_path" "$concurrency" "$WARMUP_DURATION" "warmup-${LABEL}-${login_path}-c${concurrency}-${run_id}"
+
+  if [[ -n "$STUB_URL" ]]; then
+    curl -fsS -X POST "$STUB_URL/__reset" >/dev/null
+  fi
+
+  run_k6 "$login_path" "$concurrency" "$MEASUREMENT_DURATION" "k6-${LABEL}-${login_path}-c${concurrency}-${run_id}"
+
+  if [[ -n "$STUB_URL" ]]; then
+    curl -fsS "$STUB_URL/__counts" > "$RESULT_DIR/stub-${LABEL}-${login_path}-c${concurrency}-${run_id}.json"
+  fi
+}
+
+run_benchmark() {
+  require_command docker
+  require_command mysql
+  require_command mysqladmin
+  require_command curl
+  require_command node
+  require_command k6
+  require_command python3
+  require_docker_daemon
+
+  start_mysql
+  if declare -F start_stub >/dev/null; then
+    start_stub
+  fi
+  start_backend
+  if declare -F seed_returning_users >/dev/null; then
+    seed_returning_users
+  fi
+
+  for login_path in $LOGIN_PATHS; do
+    for concurrency in $SCENARIOS; do
+      for run_number in $(seq 1 "$RUNS"); do
+        echo "running ${LABEL}/${MODE}: path=${login_path}, concurrency=${concurrency}, run=${run_number}/${RUNS}"
+        run_k6_once "$login_path" "$concurrency" "$run_number"
+      done
+    done
+  done
+
+  BACKEND_CPUS="$BACKEND_CPUS" python3 "$COMMON_DIR/summarize.py" "$RESULT_DIR"
+}
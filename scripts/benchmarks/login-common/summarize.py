@@ -0,0 +1,103 @@
+#!/usr/bin/env python3
+import csv
+import json
+import os
+import re
+import sys
+from pathlib import Path
+
+
+K6_NAME = re.compile(r"k6-(?P<label>[^-]+)-(?P<scenario>[a-z]+)-c(?P<concurrency>\d+)-run(?P<run>\d+)\.json")
+
+
+def metric_value(metrics, name, field, default=0):
+    value = metrics.get(name, {})
+    values = value.get("values", {})
+    return values.get(field, value.get(field, default))
+
+
+def percentile(metrics, name, key):
+    metric = metrics.get(name, {})
+    values = metric.get("values", {})
+    if key == "p(50)":
+        return values.get(key, values.get("med"))
+    return values.get(key, metric.get("percentiles", {}).get(key))
+
+
+def read_json(path):
+    with path.open() as file:
+        return json.load(file)
+
+
+def backend_cpus():
+    value = os.environ.get("BACKEND_CPUS", "")
+    return int(value) if value.isdigit() and int(value) > 0 else None
+
+
+def summarize(result_dir):
+    rows = []
+    cpus = backend_cpus()
+    for k6_path in sorted(result_dir.glob("k6-*-c*-run*.json")):
+        match = K6_NAME.fullmatch(k6_path.name)
+        if not match:
+            continue
+
+        label = match.group("label")
+        scenario = match.group("scenario")
+        concurrency = match.group("concurrency")
+        run = match.group("run")
+        stub_path = result_dir / f"stub-{label}-{scenario}-c{concurrency}-run{run}.json"
+        k6_summary = read_json(k6_path)
+        # 공급자 스텁이 없는 로그인(일반, 카카오)은 공급자 호출이 0건이다.
+        stub_counts = read_json(stub_path) if stub_path.exists() else {}
+
+        metrics = k6_summary.get("metrics", {})
+        requests = metric_value(metrics, "login_requests", "count", 0)
+        failed_rate = metric_value(metrics, "login_failed", "rate", 0)
+        logins_per_second = metric_value(metrics, "login_requests", "rate", None)
+        provider_calls = sum(stub_counts.values())
+
+        rows.append(
+            {
+                "label": label,
+                "scenario": scenario,
+                "concurrency": concurrency,
+                "run": run,
+                "requests": requests,
+                "error_rate": failed_rate,
+                "p50_ms": percentile(metrics, "login_duration", "p(50)"),
+                "p95_ms": percentile(metrics, "login_duration", "p(95)"),
+                "p99_ms": percentile(metrics, "login_duration", "p(99)"),
+                "provider_calls": provider_calls,
+                "provider_calls_per_request": provider_calls / requests if requests else None,
+                "logins_per_second": logins_per_second,
+                "logins_per_second_per_core": logins_per_second / cpus if logins_per_second is not None and cpus else None,
+            }
+        )
+
+    return rows
+
+
+def main():
+    if len(sys.argv) != 2:
+        print("usage: summarize.py <result-dir>", file=sys.stderr)
+        return 2
+
+    result_dir = Path(sys.argv[1]).resolve()
+    rows = summarize(result_dir)
+    if not rows:
+        print(f"no k6 result files found in {result_dir}", file=sys.stderr)
+        return 1
+
+    output_path = result_dir / "summary.csv"
+    with output_path.open("w", newline="") as file:
+        writer = csv.DictWriter(file, fieldnames=list(rows[0].keys()))
+        writer.writeheader()
+        writer.writerows(rows)
+
+    print(output_path)
+    return 0
+
+
+if __name__ == "__main__":
+    raise SystemExit(main())
@@ -0,0 +1,13 @@
+#!/usr/bin/env bash
+# 일반, 카카오, 구글 로그인 벤치마크를 차례로 돌린다. 각 러너가 MySQL 과 백엔드를 새로 띄운다.
+set -euo pipefail
+
+LABEL="${1:-}"
+MODE="${2:-quick}"
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+HARNESSES="${HARNESSES:-general-login kakao-login google-login}"
+
+for harness in $HARNESSES; do
+  echo "=== ${harness} ==="
+  "$SCRIPT_DIR/${harness}/run.sh" "$LABEL" "$MODE"
+done